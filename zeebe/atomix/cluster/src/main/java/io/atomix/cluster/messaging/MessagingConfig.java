@@ -33,6 +33,9 @@ public class MessagingConfig implements Config {
   private File certificateChain;
   private File privateKey;
   private CompressionAlgorithm compressionAlgorithm = CompressionAlgorithm.NONE;
+  private boolean nativeTransportEnabled = true;
+  private Duration flushWindow = Duration.ZERO;
+  private int flushThreshold = 64 * 1024;
 
   /**
    * Returns the local interfaces to which to bind the node.
@@ -138,6 +141,74 @@ public class MessagingConfig implements Config {
     return this;
   }
 
+  /**
+   * Returns whether the native epoll transport is used when it's available, i.e. on Linux.
+   *
+   * @return true if the native transport is used when available, false to always use NIO
+   */
+  public boolean isNativeTransportEnabled() {
+    return nativeTransportEnabled;
+  }
+
+  /**
+   * Sets whether the native epoll transport is used when it's available, i.e. on Linux. If it's not
+   * available, the NIO transport is used regardless.
+   *
+   * @param nativeTransportEnabled true to use the native transport when available, false to always
+   *     use NIO
+   * @return this config for chaining
+   */
+  public MessagingConfig setNativeTransportEnabled(final boolean nativeTransportEnabled) {
+    this.nativeTransportEnabled = nativeTransportEnabled;
+    return this;
+  }
+
+  /**
+   * Returns how long the flush of written messages is held back at most, so that further messages
+   * are written to the socket together with them.
+   *
+   * @return the flush window
+   */
+  public Duration getFlushWindow() {
+    return flushWindow;
+  }
+
+  /**
+   * Sets how long the flush of written messages is held back at most, so that further messages are
+   * written to the socket together with them. With a window of zero, flushes are only held back
+   * until the messages which are already queued for the connection were written, which does not
+   * add latency.
+   *
+   * @param flushWindow the flush window
+   * @return this config for chaining
+   */
+  public MessagingConfig setFlushWindow(final Duration flushWindow) {
+    this.flushWindow = flushWindow;
+    return this;
+  }
+
+  /**
+   * Returns the size in bytes of the payloads written to a connection, after which the written
+   * messages are flushed regardless of the flush window.
+   *
+   * @return the flush threshold in bytes
+   */
+  public int getFlushThreshold() {
+    return flushThreshold;
+  }
+
+  /**
+   * Sets the size in bytes of the payloads written to a connection, after which the written
+   * messages are flushed regardless of the flush window.
+   *
+   * @param flushThreshold the flush threshold in bytes
+   * @return this config for chaining
+   */
+  public MessagingConfig setFlushThreshold(final int flushThreshold) {
+    this.flushThreshold = flushThreshold;
+    return this;
+  }
+
   public CompressionAlgorithm getCompressionAlgorithm() {
     return compressionAlgorithm;
   }
@@ -30,6 +30,11 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
   // Effectively MessageToByteEncoder<InternalMessage>,
   // had to specify <Object> to avoid Class Loader not being able to find some classes.
 
+  // type, variable length id and variable length payload length
+  private static final int MESSAGE_HEADER_MAX_LENGTH = Byte.BYTES + 9 + 5;
+  // length of an IPv6 address (V1) or of the host name (V2), and the port
+  private static final int ADDRESS_MIN_LENGTH = Short.BYTES + 16 + Integer.BYTES;
+
   protected final Address address;
   private final Logger log = LoggerFactory.getLogger(getClass());
   private boolean addressWritten;
@@ -48,14 +53,11 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
   protected abstract void encodeReply(ProtocolReply reply, ByteBuf out);
 
   static void writeString(final ByteBuf buffer, final String value) {
-    final ByteBuf buf = buffer.alloc().buffer(ByteBufUtil.utf8MaxBytes(value));
-    try {
-      final int length = ByteBufUtil.writeUtf8(buf, value);
-      buffer.writeShort(length);
-      buffer.writeBytes(buf);
-    } finally {
-      buf.release();
-    }
+    // the length is only known after encoding, so it's written before the string is
+    final int lengthIndex = buffer.writerIndex();
+    buffer.writeShort(0);
+    final int length = ByteBufUtil.writeUtf8(buffer, value);
+    buffer.setShort(lengthIndex, length);
   }
 
   static void writeInt(final ByteBuf buf, final int value) {
@@ -159,6 +161,37 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
     return msg instanceof ProtocolMessage;
   }
 
+  /**
+   * Allocates the buffer with the size of the encoded message, so that large payloads are written
+   * into a single (pooled, direct) buffer at once, instead of being copied over every time the
+   * buffer grows.
+   */
+  @Override
+  protected ByteBuf allocateBuffer(
+      final ChannelHandlerContext context, final Object rawMessage, final boolean preferDirect) {
+    final int size = estimateEncodedLength((ProtocolMessage) rawMessage);
+    return preferDirect ? context.alloc().ioBuffer(size) : context.alloc().heapBuffer(size);
+  }
+
+  private int estimateEncodedLength(final ProtocolMessage message) {
+    int length = MESSAGE_HEADER_MAX_LENGTH + message.payload().length;
+
+    if (!addressWritten) {
+      length +=
+          Math.max(
+              ADDRESS_MIN_LENGTH,
+              Short.BYTES + ByteBufUtil.utf8MaxBytes(address.host()) + Integer.BYTES);
+    }
+
+    if (message instanceof final ProtocolRequest request) {
+      length += Short.BYTES + ByteBufUtil.utf8MaxBytes(request.subject());
+    } else if (message instanceof ProtocolReply) {
+      length += Byte.BYTES;
+    }
+
+    return length;
+  }
+
   @Override
   protected void encode(
       final ChannelHandlerContext context, final Object rawMessage, final ByteBuf out) {
@@ -0,0 +1,109 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces the flushes of the messages written to a channel, so that several small messages are
+ * written to the socket with a single syscall, instead of one per message.
+ *
+ * <p>A flush is held back until the payloads written since the last flush reach the flush
+ * threshold, or until the flush window elapsed. With a window of zero, the flush is only held back
+ * until the event loop ran the tasks which are already queued - e.g. the writes of other threads -
+ * which batches messages without adding latency.
+ *
+ * <p>Not thread safe; only accessed from the channel's event loop.
+ */
+final class FlushBatchingHandler extends ChannelOutboundHandlerAdapter {
+
+  private final long flushWindowNanos;
+  private final int flushThreshold;
+  private final MessagingMetrics metrics;
+  private final Runnable scheduledFlush = this::onScheduledFlush;
+
+  private ChannelHandlerContext context;
+  private int pendingMessages;
+  private long pendingBytes;
+  private boolean flushScheduled;
+
+  FlushBatchingHandler(
+      final Duration flushWindow, final int flushThreshold, final MessagingMetrics metrics) {
+    flushWindowNanos = Math.max(0, flushWindow.toNanos());
+    this.flushThreshold = flushThreshold;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void handlerAdded(final ChannelHandlerContext context) {
+    this.context = context;
+  }
+
+  @Override
+  public void handlerRemoved(final ChannelHandlerContext context) {
+    if (pendingMessages > 0) {
+      flushPending(context);
+    }
+  }
+
+  @Override
+  public void write(
+      final ChannelHandlerContext context, final Object message, final ChannelPromise promise) {
+    if (message instanceof final ProtocolMessage protocolMessage) {
+      pendingMessages++;
+      pendingBytes += protocolMessage.payload().length;
+    }
+
+    context.write(message, promise);
+  }
+
+  @Override
+  public void flush(final ChannelHandlerContext context) {
+    if (pendingMessages == 0 || pendingBytes >= flushThreshold) {
+      flushPending(context);
+      return;
+    }
+
+    if (!flushScheduled) {
+      flushScheduled = true;
+      if (flushWindowNanos == 0) {
+        context.executor().execute(scheduledFlush);
+      } else {
+        context.executor().schedule(scheduledFlush, flushWindowNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+  }
+
+  @Override
+  public void close(final ChannelHandlerContext context, final ChannelPromise promise) {
+    // otherwise the held back messages would fail, even though they were sent before closing
+    flushPending(context);
+    context.close(promise);
+  }
+
+  private void onScheduledFlush() {
+    flushScheduled = false;
+    if (pendingMessages > 0) {
+      flushPending(context);
+    }
+  }
+
+  private void flushPending(final ChannelHandlerContext context) {
+    if (pendingMessages > 0) {
+      metrics.observeMessagesPerFlush(pendingMessages);
+      pendingMessages = 0;
+      pendingBytes = 0;
+    }
+
+    context.flush();
+  }
+}
@@ -26,4 +26,12 @@ public interface MessagingMetrics {
   void incInFlightRequests(String address, String topic);
 
   void decInFlightRequests(String address, String topic);
+
+  void incPendingWrites(String address);
+
+  void decPendingWrites(String address);
+
+  void observeAllocatedMemory(long usedDirectMemory, long usedHeapMemory);
+
+  void observeMessagesPerFlush(int messageCount);
 }
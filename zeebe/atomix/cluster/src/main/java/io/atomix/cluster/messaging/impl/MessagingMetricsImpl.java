@@ -60,6 +60,32 @@ final class MessagingMetricsImpl implements MessagingMetrics {
           .labelNames(LABEL_ADDRESS, LABEL_TOPIC)
           .register();
 
+  private static final Gauge PENDING_WRITES =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("messaging_pending_writes")
+          .help(
+              "The count of messages which were handed to the channel, but are not yet written to"
+                  + " the socket")
+          .labelNames(LABEL_ADDRESS)
+          .register();
+
+  private static final Gauge ALLOCATED_MEMORY =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("messaging_allocator_used_memory_bytes")
+          .help("The memory used by the pooled buffer allocator of the messaging service")
+          .labelNames("type")
+          .register();
+
+  private static final Histogram MESSAGES_PER_FLUSH =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("messaging_messages_per_flush")
+          .help("The number of messages which were written to the socket with a single flush")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128, 256)
+          .register();
+
   @Override
   public CloseableSilently startRequestTimer(final String name) {
     final var timer = REQUEST_RESPONSE_LATENCY.labels(name).startTimer();
@@ -100,4 +126,25 @@ final class MessagingMetricsImpl implements MessagingMetrics {
   public void decInFlightRequests(final String address, String topic) {
     IN_FLIGHT_REQUESTS.labels(address, topic).dec();
   }
+
+  @Override
+  public void incPendingWrites(final String address) {
+    PENDING_WRITES.labels(address).inc();
+  }
+
+  @Override
+  public void decPendingWrites(final String address) {
+    PENDING_WRITES.labels(address).dec();
+  }
+
+  @Override
+  public void observeAllocatedMemory(final long usedDirectMemory, final long usedHeapMemory) {
+    ALLOCATED_MEMORY.labels("direct").set(usedDirectMemory);
+    ALLOCATED_MEMORY.labels("heap").set(usedHeapMemory);
+  }
+
+  @Override
+  public void observeMessagesPerFlush(final int messageCount) {
+    MESSAGES_PER_FLUSH.observe(messageCount);
+  }
 }
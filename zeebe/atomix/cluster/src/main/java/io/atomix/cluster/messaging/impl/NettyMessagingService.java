@@ -100,6 +100,8 @@ import org.slf4j.LoggerFactory;
 public final class NettyMessagingService implements ManagedMessagingService {
   private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
   private static final String TLS_PROTOCOL = "TLSv1.3";
+  private static final PooledByteBufAllocator ALLOCATOR = PooledByteBufAllocator.DEFAULT;
+  private static final Duration ALLOCATOR_METRICS_INTERVAL = Duration.ofSeconds(15);
 
   private final Logger log = LoggerFactory.getLogger(getClass());
   private final Address advertisedAddress;
@@ -390,6 +392,11 @@ public final class NettyMessagingService implements ManagedMessagingService {
               timeoutExecutor =
                   Executors.newSingleThreadScheduledExecutor(
                       new DefaultThreadFactory("netty-messaging-timeout-"));
+              timeoutExecutor.scheduleAtFixedRate(
+                  this::observeAllocatedMemory,
+                  0,
+                  ALLOCATOR_METRICS_INTERVAL.toMillis(),
+                  TimeUnit.MILLISECONDS);
               localConnection = new LocalClientConnection(handlers);
               started.set(true);
 
@@ -500,8 +507,14 @@ public final class NettyMessagingService implements ManagedMessagingService {
     }
   }
 
+  private void observeAllocatedMemory() {
+    final var allocatorMetric = ALLOCATOR.metric();
+    messagingMetrics.observeAllocatedMemory(
+        allocatorMetric.usedDirectMemory(), allocatorMetric.usedHeapMemory());
+  }
+
   private void initTransport() {
-    if (Epoll.isAvailable()) {
+    if (config.isNativeTransportEnabled() && Epoll.isAvailable()) {
       initEpollTransport();
     } else {
       initNioTransport();
@@ -727,7 +740,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
     final InetSocketAddress socketAddress = address.socketAddress();
 
     final Bootstrap bootstrap = new Bootstrap();
-    bootstrap.option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
+    bootstrap.option(ChannelOption.ALLOCATOR, ALLOCATOR);
     bootstrap.option(
         ChannelOption.WRITE_BUFFER_WATER_MARK,
         new WriteBufferWaterMark(10 * 32 * 1024, 10 * 64 * 1024));
@@ -793,7 +806,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
     b.childOption(ChannelOption.SO_SNDBUF, 1024 * 1024);
     b.childOption(ChannelOption.SO_KEEPALIVE, true);
     b.childOption(ChannelOption.TCP_NODELAY, true);
-    b.childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
+    b.childOption(ChannelOption.ALLOCATOR, ALLOCATOR);
     b.group(serverGroup, clientGroup);
     b.channel(serverChannelClass);
     b.childHandler(new BasicServerChannelInitializer());
@@ -972,6 +985,12 @@ public final class NettyMessagingService implements ManagedMessagingService {
       context.pipeline().remove(this);
       context.pipeline().addLast("encoder", protocol.newEncoder());
       context.pipeline().addLast("decoder", protocol.newDecoder());
+      context
+          .pipeline()
+          .addLast(
+              "flush-batching",
+              new FlushBatchingHandler(
+                  config.getFlushWindow(), config.getFlushThreshold(), messagingMetrics));
       context.pipeline().addLast("handler", new MessageDispatcher<>(connection));
     }
   }
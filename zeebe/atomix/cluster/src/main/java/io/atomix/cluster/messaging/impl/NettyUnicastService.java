@@ -29,12 +29,16 @@ import io.atomix.utils.serializer.Namespaces;
 import io.atomix.utils.serializer.Serializer;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.DefaultMaxBytesRecvByteBufAllocator;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDatagramChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.socket.DatagramPacket;
@@ -79,6 +83,7 @@ public class NettyUnicastService implements ManagedUnicastService {
   private final Address bindAddress;
 
   private EventLoopGroup group;
+  private Class<? extends DatagramChannel> channelClass;
   private DatagramChannel channel;
 
   private DnsAddressResolverGroup dnsAddressResolverGroup;
@@ -150,7 +155,7 @@ public class NettyUnicastService implements ManagedUnicastService {
     final Bootstrap serverBootstrap =
         new Bootstrap()
             .group(group)
-            .channel(NioDatagramChannel.class)
+            .channel(channelClass)
             .handler(
                 new SimpleChannelInboundHandler<DatagramPacket>() {
                   @Override
@@ -159,6 +164,7 @@ public class NettyUnicastService implements ManagedUnicastService {
                     handleReceivedPacket(packet);
                   }
                 })
+            .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
             .option(ChannelOption.RCVBUF_ALLOCATOR, new DefaultMaxBytesRecvByteBufAllocator())
             .option(ChannelOption.SO_BROADCAST, true)
             .option(ChannelOption.SO_REUSEADDR, true);
@@ -207,7 +213,7 @@ public class NettyUnicastService implements ManagedUnicastService {
 
   @Override
   public CompletableFuture<UnicastService> start() {
-    group = new NioEventLoopGroup(0, namedThreads("netty-unicast-event-nio-client-%d", log));
+    initTransport();
     return bootstrap()
         .thenRun(
             () -> {
@@ -220,7 +226,7 @@ public class NettyUnicastService implements ManagedUnicastService {
                               new BiDnsQueryLifecycleObserverFactory(
                                   ignored -> metrics,
                                   new LoggingDnsQueryLifeCycleObserverFactory()))
-                          .channelType(NioDatagramChannel.class));
+                          .channelType(channelClass));
             })
         .thenApply(
             v -> {
@@ -232,6 +238,16 @@ public class NettyUnicastService implements ManagedUnicastService {
             });
   }
 
+  private void initTransport() {
+    if (config.isNativeTransportEnabled() && Epoll.isAvailable()) {
+      group = new EpollEventLoopGroup(0, namedThreads("netty-unicast-event-epoll-client-%d", log));
+      channelClass = EpollDatagramChannel.class;
+    } else {
+      group = new NioEventLoopGroup(0, namedThreads("netty-unicast-event-nio-client-%d", log));
+      channelClass = NioDatagramChannel.class;
+    }
+  }
+
   @Override
   public boolean isRunning() {
     return started.get();
@@ -33,10 +33,13 @@ final class RemoteClientConnection extends AbstractClientConnection {
   public CompletableFuture<Void> sendAsync(final ProtocolRequest message) {
     final CompletableFuture<Void> future = new CompletableFuture<>();
     countMessageMetrics(message);
+    final String toAddress = channel.remoteAddress().toString();
+    messagingMetrics.incPendingWrites(toAddress);
     channel
         .writeAndFlush(message)
         .addListener(
             channelFuture -> {
+              messagingMetrics.decPendingWrites(toAddress);
               if (!channelFuture.isSuccess()) {
                 future.completeExceptionally(channelFuture.cause());
               } else {
@@ -50,10 +53,13 @@ final class RemoteClientConnection extends AbstractClientConnection {
   public CompletableFuture<byte[]> sendAndReceive(final ProtocolRequest message) {
     final CompletableFuture<byte[]> responseFuture = awaitResponseForRequestWithId(message.id());
     countReqResponseMetrics(message, responseFuture);
+    final String toAddress = channel.remoteAddress().toString();
+    messagingMetrics.incPendingWrites(toAddress);
     channel
         .writeAndFlush(message)
         .addListener(
             channelFuture -> {
+              messagingMetrics.decPendingWrites(toAddress);
               if (!channelFuture.isSuccess()) {
                 responseFuture.completeExceptionally(channelFuture.cause());
               }
@@ -0,0 +1,168 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+/**
+ * Limits the number of in-flight append requests and the size of each request sent to a single
+ * follower, similar to a TCP congestion window.
+ *
+ * <p>The window starts at the configured max appends per follower and max append batch size. If
+ * it's adaptive, every acknowledged append updates a smoothed round trip time, which is compared to
+ * the lowest round trip time seen recently:
+ *
+ * <ul>
+ *   <li>as long as the smoothed round trip time stays close to the lowest one, the follower and the
+ *       link keep up, so the in-flight limit grows additively, up to {@link #MAX_IN_FLIGHT_FACTOR}
+ *       times the configured value, and the batch size grows back to the configured value
+ *   <li>if the smoothed round trip time grows well beyond the lowest one, requests are queueing up,
+ *       so the in-flight limit shrinks multiplicatively, at most once per window
+ *   <li>if an append fails or times out, the in-flight limit and the batch size are halved
+ * </ul>
+ *
+ * <p>The batch size never grows beyond the configured max append batch size, as it's bounded by
+ * the max message size. A window which isn't adaptive always returns the configured values.
+ *
+ * <p>Not thread safe; only accessed from the Raft thread.
+ */
+public final class AppendWindow {
+
+  static final int MAX_IN_FLIGHT_FACTOR = 8;
+  static final int MIN_BATCH_SIZE = 4 * 1024;
+  static final int MIN_RTT_SAMPLES = 128;
+  private static final double RTT_SMOOTHING_FACTOR = 0.125;
+  private static final double RTT_TOLERANCE = 2.0;
+  private static final long RTT_JITTER_MILLIS = 2;
+  private static final double DECREASE_FACTOR = 0.75;
+
+  private final boolean adaptive;
+  private final int initialInFlightLimit;
+  private final int maxInFlightLimit;
+  private final int maxBatchSize;
+  private final int minBatchSize;
+
+  private double inFlightLimit;
+  private int batchSize;
+  private double smoothedRtt;
+  private long minRtt;
+  private long recentMinRtt;
+  private int rttSamples;
+  private int acknowledgedSinceDecrease;
+
+  public AppendWindow(
+      final int maxAppendsPerFollower, final int maxAppendBatchSize, final boolean adaptive) {
+    this.adaptive = adaptive;
+    // at least one append must be allowed, otherwise the member could never catch up
+    initialInFlightLimit = Math.max(1, maxAppendsPerFollower);
+    maxInFlightLimit = initialInFlightLimit * MAX_IN_FLIGHT_FACTOR;
+    maxBatchSize = maxAppendBatchSize;
+    minBatchSize = Math.min(MIN_BATCH_SIZE, maxAppendBatchSize);
+    reset();
+  }
+
+  /** Resets the window to the configured values, e.g. when a new leader starts replicating. */
+  public void reset() {
+    inFlightLimit = initialInFlightLimit;
+    batchSize = maxBatchSize;
+    smoothedRtt = 0;
+    minRtt = Long.MAX_VALUE;
+    recentMinRtt = Long.MAX_VALUE;
+    rttSamples = 0;
+    acknowledgedSinceDecrease = 0;
+  }
+
+  /**
+   * @return the max number of append requests which may be in flight to the follower
+   */
+  public int getInFlightLimit() {
+    return (int) inFlightLimit;
+  }
+
+  /**
+   * @return the max size in bytes of the entries of the next append request
+   */
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  /**
+   * @return the smoothed round trip time of appends in milliseconds, or 0 if none was measured yet
+   */
+  public double getSmoothedRtt() {
+    return smoothedRtt;
+  }
+
+  /**
+   * Updates the window with the round trip time of an append request which the follower
+   * acknowledged.
+   *
+   * @param rttMillis the round trip time of the request in milliseconds
+   */
+  public void onAcknowledged(final long rttMillis) {
+    if (!adaptive) {
+      return;
+    }
+
+    updateRtt(rttMillis);
+    acknowledgedSinceDecrease++;
+
+    if (smoothedRtt > minRtt * RTT_TOLERANCE + RTT_JITTER_MILLIS) {
+      // only back off once per window, as the responses to the requests which are already in
+      // flight are slow for the same reason
+      if (acknowledgedSinceDecrease >= inFlightLimit) {
+        inFlightLimit = Math.max(1, inFlightLimit * DECREASE_FACTOR);
+        acknowledgedSinceDecrease = 0;
+      }
+    } else {
+      inFlightLimit = Math.min(maxInFlightLimit, inFlightLimit + 1 / inFlightLimit);
+      batchSize = Math.min(maxBatchSize, batchSize + Math.max(minBatchSize, batchSize / 4));
+    }
+  }
+
+  /** Updates the window after an append request failed, timed out, or was rejected. */
+  public void onFailed() {
+    if (!adaptive) {
+      return;
+    }
+
+    inFlightLimit = Math.max(1, inFlightLimit / 2);
+    batchSize = Math.max(minBatchSize, batchSize / 2);
+    acknowledgedSinceDecrease = 0;
+  }
+
+  private void updateRtt(final long rttMillis) {
+    final boolean isFirstSample = minRtt == Long.MAX_VALUE;
+    smoothedRtt =
+        isFirstSample ? rttMillis : smoothedRtt + RTT_SMOOTHING_FACTOR * (rttMillis - smoothedRtt);
+
+    // the lowest round trip time is taken over the last samples only, so that the window adapts
+    // when the follower moves to a slower link for good
+    minRtt = Math.min(minRtt, rttMillis);
+    recentMinRtt = Math.min(recentMinRtt, rttMillis);
+    if (++rttSamples >= MIN_RTT_SAMPLES) {
+      minRtt = recentMinRtt;
+      recentMinRtt = Long.MAX_VALUE;
+      rttSamples = 0;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "AppendWindow{"
+        + "adaptive="
+        + adaptive
+        + ", inFlightLimit="
+        + inFlightLimit
+        + ", batchSize="
+        + batchSize
+        + ", smoothedRtt="
+        + smoothedRtt
+        + ", minRtt="
+        + minRtt
+        + '}';
+  }
+}
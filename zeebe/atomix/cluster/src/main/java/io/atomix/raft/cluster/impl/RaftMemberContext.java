@@ -25,6 +25,8 @@ import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.slf4j.LoggerFactory;
 
@@ -34,13 +36,15 @@ public final class RaftMemberContext {
   private static final int APPEND_WINDOW_SIZE = 8;
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
-  private final int maxAppendsPerMember;
+  private final AppendWindow appendWindow;
   private boolean open = true;
   private long term;
   private long configIndex;
   private long snapshotIndex;
   private long nextSnapshotIndex;
   private ByteBuffer nextSnapshotChunk;
+  private ByteBuffer lastSnapshotChunk;
+  private final Deque<ByteBuffer> unacknowledgedSnapshotChunks = new ArrayDeque<>();
   private long matchIndex;
   private long heartbeatTime;
   private long responseTime;
@@ -48,7 +52,7 @@ public final class RaftMemberContext {
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
-  private boolean installing;
+  private int inFlightInstallCount;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
@@ -58,9 +62,9 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final AppendWindow appendWindow) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
-    this.maxAppendsPerMember = maxAppendsPerMember;
+    this.appendWindow = checkNotNull(appendWindow, "appendWindow cannot be null");
   }
 
   /** Resets the member state. */
@@ -68,13 +72,16 @@ public final class RaftMemberContext {
     snapshotIndex = 0;
     nextSnapshotIndex = 0;
     nextSnapshotChunk = null;
+    lastSnapshotChunk = null;
+    unacknowledgedSnapshotChunks.clear();
     matchIndex = 0;
     heartbeatTime = 0;
     responseTime = 0;
     inFlightAppendCount = 0;
     timeStats.clear();
+    appendWindow.reset();
     configuring = false;
-    installing = false;
+    inFlightInstallCount = 0;
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
@@ -149,14 +156,24 @@ public final class RaftMemberContext {
    * @return Indicates whether an append request can be sent to the member.
    */
   public boolean canAppend() {
+    final int inFlightLimit = appendWindow.getInFlightLimit();
     return open
         && (inFlightAppendCount == 0
             || (appendSucceeded
-                && inFlightAppendCount < maxAppendsPerMember
-                && System.currentTimeMillis() - (timeStats.getMean() / maxAppendsPerMember)
+                && inFlightAppendCount < inFlightLimit
+                && System.currentTimeMillis() - (timeStats.getMean() / inFlightLimit)
                     >= appendTime));
   }
 
+  /**
+   * Returns the window which limits the in-flight append requests to the member and their size.
+   *
+   * @return the append window of the member
+   */
+  public AppendWindow getAppendWindow() {
+    return appendWindow;
+  }
+
   /**
    * Returns whether a heartbeat can be sent to the member.
    *
@@ -228,20 +245,28 @@ public final class RaftMemberContext {
   /**
    * Returns a boolean indicating whether an install request can be sent to the member.
    *
+   * @param maxInstallsInFlight the max number of install requests which may be in flight
    * @return Indicates whether an install request can be sent to the member.
    */
-  public boolean canInstall() {
-    return open && !installing;
+  public boolean canInstall(final int maxInstallsInFlight) {
+    return open && inFlightInstallCount < Math.max(1, maxInstallsInFlight);
+  }
+
+  /**
+   * @return true if at least one install request to the member is awaiting its response
+   */
+  public boolean hasInstallInFlight() {
+    return inFlightInstallCount > 0;
   }
 
   /** Starts an install request to the member. */
   public void startInstall() {
-    installing = true;
+    inFlightInstallCount++;
   }
 
   /** Completes an install request to the member. */
   public void completeInstall() {
-    installing = false;
+    inFlightInstallCount = Math.max(inFlightInstallCount - 1, 0);
   }
 
   /**
@@ -276,8 +301,9 @@ public final class RaftMemberContext {
         .add("appending", inFlightAppendCount)
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
+        .add("appendWindow", appendWindow)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("installing", inFlightInstallCount)
         .add("failures", failures)
         .toString();
   }
@@ -418,6 +444,63 @@ public final class RaftMemberContext {
     this.nextSnapshotChunk = nextSnapshotChunk;
   }
 
+  /**
+   * Returns the ID of the last chunk of the snapshot which is being sent to the member, if it's
+   * known already.
+   *
+   * @return the ID of the last snapshot chunk, or null if not known yet
+   */
+  public ByteBuffer getLastSnapshotChunk() {
+    return lastSnapshotChunk;
+  }
+
+  /**
+   * Sets the ID of the last chunk of the snapshot which is being sent to the member.
+   *
+   * @param lastSnapshotChunk the ID of the last snapshot chunk
+   */
+  public void setLastSnapshotChunkId(final ByteBuffer lastSnapshotChunk) {
+    this.lastSnapshotChunk = lastSnapshotChunk;
+  }
+
+  /**
+   * Tracks a snapshot chunk which was sent to the member but not acknowledged yet. Chunks must be
+   * added in the order in which they are sent.
+   *
+   * @param chunkId the ID of the sent chunk
+   */
+  public void addUnacknowledgedSnapshotChunk(final ByteBuffer chunkId) {
+    unacknowledgedSnapshotChunks.addLast(chunkId);
+  }
+
+  /**
+   * Marks the given snapshot chunk as acknowledged by the member.
+   *
+   * @param chunkId the ID of the acknowledged chunk
+   */
+  public void acknowledgeSnapshotChunk(final ByteBuffer chunkId) {
+    unacknowledgedSnapshotChunks.remove(chunkId);
+  }
+
+  /**
+   * @return true if some sent snapshot chunks were not acknowledged yet
+   */
+  public boolean hasUnacknowledgedSnapshotChunks() {
+    return !unacknowledgedSnapshotChunks.isEmpty();
+  }
+
+  /**
+   * Returns the ID of the oldest sent snapshot chunk which was not acknowledged yet, and forgets
+   * about all unacknowledged chunks, e.g. to resend all of them.
+   *
+   * @return the ID of the oldest unacknowledged chunk, or null if all chunks were acknowledged
+   */
+  public ByteBuffer resetUnacknowledgedSnapshotChunks() {
+    final var oldestChunk = unacknowledgedSnapshotChunks.peekFirst();
+    unacknowledgedSnapshotChunks.clear();
+    return oldestChunk;
+  }
+
   /**
    * Returns the member response time.
    *
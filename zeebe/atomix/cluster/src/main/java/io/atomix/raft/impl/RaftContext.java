@@ -152,6 +152,9 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
   private volatile HealthReport health = HealthReport.healthy(this);
 
   private long lastHeartbeat;
+  private boolean commitNotificationScheduled;
+  private boolean committedPositionNotificationScheduled;
+  private long pendingCommittedPosition;
   private final RaftPartitionConfig partitionConfig;
   private final int partitionId;
 
@@ -240,7 +243,7 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     this.partitionConfig = partitionConfig;
     cluster = new RaftClusterContext(localMemberId, this);
 
-    replicationMetrics = new RaftReplicationMetrics(name);
+    replicationMetrics = new RaftReplicationMetrics(name, localMemberId.id());
     replicationMetrics.setAppendIndex(raftLog.getLastIndex());
     lastHeartbeat = System.currentTimeMillis();
 
@@ -402,6 +405,22 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return partitionConfig.getMaxAppendsPerFollower();
   }
 
+  public boolean isAdaptiveAppendWindowEnabled() {
+    return partitionConfig.isAdaptiveAppendWindowEnabled();
+  }
+
+  public int getMaxSnapshotChunksInFlight() {
+    return partitionConfig.getMaxSnapshotChunksInFlight();
+  }
+
+  public Duration getFollowerFlushDelay() {
+    return partitionConfig.getFollowerFlushDelay();
+  }
+
+  public int getFollowerFlushBatchSize() {
+    return partitionConfig.getFollowerFlushBatchSize();
+  }
+
   /**
    * Adds a role change listener. If there isn't currently a transition ongoing the listener is
    * called immediately after adding the listener.
@@ -507,12 +526,46 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
   }
 
   /**
-   * Notifies all listeners of the latest entry.
+   * Notifies all listeners of the latest entry. If commit notifications are coalesced, the
+   * listeners are notified once with the highest position after the Raft thread ran the tasks which
+   * are already queued, e.g. the completion of further appends.
    *
    * @param committedEntry the most recently committed entry
    */
   public void notifyApplicationEntryCommittedPositionListeners(final long committedEntry) {
-    committedEntryListeners.forEach(listener -> listener.onCommit(committedEntry));
+    if (!partitionConfig.isCoalescedCommitNotificationsEnabled()) {
+      committedEntryListeners.forEach(listener -> listener.onCommit(committedEntry));
+      return;
+    }
+
+    if (committedPositionNotificationScheduled) {
+      pendingCommittedPosition = Math.max(pendingCommittedPosition, committedEntry);
+      return;
+    }
+
+    committedPositionNotificationScheduled = true;
+    pendingCommittedPosition = committedEntry;
+    threadContext.execute(
+        () -> {
+          committedPositionNotificationScheduled = false;
+          committedEntryListeners.forEach(listener -> listener.onCommit(pendingCommittedPosition));
+        });
+  }
+
+  private void notifyCommit(final long commitIndex) {
+    if (!partitionConfig.isCoalescedCommitNotificationsEnabled()) {
+      notifyCommitListeners(commitIndex);
+      return;
+    }
+
+    if (!commitNotificationScheduled) {
+      commitNotificationScheduled = true;
+      threadContext.execute(
+          () -> {
+            commitNotificationScheduled = false;
+            notifyCommitListeners(this.commitIndex);
+          });
+    }
   }
 
   /**
@@ -536,7 +589,7 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
         cluster.commitCurrentConfiguration();
       }
       replicationMetrics.setCommitIndex(commitIndex);
-      notifyCommitListeners(commitIndex);
+      notifyCommit(commitIndex);
     }
     return previousCommitIndex;
   }
@@ -54,6 +54,30 @@ public class LeaderMetrics extends RaftMetrics {
           .help("The number of non-replicated entries for a given followers")
           .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
           .register();
+  private static final Gauge APPEND_WINDOW_IN_FLIGHT_LIMIT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("append_window_in_flight_limit")
+          .help("The current limit of in-flight append requests to a given follower")
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+
+  private static final Gauge APPEND_WINDOW_BATCH_SIZE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("append_window_batch_size_bytes")
+          .help("The current max size of the entries of an append request to a given follower")
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+
+  private static final Gauge APPEND_WINDOW_RTT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("append_window_smoothed_rtt")
+          .help("The smoothed round trip time of append requests to a given follower in seconds")
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+
   private static final Counter COMMIT_RATE =
       Counter.build()
           .namespace(NAMESPACE)
@@ -88,6 +112,20 @@ public class LeaderMetrics extends RaftMetrics {
     APPEND_DATA_RATE.labels(memberId, partitionGroupName, partition).inc(appendedBytes / 1024f);
   }
 
+  public void observeAppendWindow(
+      final String memberId,
+      final int inFlightLimit,
+      final int batchSize,
+      final double smoothedRttMillis) {
+    APPEND_WINDOW_IN_FLIGHT_LIMIT
+        .labels(memberId, partitionGroupName, partition)
+        .set(inFlightLimit);
+    APPEND_WINDOW_BATCH_SIZE.labels(memberId, partitionGroupName, partition).set(batchSize);
+    APPEND_WINDOW_RTT
+        .labels(memberId, partitionGroupName, partition)
+        .set(smoothedRttMillis / 1000f);
+  }
+
   public void observeCommit() {
     commitRate.inc();
   }
@@ -96,6 +134,25 @@ public class LeaderMetrics extends RaftMetrics {
     nonCommittedEntries.set(remainingEntries);
   }
 
+  public void observeSerializeLatency(final String memberId, final long latencyNanos) {
+    observeReplicationPhase(RaftReplicationMetrics.PHASE_SERIALIZE, memberId, latencyNanos);
+  }
+
+  public void observeSendLatency(final String memberId, final long latencyNanos) {
+    observeReplicationPhase(RaftReplicationMetrics.PHASE_SEND, memberId, latencyNanos);
+  }
+
+  public void observeResponseLatency(final String memberId, final long latencyNanos) {
+    observeReplicationPhase(RaftReplicationMetrics.PHASE_RESPONSE, memberId, latencyNanos);
+  }
+
+  private void observeReplicationPhase(
+      final String phase, final String memberId, final long latencyNanos) {
+    RaftReplicationMetrics.REPLICATION_PHASE_LATENCY
+        .labels(phase, memberId, partitionGroupName, partition)
+        .observe(latencyNanos / 1e9);
+  }
+
   public void observeRemainingEntries(final String memberId, final long remainingEntries) {
     NON_REPLICATED_ENTRIES.labels(memberId, partitionGroupName, partition).set(remainingEntries);
   }
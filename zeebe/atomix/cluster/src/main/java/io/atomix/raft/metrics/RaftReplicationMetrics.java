@@ -16,8 +16,30 @@
 package io.atomix.raft.metrics;
 
 import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
 
 public class RaftReplicationMetrics extends RaftMetrics {
+  static final String PHASE_SERIALIZE = "serialize";
+  static final String PHASE_SEND = "send";
+  static final String PHASE_RESPONSE = "response";
+  static final String PHASE_FOLLOWER_APPEND = "follower_append";
+  static final String PHASE_FOLLOWER_FLUSH = "follower_flush";
+
+  /**
+   * The phases of replicating entries to a follower: the leader reads the entries and builds the
+   * request (serialize), sends it and waits for the response (send), the follower appends the
+   * entries (follower_append) and flushes them (follower_flush), and finally the leader handles the
+   * response (response). The leader observes its phases per follower, while each follower observes
+   * its own phases.
+   */
+  static final Histogram REPLICATION_PHASE_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .labelNames("phase", "follower", PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("The latency of each phase of replicating entries to a follower, in seconds")
+          .name("partition_raft_replication_phase_latency")
+          .buckets(0.0001, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 5)
+          .register();
 
   private static final Gauge COMMIT_INDEX =
       Gauge.build()
@@ -37,12 +59,20 @@ public class RaftReplicationMetrics extends RaftMetrics {
 
   private final Gauge.Child commitIndex;
   private final Gauge.Child appendIndex;
+  private final Histogram.Child followerAppendLatency;
+  private final Histogram.Child followerFlushLatency;
 
-  public RaftReplicationMetrics(final String partitionName) {
+  public RaftReplicationMetrics(final String partitionName, final String localMemberId) {
     super(partitionName);
 
     commitIndex = COMMIT_INDEX.labels(partitionGroupName, partition);
     appendIndex = APPEND_INDEX.labels(partitionGroupName, partition);
+    followerAppendLatency =
+        REPLICATION_PHASE_LATENCY.labels(
+            PHASE_FOLLOWER_APPEND, localMemberId, partitionGroupName, partition);
+    followerFlushLatency =
+        REPLICATION_PHASE_LATENCY.labels(
+            PHASE_FOLLOWER_FLUSH, localMemberId, partitionGroupName, partition);
   }
 
   public void setCommitIndex(final long value) {
@@ -52,4 +82,12 @@ public class RaftReplicationMetrics extends RaftMetrics {
   public void setAppendIndex(final long value) {
     appendIndex.set(value);
   }
+
+  public void observeFollowerAppendLatency(final long latencyNanos) {
+    followerAppendLatency.observe(latencyNanos / 1e9);
+  }
+
+  public void observeFollowerFlushLatency(final long latencyNanos) {
+    followerFlushLatency.observe(latencyNanos / 1e9);
+  }
 }
@@ -30,21 +30,31 @@ public class RaftPartitionConfig {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final Duration DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT = Duration.ofSeconds(0);
   private static final int DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD = 100;
+  private static final boolean DEFAULT_SBE_PROTOCOL_ENABLED = false;
+  private static final int DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT = 1;
+  private static final Duration DEFAULT_FOLLOWER_FLUSH_DELAY = Duration.ZERO;
+  private static final int DEFAULT_FOLLOWER_FLUSH_BATCH_SIZE = 1024 * 1024;
 
   private Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
   private int maxAppendsPerFollower = 2;
   private int maxAppendBatchSize = 32 * 1024;
+  private boolean adaptiveAppendWindowEnabled = false;
   private boolean priorityElectionEnabled = DEFAULT_PRIORITY_ELECTION;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
   private int minStepDownFailureCount = DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT;
   private Duration maxQuorumResponseTimeout = DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT;
   private int preferSnapshotReplicationThreshold = DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD;
+  private boolean sbeProtocolEnabled = DEFAULT_SBE_PROTOCOL_ENABLED;
   private RaftStorageConfig storageConfig;
   private EntryValidator entryValidator;
   private Duration configurationChangeTimeout;
   private int snapshotChunkSize;
+  private int maxSnapshotChunksInFlight = DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT;
+  private boolean coalescedCommitNotificationsEnabled = false;
+  private Duration followerFlushDelay = DEFAULT_FOLLOWER_FLUSH_DELAY;
+  private int followerFlushBatchSize = DEFAULT_FOLLOWER_FLUSH_BATCH_SIZE;
 
   /**
    * Returns the Raft leader election timeout.
@@ -102,6 +112,21 @@ public class RaftPartitionConfig {
     this.maxAppendBatchSize = maxAppendBatchSize;
   }
 
+  public boolean isAdaptiveAppendWindowEnabled() {
+    return adaptiveAppendWindowEnabled;
+  }
+
+  /**
+   * Sets whether the leader adapts the number of in-flight append requests and their size per
+   * follower, based on the round trip time of the requests. The max appends per follower is then
+   * the initial in-flight limit, and the max append batch size the upper bound of the batch size.
+   *
+   * @param adaptiveAppendWindowEnabled true to adapt the append window per follower
+   */
+  public void setAdaptiveAppendWindowEnabled(final boolean adaptiveAppendWindowEnabled) {
+    this.adaptiveAppendWindowEnabled = adaptiveAppendWindowEnabled;
+  }
+
   public boolean isPriorityElectionEnabled() {
     return priorityElectionEnabled;
   }
@@ -144,6 +169,66 @@ public class RaftPartitionConfig {
     this.snapshotChunkSize = snapshotChunkSize;
   }
 
+  public int getMaxSnapshotChunksInFlight() {
+    return maxSnapshotChunksInFlight;
+  }
+
+  /**
+   * Sets how many snapshot chunks the leader may send to a single follower before waiting for an
+   * acknowledgement. The first and the last chunk of a snapshot are always sent on their own.
+   *
+   * @param maxSnapshotChunksInFlight the max number of in-flight install requests per follower
+   */
+  public void setMaxSnapshotChunksInFlight(final int maxSnapshotChunksInFlight) {
+    this.maxSnapshotChunksInFlight = maxSnapshotChunksInFlight;
+  }
+
+  public boolean isCoalescedCommitNotificationsEnabled() {
+    return coalescedCommitNotificationsEnabled;
+  }
+
+  /**
+   * Sets whether commit listeners are notified once with the latest commit index after the Raft
+   * thread ran the tasks which are already queued, instead of once for every commit. This wakes up
+   * the listeners once per batch of commits, instead of once per entry.
+   *
+   * @param coalescedCommitNotificationsEnabled true to coalesce commit notifications
+   */
+  public void setCoalescedCommitNotificationsEnabled(
+      final boolean coalescedCommitNotificationsEnabled) {
+    this.coalescedCommitNotificationsEnabled = coalescedCommitNotificationsEnabled;
+  }
+
+  public Duration getFollowerFlushDelay() {
+    return followerFlushDelay;
+  }
+
+  /**
+   * Sets how long a follower may hold back the acknowledgement of appended entries, to flush the
+   * entries of several append requests at once. The acknowledgement is only sent once the entries
+   * are flushed. A delay of zero flushes every append request on its own. This only applies when
+   * the log is flushed directly, i.e. every flush is synchronous.
+   *
+   * @param followerFlushDelay the max time to hold back a flush of appended entries
+   */
+  public void setFollowerFlushDelay(final Duration followerFlushDelay) {
+    this.followerFlushDelay = followerFlushDelay;
+  }
+
+  public int getFollowerFlushBatchSize() {
+    return followerFlushBatchSize;
+  }
+
+  /**
+   * Sets how many bytes of appended entries a follower accumulates before flushing them right
+   * away, even if the follower flush delay has not elapsed yet.
+   *
+   * @param followerFlushBatchSize the size in bytes after which held back entries are flushed
+   */
+  public void setFollowerFlushBatchSize(final int followerFlushBatchSize) {
+    this.followerFlushBatchSize = followerFlushBatchSize;
+  }
+
   public Duration getConfigurationChangeTimeout() {
     return configurationChangeTimeout;
   }
@@ -193,6 +278,21 @@ public class RaftPartitionConfig {
     this.preferSnapshotReplicationThreshold = preferSnapshotReplicationThreshold;
   }
 
+  public boolean isSbeProtocolEnabled() {
+    return sbeProtocolEnabled;
+  }
+
+  /**
+   * Sets whether append, install, poll and vote messages are encoded with SBE instead of Kryo.
+   * Messages in either encoding are always accepted, but this must only be enabled once all members
+   * of the cluster can decode SBE encoded messages.
+   *
+   * @param sbeProtocolEnabled true to encode the messages with SBE
+   */
+  public void setSbeProtocolEnabled(final boolean sbeProtocolEnabled) {
+    this.sbeProtocolEnabled = sbeProtocolEnabled;
+  }
+
   public RaftStorageConfig getStorageConfig() {
     return storageConfig;
   }
@@ -220,6 +320,8 @@ public class RaftPartitionConfig {
         + maxAppendsPerFollower
         + ", maxAppendBatchSize="
         + maxAppendBatchSize
+        + ", adaptiveAppendWindowEnabled="
+        + adaptiveAppendWindowEnabled
         + ", priorityElectionEnabled="
         + priorityElectionEnabled
         + ", requestTimeout="
@@ -228,6 +330,14 @@ public class RaftPartitionConfig {
         + snapshotRequestTimeout
         + ", snapshotChunkSize="
         + snapshotChunkSize
+        + ", maxSnapshotChunksInFlight="
+        + maxSnapshotChunksInFlight
+        + ", coalescedCommitNotificationsEnabled="
+        + coalescedCommitNotificationsEnabled
+        + ", followerFlushDelay="
+        + followerFlushDelay
+        + ", followerFlushBatchSize="
+        + followerFlushBatchSize
         + ", configurationChangeTimeout="
         + configurationChangeTimeout
         + ", minStepDownFailureCount="
@@ -236,6 +346,8 @@ public class RaftPartitionConfig {
         + maxQuorumResponseTimeout
         + ", preferSnapshotReplicationThreshold="
         + preferSnapshotReplicationThreshold
+        + ", sbeProtocolEnabled="
+        + sbeProtocolEnabled
         + '}';
   }
 }
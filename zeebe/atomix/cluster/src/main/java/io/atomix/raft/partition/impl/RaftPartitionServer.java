@@ -34,6 +34,7 @@ import io.atomix.raft.partition.RaftElectionConfig;
 import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.partition.RaftStorageConfig;
+import io.atomix.raft.protocol.serializer.RaftProtocolSBESerializer;
 import io.atomix.raft.roles.RaftRole;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.RaftLogReader;
@@ -310,7 +311,8 @@ public class RaftPartitionServer implements HealthMonitorable {
   private RaftServerCommunicator createServerProtocol() {
     return new RaftServerCommunicator(
         partition.name(),
-        Serializer.using(RaftNamespaces.RAFT_PROTOCOL),
+        new RaftProtocolSBESerializer(
+            Serializer.using(RaftNamespaces.RAFT_PROTOCOL), config.isSbeProtocolEnabled()),
         clusterCommunicator,
         requestTimeout,
         snapshotRequestTimeout,
@@ -20,6 +20,8 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Snapshot installation response.
@@ -27,26 +29,51 @@ import io.atomix.raft.RaftError;
  * <p>Install responses are sent once a snapshot installation request has been received and
  * processed. Install responses provide no additional metadata aside from indicating whether or not
  * the request was successful.
+ *
+ * <p>The response to the first chunk of a snapshot contains the checksums of the files of the
+ * receiver's latest snapshot, so that the leader doesn't send files which the receiver has
+ * already.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
   protected int preferredChunkSize;
+  // may be null, e.g. if sent by a member which doesn't reuse files yet
+  protected HashMap<String, Long> reusableFiles;
 
   public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+    this(status, error, preferredChunkSize, null);
+  }
+
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final HashMap<String, Long> reusableFiles) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.reusableFiles = reusableFiles;
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  /**
+   * Returns the checksums of the files which the receiver has in its latest snapshot, by file name.
+   *
+   * @return the checksums of the receiver's snapshot files; empty if there are none
+   */
+  public Map<String, Long> reusableFiles() {
+    return reusableFiles == null ? Map.of() : reusableFiles;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("status", status)
         .add("error", error)
         .add("preferredChunkSize", preferredChunkSize)
+        .add("reusableFiles", reusableFiles().size())
         .toString();
   }
 
@@ -62,17 +89,24 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected HashMap<String, Long> reusableFiles;
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      return new InstallResponse(status, error, preferredChunkSize, reusableFiles);
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
       this.preferredChunkSize = preferredChunkSize;
       return this;
     }
+
+    public Builder withReusableFiles(final Map<String, Long> reusableFiles) {
+      // copied, as only a HashMap is registered for serialization
+      this.reusableFiles = new HashMap<>(reusableFiles);
+      return this;
+    }
   }
 }
@@ -0,0 +1,541 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.PollRequest;
+import io.atomix.raft.protocol.PollResponse;
+import io.atomix.raft.protocol.RaftResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.protocol.VoteRequest;
+import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.utils.serializer.Serializer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Serializes the messages on the replication and election path - append, install, poll and vote
+ * requests and their responses - with SBE, and delegates all other messages to the given fallback
+ * serializer.
+ *
+ * <p>Decoding accepts both encodings, so a member can always read messages of members which still
+ * use the fallback serializer. Encoding with SBE can be disabled, which is necessary as long as the
+ * cluster contains members which don't know this schema yet, e.g. during a rolling update.
+ *
+ * <p>The serializer is used concurrently by the messaging threads and the Raft thread, so the SBE
+ * flyweights are kept per thread.
+ */
+public final class RaftProtocolSBESerializer implements Serializer {
+  private static final byte NO_ERROR = -1;
+  private static final byte[] EMPTY = new byte[0];
+  private static final RaftError.Type[] ERROR_TYPES = RaftError.Type.values();
+
+  private final ThreadLocal<Codec> codecs = ThreadLocal.withInitial(Codec::new);
+  private final Serializer fallback;
+  private final boolean encodeWithSbe;
+
+  public RaftProtocolSBESerializer(final Serializer fallback, final boolean encodeWithSbe) {
+    this.fallback = fallback;
+    this.encodeWithSbe = encodeWithSbe;
+  }
+
+  @Override
+  public <T> byte[] encode(final T object) {
+    if (!encodeWithSbe) {
+      return fallback.encode(object);
+    }
+
+    final var codec = codecs.get();
+    return switch (object) {
+      case final VersionedAppendRequest request -> codec.encode(request);
+      case final AppendResponse response -> codec.encode(response);
+      case final PollRequest request -> codec.encode(request);
+      case final PollResponse response -> codec.encode(response);
+      case final VoteRequest request -> codec.encode(request);
+      case final VoteResponse response -> codec.encode(response);
+      case final InstallRequest request -> codec.encode(request);
+      // the files of the receiver's snapshot are only sent once per snapshot, with the response to
+      // its first chunk, so they are left to the fallback serializer
+      case final InstallResponse response when response.reusableFiles().isEmpty() ->
+          codec.encode(response);
+      default -> fallback.encode(object);
+    };
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T decode(final byte[] bytes) {
+    final var codec = codecs.get();
+    final var message = codec.decode(bytes);
+    return message != null ? (T) message : fallback.decode(bytes);
+  }
+
+  private static final class Codec {
+    private final UnsafeBuffer buffer = new UnsafeBuffer();
+    private final UnsafeBuffer source = new UnsafeBuffer();
+    private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+    private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+    private final AppendRequestEncoder appendRequestEncoder = new AppendRequestEncoder();
+    private final AppendRequestDecoder appendRequestDecoder = new AppendRequestDecoder();
+    private final AppendResponseEncoder appendResponseEncoder = new AppendResponseEncoder();
+    private final AppendResponseDecoder appendResponseDecoder = new AppendResponseDecoder();
+    private final PollRequestEncoder pollRequestEncoder = new PollRequestEncoder();
+    private final PollRequestDecoder pollRequestDecoder = new PollRequestDecoder();
+    private final PollResponseEncoder pollResponseEncoder = new PollResponseEncoder();
+    private final PollResponseDecoder pollResponseDecoder = new PollResponseDecoder();
+    private final VoteRequestEncoder voteRequestEncoder = new VoteRequestEncoder();
+    private final VoteRequestDecoder voteRequestDecoder = new VoteRequestDecoder();
+    private final VoteResponseEncoder voteResponseEncoder = new VoteResponseEncoder();
+    private final VoteResponseDecoder voteResponseDecoder = new VoteResponseDecoder();
+    private final InstallRequestEncoder installRequestEncoder = new InstallRequestEncoder();
+    private final InstallRequestDecoder installRequestDecoder = new InstallRequestDecoder();
+    private final InstallResponseEncoder installResponseEncoder = new InstallResponseEncoder();
+    private final InstallResponseDecoder installResponseDecoder = new InstallResponseDecoder();
+
+    private byte[] encode(final VersionedAppendRequest request) {
+      final var leader = request.leader().id().getBytes(StandardCharsets.UTF_8);
+      final var entries = request.entries();
+      int length =
+          MessageHeaderEncoder.ENCODED_LENGTH
+              + AppendRequestEncoder.BLOCK_LENGTH
+              + AppendRequestEncoder.EntriesEncoder.sbeHeaderSize()
+              + AppendRequestEncoder.leaderHeaderLength()
+              + leader.length;
+      for (final var entry : entries) {
+        length +=
+            AppendRequestEncoder.EntriesEncoder.sbeBlockLength()
+                + AppendRequestEncoder.EntriesEncoder.serializedJournalRecordHeaderLength()
+                + entry.serializedJournalRecord().length;
+      }
+
+      final var bytes = new byte[length];
+      buffer.wrap(bytes);
+      appendRequestEncoder
+          .wrapAndApplyHeader(buffer, 0, headerEncoder)
+          .version(request.version())
+          .term(request.term())
+          .prevLogIndex(request.prevLogIndex())
+          .prevLogTerm(request.prevLogTerm())
+          .commitIndex(request.commitIndex());
+
+      final var entriesEncoder = appendRequestEncoder.entriesCount(entries.size());
+      for (final var entry : entries) {
+        final var serializedRecord = entry.serializedJournalRecord();
+        entriesEncoder
+            .next()
+            .term(entry.term())
+            .index(entry.index())
+            .checksum(entry.checksum())
+            .putSerializedJournalRecord(serializedRecord, 0, serializedRecord.length);
+      }
+      appendRequestEncoder.putLeader(leader, 0, leader.length);
+      return bytes;
+    }
+
+    private byte[] encode(final AppendResponse response) {
+      final var errorMessage = errorMessage(response);
+      final int length =
+          MessageHeaderEncoder.ENCODED_LENGTH
+              + AppendResponseEncoder.BLOCK_LENGTH
+              + AppendResponseEncoder.errorMessageHeaderLength()
+              + errorMessage.length;
+      final var bytes = new byte[length];
+      buffer.wrap(bytes);
+      appendResponseEncoder
+          .wrapAndApplyHeader(buffer, 0, headerEncoder)
+          .status(status(response))
+          .errorType(errorType(response))
+          .term(response.term())
+          .succeeded(toBooleanType(response.succeeded()))
+          .lastLogIndex(response.lastLogIndex())
+          .lastSnapshotIndex(response.lastSnapshotIndex())
+          .configurationIndex(response.configurationIndex())
+          .putErrorMessage(errorMessage, 0, errorMessage.length);
+      return bytes;
+    }
+
+    private byte[] encode(final PollRequest request) {
+      final var candidate = request.candidate().id().getBytes(StandardCharsets.UTF_8);
+      final int length =
+          MessageHeaderEncoder.ENCODED_LENGTH
+              + PollRequestEncoder.BLOCK_LENGTH
+              + PollRequestEncoder.candidateHeaderLength()
+              + candidate.length;
+      final var bytes = new byte[length];
+      buffer.wrap(bytes);
+      pollRequestEncoder
+          .wrapAndApplyHeader(buffer, 0, headerEncoder)
+          .term(request.term())
+          .lastLogIndex(request.lastLogIndex())
+          .lastLogTerm(request.lastLogTerm())
+          .putCandidate(candidate, 0, candidate.length);
+      return bytes;
+    }
+
+    private byte[] encode(final PollResponse response) {
+      final var errorMessage = errorMessage(response);
+      final int length =
+          MessageHeaderEncoder.ENCODED_LENGTH
+              + PollResponseEncoder.BLOCK_LENGTH
+              + PollResponseEncoder.errorMessageHeaderLength()
+              + errorMessage.length;
+      final var bytes = new byte[length];
+      buffer.wrap(bytes);
+      pollResponseEncoder
+          .wrapAndApplyHeader(buffer, 0, headerEncoder)
+          .status(status(response))
+          .errorType(errorType(response))
+          .term(response.term())
+          .accepted(toBooleanType(response.accepted()))
+          .putErrorMessage(errorMessage, 0, errorMessage.length);
+      return bytes;
+    }
+
+    private byte[] encode(final VoteRequest request) {
+      final var candidate = request.candidate().id().getBytes(StandardCharsets.UTF_8);
+      final int length =
+          MessageHeaderEncoder.ENCODED_LENGTH
+              + VoteRequestEncoder.BLOCK_LENGTH
+              + VoteRequestEncoder.candidateHeaderLength()
+              + candidate.length;
+      final var bytes = new byte[length];
+      buffer.wrap(bytes);
+      voteRequestEncoder
+          .wrapAndApplyHeader(buffer, 0, headerEncoder)
+          .term(request.term())
+          .lastLogIndex(request.lastLogIndex())
+          .lastLogTerm(request.lastLogTerm())
+          .putCandidate(candidate, 0, candidate.length);
+      return bytes;
+    }
+
+    private byte[] encode(final VoteResponse response) {
+      final var errorMessage = errorMessage(response);
+      final int length =
+          MessageHeaderEncoder.ENCODED_LENGTH
+              + VoteResponseEncoder.BLOCK_LENGTH
+              + VoteResponseEncoder.errorMessageHeaderLength()
+              + errorMessage.length;
+      final var bytes = new byte[length];
+      buffer.wrap(bytes);
+      voteResponseEncoder
+          .wrapAndApplyHeader(buffer, 0, headerEncoder)
+          .status(status(response))
+          .errorType(errorType(response))
+          .term(response.term())
+          .voted(toBooleanType(response.voted()))
+          .putErrorMessage(errorMessage, 0, errorMessage.length);
+      return bytes;
+    }
+
+    private byte[] encode(final InstallRequest request) {
+      final var leader = request.leader().id().getBytes(StandardCharsets.UTF_8);
+      final var chunkId = request.chunkId();
+      final var nextChunkId = request.nextChunkId();
+      final var data = request.data();
+      final int length =
+          MessageHeaderEncoder.ENCODED_LENGTH
+              + InstallRequestEncoder.BLOCK_LENGTH
+              + InstallRequestEncoder.leaderHeaderLength()
+              + leader.length
+              + InstallRequestEncoder.chunkIdHeaderLength()
+              + remaining(chunkId)
+              + InstallRequestEncoder.nextChunkIdHeaderLength()
+              + remaining(nextChunkId)
+              + InstallRequestEncoder.dataHeaderLength()
+              + remaining(data);
+      final var bytes = new byte[length];
+      buffer.wrap(bytes);
+      installRequestEncoder
+          .wrapAndApplyHeader(buffer, 0, headerEncoder)
+          .currentTerm(request.currentTerm())
+          .index(request.index())
+          .term(request.term())
+          .version(request.version())
+          .initial(toBooleanType(request.isInitial()))
+          .complete(toBooleanType(request.complete()))
+          .hasNextChunkId(toBooleanType(nextChunkId != null))
+          .putLeader(leader, 0, leader.length);
+      wrapSource(chunkId);
+      installRequestEncoder.putChunkId(source, 0, source.capacity());
+      wrapSource(nextChunkId);
+      installRequestEncoder.putNextChunkId(source, 0, source.capacity());
+      wrapSource(data);
+      installRequestEncoder.putData(source, 0, source.capacity());
+      return bytes;
+    }
+
+    private byte[] encode(final InstallResponse response) {
+      final var errorMessage = errorMessage(response);
+      final int length =
+          MessageHeaderEncoder.ENCODED_LENGTH
+              + InstallResponseEncoder.BLOCK_LENGTH
+              + InstallResponseEncoder.errorMessageHeaderLength()
+              + errorMessage.length;
+      final var bytes = new byte[length];
+      buffer.wrap(bytes);
+      installResponseEncoder
+          .wrapAndApplyHeader(buffer, 0, headerEncoder)
+          .status(status(response))
+          .errorType(errorType(response))
+          .preferredChunkSize(response.preferredChunkSize())
+          .putErrorMessage(errorMessage, 0, errorMessage.length);
+      return bytes;
+    }
+
+    /**
+     * Returns the decoded message, or null if the bytes are not a message of this schema. Messages
+     * of the fallback serializer can't be mistaken for one: Kryo starts them with the registration
+     * id of their class as a var int, which for the Raft messages is at least 500 and so never
+     * matches the block length of any message here.
+     */
+    private Object decode(final byte[] bytes) {
+      if (bytes.length < MessageHeaderDecoder.ENCODED_LENGTH) {
+        return null;
+      }
+
+      buffer.wrap(bytes);
+      headerDecoder.wrap(buffer, 0);
+      if (headerDecoder.schemaId() != MessageHeaderDecoder.SCHEMA_ID) {
+        return null;
+      }
+
+      final int offset = MessageHeaderDecoder.ENCODED_LENGTH;
+      final int blockLength = headerDecoder.blockLength();
+      final int version = headerDecoder.version();
+      return switch (headerDecoder.templateId()) {
+        case AppendRequestDecoder.TEMPLATE_ID ->
+            blockLength == AppendRequestDecoder.BLOCK_LENGTH
+                ? decodeAppendRequest(offset, blockLength, version)
+                : null;
+        case AppendResponseDecoder.TEMPLATE_ID ->
+            blockLength == AppendResponseDecoder.BLOCK_LENGTH
+                ? decodeAppendResponse(offset, blockLength, version)
+                : null;
+        case PollRequestDecoder.TEMPLATE_ID ->
+            blockLength == PollRequestDecoder.BLOCK_LENGTH
+                ? decodePollRequest(offset, blockLength, version)
+                : null;
+        case PollResponseDecoder.TEMPLATE_ID ->
+            blockLength == PollResponseDecoder.BLOCK_LENGTH
+                ? decodePollResponse(offset, blockLength, version)
+                : null;
+        case VoteRequestDecoder.TEMPLATE_ID ->
+            blockLength == VoteRequestDecoder.BLOCK_LENGTH
+                ? decodeVoteRequest(offset, blockLength, version)
+                : null;
+        case VoteResponseDecoder.TEMPLATE_ID ->
+            blockLength == VoteResponseDecoder.BLOCK_LENGTH
+                ? decodeVoteResponse(offset, blockLength, version)
+                : null;
+        case InstallRequestDecoder.TEMPLATE_ID ->
+            blockLength == InstallRequestDecoder.BLOCK_LENGTH
+                ? decodeInstallRequest(bytes, offset, blockLength, version)
+                : null;
+        case InstallResponseDecoder.TEMPLATE_ID ->
+            blockLength == InstallResponseDecoder.BLOCK_LENGTH
+                ? decodeInstallResponse(offset, blockLength, version)
+                : null;
+        default -> null;
+      };
+    }
+
+    private VersionedAppendRequest decodeAppendRequest(
+        final int offset, final int blockLength, final int version) {
+      appendRequestDecoder.wrap(buffer, offset, blockLength, version);
+
+      final var entriesDecoder = appendRequestDecoder.entries();
+      final List<ReplicatableJournalRecord> entries = new ArrayList<>(entriesDecoder.count());
+      for (final var entry : entriesDecoder) {
+        final var term = entry.term();
+        final var index = entry.index();
+        final var checksum = entry.checksum();
+        final var serializedRecord = new byte[entry.serializedJournalRecordLength()];
+        entry.getSerializedJournalRecord(serializedRecord, 0, serializedRecord.length);
+        entries.add(new ReplicatableJournalRecord(term, index, checksum, serializedRecord));
+      }
+
+      return new VersionedAppendRequest(
+          appendRequestDecoder.version(),
+          appendRequestDecoder.term(),
+          appendRequestDecoder.leader(),
+          appendRequestDecoder.prevLogIndex(),
+          appendRequestDecoder.prevLogTerm(),
+          entries,
+          appendRequestDecoder.commitIndex());
+    }
+
+    private AppendResponse decodeAppendResponse(
+        final int offset, final int blockLength, final int version) {
+      appendResponseDecoder.wrap(buffer, offset, blockLength, version);
+      return new AppendResponse(
+          toStatus(appendResponseDecoder.status()),
+          toError(appendResponseDecoder.errorType(), appendResponseDecoder.errorMessage()),
+          appendResponseDecoder.term(),
+          appendResponseDecoder.succeeded() == BooleanType.TRUE,
+          appendResponseDecoder.lastLogIndex(),
+          appendResponseDecoder.lastSnapshotIndex(),
+          appendResponseDecoder.configurationIndex());
+    }
+
+    private PollRequest decodePollRequest(
+        final int offset, final int blockLength, final int version) {
+      pollRequestDecoder.wrap(buffer, offset, blockLength, version);
+      return new PollRequest(
+          pollRequestDecoder.term(),
+          pollRequestDecoder.candidate(),
+          pollRequestDecoder.lastLogIndex(),
+          pollRequestDecoder.lastLogTerm());
+    }
+
+    private PollResponse decodePollResponse(
+        final int offset, final int blockLength, final int version) {
+      pollResponseDecoder.wrap(buffer, offset, blockLength, version);
+      return new PollResponse(
+          toStatus(pollResponseDecoder.status()),
+          toError(pollResponseDecoder.errorType(), pollResponseDecoder.errorMessage()),
+          pollResponseDecoder.term(),
+          pollResponseDecoder.accepted() == BooleanType.TRUE);
+    }
+
+    private VoteRequest decodeVoteRequest(
+        final int offset, final int blockLength, final int version) {
+      voteRequestDecoder.wrap(buffer, offset, blockLength, version);
+      return new VoteRequest(
+          voteRequestDecoder.term(),
+          voteRequestDecoder.candidate(),
+          voteRequestDecoder.lastLogIndex(),
+          voteRequestDecoder.lastLogTerm());
+    }
+
+    private VoteResponse decodeVoteResponse(
+        final int offset, final int blockLength, final int version) {
+      voteResponseDecoder.wrap(buffer, offset, blockLength, version);
+      return new VoteResponse(
+          toStatus(voteResponseDecoder.status()),
+          toError(voteResponseDecoder.errorType(), voteResponseDecoder.errorMessage()),
+          voteResponseDecoder.term(),
+          voteResponseDecoder.voted() == BooleanType.TRUE);
+    }
+
+    /**
+     * The chunk id and the chunk data are not copied; the returned request references the received
+     * bytes, which are not reused by the messaging service.
+     */
+    private InstallRequest decodeInstallRequest(
+        final byte[] bytes, final int offset, final int blockLength, final int version) {
+      installRequestDecoder.wrap(buffer, offset, blockLength, version);
+      final var currentTerm = installRequestDecoder.currentTerm();
+      final var index = installRequestDecoder.index();
+      final var term = installRequestDecoder.term();
+      final var snapshotVersion = installRequestDecoder.version();
+      final var initial = installRequestDecoder.initial() == BooleanType.TRUE;
+      final var complete = installRequestDecoder.complete() == BooleanType.TRUE;
+      final var hasNextChunkId = installRequestDecoder.hasNextChunkId() == BooleanType.TRUE;
+      final var leader = MemberId.from(installRequestDecoder.leader());
+
+      final var chunkId =
+          slice(
+              bytes,
+              installRequestDecoder.limit() + InstallRequestDecoder.chunkIdHeaderLength(),
+              installRequestDecoder.chunkIdLength());
+      installRequestDecoder.skipChunkId();
+      final var nextChunkId =
+          slice(
+              bytes,
+              installRequestDecoder.limit() + InstallRequestDecoder.nextChunkIdHeaderLength(),
+              installRequestDecoder.nextChunkIdLength());
+      installRequestDecoder.skipNextChunkId();
+      final var data =
+          slice(
+              bytes,
+              installRequestDecoder.limit() + InstallRequestDecoder.dataHeaderLength(),
+              installRequestDecoder.dataLength());
+      installRequestDecoder.skipData();
+
+      return new InstallRequest(
+          currentTerm,
+          leader,
+          index,
+          term,
+          snapshotVersion,
+          chunkId,
+          hasNextChunkId ? nextChunkId : null,
+          data,
+          initial,
+          complete);
+    }
+
+    private InstallResponse decodeInstallResponse(
+        final int offset, final int blockLength, final int version) {
+      installResponseDecoder.wrap(buffer, offset, blockLength, version);
+      final var status = toStatus(installResponseDecoder.status());
+      final var errorType = installResponseDecoder.errorType();
+      final var preferredChunkSize = installResponseDecoder.preferredChunkSize();
+      final var error = toError(errorType, installResponseDecoder.errorMessage());
+      return new InstallResponse(status, error, preferredChunkSize);
+    }
+
+    private void wrapSource(final ByteBuffer byteBuffer) {
+      if (byteBuffer == null) {
+        source.wrap(EMPTY);
+      } else {
+        source.wrap(byteBuffer, byteBuffer.position(), byteBuffer.remaining());
+      }
+    }
+
+    private static int remaining(final ByteBuffer buffer) {
+      return buffer == null ? 0 : buffer.remaining();
+    }
+
+    private static ByteBuffer slice(final byte[] bytes, final int offset, final int length) {
+      return ByteBuffer.wrap(bytes, offset, length).slice();
+    }
+
+    private static ResponseStatus status(final RaftResponse response) {
+      return response.status() == Status.OK ? ResponseStatus.OK : ResponseStatus.ERROR;
+    }
+
+    private static Status toStatus(final ResponseStatus status) {
+      return status == ResponseStatus.OK ? Status.OK : Status.ERROR;
+    }
+
+    private static byte errorType(final RaftResponse response) {
+      final var error = response.error();
+      return error == null ? NO_ERROR : (byte) error.type().ordinal();
+    }
+
+    private static byte[] errorMessage(final RaftResponse response) {
+      final var error = response.error();
+      if (error == null || error.message() == null) {
+        return EMPTY;
+      }
+      return error.message().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static RaftError toError(final byte errorType, final String errorMessage) {
+      if (errorType == NO_ERROR) {
+        return null;
+      }
+      return new RaftError(ERROR_TYPES[errorType], errorMessage.isEmpty() ? null : errorMessage);
+    }
+
+    private static BooleanType toBooleanType(final boolean value) {
+      return value ? BooleanType.TRUE : BooleanType.FALSE;
+    }
+  }
+}
@@ -64,7 +64,6 @@ final class LeaderAppender {
 
   private static final int MIN_BACKOFF_FAILURE_COUNT = 5;
 
-  private final int maxBatchSizePerAppend;
   private final Logger log;
   private final RaftContext raft;
   private boolean open = true;
@@ -78,6 +77,7 @@ final class LeaderAppender {
   private final long heartbeatTime;
   private final int minStepDownFailureCount;
   private final long maxQuorumResponseTimeout;
+  private final int maxSnapshotChunksInFlight;
 
   LeaderAppender(final LeaderRole leader) {
     raft = checkNotNull(leader.raft, "context cannot be null");
@@ -85,7 +85,6 @@ final class LeaderAppender {
         ContextualLoggerFactory.getLogger(
             getClass(), LoggerContext.builder(RaftServer.class).addValue(raft.getName()).build());
     metrics = new LeaderMetrics(raft.getName());
-    maxBatchSizePerAppend = raft.getMaxAppendBatchSize();
     leaderTime = System.currentTimeMillis();
     leaderIndex =
         raft.getLog().isEmpty() ? raft.getLog().getFirstIndex() : raft.getLog().getLastIndex() + 1;
@@ -96,6 +95,7 @@ final class LeaderAppender {
         raft.getMaxQuorumResponseTimeout().isZero()
             ? electionTimeout * 2
             : raft.getMaxQuorumResponseTimeout().toMillis();
+    maxSnapshotChunksInFlight = raft.getMaxSnapshotChunksInFlight();
   }
 
   /**
@@ -160,6 +160,7 @@ final class LeaderAppender {
   /** Builds a populated AppendEntries request. */
   private VersionedAppendRequest buildAppendEntriesRequest(
       final RaftMemberContext member, final long lastIndex) {
+    final long startNanos = System.nanoTime();
     final IndexedRaftLogEntry prevEntry = member.getCurrentEntry();
 
     final DefaultRaftMember leader = raft.getLeader();
@@ -172,12 +173,13 @@ final class LeaderAppender {
     // Build a list of entries to send to the member.
     final List<ReplicatableJournalRecord> entries = new ArrayList<>();
 
-    // Build a list of entries up to the MAX_BATCH_SIZE. Note that entries in the log may
+    // Build a list of entries up to the member's batch size. Note that entries in the log may
     // be null if they've been compacted and the member to which we're sending entries is just
     // joining the cluster or is otherwise far behind. Null entries are simply skipped and not
     // counted towards the size of the batch.
-    // If there exists an entry in the log with size >= MAX_BATCH_SIZE the logic ensures that
+    // If there exists an entry in the log with size >= the batch size the logic ensures that
     // entry will be sent in a batch of size one
+    final int batchSize = member.getAppendWindow().getBatchSize();
     int size = 0;
 
     // Iterate through the log until the last index or the end of the log is reached.
@@ -187,13 +189,16 @@ final class LeaderAppender {
       final var replicatableRecord = entry.getReplicatableJournalRecord();
       entries.add(replicatableRecord);
       size += replicatableRecord.approximateSize();
-      if (entry.index() == lastIndex || size >= maxBatchSizePerAppend) {
+      if (entry.index() == lastIndex || size >= batchSize) {
         break;
       }
     }
 
     // Add the entries to the request builder and build the request.
-    return builder.withEntries(entries).build();
+    final var request = builder.withEntries(entries).build();
+    metrics.observeSerializeLatency(
+        member.getMember().memberId().id(), System.nanoTime() - startNanos);
+    return request;
   }
 
   /** Connects to the member and sends a commit message. */
@@ -208,6 +213,7 @@ final class LeaderAppender {
     member.startAppend();
 
     final long timestamp = System.currentTimeMillis();
+    final long sendNanos = System.nanoTime();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol()
@@ -217,16 +223,23 @@ final class LeaderAppender {
               if (open) {
                 // Complete the append to the member.
                 final long appendLatency = System.currentTimeMillis() - timestamp;
-                metrics.appendComplete(appendLatency, member.getMember().memberId().id());
+                final String memberId = member.getMember().memberId().id();
+                metrics.appendComplete(appendLatency, memberId);
                 if (!request.entries().isEmpty()) {
+                  metrics.observeSendLatency(memberId, System.nanoTime() - sendNanos);
                   member.completeAppend(appendLatency);
+                  updateAppendWindow(member, response, error, appendLatency);
                 } else {
                   member.completeAppend();
                 }
 
                 if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
+                  final long responseNanos = System.nanoTime();
                   handleAppendResponse(member, request, response, timestamp);
+                  if (!request.entries().isEmpty()) {
+                    metrics.observeResponseLatency(memberId, System.nanoTime() - responseNanos);
+                  }
                 } else {
                   handleAppendResponseFailure(member, request, error);
                 }
@@ -239,6 +252,29 @@ final class LeaderAppender {
     }
   }
 
+  /**
+   * Adapts the append window of the member to the outcome of an append request with entries. A log
+   * mismatch is not a sign of congestion, so only errors and timeouts shrink the window.
+   */
+  private void updateAppendWindow(
+      final RaftMemberContext member,
+      final AppendResponse response,
+      final Throwable error,
+      final long appendLatency) {
+    final var appendWindow = member.getAppendWindow();
+    if (error != null || response.status() == RaftResponse.Status.ERROR) {
+      appendWindow.onFailed();
+    } else {
+      appendWindow.onAcknowledged(appendLatency);
+    }
+
+    metrics.observeAppendWindow(
+        member.getMember().memberId().id(),
+        appendWindow.getInFlightLimit(),
+        appendWindow.getBatchSize(),
+        appendWindow.getSmoothedRtt());
+  }
+
   /** Succeeds an attempt to contact a member. */
   private void succeedAttempt(final RaftMemberContext member) {
     // Reset the member failure count and time.
@@ -395,6 +431,18 @@ final class LeaderAppender {
       }
       member.setNextSnapshotIndex(persistedSnapshot.getIndex());
       member.setNextSnapshotChunkId(null);
+      member.setLastSnapshotChunkId(null);
+      member.resetUnacknowledgedSnapshotChunks();
+    }
+
+    // The follower only starts receiving a snapshot with the first chunk, and only persists it
+    // with the last chunk, so these are sent on their own. All other chunks may be in flight
+    // concurrently, as the follower accepts them in any order.
+    final ByteBuffer nextChunkId = member.getNextSnapshotChunk();
+    final boolean isInitial = nextChunkId == null;
+    if ((isInitial || nextChunkId.equals(member.getLastSnapshotChunk()))
+        && (member.hasInstallInFlight() || member.hasUnacknowledgedSnapshotChunks())) {
+      return Optional.empty();
     }
 
     final SnapshotChunkReader reader = member.getSnapshotChunkReader();
@@ -402,12 +450,12 @@ final class LeaderAppender {
     try {
       // Reader might have advanced to the next chunk already. But if we want to retry a chunk the
       // reader should seek to the chunk. To handle retries and not-retries the same, we seek
-      // always.
-      if (member.getNextSnapshotChunk() != null) {
-        reader.seek(member.getNextSnapshotChunk());
-      } else {
+      // whenever the reader isn't positioned at the chunk already.
+      if (isInitial) {
         // member.getNextSnapshotChunk is null when it is the first chunk.
         reader.reset();
+      } else if (!nextChunkId.equals(reader.nextId())) {
+        reader.seek(nextChunkId);
       }
 
       if (!reader.hasNext()) {
@@ -415,6 +463,15 @@ final class LeaderAppender {
       }
       final ByteBuffer currentChunkId = reader.nextId();
       final SnapshotChunk chunk = reader.next();
+      final boolean isComplete = !reader.hasNext();
+      if (isComplete) {
+        member.setLastSnapshotChunkId(currentChunkId);
+        if (!isInitial
+            && (member.hasInstallInFlight() || member.hasUnacknowledgedSnapshotChunks())) {
+          // wait until all other chunks were acknowledged before sending the last one
+          return Optional.empty();
+        }
+      }
 
       // Create the install request, indicating whether this is the last chunk of data based on
       // the number of bytes remaining in the buffer.
@@ -429,8 +486,8 @@ final class LeaderAppender {
               .withVersion(persistedSnapshot.version())
               .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
               .withChunkId(currentChunkId)
-              .withInitial(member.getNextSnapshotChunk() == null)
-              .withComplete(!reader.hasNext())
+              .withInitial(isInitial)
+              .withComplete(isComplete)
               .withNextChunkId(reader.nextId())
               .build();
       return Optional.of(request);
@@ -452,6 +509,13 @@ final class LeaderAppender {
     // Start the install to the member.
     member.startInstall();
 
+    // Move on to the next chunk right away, so that further chunks can be sent before this one is
+    // acknowledged. The first and the last chunk are only moved past once acknowledged.
+    if (!request.isInitial() && !request.complete()) {
+      member.addUnacknowledgedSnapshotChunk(request.chunkId());
+      member.setNextSnapshotChunkId(request.nextChunkId());
+    }
+
     final long timestamp = System.currentTimeMillis();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
@@ -487,6 +551,13 @@ final class LeaderAppender {
     if (!isTimeout) {
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunkId(null);
+    } else {
+      // Resend all chunks starting from the oldest one which wasn't acknowledged yet; the follower
+      // ignores the chunks it has received already.
+      final ByteBuffer oldestUnacknowledgedChunk = member.resetUnacknowledgedSnapshotChunks();
+      if (oldestUnacknowledgedChunk != null) {
+        member.setNextSnapshotChunkId(oldestUnacknowledgedChunk);
+      }
     }
 
     // Log the failed attempt to contact the member.
@@ -510,12 +581,19 @@ final class LeaderAppender {
     if (request.complete()) {
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunkId(null);
+      member.setLastSnapshotChunkId(null);
+      member.resetUnacknowledgedSnapshotChunks();
       member.setSnapshotIndex(request.index());
       resetNextIndex(member, request.index() + 1);
     }
-    // If more install requests remain, increment the member's snapshot offset.
-    else {
+    // If more install requests remain, increment the member's snapshot offset. Other chunks were
+    // moved past when they were sent already.
+    else if (request.isInitial()) {
+      // files which the member has in its latest snapshot already are not sent again
+      member.getSnapshotChunkReader().setReusableFiles(response.reusableFiles());
       member.setNextSnapshotChunkId(request.nextChunkId());
+    } else {
+      member.acknowledgeSnapshotChunk(request.chunkId());
     }
 
     // Recursively append entries to the member.
@@ -872,7 +950,7 @@ final class LeaderAppender {
 
   private void tryToReplicate(final RaftMemberContext member) {
     if (shouldReplicateSnapshot(member)) {
-      if (!member.canInstall()) {
+      if (!member.canInstall(maxSnapshotChunksInFlight)) {
         return;
       }
       replicateSnapshot(member);
@@ -908,8 +986,15 @@ final class LeaderAppender {
         "Replicating snapshot {} to {}",
         persistedSnapshot.getIndex(),
         member.getMember().memberId());
-    buildInstallRequest(member, persistedSnapshot)
-        .ifPresent(installRequest -> sendInstallRequest(member, installRequest));
+    // Fill the window of in-flight install requests; stops early if the next chunk has to wait
+    // for the in-flight ones to be acknowledged
+    while (member.canInstall(maxSnapshotChunksInFlight)) {
+      final var installRequest = buildInstallRequest(member, persistedSnapshot);
+      if (installRequest.isEmpty()) {
+        return;
+      }
+      sendInstallRequest(member, installRequest.get());
+    }
   }
 
   private void replicateEvents(final RaftMemberContext member) {
@@ -46,18 +46,19 @@ import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.atomix.raft.storage.system.Configuration;
+import io.atomix.utils.concurrent.Scheduled;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotException.SnapshotAlreadyExistsException;
-import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
-import java.nio.ByteBuffer;
+import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -69,14 +70,19 @@ public class PassiveRole extends InactiveRole {
   private final SnapshotReplicationMetrics snapshotReplicationMetrics;
   private long pendingSnapshotStartTimestamp;
   private ReceivedSnapshot pendingSnapshot;
-  private ByteBuffer nextPendingSnapshotChunkId;
-  private ByteBuffer previouslyReceivedSnapshotChunkId;
   private final int snapshotChunkSize;
+  private final Duration followerFlushDelay;
+  private final int followerFlushBatchSize;
+  private final List<PendingAppend> pendingAppends = new ArrayList<>();
+  private long pendingAppendBytes;
+  private Scheduled scheduledAppendFlush;
 
   public PassiveRole(final RaftContext context) {
     super(context);
 
     snapshotChunkSize = context.getSnapshotChunkSize();
+    followerFlushDelay = context.getFollowerFlushDelay();
+    followerFlushBatchSize = context.getFollowerFlushBatchSize();
     snapshotReplicationMetrics = new SnapshotReplicationMetrics(context.getName());
     snapshotReplicationMetrics.setCount(0);
   }
@@ -89,6 +95,8 @@ public class PassiveRole extends InactiveRole {
 
   @Override
   public CompletableFuture<Void> stop() {
+    // acknowledge the held back appends, as the next role will not do it
+    flushPendingAppends();
     abortPendingSnapshots();
 
     // as a safe guard, we clean up any orphaned pending snapshots
@@ -119,35 +127,14 @@ public class PassiveRole extends InactiveRole {
     raft.checkThread();
     logRequest(request);
     updateTermAndLeader(request.currentTerm(), request.leader());
+    // the snapshot may replace the log, so the held back appends must be acknowledged beforehand
+    flushPendingAppends();
 
     log.debug("Received snapshot {} chunk from {}", request.index(), request.leader());
 
-    if (Objects.equals(request.chunkId(), previouslyReceivedSnapshotChunkId)) {
-      return CompletableFuture.completedFuture(
-          logResponse(
-              InstallResponse.builder()
-                  .withStatus(RaftResponse.Status.OK)
-                  .withPreferredChunkSize(snapshotChunkSize)
-                  .build()));
-    }
-
-    // if null assume it is first chunk of file
-    if (nextPendingSnapshotChunkId != null
-        && !nextPendingSnapshotChunkId.equals(request.chunkId())) {
-      final var errMsg =
-          "Expected chunkId of ["
-              + new SnapshotChunkId(nextPendingSnapshotChunkId)
-              + "] got ["
-              + new SnapshotChunkId(request.chunkId())
-              + "].";
-      abortPendingSnapshots();
-      return CompletableFuture.completedFuture(
-          logResponse(
-              InstallResponse.builder()
-                  .withStatus(Status.ERROR)
-                  .withError(Type.ILLEGAL_MEMBER_STATE, errMsg)
-                  .build()));
-    }
+    // The leader may send several chunks of a snapshot concurrently, so chunks are accepted in any
+    // order and retried chunks are ignored by the pending snapshot. The leader sends the last chunk
+    // only once all other chunks were acknowledged.
 
     // If the request is for a lesser term, reject the request.
     if (request.currentTerm() < raft.getTerm()) {
@@ -311,23 +298,38 @@ public class PassiveRole extends InactiveRole {
 
       pendingSnapshot = null;
       pendingSnapshotStartTimestamp = 0L;
-      setNextExpected(null);
-      previouslyReceivedSnapshotChunkId = null;
       snapshotReplicationMetrics.decrementCount();
       snapshotReplicationMetrics.observeDuration(elapsed);
       raft.updateCurrentSnapshot();
       onSnapshotReceiveCompletedOrAborted();
-    } else {
-      setNextExpected(request.nextChunkId());
-      previouslyReceivedSnapshotChunkId = request.chunkId();
     }
 
-    return CompletableFuture.completedFuture(
-        logResponse(
-            InstallResponse.builder()
-                .withStatus(RaftResponse.Status.OK)
-                .withPreferredChunkSize(snapshotChunkSize)
-                .build()));
+    final var response =
+        InstallResponse.builder()
+            .withStatus(RaftResponse.Status.OK)
+            .withPreferredChunkSize(snapshotChunkSize);
+    if (request.isInitial() && !request.complete()) {
+      // the leader doesn't send the files which are part of our latest snapshot already
+      response.withReusableFiles(getReusableSnapshotFiles());
+    }
+    return CompletableFuture.completedFuture(logResponse(response.build()));
+  }
+
+  private Map<String, Long> getReusableSnapshotFiles() {
+    final var currentSnapshot = raft.getCurrentSnapshot();
+    if (currentSnapshot == null) {
+      return Map.of();
+    }
+
+    try {
+      return currentSnapshot.getFileChecksums();
+    } catch (final UncheckedIOException e) {
+      log.warn(
+          "Failed to read the file checksums of snapshot {}, the leader will send all files of the new snapshot",
+          currentSnapshot.getId(),
+          e);
+      return Map.of();
+    }
   }
 
   @Override
@@ -514,14 +516,8 @@ public class PassiveRole extends InactiveRole {
     raft.notifySnapshotReplicationCompleted();
   }
 
-  private void setNextExpected(final ByteBuffer nextChunkId) {
-    nextPendingSnapshotChunkId = nextChunkId;
-  }
-
   private void abortPendingSnapshots() {
     if (pendingSnapshot != null) {
-      setNextExpected(null);
-      previouslyReceivedSnapshotChunkId = null;
       log.info("Rolling back snapshot {}", pendingSnapshot);
       try {
         pendingSnapshot.abort();
@@ -540,6 +536,12 @@ public class PassiveRole extends InactiveRole {
   protected CompletableFuture<AppendResponse> handleAppend(final InternalAppendRequest request) {
     final CompletableFuture<AppendResponse> future = new CompletableFuture<>();
 
+    // Entries which are not appended at the end of the log may replace entries whose
+    // acknowledgement is held back, so these must be flushed and acknowledged first.
+    if (!pendingAppends.isEmpty() && request.prevLogIndex() != raft.getLog().getLastIndex()) {
+      flushPendingAppends();
+    }
+
     // Check that there is a configuration and reject the request if there isn't.
     if (!checkConfiguration(request, future)) {
       return future;
@@ -690,8 +692,9 @@ public class PassiveRole extends InactiveRole {
     final long commitIndex =
         Math.max(raft.getCommitIndex(), Math.min(request.commitIndex(), lastEntryIndex));
 
-    // Track the last log index while entries are appended.
+    // Track the last log index and the size of the entries while they are appended.
     long lastLogIndex = request.prevLogIndex();
+    long appendedBytes = 0;
 
     if (!request.entries().isEmpty()) {
 
@@ -704,6 +707,7 @@ public class PassiveRole extends InactiveRole {
       }
 
       // Iterate through entries and append them.
+      final long appendStartNanos = System.nanoTime();
       for (final ReplicatableRaftRecord entry : request.entries()) {
         final long index = ++lastLogIndex;
 
@@ -715,6 +719,7 @@ public class PassiveRole extends InactiveRole {
           flush(lastLogIndex - 1, request.prevLogIndex());
           return;
         }
+        appendedBytes += approximateSize(entry);
 
         // If the last log index meets the commitIndex, break the append loop to avoid appending
         // uncommitted entries.
@@ -722,6 +727,8 @@ public class PassiveRole extends InactiveRole {
           break;
         }
       }
+      raft.getReplicationMetrics()
+          .observeFollowerAppendLatency(System.nanoTime() - appendStartNanos);
     }
 
     // Set the first commit index.
@@ -733,6 +740,12 @@ public class PassiveRole extends InactiveRole {
       log.trace("Committed entries up to index {}", commitIndex);
     }
 
+    // Hold back the flush and the ack to flush the entries of several requests at once
+    if (shouldHoldBackFlush(lastLogIndex, request.prevLogIndex())) {
+      holdBackAppend(lastLogIndex, appendedBytes, future);
+      return;
+    }
+
     // Make sure all entries are flushed before ack to ensure we have persisted what we acknowledge
     flush(lastLogIndex, request.prevLogIndex());
 
@@ -742,8 +755,75 @@ public class PassiveRole extends InactiveRole {
 
   private void flush(final long lastFlushedIndex, final long previousEntryIndex) {
     if (lastFlushedIndex > previousEntryIndex) {
-      raft.getLog().flush();
+      flushLog();
+    }
+  }
+
+  private void flushLog() {
+    final long startNanos = System.nanoTime();
+    raft.getLog().flush();
+    raft.getReplicationMetrics().observeFollowerFlushLatency(System.nanoTime() - startNanos);
+  }
+
+  /**
+   * Returns true if the flush of the appended entries should be held back. The acknowledgement
+   * must then be held back too, as only persisted entries may be acknowledged. Requests without
+   * entries are held back as well while other appends are pending, so that they are not
+   * acknowledged before the entries of preceding requests.
+   */
+  private boolean shouldHoldBackFlush(final long lastLogIndex, final long previousEntryIndex) {
+    if (!followerFlushDelay.isPositive() || !raft.getLog().flushesDirectly()) {
+      return false;
+    }
+
+    return lastLogIndex > previousEntryIndex || !pendingAppends.isEmpty();
+  }
+
+  private void holdBackAppend(
+      final long lastLogIndex,
+      final long appendedBytes,
+      final CompletableFuture<AppendResponse> future) {
+    pendingAppends.add(new PendingAppend(lastLogIndex, future));
+    pendingAppendBytes += appendedBytes;
+
+    if (pendingAppendBytes >= followerFlushBatchSize) {
+      flushPendingAppends();
+    } else if (scheduledAppendFlush == null) {
+      scheduledAppendFlush =
+          raft.getThreadContext().schedule(followerFlushDelay, this::flushPendingAppends);
+    }
+  }
+
+  /** Flushes the log once for all held back appends, and then acknowledges them. */
+  private void flushPendingAppends() {
+    if (scheduledAppendFlush != null) {
+      scheduledAppendFlush.cancel();
+      scheduledAppendFlush = null;
+    }
+
+    if (pendingAppends.isEmpty()) {
+      return;
+    }
+
+    flushLog();
+    // copy, as the futures run their dependent actions synchronously when completed
+    final var flushedAppends = List.copyOf(pendingAppends);
+    pendingAppends.clear();
+    pendingAppendBytes = 0;
+
+    for (final var append : flushedAppends) {
+      succeedAppend(append.lastLogIndex(), append.future());
+    }
+  }
+
+  private static int approximateSize(final ReplicatableRaftRecord entry) {
+    if (entry instanceof final ReplicatableJournalRecord journalRecord) {
+      return journalRecord.approximateSize();
+    } else if (entry instanceof final PersistedRaftRecord raftRecord) {
+      return raftRecord.serializedRecord().capacity();
     }
+
+    return 0;
   }
 
   private boolean tryToAppend(
@@ -904,6 +984,11 @@ public class PassiveRole extends InactiveRole {
       final boolean succeeded,
       final long lastLogIndex,
       final CompletableFuture<AppendResponse> future) {
+    if (!succeeded) {
+      // responses must not overtake the acknowledgements of preceding requests
+      flushPendingAppends();
+    }
+
     future.complete(
         logResponse(
             AppendResponse.builder()
@@ -927,4 +1012,6 @@ public class PassiveRole extends InactiveRole {
         snapshotIndex + 1);
     raftLog.reset(snapshotIndex + 1);
   }
+
+  private record PendingAppend(long lastLogIndex, CompletableFuture<AppendResponse> future) {}
 }
@@ -19,6 +19,7 @@ package io.atomix.raft.snapshot.impl;
 import io.atomix.raft.snapshot.SbeBufferWriterReader;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.nio.ByteBuffer;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -37,6 +38,7 @@ public final class SnapshotChunkImpl
   private long snapshotChecksum;
   private long fileBlockPosition;
   private long totalFileSize;
+  private boolean reusedFile;
 
   public SnapshotChunkImpl() {}
 
@@ -49,6 +51,7 @@ public final class SnapshotChunkImpl
     content.wrap(chunk.getContent());
     fileBlockPosition = chunk.getFileBlockPosition();
     totalFileSize = chunk.getTotalFileSize();
+    reusedFile = chunk.isReusedFile();
   }
 
   @Override
@@ -70,6 +73,7 @@ public final class SnapshotChunkImpl
     snapshotChecksum = SnapshotChunkDecoder.snapshotChecksumNullValue();
     fileBlockPosition = SnapshotChunkDecoder.fileBlockPositionNullValue();
     totalFileSize = SnapshotChunkDecoder.totalFileSizeNullValue();
+    reusedFile = false;
 
     snapshotId = "";
     chunkName = "";
@@ -95,6 +99,7 @@ public final class SnapshotChunkImpl
         .totalCount(totalCount)
         .fileBlockPosition(fileBlockPosition)
         .totalFileSize(totalFileSize)
+        .reusedFile(reusedFile ? BooleanType.TRUE : BooleanType.FALSE)
         .snapshotId(snapshotId)
         .chunkName(chunkName)
         .checksum(checksum)
@@ -109,6 +114,8 @@ public final class SnapshotChunkImpl
     totalCount = decoder.totalCount();
     fileBlockPosition = decoder.fileBlockPosition();
     totalFileSize = decoder.totalFileSize();
+    // older versions don't reuse files, the decoder returns NULL_VAL for them
+    reusedFile = decoder.reusedFile() == BooleanType.TRUE;
     snapshotId = decoder.snapshotId();
     chunkName = decoder.chunkName();
     checksum = decoder.checksum();
@@ -144,6 +151,27 @@ public final class SnapshotChunkImpl
     return BufferUtil.bufferAsArray(content);
   }
 
+  @Override
+  public ByteBuffer getContentBuffer() {
+    final int offset = content.wrapAdjustment();
+    final int length = content.capacity();
+    if (content.byteArray() != null) {
+      return ByteBuffer.wrap(content.byteArray(), offset, length).slice();
+    }
+
+    if (content.byteBuffer() != null) {
+      return content
+          .byteBuffer()
+          .duplicate()
+          .clear()
+          .position(offset)
+          .limit(offset + length)
+          .slice();
+    }
+
+    return ByteBuffer.wrap(getContent());
+  }
+
   @Override
   public long getSnapshotChecksum() {
     return snapshotChecksum;
@@ -163,12 +191,17 @@ public final class SnapshotChunkImpl
   public long getTotalFileSize() {
     // backwards comptability
     if (totalFileSize == SnapshotChunkDecoder.totalFileSizeNullValue()) {
-      return getContent().length;
+      return content.capacity();
     }
 
     return totalFileSize;
   }
 
+  @Override
+  public boolean isReusedFile() {
+    return reusedFile;
+  }
+
   @Override
   public String toString() {
     return "SnapshotChunkImpl{"
@@ -187,6 +220,8 @@ public final class SnapshotChunkImpl
         + fileBlockPosition
         + ", totalFileSize="
         + totalFileSize
+        + ", reusedFile="
+        + reusedFile
         + "} "
         + super.toString();
   }
@@ -0,0 +1,134 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.utils.net.Address;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.concurrent.EventExecutor;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+final class FlushBatchingHandlerTest {
+
+  private static final int FLUSH_THRESHOLD = 1024;
+
+  private final ChannelHandlerContext context = mock(ChannelHandlerContext.class);
+  private final EventExecutor executor = mock(EventExecutor.class);
+  private final MessagingMetrics metrics = mock(MessagingMetrics.class);
+
+  @BeforeEach
+  void setup() {
+    when(context.executor()).thenReturn(executor);
+  }
+
+  @Test
+  void shouldHoldBackFlushUntilQueuedTasksRan() {
+    // given
+    final var handler = newHandler(Duration.ZERO);
+    writeAndFlush(handler, 10);
+    writeAndFlush(handler, 10);
+    verify(context, never()).flush();
+
+    // when
+    final var scheduledFlush = ArgumentCaptor.forClass(Runnable.class);
+    verify(executor).execute(scheduledFlush.capture());
+    scheduledFlush.getValue().run();
+
+    // then
+    verify(context).flush();
+    verify(metrics).observeMessagesPerFlush(2);
+  }
+
+  @Test
+  void shouldHoldBackFlushForFlushWindow() {
+    // given
+    final var handler = newHandler(Duration.ofMillis(5));
+
+    // when
+    writeAndFlush(handler, 10);
+    writeAndFlush(handler, 10);
+
+    // then
+    verify(context, never()).flush();
+    final long flushWindowNanos = TimeUnit.MILLISECONDS.toNanos(5);
+    verify(executor).schedule(any(Runnable.class), eq(flushWindowNanos), eq(TimeUnit.NANOSECONDS));
+  }
+
+  @Test
+  void shouldFlushImmediatelyOnceThresholdIsReached() {
+    // given
+    final var handler = newHandler(Duration.ofMillis(5));
+    writeAndFlush(handler, FLUSH_THRESHOLD / 2);
+
+    // when
+    writeAndFlush(handler, FLUSH_THRESHOLD / 2);
+
+    // then
+    verify(context).flush();
+    verify(metrics).observeMessagesPerFlush(2);
+  }
+
+  @Test
+  void shouldNotFlushAgainIfAlreadyFlushed() {
+    // given
+    final var handler = newHandler(Duration.ZERO);
+    writeAndFlush(handler, 10);
+    writeAndFlush(handler, FLUSH_THRESHOLD);
+    verify(context).flush();
+
+    // when
+    final var scheduledFlush = ArgumentCaptor.forClass(Runnable.class);
+    verify(executor).execute(scheduledFlush.capture());
+    scheduledFlush.getValue().run();
+
+    // then
+    verify(context, times(1)).flush();
+    verify(metrics, times(1)).observeMessagesPerFlush(2);
+  }
+
+  @Test
+  void shouldFlushPendingMessagesOnClose() {
+    // given
+    final var handler = newHandler(Duration.ofSeconds(1));
+    writeAndFlush(handler, 10);
+    final var promise = mock(ChannelPromise.class);
+
+    // when
+    handler.close(context, promise);
+
+    // then
+    verify(context).flush();
+    verify(context).close(promise);
+    verify(metrics).observeMessagesPerFlush(1);
+  }
+
+  private FlushBatchingHandler newHandler(final Duration flushWindow) {
+    final var handler = new FlushBatchingHandler(flushWindow, FLUSH_THRESHOLD, metrics);
+    handler.handlerAdded(context);
+    return handler;
+  }
+
+  private void writeAndFlush(final FlushBatchingHandler handler, final int payloadLength) {
+    final var message =
+        new ProtocolRequest(1, new Address("localhost", 12345), "subj", new byte[payloadLength]);
+    handler.write(context, message, mock(ChannelPromise.class));
+    handler.flush(context);
+  }
+}
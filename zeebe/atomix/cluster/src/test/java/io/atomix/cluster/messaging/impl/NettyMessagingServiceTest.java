@@ -228,6 +228,39 @@ final class NettyMessagingServiceTest {
     }
   }
 
+  @Nested
+  final class NioTransportTest {
+    @AutoCloseResource private final NettyMessagingService netty1 = newNioMessagingService();
+    @AutoCloseResource private final NettyMessagingService netty2 = newNioMessagingService();
+
+    @BeforeEach
+    void beforeEach() {
+      startMessagingServices(netty1, netty2);
+    }
+
+    @Test
+    void shouldSendAndReceive() {
+      // given
+      final String subject = nextSubject();
+      netty2.registerHandler(
+          subject, (ep, data) -> "hello there".getBytes(), MoreExecutors.directExecutor());
+
+      // when
+      final CompletableFuture<byte[]> response =
+          netty1.sendAndReceive(netty2.address(), subject, "hello world".getBytes());
+
+      // then
+      assertThat(response)
+          .succeedsWithin(Duration.ofSeconds(5))
+          .isEqualTo("hello there".getBytes());
+    }
+
+    private NettyMessagingService newNioMessagingService() {
+      return new NettyMessagingService(
+          CLUSTER_NAME, newAddress(), defaultConfig().setNativeTransportEnabled(false));
+    }
+  }
+
   @Nested
   final class DualInstanceTest {
     @AutoCloseResource private final NettyMessagingService netty1 = newMessagingService();
@@ -287,6 +320,22 @@ final class NettyMessagingServiceTest {
       Uninterruptibles.awaitUninterruptibly(latch2);
     }
 
+    @Test
+    void shouldSendAndReceiveLargePayload() {
+      // given
+      final String subject = nextSubject();
+      final byte[] payload = new byte[4 * 1024 * 1024];
+      Arrays.fill(payload, (byte) 7);
+      netty2.registerHandler(subject, (ep, data) -> data, MoreExecutors.directExecutor());
+
+      // when
+      final CompletableFuture<byte[]> response =
+          netty1.sendAndReceive(netty2.address(), subject, payload);
+
+      // then
+      assertThat(response).succeedsWithin(Duration.ofSeconds(10)).isEqualTo(payload);
+    }
+
     @Test
     void shouldCompleteExistingRequestFutureExceptionallyWhenMessagingServiceIsClosed() {
       final String subject = nextSubject();
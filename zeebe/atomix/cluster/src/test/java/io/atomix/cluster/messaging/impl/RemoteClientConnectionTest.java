@@ -10,6 +10,7 @@ package io.atomix.cluster.messaging.impl;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.atomix.cluster.messaging.MessagingException;
@@ -17,6 +18,7 @@ import io.atomix.utils.net.Address;
 import io.camunda.zeebe.util.CloseableSilently;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.util.concurrent.GenericFutureListener;
 import java.net.InetSocketAddress;
 import java.util.HashMap;
 import java.util.Map;
@@ -24,6 +26,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 public class RemoteClientConnectionTest {
 
@@ -123,6 +126,27 @@ public class RemoteClientConnectionTest {
     assertThat(simpleMetrics.messageCount.size()).isZero();
   }
 
+  @Test
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public void shouldCountPendingWritesUntilWritten() throws Exception {
+    // given
+    final ChannelFuture writeFuture = mock(ChannelFuture.class);
+    when(writeFuture.isSuccess()).thenReturn(true);
+    when(channel.writeAndFlush(any())).thenReturn(writeFuture);
+    remoteClientConnection.sendAsync(
+        new ProtocolRequest(1, new Address("", 12345), "subj", "payload".getBytes()));
+    assertThat(simpleMetrics.pendingWrites.get(toAddress.toString())).isEqualTo(1);
+
+    // when
+    final ArgumentCaptor<GenericFutureListener> listener =
+        ArgumentCaptor.forClass(GenericFutureListener.class);
+    verify(writeFuture).addListener(listener.capture());
+    listener.getValue().operationComplete(writeFuture);
+
+    // then
+    assertThat(simpleMetrics.pendingWrites.get(toAddress.toString())).isZero();
+  }
+
   @Test
   public void shouldReceiveConnectionClosedExceptionForResponseOnClientClose() {
     // given
@@ -152,6 +176,7 @@ public class RemoteClientConnectionTest {
     final Map<String, Integer> reqRespCount = new HashMap<>();
     final Map<String, Integer> reqSize = new HashMap<>();
     final Map<String, Boolean> requestOutcome = new HashMap<>();
+    final Map<String, Integer> pendingWrites = new HashMap<>();
 
     @Override
     public CloseableSilently startRequestTimer(final String name) {
@@ -205,6 +230,22 @@ public class RemoteClientConnectionTest {
       inFlightRequestCount.put(key, integer - 1);
     }
 
+    @Override
+    public void incPendingWrites(final String address) {
+      pendingWrites.merge(address, 1, Integer::sum);
+    }
+
+    @Override
+    public void decPendingWrites(final String address) {
+      pendingWrites.merge(address, -1, Integer::sum);
+    }
+
+    @Override
+    public void observeAllocatedMemory(final long usedDirectMemory, final long usedHeapMemory) {}
+
+    @Override
+    public void observeMessagesPerFlush(final int messageCount) {}
+
     String computeKey(final String to, final String name) {
       return String.format(LABEL_FORMAT, to, name);
     }
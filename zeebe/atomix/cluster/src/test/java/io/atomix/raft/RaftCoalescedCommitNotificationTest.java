@@ -0,0 +1,77 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftRule.Configurator;
+import io.atomix.raft.partition.RaftPartitionConfig;
+import java.time.Duration;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class RaftCoalescedCommitNotificationTest {
+
+  @Rule
+  public RaftRule raftRule =
+      RaftRule.withBootstrappedNodes(3, new CoalescedCommitNotificationsConfigurator());
+
+  @Test
+  public void shouldNotifyCommitListenerWithLatestCommitIndex() throws Throwable {
+    // given
+    final var commitListener = mock(RaftCommitListener.class);
+    raftRule.addCommitListener(commitListener);
+
+    // when
+    final long commitIndex = raftRule.appendEntries(10);
+
+    // then
+    verify(commitListener, timeout(1000L).times(raftRule.getNodes().size()))
+        .onCommit(commitIndex);
+  }
+
+  @Test
+  public void shouldNotifyCommittedEntryListenerOnceWithHighestPosition() {
+    // given
+    final var committedEntryListener = mock(RaftApplicationEntryCommittedPositionListener.class);
+    final var context = raftRule.getLeader().orElseThrow().getContext();
+    context.addCommittedEntryListener(committedEntryListener);
+
+    // when
+    context
+        .getThreadContext()
+        .execute(
+            () -> {
+              context.notifyApplicationEntryCommittedPositionListeners(10);
+              context.notifyApplicationEntryCommittedPositionListeners(30);
+              context.notifyApplicationEntryCommittedPositionListeners(20);
+            });
+
+    // then
+    verify(committedEntryListener, timeout(1000L)).onCommit(30);
+    verify(committedEntryListener, after(100L).times(1)).onCommit(anyLong());
+  }
+
+  private static final class CoalescedCommitNotificationsConfigurator implements Configurator {
+
+    @Override
+    public void configure(final MemberId id, final RaftServer.Builder builder) {
+      final var config =
+          new RaftPartitionConfig()
+              .setElectionTimeout(Duration.ofSeconds(1))
+              .setHeartbeatInterval(Duration.ofMillis(100));
+      config.setCoalescedCommitNotificationsEnabled(true);
+      builder.withPartitionConfig(config);
+    }
+  }
+}
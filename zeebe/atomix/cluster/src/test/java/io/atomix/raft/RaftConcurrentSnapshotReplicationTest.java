@@ -0,0 +1,147 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftRule.Configurator;
+import io.atomix.raft.partition.RaftPartitionConfig;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.TestRaftServerProtocol;
+import io.atomix.raft.protocol.TestRaftServerProtocol.ResponseInterceptor;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class RaftConcurrentSnapshotReplicationTest {
+
+  private static final int MAX_SNAPSHOT_CHUNKS_IN_FLIGHT = 4;
+
+  @Rule
+  public RaftRule raftRule =
+      RaftRule.withBootstrappedNodes(3, new SnapshotChunksInFlightConfigurator());
+
+  private RaftServer follower;
+  private AtomicInteger totalInstallRequest;
+  private TestRaftServerProtocol leaderProtocol;
+  private RaftServer leader;
+
+  @Before
+  public void setup() {
+    leader = raftRule.getLeader().orElseThrow();
+    leaderProtocol = (TestRaftServerProtocol) leader.getContext().getProtocol();
+    totalInstallRequest = new AtomicInteger(0);
+    leaderProtocol.interceptRequest(
+        InstallRequest.class,
+        (Consumer<InstallRequest>) (request) -> totalInstallRequest.incrementAndGet());
+  }
+
+  @Test
+  public void shouldReplicateSnapshotWithSeveralChunksInFlight() throws Throwable {
+    // given
+    final int numberOfChunks = 20;
+    disconnectFollowerAndTakeSnapshot(numberOfChunks);
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(raftRule.getPersistedSnapshotStore(follower.name()).getCurrentSnapshotIndex())
+        .isEqualTo(leader.getContext().getCurrentSnapshotIndex());
+    assertThat(totalInstallRequest.get())
+        .describedAs("Should send every chunk once")
+        // Before follower reconnects, sometimes leader sends an InstallRequest which
+        // ends up in connect exception
+        .isLessThan(numberOfChunks + MAX_SNAPSHOT_CHUNKS_IN_FLIGHT);
+  }
+
+  @Test
+  public void shouldResendUnacknowledgedChunksWhenInstallRequestTimesOut() throws Throwable {
+    // given
+    final int numberOfChunks = 20;
+    disconnectFollowerAndTakeSnapshot(numberOfChunks);
+
+    // Time out a response in the middle of the snapshot, while other chunks are in flight. The
+    // follower has processed the request, so it must ignore the chunk when it's resent.
+    leaderProtocol.interceptResponse(
+        InstallResponse.class, new TimingOutResponseInterceptor(numberOfChunks / 2));
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(raftRule.getPersistedSnapshotStore(follower.name()).getCurrentSnapshotIndex())
+        .isEqualTo(leader.getContext().getCurrentSnapshotIndex());
+    assertThat(totalInstallRequest.get())
+        .describedAs("Should only resend the chunks which were in flight")
+        .isLessThan(numberOfChunks + 2 * MAX_SNAPSHOT_CHUNKS_IN_FLIGHT);
+  }
+
+  private void reconnectFollowerAndAwaitSnapshot() throws InterruptedException {
+    final var snapshotReceived = new CountDownLatch(1);
+    raftRule
+        .getPersistedSnapshotStore(follower.name())
+        .addSnapshotListener(s -> snapshotReceived.countDown());
+    raftRule.reconnect(follower);
+
+    assertThat(snapshotReceived.await(30, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private void disconnectFollowerAndTakeSnapshot(final int numberOfChunks) throws Exception {
+    follower = raftRule.getFollower().orElseThrow();
+    raftRule.partition(follower);
+
+    leader.getContext().setPreferSnapshotReplicationThreshold(1);
+    final var commitIndex = raftRule.appendEntries(2); // awaits commit
+
+    raftRule.takeSnapshot(leader, commitIndex, numberOfChunks);
+    raftRule.appendEntry();
+  }
+
+  private static final class SnapshotChunksInFlightConfigurator implements Configurator {
+
+    @Override
+    public void configure(final MemberId id, final RaftServer.Builder builder) {
+      final var config =
+          new RaftPartitionConfig()
+              .setElectionTimeout(Duration.ofSeconds(1))
+              .setHeartbeatInterval(Duration.ofMillis(100));
+      config.setMaxSnapshotChunksInFlight(MAX_SNAPSHOT_CHUNKS_IN_FLIGHT);
+      builder.withPartitionConfig(config);
+    }
+  }
+
+  private static final class TimingOutResponseInterceptor
+      implements ResponseInterceptor<InstallResponse> {
+    private int count = 0;
+    private final int timeoutAtRequest;
+
+    private TimingOutResponseInterceptor(final int timeoutAtRequest) {
+      this.timeoutAtRequest = timeoutAtRequest;
+    }
+
+    @Override
+    public CompletableFuture<InstallResponse> apply(final InstallResponse installResponse) {
+      count++;
+      if (count == timeoutAtRequest) {
+        return CompletableFuture.failedFuture(new TimeoutException());
+      } else {
+        return CompletableFuture.completedFuture(installResponse);
+      }
+    }
+  }
+}
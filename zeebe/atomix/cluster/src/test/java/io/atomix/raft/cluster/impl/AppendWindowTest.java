@@ -0,0 +1,152 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+final class AppendWindowTest {
+
+  private static final int MAX_APPENDS = 2;
+  private static final int MAX_BATCH_SIZE = 32 * 1024;
+
+  @Test
+  void shouldStartWithConfiguredValues() {
+    // when
+    final var window = new AppendWindow(MAX_APPENDS, MAX_BATCH_SIZE, true);
+
+    // then
+    assertThat(window.getInFlightLimit()).isEqualTo(MAX_APPENDS);
+    assertThat(window.getBatchSize()).isEqualTo(MAX_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldKeepConfiguredValuesIfNotAdaptive() {
+    // given
+    final var window = new AppendWindow(MAX_APPENDS, MAX_BATCH_SIZE, false);
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      window.onAcknowledged(1);
+    }
+    window.onFailed();
+
+    // then
+    assertThat(window.getInFlightLimit()).isEqualTo(MAX_APPENDS);
+    assertThat(window.getBatchSize()).isEqualTo(MAX_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldGrowInFlightLimitWhileRttIsStable() {
+    // given
+    final var window = new AppendWindow(MAX_APPENDS, MAX_BATCH_SIZE, true);
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      window.onAcknowledged(5);
+    }
+
+    // then
+    assertThat(window.getInFlightLimit()).isGreaterThan(MAX_APPENDS);
+    assertThat(window.getBatchSize()).isEqualTo(MAX_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldNotGrowInFlightLimitBeyondUpperBound() {
+    // given
+    final var window = new AppendWindow(MAX_APPENDS, MAX_BATCH_SIZE, true);
+
+    // when
+    for (int i = 0; i < 10_000; i++) {
+      window.onAcknowledged(5);
+    }
+
+    // then
+    assertThat(window.getInFlightLimit())
+        .isEqualTo(MAX_APPENDS * AppendWindow.MAX_IN_FLIGHT_FACTOR);
+  }
+
+  @Test
+  void shouldShrinkInFlightLimitIfRttIncreases() {
+    // given
+    final var window = new AppendWindow(MAX_APPENDS, MAX_BATCH_SIZE, true);
+    for (int i = 0; i < 100; i++) {
+      window.onAcknowledged(5);
+    }
+    final var grownLimit = window.getInFlightLimit();
+
+    // when - the follower is slowing down, requests are queueing up
+    for (int i = 0; i < 50; i++) {
+      window.onAcknowledged(50);
+    }
+
+    // then
+    assertThat(window.getInFlightLimit()).isLessThan(grownLimit);
+    assertThat(window.getSmoothedRtt()).isGreaterThan(5);
+  }
+
+  @Test
+  void shouldHalveWindowOnFailure() {
+    // given
+    final var window = new AppendWindow(8, MAX_BATCH_SIZE, true);
+
+    // when
+    window.onFailed();
+
+    // then
+    assertThat(window.getInFlightLimit()).isEqualTo(4);
+    assertThat(window.getBatchSize()).isEqualTo(MAX_BATCH_SIZE / 2);
+  }
+
+  @Test
+  void shouldNotShrinkBelowLowerBound() {
+    // given
+    final var window = new AppendWindow(MAX_APPENDS, MAX_BATCH_SIZE, true);
+
+    // when
+    for (int i = 0; i < 20; i++) {
+      window.onFailed();
+    }
+
+    // then
+    assertThat(window.getInFlightLimit()).isOne();
+    assertThat(window.getBatchSize()).isEqualTo(AppendWindow.MIN_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldGrowBatchSizeBackAfterFailure() {
+    // given
+    final var window = new AppendWindow(MAX_APPENDS, MAX_BATCH_SIZE, true);
+    window.onFailed();
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      window.onAcknowledged(5);
+    }
+
+    // then
+    assertThat(window.getBatchSize()).isEqualTo(MAX_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldResetToConfiguredValues() {
+    // given
+    final var window = new AppendWindow(MAX_APPENDS, MAX_BATCH_SIZE, true);
+    window.onFailed();
+    window.onFailed();
+
+    // when
+    window.reset();
+
+    // then
+    assertThat(window.getInFlightLimit()).isEqualTo(MAX_APPENDS);
+    assertThat(window.getBatchSize()).isEqualTo(MAX_BATCH_SIZE);
+    assertThat(window.getSmoothedRtt()).isZero();
+  }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.RaftError.Type;
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.ConfigureRequest;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.PollRequest;
+import io.atomix.raft.protocol.PollResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.protocol.VoteRequest;
+import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.utils.serializer.Serializer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+final class RaftProtocolSBESerializerTest {
+
+  private final Serializer kryoSerializer = Serializer.using(RaftNamespaces.RAFT_PROTOCOL);
+  private final Serializer serializer = new RaftProtocolSBESerializer(kryoSerializer, true);
+
+  @Test
+  void shouldSerializeAppendRequest() {
+    // given
+    final var request =
+        new VersionedAppendRequest(
+            2,
+            5,
+            "1",
+            10,
+            4,
+            List.of(
+                new ReplicatableJournalRecord(5, 11, 123, new byte[] {1, 2, 3}),
+                new ReplicatableJournalRecord(5, 12, 456, new byte[] {4, 5})),
+            9);
+
+    // when
+    final VersionedAppendRequest decoded = serializer.decode(serializer.encode(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+  }
+
+  @Test
+  void shouldSerializeAppendRequestWithManyEntries() {
+    // given
+    final var entries =
+        LongStream.rangeClosed(1, 1000)
+            .mapToObj(index -> new ReplicatableJournalRecord(1, index, index, new byte[] {1}))
+            .toList();
+    final var request = new VersionedAppendRequest(2, 1, "0", 0, 0, entries, 0);
+
+    // when
+    final VersionedAppendRequest decoded = serializer.decode(serializer.encode(request));
+
+    // then
+    assertThat(decoded.entries()).containsExactlyElementsOf(entries);
+  }
+
+  @Test
+  void shouldSerializeAppendResponse() {
+    // given
+    final var response = new AppendResponse(Status.OK, null, 5, true, 12, 3, 1);
+
+    // when
+    final AppendResponse decoded = serializer.decode(serializer.encode(response));
+
+    // then
+    assertThat(decoded).usingRecursiveComparison().isEqualTo(response);
+  }
+
+  @Test
+  void shouldSerializeErrorResponse() {
+    // given
+    final var response =
+        new AppendResponse(
+            Status.ERROR,
+            new RaftError(Type.ILLEGAL_MEMBER_STATE, "not a follower"),
+            5,
+            false,
+            0,
+            0,
+            0);
+
+    // when
+    final AppendResponse decoded = serializer.decode(serializer.encode(response));
+
+    // then
+    assertThat(decoded.status()).isEqualTo(Status.ERROR);
+    assertThat(decoded.error().type()).isEqualTo(Type.ILLEGAL_MEMBER_STATE);
+    assertThat(decoded.error().message()).isEqualTo("not a follower");
+  }
+
+  @Test
+  void shouldSerializePollRequestAndResponse() {
+    // given
+    final var request = new PollRequest(3, "2", 100, 2);
+    final var response = new PollResponse(Status.OK, null, 3, true);
+
+    // when
+    final PollRequest decodedRequest = serializer.decode(serializer.encode(request));
+    final PollResponse decodedResponse = serializer.decode(serializer.encode(response));
+
+    // then
+    assertThat(decodedRequest).isEqualTo(request);
+    assertThat(decodedResponse).usingRecursiveComparison().isEqualTo(response);
+  }
+
+  @Test
+  void shouldSerializeVoteRequestAndResponse() {
+    // given
+    final var request = new VoteRequest(3, "2", 100, 2);
+    final var response = new VoteResponse(Status.OK, null, 3, false);
+
+    // when
+    final VoteRequest decodedRequest = serializer.decode(serializer.encode(request));
+    final VoteResponse decodedResponse = serializer.decode(serializer.encode(response));
+
+    // then
+    assertThat(decodedRequest).isEqualTo(request);
+    assertThat(decodedResponse).usingRecursiveComparison().isEqualTo(response);
+  }
+
+  @Test
+  void shouldSerializeInstallRequest() {
+    // given
+    final var request =
+        new InstallRequest(
+            4,
+            MemberId.from("0"),
+            100,
+            3,
+            1,
+            bytes("chunk-1"),
+            bytes("chunk-2"),
+            bytes("data"),
+            true,
+            false);
+
+    // when
+    final InstallRequest decoded = serializer.decode(serializer.encode(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+    assertThat(decoded.version()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldSerializeInstallRequestWithoutNextChunk() {
+    // given
+    final var request =
+        new InstallRequest(
+            4, MemberId.from("0"), 100, 3, 1, bytes("chunk-1"), null, bytes("data"), false, true);
+
+    // when
+    final InstallRequest decoded = serializer.decode(serializer.encode(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+    assertThat(decoded.nextChunkId()).isNull();
+  }
+
+  @Test
+  void shouldSerializeInstallResponse() {
+    // given
+    final var response = new InstallResponse(Status.OK, null, 1024);
+
+    // when
+    final InstallResponse decoded = serializer.decode(serializer.encode(response));
+
+    // then
+    assertThat(decoded).usingRecursiveComparison().isEqualTo(response);
+  }
+
+  @Test
+  void shouldEncodeInstallResponseWithReusableFilesWithFallback() {
+    // given
+    final var response =
+        InstallResponse.builder()
+            .withStatus(Status.OK)
+            .withPreferredChunkSize(1024)
+            .withReusableFiles(Map.of("000042.sst", 123L))
+            .build();
+
+    // when
+    final var bytes = serializer.encode(response);
+
+    // then
+    assertThat(bytes).isEqualTo(kryoSerializer.encode(response));
+    assertThat(((InstallResponse) serializer.decode(bytes)).reusableFiles())
+        .containsExactly(entry("000042.sst", 123L));
+  }
+
+  @Test
+  void shouldEncodeOtherMessagesWithFallback() {
+    // given
+    final var request = new ConfigureRequest(1, "0", 2, 3, new ArrayList<>(), new ArrayList<>());
+
+    // when
+    final var bytes = serializer.encode(request);
+
+    // then
+    assertThat(bytes).isEqualTo(kryoSerializer.encode(request));
+    assertThat((ConfigureRequest) serializer.decode(bytes)).isEqualTo(request);
+  }
+
+  @Test
+  void shouldDecodeMessagesEncodedWithFallback() {
+    // given
+    final var request = new PollRequest(3, "2", 100, 2);
+
+    // when
+    final PollRequest decoded = serializer.decode(kryoSerializer.encode(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+  }
+
+  @Test
+  void shouldEncodeWithFallbackIfSbeIsDisabled() {
+    // given
+    final var disabledSerializer = new RaftProtocolSBESerializer(kryoSerializer, false);
+    final var request = new VoteRequest(3, "2", 100, 2);
+
+    // when
+    final var bytes = disabledSerializer.encode(request);
+
+    // then
+    assertThat(bytes).isEqualTo(kryoSerializer.encode(request));
+    assertThat((VoteRequest) serializer.decode(bytes)).isEqualTo(request);
+  }
+
+  private static ByteBuffer bytes(final String value) {
+    return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+  }
+}
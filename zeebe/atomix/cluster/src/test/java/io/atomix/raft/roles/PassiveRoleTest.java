@@ -17,6 +17,8 @@ package io.atomix.raft.roles;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -28,6 +30,7 @@ import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.RaftReplicationMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.InternalAppendRequest;
 import io.atomix.raft.protocol.PersistedRaftRecord;
 import io.atomix.raft.protocol.ProtocolVersionHandler;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
@@ -35,18 +38,23 @@ import io.atomix.raft.protocol.VersionedAppendRequest;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.ThreadContext;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.Timeout;
+import org.mockito.ArgumentCaptor;
 
 public class PassiveRoleTest {
 
@@ -54,6 +62,8 @@ public class PassiveRoleTest {
   private RaftLog log;
   private PassiveRole role;
   private RaftContext ctx;
+  private ThreadContext threadContext;
+  private RaftReplicationMetrics replicationMetrics;
 
   @Before
   public void setup() throws IOException {
@@ -75,7 +85,14 @@ public class PassiveRoleTest {
     when(ctx.getLog()).thenReturn(log);
     when(ctx.getPersistedSnapshotStore()).thenReturn(store);
     when(ctx.getTerm()).thenReturn(1L);
-    when(ctx.getReplicationMetrics()).thenReturn(mock(RaftReplicationMetrics.class));
+    replicationMetrics = mock(RaftReplicationMetrics.class);
+    when(ctx.getReplicationMetrics()).thenReturn(replicationMetrics);
+    when(ctx.getFollowerFlushDelay()).thenReturn(Duration.ZERO);
+
+    threadContext = mock(ThreadContext.class);
+    when(threadContext.schedule(any(Duration.class), any(Runnable.class)))
+        .thenReturn(mock(Scheduled.class));
+    when(ctx.getThreadContext()).thenReturn(threadContext);
 
     role = new PassiveRole(ctx);
   }
@@ -237,4 +254,121 @@ public class PassiveRoleTest {
     // then
     assertThat(response.succeeded()).isTrue();
   }
+
+  @Test
+  public void shouldObserveFollowerAppendAndFlushLatency() {
+    // given
+    when(log.append(any(ReplicatableJournalRecord.class)))
+        .thenReturn(mock(IndexedRaftLogEntry.class));
+
+    // when
+    role.handleAppend(appendRequest(0, 0, 1, 2)).join();
+
+    // then
+    verify(replicationMetrics, times(1)).observeFollowerAppendLatency(anyLong());
+    verify(replicationMetrics, times(1)).observeFollowerFlushLatency(anyLong());
+  }
+
+  @Test
+  public void shouldHoldBackAcknowledgementUntilFlushDelayElapsed() {
+    // given
+    final var flushDelay = Duration.ofMinutes(1);
+    role = newRoleWithFollowerFlush(flushDelay, Integer.MAX_VALUE);
+    when(log.append(any(ReplicatableJournalRecord.class)))
+        .thenReturn(mock(IndexedRaftLogEntry.class));
+
+    // when
+    final var future = role.handleAppend(appendRequest(0, 0, 1, 2));
+
+    // then
+    assertThat(future).isNotDone();
+    verify(log, never()).flush();
+
+    final var scheduledFlush = ArgumentCaptor.forClass(Runnable.class);
+    verify(threadContext).schedule(eq(flushDelay), scheduledFlush.capture());
+    scheduledFlush.getValue().run();
+
+    verify(log, times(1)).flush();
+    assertThat(future.join().lastLogIndex()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldFlushOnceForSeveralAppendRequests() {
+    // given
+    role = newRoleWithFollowerFlush(Duration.ofMinutes(1), Integer.MAX_VALUE);
+    when(log.append(any(ReplicatableJournalRecord.class)))
+        .thenReturn(mock(IndexedRaftLogEntry.class));
+    final var firstFuture = role.handleAppend(appendRequest(0, 0, 1, 2));
+    final var lastEntry = mock(IndexedRaftLogEntry.class);
+    when(lastEntry.index()).thenReturn(2L);
+    when(lastEntry.term()).thenReturn(1L);
+    when(log.getLastEntry()).thenReturn(lastEntry);
+    when(log.getLastIndex()).thenReturn(2L);
+
+    // when
+    final var secondFuture = role.handleAppend(appendRequest(2, 1, 3));
+    final var scheduledFlush = ArgumentCaptor.forClass(Runnable.class);
+    verify(threadContext).schedule(any(Duration.class), scheduledFlush.capture());
+    scheduledFlush.getValue().run();
+
+    // then
+    verify(log, times(1)).flush();
+    assertThat(firstFuture.join().lastLogIndex()).isEqualTo(2);
+    assertThat(secondFuture.join().lastLogIndex()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldFlushRightAwayWhenFollowerFlushBatchSizeIsReached() {
+    // given
+    role = newRoleWithFollowerFlush(Duration.ofMinutes(1), 1);
+    when(log.append(any(ReplicatableJournalRecord.class)))
+        .thenReturn(mock(IndexedRaftLogEntry.class));
+
+    // when
+    final var future = role.handleAppend(appendRequest(0, 0, 1, 2));
+
+    // then
+    verify(log, times(1)).flush();
+    assertThat(future.join().lastLogIndex()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotHoldBackFlushIfLogIsNotFlushedDirectly() {
+    // given
+    role = newRoleWithFollowerFlush(Duration.ofMinutes(1), Integer.MAX_VALUE);
+    when(log.flushesDirectly()).thenReturn(false);
+    when(log.append(any(ReplicatableJournalRecord.class)))
+        .thenReturn(mock(IndexedRaftLogEntry.class));
+
+    // when
+    final var future = role.handleAppend(appendRequest(0, 0, 1, 2));
+
+    // then
+    verify(log, times(1)).flush();
+    assertThat(future.join().lastLogIndex()).isEqualTo(2);
+  }
+
+  private PassiveRole newRoleWithFollowerFlush(final Duration delay, final int batchSize) {
+    when(ctx.getFollowerFlushDelay()).thenReturn(delay);
+    when(ctx.getFollowerFlushBatchSize()).thenReturn(batchSize);
+    return new PassiveRole(ctx);
+  }
+
+  private static InternalAppendRequest appendRequest(
+      final long prevLogIndex, final long prevLogTerm, final long... indexes) {
+    final var entries =
+        LongStream.of(indexes)
+            .mapToObj(index -> new ReplicatableJournalRecord(1, index, 1, new byte[1]))
+            .toList();
+    final VersionedAppendRequest request =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.anonymous())
+            .withPrevLogTerm(prevLogTerm)
+            .withPrevLogIndex(prevLogIndex)
+            .withEntries(entries)
+            .withCommitIndex(0)
+            .build();
+    return ProtocolVersionHandler.transform(request);
+  }
 }
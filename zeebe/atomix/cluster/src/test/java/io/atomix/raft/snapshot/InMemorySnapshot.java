@@ -28,6 +28,7 @@ import io.camunda.zeebe.util.StringUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
@@ -121,6 +122,9 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
       @Override
       public void setMaximumChunkSize(final int maximumChunkSize) {}
 
+      @Override
+      public void setReusableFiles(final Map<String, Long> fileChecksums) {}
+
       @Override
       public void close() {
         iterator = null;
@@ -166,6 +170,11 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
     return checksum;
   }
 
+  @Override
+  public Map<String, Long> getFileChecksums() {
+    return Map.of();
+  }
+
   @Override
   public SnapshotMetadata getMetadata() {
     return null;
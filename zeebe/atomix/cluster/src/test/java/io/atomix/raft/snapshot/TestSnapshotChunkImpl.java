@@ -16,6 +16,7 @@
 package io.atomix.raft.snapshot;
 
 import io.camunda.zeebe.snapshots.SnapshotChunk;
+import java.nio.ByteBuffer;
 
 class TestSnapshotChunkImpl implements SnapshotChunk {
 
@@ -57,6 +58,11 @@ class TestSnapshotChunkImpl implements SnapshotChunk {
     return content;
   }
 
+  @Override
+  public ByteBuffer getContentBuffer() {
+    return ByteBuffer.wrap(content);
+  }
+
   @Override
   public long getSnapshotChecksum() {
     return 0;
@@ -71,4 +77,9 @@ class TestSnapshotChunkImpl implements SnapshotChunk {
   public long getTotalFileSize() {
     return 0;
   }
+
+  @Override
+  public boolean isReusedFile() {
+    return false;
+  }
 }
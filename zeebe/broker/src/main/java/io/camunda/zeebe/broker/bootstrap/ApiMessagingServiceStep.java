@@ -31,6 +31,9 @@ public class ApiMessagingServiceStep extends AbstractBrokerStartupStep {
     final var messagingConfig = new MessagingConfig();
     messagingConfig.setInterfaces(List.of(commandApiCfg.getHost()));
     messagingConfig.setPort(commandApiCfg.getPort());
+    messagingConfig.setNativeTransportEnabled(brokerCfg.getNetwork().isNativeTransportEnabled());
+    messagingConfig.setFlushWindow(commandApiCfg.getFlushWindow());
+    messagingConfig.setFlushThreshold((int) commandApiCfg.getFlushThreshold().toBytes());
 
     if (securityCfg.isEnabled()) {
       messagingConfig
@@ -79,7 +79,10 @@ public final class ClusterConfigFactory {
         new MessagingConfig()
             .setCompressionAlgorithm(cluster.getMessageCompression())
             .setInterfaces(Collections.singletonList(network.getInternalApi().getHost()))
-            .setPort(network.getInternalApi().getPort());
+            .setPort(network.getInternalApi().getPort())
+            .setNativeTransportEnabled(network.isNativeTransportEnabled())
+            .setFlushWindow(network.getInternalApi().getFlushWindow())
+            .setFlushThreshold((int) network.getInternalApi().getFlushThreshold().toBytes());
 
     if (network.getSecurity().isEnabled()) {
       messaging
@@ -15,6 +15,7 @@ import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
@@ -78,6 +79,14 @@ public class MetricsExporter implements Exporter {
         new RecordFilter() {
           private static final Set<ValueType> ACCEPTED_VALUE_TYPES =
               Set.of(ValueType.JOB, ValueType.JOB_BATCH, ValueType.PROCESS_INSTANCE);
+          // only these intents are observed, so the values of all other records aren't read
+          private static final Set<Intent> ACCEPTED_INTENTS =
+              Set.of(
+                  JobIntent.CREATED,
+                  JobIntent.COMPLETED,
+                  JobBatchIntent.ACTIVATED,
+                  ProcessInstanceIntent.ELEMENT_ACTIVATING,
+                  ProcessInstanceIntent.ELEMENT_COMPLETED);
 
           @Override
           public boolean acceptType(final RecordType recordType) {
@@ -88,6 +97,11 @@ public class MetricsExporter implements Exporter {
           public boolean acceptValue(final ValueType valueType) {
             return ACCEPTED_VALUE_TYPES.contains(valueType);
           }
+
+          @Override
+          public boolean acceptIntent(final Intent intent) {
+            return ACCEPTED_INTENTS.contains(intent);
+          }
         });
   }
 
@@ -11,6 +11,7 @@ import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.exporter.context.ExporterContext;
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirector.ExporterInitializationInfo;
+import io.camunda.zeebe.exporter.api.BatchExporter;
 import io.camunda.zeebe.exporter.api.Exporter;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
@@ -128,6 +129,10 @@ final class ExporterContainer implements Controller {
     return lastUnacknowledgedPosition;
   }
 
+  void setLastUnacknowledgedPosition(final long position) {
+    lastUnacknowledgedPosition = position;
+  }
+
   /**
    * Updates the exporter's position if it is up-to-date - that is, if it's last acknowledged
    * position is greater than or equal to its last unacknowledged position. This is safe to do when
@@ -197,10 +202,11 @@ final class ExporterContainer implements Controller {
     return context.getConfiguration().getId();
   }
 
-  private boolean acceptRecord(final RecordMetadata metadata) {
+  boolean acceptRecord(final RecordMetadata metadata) {
     final Context.RecordFilter filter = context.getFilter();
     return filter.acceptType(metadata.getRecordType())
-        && filter.acceptValue(metadata.getValueType());
+        && filter.acceptValue(metadata.getValueType())
+        && filter.acceptIntent(metadata.getIntent());
   }
 
   void configureExporter() throws Exception {
@@ -225,6 +231,38 @@ final class ExporterContainer implements Controller {
     }
   }
 
+  /**
+   * Exports the records of a batch, starting at the cursor's position. A {@link BatchExporter} is
+   * passed the cursor at once, any other exporter is called for every record.
+   *
+   * @param records the cursor over the batch, which is completed if all records were exported, or
+   *     left at the failed record on errors
+   * @return true if all records were exported, false otherwise
+   */
+  boolean exportBatch(final ExporterRecordCursor records) {
+    try {
+      if (exporter instanceof final BatchExporter batchExporter) {
+        ThreadContextUtil.runWithClassLoader(
+            () -> batchExporter.exportBatch(records), exporter.getClass().getClassLoader());
+      } else {
+        ThreadContextUtil.runWithClassLoader(
+            () -> {
+              while (records.hasNext()) {
+                exporter.export(records.next());
+              }
+            },
+            exporter.getClass().getClassLoader());
+      }
+      records.complete();
+      return true;
+    } catch (final Exception ex) {
+      context
+          .getLogger()
+          .warn("Error on exporting record with position {}", records.getResumePosition(), ex);
+      return false;
+    }
+  }
+
   void softPauseExporter() {
     exporterIsSoftPaused = true;
   }
@@ -0,0 +1,257 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.exporter.stream.RecordExportLoop.ExportListener;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.stream.api.EventFilter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+
+/**
+ * Exports the log to a single exporter on its own actor, with its own reader over the log. This is
+ * used when parallel exporting is enabled, such that a slow exporter doesn't delay the others.
+ *
+ * <p>The {@link ExporterDirector} still configures the container and initializes its state, and
+ * keeps track of the lowest exported position of all exporters. Once started, the container is
+ * only accessed by this actor, which updates the exporter's position with its own state context.
+ */
+final class ExporterContainerActor extends Actor implements LogRecordAwaiter {
+
+  private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+  private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
+      "Expected to export records from position {} to {} to exporter '{}' successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_RECOVER_FAILED =
+      "Expected to find event after position %d in log stream, but nothing was found. Failed to recover exporter '%s'.";
+
+  private final AtomicBoolean isOpened = new AtomicBoolean(false);
+  private final ExporterContainer container;
+  private final String name;
+  private final int partitionId;
+  private final LogStream logStream;
+  private final ZeebeDb zeebeDb;
+  private final EventFilter positionsToSkipFilter;
+  private final ExporterMetrics metrics;
+  private final RecordExportLoop exportLoop;
+  private final Runnable exportedListener;
+  private final Runnable failureListener;
+  private LogStreamReader logStreamReader;
+  private ExporterPhase exporterPhase;
+  private volatile long lastExportedPosition = -1L;
+
+  /**
+   * @param container the configured container, with its state already initialized
+   * @param logStream the log stream to read the records from
+   * @param zeebeDb the database to store the exporter's state in
+   * @param positionsToSkipFilter the filter of the records to skip for all exporters
+   * @param exporterPhase the phase of the exporter director when starting this actor
+   * @param exportedListener called, from this actor, when a batch of records was exported or a
+   *     record was skipped
+   * @param failureListener called, from this actor, when exporting failed unrecoverably
+   */
+  ExporterContainerActor(
+      final ExporterContainer container,
+      final LogStream logStream,
+      final ZeebeDb zeebeDb,
+      final EventFilter positionsToSkipFilter,
+      final ExporterPhase exporterPhase,
+      final Runnable exportedListener,
+      final Runnable failureListener) {
+    this.container = container;
+    this.logStream = logStream;
+    this.zeebeDb = zeebeDb;
+    this.positionsToSkipFilter = positionsToSkipFilter;
+    this.exporterPhase = exporterPhase;
+    this.exportedListener = exportedListener;
+    this.failureListener = failureListener;
+    partitionId = logStream.getPartitionId();
+    name = buildActorName("Exporter-" + container.getId(), partitionId);
+    metrics = new ExporterMetrics(partitionId);
+    exportLoop =
+        new RecordExportLoop(
+            actor,
+            new RecordExporter(metrics, List.of(container), partitionId),
+            metrics,
+            this::canExport,
+            this::isClosed,
+            new ContainerExportListener());
+  }
+
+  String getExporterId() {
+    return container.getId();
+  }
+
+  /**
+   * @return the position of the last record which was exported or skipped by this actor, or -1 if
+   *     none was read yet; can be read from any thread
+   */
+  long getLastExportedPosition() {
+    return lastExportedPosition;
+  }
+
+  ActorFuture<Void> pauseExporting() {
+    return actor.call(
+        () -> {
+          exporterPhase = ExporterPhase.PAUSED;
+        });
+  }
+
+  ActorFuture<Void> softPauseExporting() {
+    return actor.call(
+        () -> {
+          container.softPauseExporter();
+          exporterPhase = ExporterPhase.SOFT_PAUSED;
+        });
+  }
+
+  ActorFuture<Void> resumeExporting() {
+    return actor.call(
+        () -> {
+          if (exporterPhase == ExporterPhase.SOFT_PAUSED) {
+            container.undoSoftPauseExporter();
+          }
+          exporterPhase = ExporterPhase.EXPORTING;
+          actor.submit(exportLoop::readNextEvent);
+        });
+  }
+
+  @Override
+  protected Map<String, String> createContext() {
+    final var context = super.createContext();
+    context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+    return context;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  protected void onActorStarting() {
+    actor.runOnCompletionBlockingCurrentPhase(
+        logStream.newLogStreamReader(),
+        (reader, errorOnReceivingReader) -> {
+          if (errorOnReceivingReader == null) {
+            logStreamReader = reader;
+            exportLoop.setLogStreamReader(reader);
+          } else {
+            LOG.error(
+                "Unexpected error on retrieving reader from log {} for exporter '{}'",
+                logStream.getLogName(),
+                container.getId(),
+                errorOnReceivingReader);
+            actor.close();
+            failureListener.run();
+          }
+        });
+  }
+
+  @Override
+  protected void onActorStarted() {
+    // the container now belongs to this actor: scheduled tasks and position updates run on it, and
+    // the position is stored with a state context which isn't shared with other actors
+    final var state = new ExportersState(zeebeDb, zeebeDb.createContext());
+    container.initContainer(actor, metrics, state, exporterPhase);
+    container.openExporter();
+    exportLoop.setEventFilter(
+        positionsToSkipFilter.and(ExporterDirector.createEventFilter(List.of(container))));
+    isOpened.set(true);
+
+    final long position = container.getPosition();
+    if (!logStreamReader.seekToNextEvent(position)) {
+      throw new IllegalStateException(
+          String.format(ERROR_MESSAGE_RECOVER_FAILED, position, container.getId()));
+    }
+    logStream.registerRecordAvailableListener(this);
+    if (exporterPhase != ExporterPhase.PAUSED) {
+      actor.submit(exportLoop::readNextEvent);
+    }
+  }
+
+  @Override
+  protected void onActorCloseRequested() {
+    isOpened.set(false);
+    container.close();
+  }
+
+  @Override
+  protected void onActorClosing() {
+    if (logStreamReader != null) {
+      logStreamReader.close();
+    }
+    logStream.removeRecordAvailableListener(this);
+  }
+
+  @Override
+  protected void handleFailure(final Throwable failure) {
+    LOG.error(
+        "Actor '{}' failed in phase {} with: {} .",
+        name,
+        actor.getLifecyclePhase(),
+        failure,
+        failure);
+    actor.fail(failure);
+    failureListener.run();
+  }
+
+  @Override
+  public void onRecordAvailable() {
+    actor.run(exportLoop::readNextEvent);
+  }
+
+  private boolean canExport() {
+    return isOpened.get() && exporterPhase != ExporterPhase.PAUSED;
+  }
+
+  private boolean isClosed() {
+    return !isOpened.get();
+  }
+
+  /**
+   * Tracks the position of the last record which was exported or skipped by this actor, and
+   * notifies the director of it: the director passes the lowest of these positions to the flow
+   * control, which would otherwise hold back the log when this exporter skips all records.
+   */
+  private final class ContainerExportListener implements ExportListener {
+
+    @Override
+    public void onSkipped(final long position) {
+      container.updatePositionOnSkipIfUpToDate(position);
+      lastExportedPosition = position;
+      exportedListener.run();
+    }
+
+    @Override
+    public void onExported(final ExporterRecordBatch batch) {
+      lastExportedPosition = batch.getLastPosition();
+      exportedListener.run();
+    }
+
+    @Override
+    public void onExportFailed(final ExporterRecordBatch batch, final Throwable failure) {
+      LOG.error(
+          ERROR_MESSAGE_EXPORTING_ABORTED,
+          batch.getFirstPosition(),
+          batch.getLastPosition(),
+          container.getId(),
+          failure);
+      isOpened.set(false);
+      actor.close();
+      failureListener.run();
+    }
+  }
+}
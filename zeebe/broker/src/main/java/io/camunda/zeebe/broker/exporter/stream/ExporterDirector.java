@@ -10,25 +10,21 @@ package io.camunda.zeebe.broker.exporter.stream;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.ExporterMode;
+import io.camunda.zeebe.broker.exporter.stream.RecordExportLoop.ExportListener;
 import io.camunda.zeebe.broker.system.partitions.PartitionMessagingService;
 import io.camunda.zeebe.db.ZeebeDb;
-import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
-import io.camunda.zeebe.protocol.record.RecordType;
-import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ScheduledTimer;
 import io.camunda.zeebe.scheduler.SchedulingHints;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.ActorFutureCollector;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
-import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
-import io.camunda.zeebe.scheduler.retry.EndlessRetryStrategy;
-import io.camunda.zeebe.scheduler.retry.RetryStrategy;
 import io.camunda.zeebe.stream.api.EventFilter;
 import io.camunda.zeebe.util.exception.UnrecoverableException;
 import io.camunda.zeebe.util.health.FailureListener;
@@ -36,7 +32,6 @@ import io.camunda.zeebe.util.health.HealthMonitorable;
 import io.camunda.zeebe.util.health.HealthReport;
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -51,7 +46,7 @@ import org.slf4j.Logger;
 public final class ExporterDirector extends Actor implements HealthMonitorable, LogRecordAwaiter {
 
   private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
-      "Expected to export record '{}' successfully, but exception was thrown.";
+      "Expected to export records from position {} to {} successfully, but exception was thrown.";
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
@@ -61,22 +56,21 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   // Use concrete type because it must be modifiable
   private final ArrayList<ExporterContainer> containers;
+  // Only used if parallel exporting is enabled, where each exporter is exported on its own actor
+  private final List<ExporterContainerActor> containerActors = new ArrayList<>();
   private final LogStream logStream;
   private final RecordExporter recordExporter;
   private final ZeebeDb zeebeDb;
   private final ExporterMetrics metrics;
   private final String name;
-  private final RetryStrategy exportingRetryStrategy;
-  private final RetryStrategy recordWrapStrategy;
+  private final RecordExportLoop exportLoop;
   private final Set<FailureListener> listeners = new HashSet<>();
   private LogStreamReader logStreamReader;
-  private EventFilter eventFilter;
   private ExportersState state;
 
   @SuppressWarnings("java:S3077") // allow volatile here, health is immutable
   private volatile HealthReport healthReport = HealthReport.healthy(this);
 
-  private boolean inExportingPhase;
   private ExporterPhase exporterPhase;
   private final PartitionMessagingService partitionMessagingService;
   private final String exporterPositionsTopic;
@@ -86,6 +80,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private ScheduledTimer exporterDistributionTimer;
   private final int partitionId;
   private final EventFilter positionsToSkipFilter;
+  private final boolean parallelExportingEnabled;
+  private ActorSchedulingService actorSchedulingService;
+  private long lastFlowControlPosition = -1L;
   // When idle, exporter director is not exporting any records because no exporters are configured.
   // The actor is still running, but it is not actively doing any work.
   private boolean idle;
@@ -106,8 +103,14 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     metrics = new ExporterMetrics(partitionId);
     metrics.initializeExporterState(exporterPhase);
     recordExporter = new RecordExporter(metrics, containers, partitionId);
-    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
-    recordWrapStrategy = new EndlessRetryStrategy(actor);
+    exportLoop =
+        new RecordExportLoop(
+            actor,
+            recordExporter,
+            metrics,
+            this::canExport,
+            this::isClosed,
+            new DirectorExportListener());
     zeebeDb = context.getZeebeDb();
     this.exporterPhase = exporterPhase;
     partitionMessagingService = context.getPartitionMessagingService();
@@ -115,9 +118,12 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterMode = context.getExporterMode();
     distributionInterval = context.getDistributionInterval();
     positionsToSkipFilter = context.getPositionsToSkipFilter();
+    parallelExportingEnabled =
+        context.isParallelExportingEnabled() && exporterMode == ExporterMode.ACTIVE;
   }
 
   public ActorFuture<Void> startAsync(final ActorSchedulingService actorSchedulingService) {
+    this.actorSchedulingService = actorSchedulingService;
     return actorSchedulingService.submitActor(this, SchedulingHints.ioBound());
   }
 
@@ -139,11 +145,13 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
-    return actor.call(
-        () -> {
-          metrics.setExporterPaused();
-          exporterPhase = ExporterPhase.PAUSED;
-        });
+    final ActorFuture<Void> paused =
+        actor.call(
+            () -> {
+              metrics.setExporterPaused();
+              exporterPhase = ExporterPhase.PAUSED;
+            });
+    return forwardToContainerActors(paused, ExporterContainerActor::pauseExporting);
   }
 
   /**
@@ -161,12 +169,16 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
-    return actor.call(
-        () -> {
-          containers.stream().forEach(ExporterContainer::softPauseExporter);
-          exporterPhase = ExporterPhase.SOFT_PAUSED;
-          metrics.setExporterSoftPaused();
-        });
+    final ActorFuture<Void> softPaused =
+        actor.call(
+            () -> {
+              if (!parallelExportingEnabled) {
+                containers.stream().forEach(ExporterContainer::softPauseExporter);
+              }
+              exporterPhase = ExporterPhase.SOFT_PAUSED;
+              metrics.setExporterSoftPaused();
+            });
+    return forwardToContainerActors(softPaused, ExporterContainerActor::softPauseExporting);
   }
 
   /**
@@ -182,17 +194,53 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       return CompletableActorFuture.completed(null);
     }
 
-    return actor.call(
-        () -> {
-          if (exporterPhase == ExporterPhase.SOFT_PAUSED) {
-            containers.stream().forEach(ExporterContainer::undoSoftPauseExporter);
-          }
-          exporterPhase = ExporterPhase.EXPORTING;
-          metrics.setExporterActive();
-          if (exporterMode == ExporterMode.ACTIVE) {
-            actor.submit(this::readNextEvent);
+    final ActorFuture<Void> resumed =
+        actor.call(
+            () -> {
+              if (exporterPhase == ExporterPhase.SOFT_PAUSED && !parallelExportingEnabled) {
+                containers.stream().forEach(ExporterContainer::undoSoftPauseExporter);
+              }
+              exporterPhase = ExporterPhase.EXPORTING;
+              metrics.setExporterActive();
+              if (exporterMode == ExporterMode.ACTIVE && !parallelExportingEnabled) {
+                actor.submit(exportLoop::readNextEvent);
+              }
+            });
+    return forwardToContainerActors(resumed, ExporterContainerActor::resumeExporting);
+  }
+
+  /**
+   * If parallel exporting is enabled, applies the given operation to all container actors once the
+   * director completed the given future. The returned future completes once all container actors
+   * applied the operation.
+   */
+  private ActorFuture<Void> forwardToContainerActors(
+      final ActorFuture<Void> directorFuture,
+      final Function<ExporterContainerActor, ActorFuture<Void>> operation) {
+    if (!parallelExportingEnabled) {
+      return directorFuture;
+    }
+
+    final ActorFuture<Void> forwarded = new CompletableActorFuture<>();
+    directorFuture.onComplete(
+        (ignored, error) -> {
+          if (error != null) {
+            forwarded.completeExceptionally(error);
+            return;
           }
-        });
+
+          actor.runOnCompletion(
+              containerActors.stream().map(operation).collect(new ActorFutureCollector<>(actor)),
+              (results, forwardError) -> {
+                if (forwardError == null) {
+                  forwarded.complete(null);
+                } else {
+                  forwarded.completeExceptionally(forwardError);
+                }
+              });
+        },
+        actor);
+    return forwarded;
   }
 
   /**
@@ -220,9 +268,14 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void removeExporter(final String exporterId, final ExporterContainer container) {
-    container.close();
     containers.remove(container);
-    state.removeExporterState(exporterId);
+    if (parallelExportingEnabled) {
+      // the exporter's state is removed once its actor is closed, as it may still update it before
+      removeContainerActor(exporterId);
+    } else {
+      container.close();
+      state.removeExporterState(exporterId);
+    }
     // After removing this exporter, the exporter index has changed. Reset it so that we don't
     // miss to export the record to any of the exporters whose index has changed.
     recordExporter.resetExporterIndex();
@@ -284,7 +337,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
     // initializes metadata and position in the runtime state
     container.initMetadata();
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (parallelExportingEnabled) {
+      startContainerActor(container);
+    } else if (exporterMode == ExporterMode.ACTIVE) {
       container.openExporter();
     }
     containers.add(container);
@@ -316,13 +371,13 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   protected void onActorStarting() {
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (exporterMode == ExporterMode.ACTIVE && !parallelExportingEnabled) {
       final ActorFuture<LogStreamReader> newReaderFuture = logStream.newLogStreamReader();
       actor.runOnCompletionBlockingCurrentPhase(
           newReaderFuture,
           (reader, errorOnReceivingReader) -> {
             if (errorOnReceivingReader == null) {
-              logStreamReader = reader;
+              setLogStreamReader(reader);
             } else {
               // TODO https://github.com/zeebe-io/zeebe/issues/3499
               // ideally we could fail the actor start future such that we are able to propagate the
@@ -373,6 +428,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       logStreamReader.close();
     }
     logStream.removeRecordAvailableListener(this);
+    // the exporters must be closed before the director, which owns the state they're using
+    for (final var containerActor : containerActors) {
+      actor.runOnCompletionBlockingCurrentPhase(
+          containerActor.closeAsync(), (ignored, error) -> {});
+    }
   }
 
   @Override
@@ -384,7 +444,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   @Override
   protected void onActorCloseRequested() {
     isOpened.set(false);
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (parallelExportingEnabled) {
+      // the container actors close their exporters once closed
+      LOG.debug("Closing {} exporter actors of '{}'", containerActors.size(), getName());
+    } else if (exporterMode == ExporterMode.ACTIVE) {
       containers.forEach(ExporterContainer::close);
     } else {
       exporterDistributionService.close();
@@ -430,7 +493,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       container.configureExporter();
     }
 
-    eventFilter = positionsToSkipFilter.and(createEventFilter(containers));
+    final var eventFilter = positionsToSkipFilter.and(createEventFilter(containers));
+    exportLoop.setEventFilter(eventFilter);
     LOG.debug("Set event filter for exporters: {}", eventFilter);
   }
 
@@ -443,26 +507,12 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         snapshotPosition);
   }
 
-  private ExporterEventFilter createEventFilter(final List<ExporterContainer> containers) {
-
-    final List<Context.RecordFilter> recordFilters =
-        containers.stream().map(c -> c.getContext().getFilter()).collect(Collectors.toList());
-
-    final Map<RecordType, Boolean> acceptRecordTypes =
-        Arrays.stream(RecordType.values())
-            .collect(
-                Collectors.toMap(
-                    Function.identity(),
-                    type -> recordFilters.stream().anyMatch(f -> f.acceptType(type))));
-
-    final Map<ValueType, Boolean> acceptValueTypes =
-        Arrays.stream(ValueType.values())
-            .collect(
-                Collectors.toMap(
-                    Function.identity(),
-                    type -> recordFilters.stream().anyMatch(f -> f.acceptValue(type))));
-
-    return new ExporterEventFilter(acceptRecordTypes, acceptValueTypes);
+  /**
+   * Creates a filter which applies to the records that any of the given containers accepts. The
+   * list is not copied, such that enabled and disabled exporters are taken into account.
+   */
+  static EventFilter createEventFilter(final List<ExporterContainer> containers) {
+    return new ExporterEventFilter(containers);
   }
 
   private void onFailure() {
@@ -483,7 +533,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     if (logStreamReader != null) {
       // We have to close it, otherwise it will prevent journal segment deletion
       logStreamReader.close();
-      logStreamReader = null;
+      setLogStreamReader(null);
     }
   }
 
@@ -500,25 +550,80 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private void startActiveExportingMode() {
     for (final ExporterContainer container : containers) {
       container.initMetadata();
-      container.openExporter();
+      if (!parallelExportingEnabled) {
+        container.openExporter();
+      }
     }
 
-    if (state.hasExporters()) {
+    if (!state.hasExporters()) {
+      becomeIdle();
+    } else if (parallelExportingEnabled) {
+      // every exporter reads and exports from its own position
+      containers.forEach(this::startContainerActor);
+      startExporterStateDistribution();
+    } else {
       final long snapshotPosition = state.getLowestPosition();
       // start reading and exporting
       startActiveExportingFrom(snapshotPosition);
-    } else {
-      becomeIdle();
+    }
+  }
+
+  private void startContainerActor(final ExporterContainer container) {
+    final var containerActor =
+        new ExporterContainerActor(
+            container,
+            logStream,
+            zeebeDb,
+            positionsToSkipFilter,
+            exporterPhase,
+            () -> actor.run(this::onContainerActorExported),
+            () -> actor.run(this::onFailure));
+    containerActors.add(containerActor);
+    actorSchedulingService.submitActor(containerActor, SchedulingHints.ioBound());
+  }
+
+  private void removeContainerActor(final String exporterId) {
+    containerActors.stream()
+        .filter(containerActor -> containerActor.getExporterId().equals(exporterId))
+        .findFirst()
+        .ifPresent(
+            containerActor -> {
+              containerActors.remove(containerActor);
+              actor.runOnCompletion(
+                  containerActor.closeAsync(),
+                  (ignored, error) -> state.removeExporterState(exporterId));
+            });
+  }
+
+  /**
+   * The log can only be written as fast as the slowest exporter exports it, so flow control is
+   * passed the lowest position which was exported by all container actors.
+   */
+  private void onContainerActorExported() {
+    final long lowestPosition =
+        containerActors.stream()
+            .mapToLong(ExporterContainerActor::getLastExportedPosition)
+            .min()
+            .orElse(-1L);
+    if (lowestPosition > lastFlowControlPosition) {
+      lastFlowControlPosition = lowestPosition;
+      logStream.getFlowControl().onExported(lowestPosition);
     }
   }
 
   private void restartActiveExportingMode() {
+    if (parallelExportingEnabled) {
+      // the actor of the enabled exporter was already started
+      startExporterStateDistribution();
+      return;
+    }
+
     logStream
         .newLogStreamReader()
         .onComplete(
             (reader, error) -> {
               if (error == null) {
-                logStreamReader = reader;
+                setLogStreamReader(reader);
                 startActiveExportingFrom(-1);
               } else {
                 LOG.error(
@@ -537,9 +642,13 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
     logStream.registerRecordAvailableListener(this);
     if (!exporterPhase.equals(ExporterPhase.PAUSED)) {
-      actor.submit(this::readNextEvent);
+      actor.submit(exportLoop::readNextEvent);
     }
 
+    startExporterStateDistribution();
+  }
+
+  private void startExporterStateDistribution() {
     exporterDistributionTimer =
         actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
   }
@@ -570,75 +679,13 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterDistributionService.distributeExporterState(exporterStateMessage);
   }
 
-  private void skipRecord(final LoggedEvent currentEvent) {
-    final RecordMetadata metadata = new RecordMetadata();
-    final long eventPosition = currentEvent.getPosition();
-
-    currentEvent.readMetadata(metadata);
-    metrics.eventSkipped(metadata.getValueType());
-
-    // increase position of all up to date exporters - an up to date exporter is one which has
-    // acknowledged the last record we passed to it
-    for (final ExporterContainer container : containers) {
-      container.updatePositionOnSkipIfUpToDate(eventPosition);
-    }
-
-    actor.submit(this::readNextEvent);
-  }
-
-  private void readNextEvent() {
-    if (shouldExport()) {
-      final LoggedEvent currentEvent = logStreamReader.next();
-      if (eventFilter == null || eventFilter.applies(currentEvent)) {
-        inExportingPhase = true;
-        exportEvent(currentEvent);
-      } else {
-        skipRecord(currentEvent);
-      }
-    }
+  private void setLogStreamReader(final LogStreamReader reader) {
+    logStreamReader = reader;
+    exportLoop.setLogStreamReader(reader);
   }
 
-  private boolean shouldExport() {
-    return isOpened.get()
-        && !idle
-        && logStreamReader.hasNext()
-        && !inExportingPhase
-        && !exporterPhase.equals(ExporterPhase.PAUSED);
-  }
-
-  private void exportEvent(final LoggedEvent event) {
-    final ActorFuture<Boolean> wrapRetryFuture =
-        recordWrapStrategy.runWithRetry(
-            () -> {
-              recordExporter.wrap(event);
-              return true;
-            },
-            this::isClosed);
-
-    actor.runOnCompletion(
-        wrapRetryFuture,
-        (b, t) -> {
-          assert t == null : "Throwable must be null";
-
-          final ActorFuture<Boolean> retryFuture =
-              exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
-
-          actor.runOnCompletion(
-              retryFuture,
-              (bool, throwable) -> {
-                if (throwable != null) {
-                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
-                  onFailure();
-                } else {
-                  logStream
-                      .getFlowControl()
-                      .onExported(recordExporter.getTypedEvent().getPosition());
-                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
-                  inExportingPhase = false;
-                  actor.submit(this::readNextEvent);
-                }
-              });
-        });
+  private boolean canExport() {
+    return isOpened.get() && !idle && !exporterPhase.equals(ExporterPhase.PAUSED);
   }
 
   private void clearExporterState() {
@@ -677,7 +724,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   public void onRecordAvailable() {
-    actor.run(this::readNextEvent);
+    actor.run(exportLoop::readNextEvent);
   }
 
   public ActorFuture<Long> getLowestPosition() {
@@ -693,36 +740,65 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
    */
   public record ExporterInitializationInfo(long metadataVersion, String initializeFrom) {}
 
+  /** Updates the positions of the containers, when exporting from the director's own reader. */
+  private final class DirectorExportListener implements ExportListener {
+
+    @Override
+    public void onSkipped(final long position) {
+      // increase position of all up to date exporters - an up to date exporter is one which has
+      // acknowledged the last record we passed to it
+      for (final ExporterContainer container : containers) {
+        container.updatePositionOnSkipIfUpToDate(position);
+      }
+    }
+
+    @Override
+    public void onExported(final ExporterRecordBatch batch) {
+      logStream.getFlowControl().onExported(batch.getLastPosition());
+    }
+
+    @Override
+    public void onExportFailed(final ExporterRecordBatch batch, final Throwable failure) {
+      LOG.error(
+          ERROR_MESSAGE_EXPORTING_ABORTED,
+          batch.getFirstPosition(),
+          batch.getLastPosition(),
+          failure);
+      onFailure();
+    }
+  }
+
+  /**
+   * Filters the records on their metadata, before their value is deserialized. A record applies if
+   * any exporter accepts its combination of record type, value type and intent.
+   */
   private static class ExporterEventFilter implements EventFilter {
 
     private final RecordMetadata metadata = new RecordMetadata();
-    private final Map<RecordType, Boolean> acceptRecordTypes;
-    private final Map<ValueType, Boolean> acceptValueTypes;
+    private final List<ExporterContainer> containers;
 
-    ExporterEventFilter(
-        final Map<RecordType, Boolean> acceptRecordTypes,
-        final Map<ValueType, Boolean> acceptValueTypes) {
-      this.acceptRecordTypes = acceptRecordTypes;
-      this.acceptValueTypes = acceptValueTypes;
+    ExporterEventFilter(final List<ExporterContainer> containers) {
+      this.containers = containers;
     }
 
     @Override
     public boolean applies(final LoggedEvent event) {
       event.readMetadata(metadata);
 
-      final RecordType recordType = metadata.getRecordType();
-      final ValueType valueType = metadata.getValueType();
+      for (final ExporterContainer container : containers) {
+        if (container.acceptRecord(metadata)) {
+          return true;
+        }
+      }
 
-      return acceptRecordTypes.get(recordType) && acceptValueTypes.get(valueType);
+      return false;
     }
 
     @Override
     public String toString() {
       return "ExporterEventFilter{"
-          + "acceptRecordTypes="
-          + acceptRecordTypes
-          + ", acceptValueTypes="
-          + acceptValueTypes
+          + "exporters="
+          + containers.stream().map(ExporterContainer::getId).toList()
           + '}';
     }
   }
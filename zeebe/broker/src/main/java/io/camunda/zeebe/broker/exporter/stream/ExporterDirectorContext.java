@@ -29,6 +29,7 @@ public final class ExporterDirectorContext {
   private ExporterMode exporterMode = ExporterMode.ACTIVE; // per default we export records
   private Duration distributionInterval = DEFAULT_DISTRIBUTION_INTERVAL;
   private EventFilter positionsToSkipFilter;
+  private boolean parallelExportingEnabled;
 
   public int getId() {
     return id;
@@ -66,6 +67,10 @@ public final class ExporterDirectorContext {
     return positionsToSkipFilter;
   }
 
+  public boolean isParallelExportingEnabled() {
+    return parallelExportingEnabled;
+  }
+
   public ExporterDirectorContext id(final int id) {
     this.id = id;
     return this;
@@ -113,6 +118,11 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  public ExporterDirectorContext parallelExportingEnabled(final boolean parallelExportingEnabled) {
+    this.parallelExportingEnabled = parallelExportingEnabled;
+    return this;
+  }
+
   public enum ExporterMode {
     /**
      * ACTIVE, means it is actively running the exporting and distributes the exporter positions to
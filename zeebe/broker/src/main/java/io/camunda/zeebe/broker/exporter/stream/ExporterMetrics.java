@@ -26,6 +26,14 @@ public final class ExporterMetrics {
           .labelNames(LABEL_NAME_ACTION, LABEL_NAME_PARTITION, LABEL_NAME_VALUE_TYPE)
           .register();
 
+  private static final Counter EXPORTER_RECORDS =
+      Counter.build()
+          .namespace(NAMESPACE_ZEEBE)
+          .name("exporter_records_total")
+          .help("Number of records passed to or filtered out by each exporter")
+          .labelNames(LABEL_NAME_EXPORTER, LABEL_NAME_ACTION, LABEL_NAME_PARTITION)
+          .register();
+
   private static final Gauge LAST_EXPORTED_POSITION =
       Gauge.build()
           .namespace(NAMESPACE_ZEEBE)
@@ -83,6 +91,14 @@ public final class ExporterMetrics {
     event("skipped", valueType);
   }
 
+  public void recordsExported(final String exporter, final int count) {
+    EXPORTER_RECORDS.labels(exporter, "exported", partitionIdLabel).inc(count);
+  }
+
+  public void recordsSkipped(final String exporter, final int count) {
+    EXPORTER_RECORDS.labels(exporter, "skipped", partitionIdLabel).inc(count);
+  }
+
   public void setLastUpdatedExportedPosition(final String exporter, final long position) {
     LAST_UPDATED_EXPORTED_POSITION.labels(exporter, partitionIdLabel).set(position);
   }
@@ -0,0 +1,185 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.stream.impl.TypedEventRegistry;
+import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
+import io.camunda.zeebe.util.ReflectUtil;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.ExpandableArrayBuffer;
+
+/**
+ * A batch of consecutive records read from the log, which is passed to every exporter at once.
+ *
+ * <p>The log reader reuses its event views, so the raw records are copied into a shared buffer to
+ * hold several of them at once. Each record is then deserialized once, and the same typed record
+ * is passed to all exporters. The buffer, the typed records and their values are reused for the
+ * next batch.
+ *
+ * <p>Records must only be added before the batch is wrapped, as the deserialized values are views
+ * on the buffer, which may be reallocated when it grows.
+ */
+final class ExporterRecordBatch {
+
+  static final int MAX_RECORDS = 100;
+  static final int MAX_BYTES = 1024 * 1024;
+
+  private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+  private final List<BatchedRecord> records = new ArrayList<>();
+  private final Map<ValueType, ValuePool> values = new EnumMap<>(ValueType.class);
+  private final int partitionId;
+  private final int maxRecords;
+  private final int maxBytes;
+
+  private int size;
+  private int length;
+
+  ExporterRecordBatch(final int partitionId) {
+    this(partitionId, MAX_RECORDS, MAX_BYTES);
+  }
+
+  ExporterRecordBatch(final int partitionId, final int maxRecords, final int maxBytes) {
+    this.partitionId = partitionId;
+    this.maxRecords = maxRecords;
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * Copies the given raw record into the batch. The batch may exceed the max number of bytes by
+   * the last record added, such that a single large record still fits.
+   *
+   * @param event the raw record to add
+   */
+  void add(final LoggedEvent event) {
+    if (size == records.size()) {
+      records.add(new BatchedRecord(partitionId));
+    }
+
+    event.write(buffer, length);
+    records.get(size).rawEvent.wrap(buffer, length);
+    length += event.getLength();
+    size++;
+  }
+
+  /** Deserializes all records of the batch; must be called once all records were added. */
+  void wrap() {
+    values.values().forEach(ValuePool::reset);
+    for (int i = 0; i < size; i++) {
+      final var record = records.get(i);
+      final var rawEvent = record.rawEvent;
+      rawEvent.readMetadata(record.metadata);
+
+      final var value = nextValue(record.metadata.getValueType());
+      record.exportable = value != null;
+      if (record.exportable) {
+        value.reset();
+        rawEvent.readValue(value);
+        record.typedRecord.wrap(rawEvent, record.metadata, value);
+      }
+    }
+  }
+
+  boolean isFull() {
+    return size >= maxRecords || length >= maxBytes;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  int size() {
+    return size;
+  }
+
+  BatchedRecord get(final int index) {
+    return records.get(index);
+  }
+
+  long getFirstPosition() {
+    return records.get(0).rawEvent.getPosition();
+  }
+
+  long getLastPosition() {
+    return records.get(size - 1).rawEvent.getPosition();
+  }
+
+  void clear() {
+    size = 0;
+    length = 0;
+  }
+
+  private UnifiedRecordValue nextValue(final ValueType valueType) {
+    final var valueClass = TypedEventRegistry.EVENT_REGISTRY.get(valueType);
+    if (valueClass == null) {
+      return null;
+    }
+
+    return values.computeIfAbsent(valueType, type -> new ValuePool(valueClass)).next();
+  }
+
+  /** A record of the batch, and whether it has a value type which can be exported. */
+  static final class BatchedRecord {
+    private final LoggedEventImpl rawEvent = new LoggedEventImpl();
+    private final RecordMetadata metadata = new RecordMetadata();
+    private final TypedRecordImpl typedRecord;
+    private boolean exportable;
+
+    private BatchedRecord(final int partitionId) {
+      typedRecord = new TypedRecordImpl(partitionId);
+    }
+
+    RecordMetadata metadata() {
+      return metadata;
+    }
+
+    TypedRecordImpl typedRecord() {
+      return typedRecord;
+    }
+
+    boolean isExportable() {
+      return exportable;
+    }
+
+    long getPosition() {
+      return rawEvent.getPosition();
+    }
+  }
+
+  /**
+   * The values of a single type, such that a batch with several records of the same type doesn't
+   * need a value instance of every type for every record.
+   */
+  private static final class ValuePool {
+    private final Class<? extends UnifiedRecordValue> valueClass;
+    private final List<UnifiedRecordValue> values = new ArrayList<>();
+    private int used;
+
+    private ValuePool(final Class<? extends UnifiedRecordValue> valueClass) {
+      this.valueClass = valueClass;
+    }
+
+    private UnifiedRecordValue next() {
+      if (used == values.size()) {
+        values.add(ReflectUtil.newInstance(valueClass));
+      }
+      return values.get(used++);
+    }
+
+    private void reset() {
+      used = 0;
+    }
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.broker.exporter.stream.ExporterRecordBatch.BatchedRecord;
+import io.camunda.zeebe.exporter.api.RecordCursor;
+import io.camunda.zeebe.protocol.record.Record;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates over the records of a batch for a single exporter. Records which the exporter already
+ * exported, or which it doesn't accept, are passed over; for the latter, the position of the
+ * exporter is updated if it's up to date, as when skipping single records.
+ *
+ * <p>As when exporting single records, a record only counts as passed to the exporter once the
+ * exporter returned from it, i.e. when it moves on to the next record or the batch is {@link
+ * #complete() completed}. Records which the exporter doesn't accept are only skipped at that point
+ * as well, such that {@link #hasNext()} has no side effects.
+ *
+ * <p>The index of the record which was last returned is kept, such that a failed export resumes
+ * with that record.
+ */
+final class ExporterRecordCursor implements RecordCursor {
+
+  private ExporterRecordBatch batch;
+  private ExporterContainer container;
+  private int index;
+  private int nextIndex;
+  private int resumeIndex;
+  private boolean hasReturnedRecord;
+  private int exportedCount;
+  private int skippedCount;
+
+  void wrap(
+      final ExporterRecordBatch batch, final ExporterContainer container, final int startIndex) {
+    this.batch = batch;
+    this.container = container;
+    index = startIndex;
+    nextIndex = startIndex;
+    resumeIndex = startIndex;
+    hasReturnedRecord = false;
+    exportedCount = 0;
+    skippedCount = 0;
+  }
+
+  @Override
+  public boolean hasNext() {
+    nextIndex = index;
+    while (nextIndex < batch.size() && !shouldExport(batch.get(nextIndex))) {
+      nextIndex++;
+    }
+
+    return nextIndex < batch.size();
+  }
+
+  @Override
+  public Record<?> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("Expected to have a next record, but none is left");
+    }
+
+    // the exporter moved on, so the record which was returned last was passed successfully
+    acknowledgeReturnedRecord();
+    skipRecordsUntil(nextIndex);
+
+    final var record = batch.get(nextIndex).typedRecord();
+    resumeIndex = nextIndex;
+    hasReturnedRecord = true;
+    index = nextIndex + 1;
+    exportedCount++;
+    return record;
+  }
+
+  /**
+   * Completes the batch after the exporter returned from it successfully. The record which was
+   * returned last counts as passed to the exporter, and the remaining records which the exporter
+   * doesn't accept are skipped.
+   */
+  void complete() {
+    acknowledgeReturnedRecord();
+    if (!hasNext()) {
+      skipRecordsUntil(batch.size());
+    }
+  }
+
+  /**
+   * @return the index of the record to resume with, if the exporter failed to export the batch
+   */
+  int getResumeIndex() {
+    return resumeIndex;
+  }
+
+  /**
+   * @return the number of records which were passed to the exporter since the cursor was wrapped;
+   *     a record is counted again if it's passed again after a failed export
+   */
+  int getExportedCount() {
+    return exportedCount;
+  }
+
+  /**
+   * @return the number of records which the exporter's filter rejected since the cursor was wrapped
+   */
+  int getSkippedCount() {
+    return skippedCount;
+  }
+
+  /**
+   * @return the position of the record to resume with, for logging
+   */
+  long getResumePosition() {
+    return batch.get(resumeIndex).getPosition();
+  }
+
+  private boolean shouldExport(final BatchedRecord record) {
+    return isNotExportedYet(record) && container.acceptRecord(record.metadata());
+  }
+
+  private boolean isNotExportedYet(final BatchedRecord record) {
+    return record.isExportable() && container.getPosition() < record.getPosition();
+  }
+
+  private void acknowledgeReturnedRecord() {
+    if (hasReturnedRecord) {
+      container.setLastUnacknowledgedPosition(batch.get(resumeIndex).getPosition());
+      hasReturnedRecord = false;
+    }
+  }
+
+  private void skipRecordsUntil(final int endIndex) {
+    for (; index < endIndex; index++) {
+      final BatchedRecord record = batch.get(index);
+      if (isNotExportedYet(record)) {
+        // records up to the end index are either exported already or not accepted
+        container.updatePositionOnSkipIfUpToDate(record.getPosition());
+        skippedCount++;
+      }
+    }
+  }
+}
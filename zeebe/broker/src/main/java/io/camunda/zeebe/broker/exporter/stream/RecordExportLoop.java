@@ -0,0 +1,193 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.scheduler.ActorControl;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.EndlessRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.RetryStrategy;
+import io.camunda.zeebe.stream.api.EventFilter;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Reads the records from the log and exports them in batches with a {@link RecordExporter}, and
+ * skips the records to which the event filter doesn't apply. This is shared by the {@link
+ * ExporterDirector} and the {@link ExporterContainerActor}, which differ only in the exporters
+ * they export to and in how they track the exported positions, see {@link ExportListener}.
+ *
+ * <p>Must only be used from the actor which it was created with.
+ */
+final class RecordExportLoop {
+
+  private final RecordMetadata skippedMetadata = new RecordMetadata();
+  private final ActorControl actor;
+  private final RecordExporter recordExporter;
+  private final ExporterMetrics metrics;
+  private final RetryStrategy exportingRetryStrategy;
+  private final RetryStrategy recordWrapStrategy;
+  private final BooleanSupplier canExport;
+  private final BooleanSupplier isClosed;
+  private final ExportListener listener;
+  private LogStreamReader logStreamReader;
+  private EventFilter eventFilter;
+  private boolean inExportingPhase;
+
+  /**
+   * @param actor the actor which reads and exports the records
+   * @param recordExporter exports the batches to the exporters
+   * @param metrics the metrics of the skipped and exported records
+   * @param canExport whether the owner is currently exporting, e.g. it's not paused
+   * @param isClosed whether the owner was closed, which stops retrying to export a batch
+   * @param listener notified of the skipped and exported records
+   */
+  RecordExportLoop(
+      final ActorControl actor,
+      final RecordExporter recordExporter,
+      final ExporterMetrics metrics,
+      final BooleanSupplier canExport,
+      final BooleanSupplier isClosed,
+      final ExportListener listener) {
+    this.actor = actor;
+    this.recordExporter = recordExporter;
+    this.metrics = metrics;
+    this.canExport = canExport;
+    this.isClosed = isClosed;
+    this.listener = listener;
+    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
+    recordWrapStrategy = new EndlessRetryStrategy(actor);
+  }
+
+  /**
+   * @param logStreamReader the reader to read the records from, or null if there's none
+   */
+  void setLogStreamReader(final LogStreamReader logStreamReader) {
+    this.logStreamReader = logStreamReader;
+  }
+
+  /**
+   * @param eventFilter the filter of the records to export; if null, all records are exported
+   */
+  void setEventFilter(final EventFilter eventFilter) {
+    this.eventFilter = eventFilter;
+  }
+
+  /**
+   * Reads the next record, if any, and exports it with the records following it, or skips it. Once
+   * done, the next record is read; if there's none, this must be called again once a new record is
+   * available.
+   */
+  void readNextEvent() {
+    if (shouldExport()) {
+      final LoggedEvent currentEvent = logStreamReader.next();
+      if (applies(currentEvent)) {
+        inExportingPhase = true;
+        exportBatch(currentEvent);
+      } else {
+        skipRecord(currentEvent);
+      }
+    }
+  }
+
+  private boolean shouldExport() {
+    return canExport.getAsBoolean() && logStreamReader.hasNext() && !inExportingPhase;
+  }
+
+  private boolean applies(final LoggedEvent event) {
+    return eventFilter == null || eventFilter.applies(event);
+  }
+
+  private void skipRecord(final LoggedEvent currentEvent) {
+    final long eventPosition = currentEvent.getPosition();
+    currentEvent.readMetadata(skippedMetadata);
+    metrics.eventSkipped(skippedMetadata.getValueType());
+
+    listener.onSkipped(eventPosition);
+
+    actor.submit(this::readNextEvent);
+  }
+
+  private void exportBatch(final LoggedEvent firstEvent) {
+    recordExporter.add(firstEvent);
+    // The batch ends before the next skipped record, so that up to date exporters only move past
+    // it once they were passed all records before it.
+    while (!recordExporter.isFull()
+        && logStreamReader.hasNext()
+        && applies(logStreamReader.peekNext())) {
+      recordExporter.add(logStreamReader.next());
+    }
+
+    final ActorFuture<Boolean> wrapRetryFuture =
+        recordWrapStrategy.runWithRetry(
+            () -> {
+              recordExporter.wrap();
+              return true;
+            },
+            isClosed);
+
+    actor.runOnCompletion(
+        wrapRetryFuture,
+        (b, t) -> {
+          assert t == null : "Throwable must be null";
+
+          final ActorFuture<Boolean> retryFuture =
+              exportingRetryStrategy.runWithRetry(recordExporter::export, isClosed);
+          actor.runOnCompletion(retryFuture, (bool, throwable) -> onBatchExported(throwable));
+        });
+  }
+
+  private void onBatchExported(final Throwable throwable) {
+    final var batch = recordExporter.getBatch();
+    if (throwable != null) {
+      listener.onExportFailed(batch, throwable);
+      return;
+    }
+
+    for (int i = 0; i < batch.size(); i++) {
+      final var record = batch.get(i);
+      if (record.isExportable()) {
+        metrics.eventExported(record.metadata().getValueType());
+      }
+    }
+    listener.onExported(batch);
+
+    recordExporter.clear();
+    inExportingPhase = false;
+    actor.submit(this::readNextEvent);
+  }
+
+  /** Notified, on the actor of the loop, of the records which were skipped or exported. */
+  interface ExportListener {
+
+    /**
+     * Called after a record was skipped, as the event filter doesn't apply to it.
+     *
+     * @param position the position of the skipped record
+     */
+    void onSkipped(long position);
+
+    /**
+     * Called after all exporters exported the batch; the batch is cleared afterwards.
+     *
+     * @param batch the exported batch
+     */
+    void onExported(ExporterRecordBatch batch);
+
+    /**
+     * Called if exporting the batch was aborted, after which no more records are read.
+     *
+     * @param batch the batch which failed to be exported
+     * @param failure the reason why exporting failed
+     */
+    void onExportFailed(ExporterRecordBatch batch, Throwable failure);
+  }
+}
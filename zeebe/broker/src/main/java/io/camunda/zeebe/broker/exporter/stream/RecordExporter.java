@@ -8,61 +8,63 @@
 package io.camunda.zeebe.broker.exporter.stream;
 
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
-import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
-import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
-import io.camunda.zeebe.stream.impl.records.RecordValues;
-import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import java.util.List;
 
+/**
+ * Exports batches of records to all exporters, one exporter after the other. If an exporter fails,
+ * exporting the batch resumes with that exporter and the record it failed on.
+ */
 final class RecordExporter {
 
-  private final RecordValues recordValues = new RecordValues();
-  private final RecordMetadata rawMetadata = new RecordMetadata();
+  private final ExporterRecordBatch batch;
+  private final ExporterRecordCursor cursor = new ExporterRecordCursor();
   private final List<ExporterContainer> containers;
-  private final TypedRecordImpl typedEvent;
   private final ExporterMetrics exporterMetrics;
 
-  private boolean shouldExport;
   private int exporterIndex;
+  private int recordIndex;
 
   RecordExporter(
       final ExporterMetrics exporterMetrics,
       final List<ExporterContainer> containers,
       final int partitionId) {
     this.containers = containers;
-    typedEvent = new TypedRecordImpl(partitionId);
+    batch = new ExporterRecordBatch(partitionId);
     this.exporterMetrics = exporterMetrics;
   }
 
-  void wrap(final LoggedEvent rawEvent) {
-    rawEvent.readMetadata(rawMetadata);
+  /** Copies the given record into the current batch. */
+  void add(final LoggedEvent rawEvent) {
+    batch.add(rawEvent);
+  }
 
-    final UnifiedRecordValue recordValue =
-        recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
+  boolean isFull() {
+    return batch.isFull();
+  }
 
-    shouldExport = recordValue != null;
-    if (shouldExport) {
-      typedEvent.wrap(rawEvent, rawMetadata, recordValue);
-      exporterIndex = 0;
-    }
+  /** Deserializes the records of the current batch, before it's exported. */
+  void wrap() {
+    batch.wrap();
+    resetExporterIndex();
   }
 
   boolean export() {
-    if (!shouldExport) {
-      return true;
-    }
-
     final int exportersCount = containers.size();
 
-    // current error handling strategy is simply to repeat forever until the record can be
+    // current error handling strategy is simply to repeat forever until the batch can be
     // successfully exported.
     while (exporterIndex < exportersCount) {
       final ExporterContainer container = containers.get(exporterIndex);
+      cursor.wrap(batch, container, recordIndex);
+      final boolean exported = container.exportBatch(cursor);
+      updateRecordMetrics(container);
 
-      if (container.exportRecord(rawMetadata, typedEvent)) {
+      if (exported) {
         exporterIndex++;
-        exporterMetrics.setLastExportedPosition(container.getId(), typedEvent.getPosition());
+        recordIndex = 0;
+        exporterMetrics.setLastExportedPosition(container.getId(), batch.getLastPosition());
       } else {
+        recordIndex = cursor.getResumeIndex();
         return false;
       }
     }
@@ -70,11 +72,26 @@ final class RecordExporter {
     return true;
   }
 
-  TypedRecordImpl getTypedEvent() {
-    return typedEvent;
+  private void updateRecordMetrics(final ExporterContainer container) {
+    if (cursor.getExportedCount() > 0) {
+      exporterMetrics.recordsExported(container.getId(), cursor.getExportedCount());
+    }
+    if (cursor.getSkippedCount() > 0) {
+      exporterMetrics.recordsSkipped(container.getId(), cursor.getSkippedCount());
+    }
+  }
+
+  ExporterRecordBatch getBatch() {
+    return batch;
+  }
+
+  /** Clears the current batch once it was exported. */
+  void clear() {
+    batch.clear();
   }
 
   public void resetExporterIndex() {
     exporterIndex = 0;
+    recordIndex = 0;
   }
 }
@@ -28,12 +28,11 @@ import org.agrona.concurrent.UnsafeBuffer;
  * <p>Note that due to the look-ahead, calling {@link #hasNext()} may result in doing some I/O and
  * mutating the state of the reader.
  *
- * <p>The reader currently simply returns the block as is without copying it - this is safe at the
- * moment because the serialization in the underlying {@link io.atomix.raft.storage.log.RaftLog}
- * already copies the data from disk. When switching to zero-copy, however, because of the
- * look-ahead, this reader will have to copy the block. At that point, we may want to look into
- * doing more than a single-step look-ahead (either here or in the {@link
- * io.camunda.zeebe.logstreams.log.LogStreamReader}).
+ * <p>The reader returns the block as is without copying it, i.e. the block is a view of the
+ * memory mapped journal segment. Because of the look-ahead, the block returned by {@link #next()}
+ * may belong to the segment preceding the one the underlying journal reader is positioned in. The
+ * journal reader retains that previous segment until it moves on again, such that the block stays
+ * valid even if the segment is compacted concurrently.
  */
 public final class AtomixLogStorageReader implements LogStorageReader {
 
@@ -78,6 +78,8 @@ public final class RaftPartitionFactory {
         (int) brokerCfg.getExperimental().getMaxAppendBatchSizeInBytes());
     partitionConfig.setMaxAppendsPerFollower(
         brokerCfg.getExperimental().getMaxAppendsPerFollower());
+    partitionConfig.setAdaptiveAppendWindowEnabled(
+        brokerCfg.getExperimental().isEnableAdaptiveAppendWindow());
     partitionConfig.setPriorityElectionEnabled(
         brokerCfg.getCluster().getRaft().isEnablePriorityElection());
     partitionConfig.setElectionTimeout(brokerCfg.getCluster().getElectionTimeout());
@@ -87,6 +89,8 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getSnapshotRequestTimeout());
     partitionConfig.setSnapshotChunkSize(
         (int) brokerCfg.getExperimental().getRaft().getSnapshotChunkSize().toBytes());
+    partitionConfig.setMaxSnapshotChunksInFlight(
+        brokerCfg.getExperimental().getRaft().getMaxSnapshotChunksInFlight());
     partitionConfig.setConfigurationChangeTimeout(
         brokerCfg.getExperimental().getRaft().getConfigurationChangeTimeout());
     partitionConfig.setMaxQuorumResponseTimeout(
@@ -95,6 +99,14 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getMinStepDownFailureCount());
     partitionConfig.setPreferSnapshotReplicationThreshold(
         brokerCfg.getExperimental().getRaft().getPreferSnapshotReplicationThreshold());
+    partitionConfig.setSbeProtocolEnabled(
+        brokerCfg.getExperimental().getRaft().isSbeProtocolEnabled());
+    partitionConfig.setCoalescedCommitNotificationsEnabled(
+        brokerCfg.getExperimental().getRaft().isCoalescedCommitNotificationsEnabled());
+    partitionConfig.setFollowerFlushDelay(
+        brokerCfg.getExperimental().getRaft().getFollowerFlushDelay());
+    partitionConfig.setFollowerFlushBatchSize(
+        (int) brokerCfg.getExperimental().getRaft().getFollowerFlushBatchSize().toBytes());
 
     return new RaftPartition(partitionMetadata, partitionConfig, partitionDirectory.toFile());
   }
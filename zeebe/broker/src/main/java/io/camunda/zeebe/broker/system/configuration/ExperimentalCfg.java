@@ -22,10 +22,14 @@ public class ExperimentalCfg implements ConfigurationEntry {
   public static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 2;
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
+  public static final boolean DEFAULT_ENABLE_LOCK_FREE_SEQUENCER = false;
+  public static final boolean DEFAULT_ENABLE_ADAPTIVE_APPEND_WINDOW = false;
 
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
   private boolean disableExplicitRaftFlush = DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH;
+  private boolean enableLockFreeSequencer = DEFAULT_ENABLE_LOCK_FREE_SEQUENCER;
+  private boolean enableAdaptiveAppendWindow = DEFAULT_ENABLE_ADAPTIVE_APPEND_WINDOW;
   private RocksdbCfg rocksdb = new RocksdbCfg();
   private ExperimentalRaftCfg raft = new ExperimentalRaftCfg();
   private PartitioningCfg partitioning = new PartitioningCfg();
@@ -81,6 +85,22 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.disableExplicitRaftFlush = disableExplicitRaftFlush;
   }
 
+  public boolean isEnableLockFreeSequencer() {
+    return enableLockFreeSequencer;
+  }
+
+  public void setEnableLockFreeSequencer(final boolean enableLockFreeSequencer) {
+    this.enableLockFreeSequencer = enableLockFreeSequencer;
+  }
+
+  public boolean isEnableAdaptiveAppendWindow() {
+    return enableAdaptiveAppendWindow;
+  }
+
+  public void setEnableAdaptiveAppendWindow(final boolean enableAdaptiveAppendWindow) {
+    this.enableAdaptiveAppendWindow = enableAdaptiveAppendWindow;
+  }
+
   public RocksdbCfg getRocksdb() {
     return rocksdb;
   }
@@ -146,6 +166,10 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + maxAppendBatchSize
         + ", disableExplicitRaftFlush="
         + disableExplicitRaftFlush
+        + ", enableLockFreeSequencer="
+        + enableLockFreeSequencer
+        + ", enableAdaptiveAppendWindow="
+        + enableAdaptiveAppendWindow
         + ", rocksdb="
         + rocksdb
         + ", partitioning="
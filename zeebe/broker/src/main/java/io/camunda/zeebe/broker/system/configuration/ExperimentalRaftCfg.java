@@ -24,6 +24,11 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final int DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_SBE_PROTOCOL_ENABLED = false;
+  private static final int DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT = 1;
+  private static final boolean DEFAULT_COALESCED_COMMIT_NOTIFICATIONS_ENABLED = false;
+  private static final Duration DEFAULT_FOLLOWER_FLUSH_DELAY = Duration.ZERO;
+  private static final DataSize DEFAULT_FOLLOWER_FLUSH_BATCH_SIZE = DataSize.ofMegabytes(1);
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
   private DataSize snapshotChunkSize = DEFAULT_SNAPSHOT_CHUNK_SIZE;
@@ -33,6 +38,12 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private int preferSnapshotReplicationThreshold = DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD;
 
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean sbeProtocolEnabled = DEFAULT_SBE_PROTOCOL_ENABLED;
+  private int maxSnapshotChunksInFlight = DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT;
+  private boolean coalescedCommitNotificationsEnabled =
+      DEFAULT_COALESCED_COMMIT_NOTIFICATIONS_ENABLED;
+  private Duration followerFlushDelay = DEFAULT_FOLLOWER_FLUSH_DELAY;
+  private DataSize followerFlushBatchSize = DEFAULT_FOLLOWER_FLUSH_BATCH_SIZE;
 
   public Duration getRequestTimeout() {
     return requestTimeout;
@@ -97,4 +108,45 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   public void setPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
+
+  public boolean isSbeProtocolEnabled() {
+    return sbeProtocolEnabled;
+  }
+
+  public void setSbeProtocolEnabled(final boolean sbeProtocolEnabled) {
+    this.sbeProtocolEnabled = sbeProtocolEnabled;
+  }
+
+  public int getMaxSnapshotChunksInFlight() {
+    return maxSnapshotChunksInFlight;
+  }
+
+  public void setMaxSnapshotChunksInFlight(final int maxSnapshotChunksInFlight) {
+    this.maxSnapshotChunksInFlight = maxSnapshotChunksInFlight;
+  }
+
+  public boolean isCoalescedCommitNotificationsEnabled() {
+    return coalescedCommitNotificationsEnabled;
+  }
+
+  public void setCoalescedCommitNotificationsEnabled(
+      final boolean coalescedCommitNotificationsEnabled) {
+    this.coalescedCommitNotificationsEnabled = coalescedCommitNotificationsEnabled;
+  }
+
+  public Duration getFollowerFlushDelay() {
+    return followerFlushDelay;
+  }
+
+  public void setFollowerFlushDelay(final Duration followerFlushDelay) {
+    this.followerFlushDelay = followerFlushDelay;
+  }
+
+  public DataSize getFollowerFlushBatchSize() {
+    return followerFlushBatchSize;
+  }
+
+  public void setFollowerFlushBatchSize(final DataSize followerFlushBatchSize) {
+    this.followerFlushBatchSize = followerFlushBatchSize;
+  }
 }
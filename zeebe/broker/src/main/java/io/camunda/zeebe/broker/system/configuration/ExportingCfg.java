@@ -16,6 +16,7 @@ import java.util.Set;
  */
 public final class ExportingCfg implements ConfigurationEntry {
   private Set<Long> skipRecords;
+  private boolean parallelExportingEnabled = false;
 
   public Set<Long> getSkipRecords() {
     return skipRecords != null ? skipRecords : Set.of();
@@ -25,9 +26,17 @@ public final class ExportingCfg implements ConfigurationEntry {
     this.skipRecords = skipRecords;
   }
 
+  public boolean isParallelExportingEnabled() {
+    return parallelExportingEnabled;
+  }
+
+  public void setParallelExportingEnabled(final boolean parallelExportingEnabled) {
+    this.parallelExportingEnabled = parallelExportingEnabled;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(skipRecords);
+    return Objects.hash(skipRecords, parallelExportingEnabled);
   }
 
   @Override
@@ -39,11 +48,17 @@ public final class ExportingCfg implements ConfigurationEntry {
       return false;
     }
     final ExportingCfg that = (ExportingCfg) o;
-    return Objects.equals(skipRecords, that.skipRecords);
+    return parallelExportingEnabled == that.parallelExportingEnabled
+        && Objects.equals(skipRecords, that.skipRecords);
   }
 
   @Override
   public String toString() {
-    return "ExporterCfg{" + "skipRecords='" + skipRecords + '}';
+    return "ExporterCfg{"
+        + "skipRecords='"
+        + skipRecords
+        + ", parallelExportingEnabled="
+        + parallelExportingEnabled
+        + '}';
   }
 }
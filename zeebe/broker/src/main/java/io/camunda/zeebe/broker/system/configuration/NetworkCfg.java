@@ -26,6 +26,7 @@ public final class NetworkCfg implements ConfigurationEntry {
   private String advertisedHost = null;
   private int portOffset = 0;
   private DataSize maxMessageSize = DEFAULT_MAX_MESSAGE_SIZE;
+  private boolean nativeTransportEnabled = true;
 
   private final CommandApiCfg commandApi = new CommandApiCfg();
   private InternalApiCfg internalApi = new InternalApiCfg();
@@ -86,6 +87,14 @@ public final class NetworkCfg implements ConfigurationEntry {
     this.maxMessageSize = maxMessageSize;
   }
 
+  public boolean isNativeTransportEnabled() {
+    return nativeTransportEnabled;
+  }
+
+  public void setNativeTransportEnabled(final boolean nativeTransportEnabled) {
+    this.nativeTransportEnabled = nativeTransportEnabled;
+  }
+
   public CommandApiCfg getCommandApi() {
     return commandApi;
   }
@@ -117,6 +126,8 @@ public final class NetworkCfg implements ConfigurationEntry {
         + '\''
         + ", maxMessageSize="
         + maxMessageSize
+        + ", nativeTransportEnabled="
+        + nativeTransportEnabled
         + ", commandApi="
         + commandApi
         + ", internalApi="
@@ -13,6 +13,7 @@ public final class ProcessingCfg implements ConfigurationEntry {
 
   private static final int DEFAULT_PROCESSING_BATCH_LIMIT = 100;
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
+  private boolean enableAdaptiveCommandBatching = false;
   private boolean enableAsyncScheduledTasks = true;
   private Set<Long> skipPositions;
 
@@ -32,6 +33,14 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public boolean isEnableAdaptiveCommandBatching() {
+    return enableAdaptiveCommandBatching;
+  }
+
+  public void setEnableAdaptiveCommandBatching(final boolean enableAdaptiveCommandBatching) {
+    this.enableAdaptiveCommandBatching = enableAdaptiveCommandBatching;
+  }
+
   public boolean isEnableAsyncScheduledTasks() {
     return enableAsyncScheduledTasks;
   }
@@ -53,6 +62,8 @@ public final class ProcessingCfg implements ConfigurationEntry {
     return "ProcessingCfg{"
         + "maxCommandsInBatch="
         + maxCommandsInBatch
+        + ", enableAdaptiveCommandBatching="
+        + enableAdaptiveCommandBatching
         + ", enableAsyncScheduledTasks="
         + enableAsyncScheduledTasks
         + '}';
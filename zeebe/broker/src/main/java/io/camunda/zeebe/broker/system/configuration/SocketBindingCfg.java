@@ -8,15 +8,22 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import java.net.InetSocketAddress;
+import java.time.Duration;
 import java.util.Optional;
+import org.springframework.util.unit.DataSize;
 
 public class SocketBindingCfg {
 
+  public static final Duration DEFAULT_FLUSH_WINDOW = Duration.ZERO;
+  public static final DataSize DEFAULT_FLUSH_THRESHOLD = DataSize.ofKilobytes(64);
+
   private final int defaultPort;
   private String host;
   private Integer port;
   private String advertisedHost;
   private Integer advertisedPort;
+  private Duration flushWindow = DEFAULT_FLUSH_WINDOW;
+  private DataSize flushThreshold = DEFAULT_FLUSH_THRESHOLD;
 
   private SocketBindingCfg(final int defaultPort) {
     this.defaultPort = defaultPort;
@@ -40,6 +47,16 @@ public class SocketBindingCfg {
         Optional.ofNullable(advertisedPort)
             .map(p -> p + networkCfg.getPortOffset() * 10)
             .orElse(port);
+
+    if (flushWindow.isNegative()) {
+      throw new IllegalArgumentException(
+          "flushWindow must be >= 0 but was %s".formatted(flushWindow));
+    }
+    if (flushThreshold.toBytes() < 1 || flushThreshold.toBytes() > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          "flushThreshold must be between 1B and %dB but was %s"
+              .formatted(Integer.MAX_VALUE, flushThreshold));
+    }
   }
 
   public String getHost() {
@@ -74,6 +91,22 @@ public class SocketBindingCfg {
     this.advertisedPort = advertisedPort;
   }
 
+  public Duration getFlushWindow() {
+    return flushWindow;
+  }
+
+  public void setFlushWindow(final Duration flushWindow) {
+    this.flushWindow = flushWindow;
+  }
+
+  public DataSize getFlushThreshold() {
+    return flushThreshold;
+  }
+
+  public void setFlushThreshold(final DataSize flushThreshold) {
+    this.flushThreshold = flushThreshold;
+  }
+
   @Override
   public String toString() {
     return "SocketBindingCfg{"
@@ -86,6 +119,10 @@ public class SocketBindingCfg {
         + advertisedHost
         + ", advertisedPort="
         + advertisedPort
+        + ", flushWindow="
+        + flushWindow
+        + ", flushThreshold="
+        + flushThreshold
         + "}";
   }
 
@@ -107,6 +144,10 @@ public class SocketBindingCfg {
           + getAdvertisedHost()
           + ", advertisedPort="
           + getAdvertisedPort()
+          + ", flushWindow="
+          + getFlushWindow()
+          + ", flushThreshold="
+          + getFlushThreshold()
           + '}';
     }
   }
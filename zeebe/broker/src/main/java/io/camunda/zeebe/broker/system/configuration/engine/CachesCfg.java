@@ -14,6 +14,8 @@ public final class CachesCfg implements ConfigurationEntry {
   private int drgCacheCapacity = EngineConfiguration.DEFAULT_DRG_CACHE_CAPACITY;
   private int formCacheCapacity = EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
+  private int elementInstanceCacheCapacity =
+      EngineConfiguration.DEFAULT_ELEMENT_INSTANCE_CACHE_CAPACITY;
 
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
@@ -39,6 +41,14 @@ public final class CachesCfg implements ConfigurationEntry {
     this.processCacheCapacity = processCacheCapacity;
   }
 
+  public int getElementInstanceCacheCapacity() {
+    return elementInstanceCacheCapacity;
+  }
+
+  public void setElementInstanceCacheCapacity(final int elementInstanceCacheCapacity) {
+    this.elementInstanceCacheCapacity = elementInstanceCacheCapacity;
+  }
+
   @Override
   public String toString() {
     return "CachesCfg{"
@@ -48,6 +58,8 @@ public final class CachesCfg implements ConfigurationEntry {
         + formCacheCapacity
         + ", processCacheCapacity="
         + processCacheCapacity
+        + ", elementInstanceCacheCapacity="
+        + elementInstanceCacheCapacity
         + '}';
   }
 }
@@ -79,6 +79,7 @@ public final class EngineCfg implements ConfigurationEntry {
         .setDrgCacheCapacity(caches.getDrgCacheCapacity())
         .setFormCacheCapacity(caches.getFormCacheCapacity())
         .setProcessCacheCapacity(caches.getProcessCacheCapacity())
+        .setElementInstanceCacheCapacity(caches.getElementInstanceCacheCapacity())
         .setJobsTimeoutCheckerPollingInterval(jobs.getTimeoutCheckerPollingInterval())
         .setJobsTimeoutCheckerBatchLimit(jobs.getTimeoutCheckerBatchLimit())
         .setValidatorsResultsOutputMaxSize(validators.getResultsOutputMaxSize());
@@ -111,6 +111,9 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             context.getBrokerCfg() != null
                 ? context.getBrokerCfg().getExporting().getSkipRecords()
                 : Set.of());
+    final var parallelExportingEnabled =
+        context.getBrokerCfg() != null
+            && context.getBrokerCfg().getExporting().isParallelExportingEnabled();
     final ExporterMode exporterMode =
         targetRole == Role.LEADER ? ExporterMode.ACTIVE : ExporterMode.PASSIVE;
     final ExporterDirectorContext exporterCtx =
@@ -122,7 +125,8 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             .partitionMessagingService(context.getMessagingService())
             .descriptors(exporterDescriptors)
             .exporterMode(exporterMode)
-            .positionsToSkipFilter(exporterFilter);
+            .positionsToSkipFilter(exporterFilter)
+            .parallelExportingEnabled(parallelExportingEnabled);
 
     final ExporterDirector director =
         exporterDirectorBuilder.apply(exporterCtx, context.getExporterPhase());
@@ -101,6 +101,8 @@ public final class LogStreamPartitionTransitionStep implements PartitionTransiti
                 ? flowControlCfg.getRequest().buildLimit()
                 : context.getBrokerCfg().getBackpressure().buildLimit())
         .withWriteRateLimit(flowControlCfg.getWrite().buildLimit())
+        .withLockFreeSequencer(
+            context.getBrokerCfg().getExperimental().isEnableLockFreeSequencer())
         .buildAsync();
   }
 
@@ -158,6 +158,8 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .nodeId(context.getNodeId())
         .commandResponseWriter(context.getCommandApiService().newCommandResponseWriter())
         .maxCommandsInBatch(context.getBrokerCfg().getProcessing().getMaxCommandsInBatch())
+        .setEnableAdaptiveCommandBatching(
+            context.getBrokerCfg().getProcessing().isEnableAdaptiveCommandBatching())
         .setEnableAsyncScheduledTasks(
             context.getBrokerCfg().getProcessing().isEnableAsyncScheduledTasks())
         .processingFilter(processingFilter)
@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.exporter.metrics;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.exporter.api.context.Context.RecordFilter;
 import io.camunda.zeebe.exporter.test.ExporterTestContext;
 import io.camunda.zeebe.exporter.test.ExporterTestController;
 import io.camunda.zeebe.protocol.Protocol;
@@ -17,6 +18,7 @@ import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstan
 import io.camunda.zeebe.protocol.record.ImmutableRecord;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
@@ -25,6 +27,7 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
+import org.assertj.core.api.Condition;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -223,6 +226,43 @@ class MetricsExporterTest {
           .isFalse();
     }
 
+    @Test
+    void shouldConfigureFilterAcceptingObservedIntents() throws Exception {
+      // given
+      final var context = new ExporterTestContext();
+
+      // when
+      new MetricsExporter().configure(context);
+
+      // then
+      final var recordFilter = context.getRecordFilter();
+      assertThat(JobIntent.CREATED).is(accepted(recordFilter));
+      assertThat(JobIntent.COMPLETED).is(accepted(recordFilter));
+      assertThat(JobBatchIntent.ACTIVATED).is(accepted(recordFilter));
+      assertThat(ProcessInstanceIntent.ELEMENT_ACTIVATING).is(accepted(recordFilter));
+      assertThat(ProcessInstanceIntent.ELEMENT_COMPLETED).is(accepted(recordFilter));
+    }
+
+    @Test
+    void shouldConfigureFilterRejectingOtherIntents() throws Exception {
+      // given
+      final var context = new ExporterTestContext();
+
+      // when
+      new MetricsExporter().configure(context);
+
+      // then
+      final var recordFilter = context.getRecordFilter();
+      assertThat(JobIntent.TIMED_OUT).isNot(accepted(recordFilter));
+      assertThat(JobBatchIntent.ACTIVATE).isNot(accepted(recordFilter));
+      assertThat(ProcessInstanceIntent.ELEMENT_ACTIVATED).isNot(accepted(recordFilter));
+      assertThat(ProcessInstanceIntent.SEQUENCE_FLOW_TAKEN).isNot(accepted(recordFilter));
+    }
+
+    private Condition<Intent> accepted(final RecordFilter recordFilter) {
+      return new Condition<>(recordFilter::acceptIntent, "accepted by the record filter");
+    }
+
     /** Defines a combination of a RecordType and a ValueType. */
     record TypeCombination(RecordType recordType, ValueType valueType) {}
   }
@@ -0,0 +1,199 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static io.camunda.zeebe.test.util.TestUtil.doRepeatedly;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.awaitility.Awaitility;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ExporterDirectorParallelTest {
+
+  private static final String EXPORTER_ID_1 = "exporter-1";
+  private static final String EXPORTER_ID_2 = "exporter-2";
+
+  @Rule public final ExporterRule rule = ExporterRule.activeExporter().withParallelExporting();
+
+  private final List<ControlledTestExporter> exporters = new ArrayList<>();
+  private final List<ExporterDescriptor> exporterDescriptors = new ArrayList<>();
+
+  @Before
+  public void init() {
+    createExporter(EXPORTER_ID_1);
+    createExporter(EXPORTER_ID_2);
+  }
+
+  @Test
+  public void shouldExportRecordsToAllExporters() {
+    // given
+    exporters.forEach(exporter -> exporter.shouldAutoUpdatePosition(true));
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+
+    // then
+    for (final var exporter : exporters) {
+      Awaitility.await("exporter has exported all records")
+          .untilAsserted(
+              () ->
+                  assertThat(exporter.getExportedRecords())
+                      .extracting(Record::getPosition)
+                      .containsExactly(eventPosition1, eventPosition2));
+    }
+    Awaitility.await("director tracks the lowest exported position")
+        .untilAsserted(
+            () ->
+                assertThat(rule.getDirector().getLowestPosition().join())
+                    .isEqualTo(eventPosition2));
+  }
+
+  @Test
+  public void shouldNotDelayOtherExportersIfOneExporterFails() {
+    // given
+    final var failingExporter = exporters.get(0);
+    final var tailingExporter = exporters.get(1);
+    final var shouldFail = new AtomicBoolean(true);
+    exporters.forEach(exporter -> exporter.shouldAutoUpdatePosition(true));
+    failingExporter.onExport(
+        record -> {
+          if (shouldFail.get()) {
+            throw new RuntimeException("Export failed (expected)");
+          }
+        });
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+
+    // then
+    Awaitility.await("tailing exporter has exported all records")
+        .untilAsserted(
+            () ->
+                assertThat(tailingExporter.getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(eventPosition1, eventPosition2));
+    assertThat(failingExporter.getExportedRecords()).isEmpty();
+    Awaitility.await("tailing exporter's position is updated")
+        .untilAsserted(
+            () ->
+                assertThat(rule.getExportersState().getPosition(EXPORTER_ID_2))
+                    .isEqualTo(eventPosition2));
+    assertThat(rule.getDirector().getLowestPosition().join()).isEqualTo(-1L);
+
+    // when
+    shouldFail.set(false);
+
+    // then
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until(r -> failingExporter.getExportedRecords().size() == 2);
+    assertThat(failingExporter.getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2);
+    Awaitility.await("director tracks the lowest exported position")
+        .untilAsserted(
+            () ->
+                assertThat(rule.getDirector().getLowestPosition().join())
+                    .isEqualTo(eventPosition2));
+  }
+
+  @Test
+  public void shouldPauseAllExporters() {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+    rule.getDirector().pauseExporting().join();
+
+    // when
+    writeEvent();
+
+    // then
+    assertThat(rule.getDirector().getPhase().join()).isEqualTo(ExporterPhase.PAUSED);
+    for (final var exporter : exporters) {
+      verify(exporter, after(500).never()).export(any());
+    }
+  }
+
+  @Test
+  public void shouldResumeAllExporters() {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+    rule.getDirector().pauseExporting().join();
+    final long eventPosition = writeEvent();
+
+    // when
+    rule.getDirector().resumeExporting().join();
+
+    // then
+    for (final var exporter : exporters) {
+      Awaitility.await("exporter has exported the record after resuming")
+          .untilAsserted(
+              () ->
+                  assertThat(exporter.getExportedRecords())
+                      .extracting(Record::getPosition)
+                      .containsExactly(eventPosition));
+    }
+  }
+
+  @Test
+  public void shouldRemoveStateOfDisabledExporter() {
+    // given
+    exporters.forEach(exporter -> exporter.shouldAutoUpdatePosition(true));
+    rule.startExporterDirector(exporterDescriptors);
+    final long eventPosition = writeEvent();
+    Awaitility.await("all exporters have exported the record")
+        .untilAsserted(
+            () ->
+                assertThat(rule.getDirector().getLowestPosition().join())
+                    .isEqualTo(eventPosition));
+
+    // when
+    rule.getDirector().disableExporter(EXPORTER_ID_1).join();
+
+    // then
+    Awaitility.await("state of the disabled exporter is removed")
+        .untilAsserted(
+            () ->
+                assertThat(rule.getExportersState().getPosition(EXPORTER_ID_1))
+                    .isEqualTo(ExportersState.VALUE_NOT_FOUND));
+    verify(exporters.get(0)).close();
+  }
+
+  private void createExporter(final String exporterId) {
+    final ControlledTestExporter exporter = spy(new ControlledTestExporter());
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor(exporterId, exporter.getClass(), Map.of()));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+
+    exporters.add(exporter);
+    exporterDescriptors.add(descriptor);
+  }
+
+  private long writeEvent() {
+    return rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+  }
+}
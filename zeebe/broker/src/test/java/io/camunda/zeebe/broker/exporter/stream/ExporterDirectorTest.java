@@ -21,6 +21,8 @@ import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
 import io.camunda.zeebe.broker.exporter.util.PojoConfigurationExporter;
 import io.camunda.zeebe.broker.exporter.util.PojoConfigurationExporter.PojoExporterConfiguration;
 import io.camunda.zeebe.engine.Loggers;
+import io.camunda.zeebe.exporter.api.BatchExporter;
+import io.camunda.zeebe.exporter.api.RecordCursor;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
@@ -30,6 +32,7 @@ import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
 import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
+import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.stream.impl.SkipPositionsFilter;
 import java.time.Duration;
@@ -40,6 +43,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -74,8 +78,13 @@ public final class ExporterDirectorTest {
   }
 
   private void createExporter(final String exporterId, final Map<String, Object> arguments) {
-    final ControlledTestExporter exporter = spy(new ControlledTestExporter());
+    createExporter(exporterId, arguments, spy(new ControlledTestExporter()));
+  }
 
+  private void createExporter(
+      final String exporterId,
+      final Map<String, Object> arguments,
+      final ControlledTestExporter exporter) {
     final ExporterDescriptor descriptor =
         spy(new ExporterDescriptor(exporterId, exporter.getClass(), arguments));
     doAnswer(c -> exporter).when(descriptor).newInstance();
@@ -359,6 +368,52 @@ public final class ExporterDirectorTest {
                     .containsExactly(2L));
   }
 
+  @Test
+  public void shouldOnlyExportRecordsWithAcceptedIntent() {
+    // given
+    final ControlledTestExporter filteringExporter = exporters.get(0);
+    final ControlledTestExporter tailingExporter = exporters.get(1);
+    filteringExporter.onConfigure(
+        context ->
+            context.setFilter(
+                new Context.RecordFilter() {
+                  @Override
+                  public boolean acceptType(final RecordType recordType) {
+                    return recordType == RecordType.EVENT;
+                  }
+
+                  @Override
+                  public boolean acceptValue(final ValueType valueType) {
+                    return valueType == ValueType.DEPLOYMENT;
+                  }
+
+                  @Override
+                  public boolean acceptIntent(final Intent intent) {
+                    return intent == DeploymentIntent.CREATED;
+                  }
+                }));
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    final long distributedPosition =
+        rule.writeEvent(DeploymentIntent.FULLY_DISTRIBUTED, new DeploymentRecord());
+    final long createdPosition = rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // then
+    Awaitility.await("tailing exporter has exported all records")
+        .untilAsserted(
+            () ->
+                assertThat(tailingExporter.getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(distributedPosition, createdPosition));
+    Awaitility.await("filtering exporter has exported the accepted record")
+        .untilAsserted(
+            () ->
+                assertThat(filteringExporter.getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(createdPosition));
+  }
+
   @Test
   public void shouldRetryExportingOnException() {
     // given
@@ -396,6 +451,62 @@ public final class ExporterDirectorTest {
                     .containsExactly(eventPosition1, eventPosition2));
   }
 
+  @Test
+  public void shouldExportRecordsInBatchesToBatchExporter() {
+    // given
+    final var batchExporter = new ControlledBatchExporter();
+    createExporter("batch-exporter", Map.of(), batchExporter);
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+    final long eventPosition3 = writeEvent();
+
+    // when
+    startExporterDirector(exporterDescriptors);
+
+    // then
+    Awaitility.await("batch exporter has exported all records")
+        .untilAsserted(
+            () ->
+                assertThat(batchExporter.getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(eventPosition1, eventPosition2, eventPosition3));
+    assertThat(batchExporter.getBatchSizes()).isNotEmpty().allMatch(size -> size > 0);
+    assertThat(batchExporter.getBatchSizes().stream().mapToInt(Integer::intValue).sum())
+        .isEqualTo(3);
+  }
+
+  @Test
+  public void shouldResumeBatchExportWithFailedRecord() {
+    // given
+    final var batchExporter = new ControlledBatchExporter();
+    createExporter("batch-exporter", Map.of(), batchExporter);
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+    final AtomicLong failCount = new AtomicLong(1);
+    batchExporter.onExport(
+        record -> {
+          if (record.getPosition() == eventPosition2 && failCount.getAndDecrement() > 0) {
+            throw new RuntimeException("Export failed (expected)");
+          }
+        });
+
+    // when
+    startExporterDirector(exporterDescriptors);
+
+    // then
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until(r -> batchExporter.getExportedRecords().size() == 2);
+    assertThat(batchExporter.getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2);
+    Awaitility.await("Exporter %s has exported all records".formatted(EXPORTER_ID_1))
+        .untilAsserted(
+            () ->
+                assertThat(exporters.get(0).getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(eventPosition1, eventPosition2));
+  }
+
   @Test
   public void shouldExecuteScheduledTask() throws Exception {
     // given
@@ -709,4 +820,23 @@ public final class ExporterDirectorTest {
               }
             });
   }
+
+  private static final class ControlledBatchExporter extends ControlledTestExporter
+      implements BatchExporter {
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    List<Integer> getBatchSizes() {
+      return batchSizes;
+    }
+
+    @Override
+    public void exportBatch(final RecordCursor records) {
+      int size = 0;
+      while (records.hasNext()) {
+        export(records.next());
+        size++;
+      }
+      batchSizes.add(size);
+    }
+  }
 }
@@ -60,6 +60,7 @@ public final class ExporterRule implements TestRule {
   private ExporterDirector director;
   private Duration distributionInterval = Duration.ofSeconds(15);
   private EventFilter positionsToSkipFilter = SkipPositionsFilter.of(Set.of());
+  private boolean parallelExportingEnabled;
 
   private ExporterRule(final ExporterMode exporterMode) {
     this.exporterMode = exporterMode;
@@ -94,6 +95,11 @@ public final class ExporterRule implements TestRule {
     return this;
   }
 
+  public ExporterRule withParallelExporting() {
+    parallelExportingEnabled = true;
+    return this;
+  }
+
   @Override
   public Statement apply(final Statement base, final Description description) {
     return chain.apply(base, description);
@@ -126,7 +132,8 @@ public final class ExporterRule implements TestRule {
             .distributionInterval(distributionInterval)
             .partitionMessagingService(partitionMessagingService)
             .descriptors(descriptorsWithInitializationInfo)
-            .positionsToSkipFilter(positionsToSkipFilter);
+            .positionsToSkipFilter(positionsToSkipFilter)
+            .parallelExportingEnabled(parallelExportingEnabled);
 
     director = new ExporterDirector(context, phase);
     director.startAsync(actorSchedulerRule.get()).join();
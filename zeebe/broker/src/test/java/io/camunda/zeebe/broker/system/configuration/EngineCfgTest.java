@@ -38,6 +38,8 @@ final class EngineCfgTest {
         .isEqualTo(EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY);
     assertThat(configuration.getProcessCacheCapacity())
         .isEqualTo(EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY);
+    assertThat(configuration.getElementInstanceCacheCapacity())
+        .isEqualTo(EngineConfiguration.DEFAULT_ELEMENT_INSTANCE_CACHE_CAPACITY);
     assertThat(configuration.getValidatorsResultsOutputMaxSize())
         .isEqualTo(EngineConfiguration.DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE);
   }
@@ -59,6 +61,7 @@ final class EngineCfgTest {
     assertThat(configuration.getJobsTimeoutCheckerBatchLimit()).isEqualTo(1000);
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
+    assertThat(configuration.getElementInstanceCacheCapacity()).isEqualTo(2000);
     assertThat(configuration.getValidatorsResultsOutputMaxSize()).isEqualTo(2000);
   }
 }
@@ -15,6 +15,7 @@ import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.springframework.util.unit.DataSize;
 
 @Execution(ExecutionMode.CONCURRENT)
 final class ExperimentalCfgTest {
@@ -181,4 +182,190 @@ final class ExperimentalCfgTest {
     // then
     assertThat(raftCfg.isPreallocateSegmentFiles()).isTrue();
   }
+
+  @Test
+  void shouldDisableLockFreeSequencerByDefault() {
+    // when
+    final var experimentalCfg = new ExperimentalCfg();
+
+    // then
+    assertThat(experimentalCfg.isEnableLockFreeSequencer()).isFalse();
+  }
+
+  @Test
+  void shouldSetEnableLockFreeSequencerFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().isEnableLockFreeSequencer()).isTrue();
+  }
+
+  @Test
+  void shouldSetEnableLockFreeSequencerFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.enableLockFreeSequencer", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().isEnableLockFreeSequencer()).isFalse();
+  }
+
+  @Test
+  void shouldDisableSbeProtocolByDefault() {
+    // when
+    final var raftCfg = new ExperimentalRaftCfg();
+
+    // then
+    assertThat(raftCfg.isSbeProtocolEnabled()).isFalse();
+  }
+
+  @Test
+  void shouldSetSbeProtocolEnabledFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().getRaft().isSbeProtocolEnabled()).isTrue();
+  }
+
+  @Test
+  void shouldSetSbeProtocolEnabledFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.sbeProtocolEnabled", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().getRaft().isSbeProtocolEnabled()).isFalse();
+  }
+
+  @Test
+  void shouldSendOneSnapshotChunkAtATimeByDefault() {
+    // when
+    final var raftCfg = new ExperimentalRaftCfg();
+
+    // then
+    assertThat(raftCfg.getMaxSnapshotChunksInFlight()).isOne();
+  }
+
+  @Test
+  void shouldSetMaxSnapshotChunksInFlightFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().getRaft().getMaxSnapshotChunksInFlight()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldSetMaxSnapshotChunksInFlightFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.maxSnapshotChunksInFlight", "8");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().getRaft().getMaxSnapshotChunksInFlight()).isEqualTo(8);
+  }
+
+  @Test
+  void shouldDisableCoalescedCommitNotificationsByDefault() {
+    // when
+    final var raftCfg = new ExperimentalRaftCfg();
+
+    // then
+    assertThat(raftCfg.isCoalescedCommitNotificationsEnabled()).isFalse();
+  }
+
+  @Test
+  void shouldSetCoalescedCommitNotificationsEnabledFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().getRaft().isCoalescedCommitNotificationsEnabled()).isTrue();
+  }
+
+  @Test
+  void shouldSetCoalescedCommitNotificationsEnabledFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.coalescedCommitNotificationsEnabled", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().getRaft().isCoalescedCommitNotificationsEnabled()).isFalse();
+  }
+
+  @Test
+  void shouldFlushEveryAppendOnFollowersByDefault() {
+    // when
+    final var raftCfg = new ExperimentalRaftCfg();
+
+    // then
+    assertThat(raftCfg.getFollowerFlushDelay()).isZero();
+    assertThat(raftCfg.getFollowerFlushBatchSize()).isEqualTo(DataSize.ofMegabytes(1));
+  }
+
+  @Test
+  void shouldSetFollowerFlushFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    final var raftCfg = cfg.getExperimental().getRaft();
+    assertThat(raftCfg.getFollowerFlushDelay()).isEqualTo(Duration.ofMillis(5));
+    assertThat(raftCfg.getFollowerFlushBatchSize()).isEqualTo(DataSize.ofMegabytes(4));
+  }
+
+  @Test
+  void shouldSetFollowerFlushFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.followerFlushDelay", "10ms");
+    environment.put("zeebe.broker.experimental.raft.followerFlushBatchSize", "2MB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    final var raftCfg = cfg.getExperimental().getRaft();
+    assertThat(raftCfg.getFollowerFlushDelay()).isEqualTo(Duration.ofMillis(10));
+    assertThat(raftCfg.getFollowerFlushBatchSize()).isEqualTo(DataSize.ofMegabytes(2));
+  }
+
+  @Test
+  void shouldDisableAdaptiveAppendWindowByDefault() {
+    // when
+    final var experimentalCfg = new ExperimentalCfg();
+
+    // then
+    assertThat(experimentalCfg.isEnableAdaptiveAppendWindow()).isFalse();
+  }
+
+  @Test
+  void shouldSetEnableAdaptiveAppendWindowFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().isEnableAdaptiveAppendWindow()).isTrue();
+  }
+
+  @Test
+  void shouldSetEnableAdaptiveAppendWindowFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.enableAdaptiveAppendWindow", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().isEnableAdaptiveAppendWindow()).isFalse();
+  }
 }
@@ -62,4 +62,29 @@ class ExporterConfigurationTest {
     // then
     assertThat(exportingCfg.getSkipRecords()).isEqualTo(Set.of(1L, 2L, 3L));
   }
+
+  @Test
+  void shouldDisableParallelExportingByDefault() {
+    // given
+    final var environment = new HashMap<String, String>();
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporters", environment);
+
+    // then
+    assertThat(cfg.getExporting().isParallelExportingEnabled()).isFalse();
+  }
+
+  @Test
+  void shouldEnableParallelExportingFromEnvironment() {
+    // given
+    final var environment = new HashMap<String, String>();
+    environment.put("zeebe.broker.exporting.parallelExportingEnabled", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporters", environment);
+
+    // then
+    assertThat(cfg.getExporting().isParallelExportingEnabled()).isTrue();
+  }
 }
@@ -8,10 +8,15 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.gateway.impl.configuration.NetworkCfg;
 import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
 
 final class NetworkCfgTest {
 
@@ -30,4 +35,114 @@ final class NetworkCfgTest {
     // then
     assertThat(socketAddress).isEqualTo(new InetSocketAddress(hostName, port));
   }
+
+  @Test
+  void shouldEnableNativeTransportByDefault() {
+    // given
+    final var cfg = TestConfigReader.readConfig("empty", Collections.emptyMap()).getNetwork();
+
+    // when
+    final var enabled = cfg.isNativeTransportEnabled();
+
+    // then
+    assertThat(enabled).isTrue();
+  }
+
+  @Test
+  void shouldSetNativeTransportEnabledFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("network-cfg", Collections.emptyMap()).getNetwork();
+
+    // when
+    final var enabled = cfg.isNativeTransportEnabled();
+
+    // then
+    assertThat(enabled).isFalse();
+  }
+
+  @Test
+  void shouldSetNativeTransportEnabledFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.network.nativeTransportEnabled", "true");
+    final var cfg = TestConfigReader.readConfig("network-cfg", environment).getNetwork();
+
+    // when
+    final var enabled = cfg.isNativeTransportEnabled();
+
+    // then
+    assertThat(enabled).isTrue();
+  }
+
+  @Test
+  void shouldUseDefaultFlushSettings() {
+    // given
+    final var cfg = TestConfigReader.readConfig("empty", Collections.emptyMap()).getNetwork();
+
+    // when
+    final var commandApi = cfg.getCommandApi();
+    final var internalApi = cfg.getInternalApi();
+
+    // then
+    assertThat(commandApi.getFlushWindow()).isEqualTo(Duration.ZERO);
+    assertThat(commandApi.getFlushThreshold()).isEqualTo(DataSize.ofKilobytes(64));
+    assertThat(internalApi.getFlushWindow()).isEqualTo(Duration.ZERO);
+    assertThat(internalApi.getFlushThreshold()).isEqualTo(DataSize.ofKilobytes(64));
+  }
+
+  @Test
+  void shouldSetFlushSettingsPerApiFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("network-cfg", Collections.emptyMap()).getNetwork();
+
+    // when
+    final var commandApi = cfg.getCommandApi();
+    final var internalApi = cfg.getInternalApi();
+
+    // then
+    assertThat(commandApi.getFlushWindow()).isEqualTo(Duration.ofMillis(5));
+    assertThat(commandApi.getFlushThreshold()).isEqualTo(DataSize.ofKilobytes(32));
+    assertThat(internalApi.getFlushWindow()).isEqualTo(Duration.ofMillis(1));
+    assertThat(internalApi.getFlushThreshold()).isEqualTo(DataSize.ofKilobytes(128));
+  }
+
+  @Test
+  void shouldSetFlushSettingsFromEnvironment() {
+    // given
+    final var environment =
+        Map.of(
+            "zeebe.broker.network.commandApi.flushWindow", "10ms",
+            "zeebe.broker.network.internalApi.flushThreshold", "1MB");
+    final var cfg = TestConfigReader.readConfig("network-cfg", environment).getNetwork();
+
+    // when
+    final var commandApi = cfg.getCommandApi();
+    final var internalApi = cfg.getInternalApi();
+
+    // then
+    assertThat(commandApi.getFlushWindow()).isEqualTo(Duration.ofMillis(10));
+    assertThat(internalApi.getFlushThreshold()).isEqualTo(DataSize.ofMegabytes(1));
+  }
+
+  @Test
+  void shouldRejectNegativeFlushWindow() {
+    // given
+    final var environment = Map.of("zeebe.broker.network.commandApi.flushWindow", "-1ms");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("network-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("flushWindow must be >= 0");
+  }
+
+  @Test
+  void shouldRejectEmptyFlushThreshold() {
+    // given
+    final var environment = Map.of("zeebe.broker.network.internalApi.flushThreshold", "0B");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("network-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("flushThreshold must be between 1B");
+  }
 }
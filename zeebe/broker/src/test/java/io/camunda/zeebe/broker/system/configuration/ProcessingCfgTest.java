@@ -80,6 +80,45 @@ final class ProcessingCfgTest {
         .hasMessageContaining("maxCommandsInBatch must be >= 1");
   }
 
+  @Test
+  void shouldDisableAdaptiveCommandBatchingByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final var enabled = cfg.isEnableAdaptiveCommandBatching();
+
+    // then
+    assertThat(enabled).isFalse();
+  }
+
+  @Test
+  void shouldSetAdaptiveCommandBatchingFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final var enabled = cfg.isEnableAdaptiveCommandBatching();
+
+    // then
+    assertThat(enabled).isTrue();
+  }
+
+  @Test
+  void shouldSetAdaptiveCommandBatchingFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.enableAdaptiveCommandBatching", "false");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final var enabled = cfg.isEnableAdaptiveCommandBatching();
+
+    // then
+    assertThat(enabled).isFalse();
+  }
+
   @Test
   void shouldEnableAsyncScheduledTasksByDefault() {
     // given
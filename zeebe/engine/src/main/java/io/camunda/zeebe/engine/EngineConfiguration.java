@@ -23,6 +23,7 @@ public final class EngineConfiguration {
   public static final int DEFAULT_DRG_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_FORM_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_PROCESS_CACHE_CAPACITY = 1000;
+  public static final int DEFAULT_ELEMENT_INSTANCE_CACHE_CAPACITY = 1000;
   public static final Duration DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL = Duration.ofSeconds(1);
   public static final int DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
   public static final int DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE = 12 * 1024;
@@ -32,6 +33,7 @@ public final class EngineConfiguration {
   private int drgCacheCapacity = DEFAULT_DRG_CACHE_CAPACITY;
   private int formCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
+  private int elementInstanceCacheCapacity = DEFAULT_ELEMENT_INSTANCE_CACHE_CAPACITY;
 
   private Duration jobsTimeoutCheckerPollingInterval = DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int jobsTimeoutCheckerBatchLimit = DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
@@ -85,6 +87,16 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public int getElementInstanceCacheCapacity() {
+    return elementInstanceCacheCapacity;
+  }
+
+  public EngineConfiguration setElementInstanceCacheCapacity(
+      final int elementInstanceCacheCapacity) {
+    this.elementInstanceCacheCapacity = elementInstanceCacheCapacity;
+    return this;
+  }
+
   public Duration getJobsTimeoutCheckerPollingInterval() {
     return jobsTimeoutCheckerPollingInterval;
   }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.engine.processing.variable;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.engine.state.immutable.VariableState;
 import io.camunda.zeebe.engine.state.variable.DocumentEntry;
+import io.camunda.zeebe.engine.state.variable.DocumentEntryReader;
 import io.camunda.zeebe.engine.state.variable.IndexedDocument;
 import io.camunda.zeebe.engine.state.variable.VariableInstance;
 import io.camunda.zeebe.protocol.impl.record.value.variable.VariableRecord;
@@ -32,6 +33,7 @@ public final class VariableBehavior {
   private final KeyGenerator keyGenerator;
 
   private final IndexedDocument indexedDocument = new IndexedDocument();
+  private final DocumentEntryReader documentReader = new DocumentEntryReader();
   private final VariableRecord variableRecord = new VariableRecord();
 
   public VariableBehavior(
@@ -52,6 +54,9 @@ public final class VariableBehavior {
    * <p>For all variables from the document which do not exist in the current scope, a {@code
    * Variable.CREATED} record is produced as a follow up event.
    *
+   * <p>The document is read in a single pass, and the follow up events are produced in the order
+   * in which the variables appear in the document.
+   *
    * @param scopeKey the scope key for each variable
    * @param processDefinitionKey the process key to be associated with each variable
    * @param processInstanceKey the process instance key to be associated with each variable
@@ -64,8 +69,7 @@ public final class VariableBehavior {
       final DirectBuffer bpmnProcessId,
       final String tenantId,
       final DirectBuffer document) {
-    indexedDocument.index(document);
-    if (indexedDocument.isEmpty()) {
+    if (documentReader.wrap(document) == 0) {
       return;
     }
 
@@ -75,8 +79,8 @@ public final class VariableBehavior {
         .setProcessInstanceKey(processInstanceKey)
         .setBpmnProcessId(bpmnProcessId)
         .setTenantId(tenantId);
-    for (final DocumentEntry entry : indexedDocument) {
-      applyEntryToRecord(entry);
+    while (documentReader.hasNext()) {
+      applyEntryToRecord(documentReader.next());
       setLocalVariable(variableRecord);
     }
   }
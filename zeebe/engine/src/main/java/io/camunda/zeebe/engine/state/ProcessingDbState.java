@@ -105,7 +105,9 @@ public class ProcessingDbState implements MutableProcessingState {
     variableState = new DbVariableState(zeebeDb, transactionContext);
     processState = new DbProcessState(zeebeDb, transactionContext, config);
     timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
-    elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
+    elementInstanceState =
+        new DbElementInstanceState(
+            zeebeDb, transactionContext, variableState, partitionId, config);
     eventScopeInstanceState = new DbEventScopeInstanceState(zeebeDb, transactionContext);
 
     deploymentState = new DbDeploymentState(zeebeDb, transactionContext);
@@ -137,6 +139,9 @@ public class ProcessingDbState implements MutableProcessingState {
     processMessageSubscriptionState.onRecovered(context);
     bannedInstanceState.onRecovered(context);
     messageState.onRecovered(context);
+    // processing starts after a role change, don't rely on anything cached before
+    elementInstanceState.clearCache();
+    jobState.rebuildActivatableJobsIndex();
   }
 
   @Override
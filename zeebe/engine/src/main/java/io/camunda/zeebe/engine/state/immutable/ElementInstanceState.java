@@ -80,4 +80,10 @@ public interface ElementInstanceState {
    * @return a boolean indicating if there are running instances
    */
   boolean hasActiveProcessInstances(long processDefinitionKey, final List<Long> bannedInstances);
+
+  /**
+   * Drops all cached element instances, such that they are read from the state again on the next
+   * access.
+   */
+  void clearCache();
 }
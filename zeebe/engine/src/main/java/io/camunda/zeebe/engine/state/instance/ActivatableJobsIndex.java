@@ -0,0 +1,276 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import io.camunda.zeebe.db.TransactionListener;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongPredicate;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Object2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * In-memory index of the activatable job keys by job type and tenant. It mirrors the {@code
+ * JOB_ACTIVATABLE} column family, such that jobs can be picked for activation without iterating
+ * over the column family.
+ *
+ * <p>The index is only maintained once it was built from the state with {@link #markBuilt()};
+ * before that, changes are ignored and it must not be queried. Changes which are made in a
+ * transaction are undone if the transaction is rolled back.
+ */
+final class ActivatableJobsIndex implements TransactionListener {
+
+  private final Object2ObjectHashMap<DirectBuffer, JobType> jobTypes =
+      new Object2ObjectHashMap<>();
+  private final UnsafeBuffer typeLookup = new UnsafeBuffer();
+  private final List<Change> uncommittedChanges = new ArrayList<>();
+  private boolean isBuilt;
+
+  boolean isBuilt() {
+    return isBuilt;
+  }
+
+  void markBuilt() {
+    isBuilt = true;
+  }
+
+  void clear() {
+    jobTypes.clear();
+    uncommittedChanges.clear();
+    isBuilt = false;
+  }
+
+  /** Adds the job to the index, without tracking it as change of the current transaction. */
+  void restore(final DirectBuffer type, final String tenantId, final long jobKey) {
+    getOrCreateJobType(type).add(tenantId, jobKey);
+  }
+
+  void add(final DirectBuffer type, final String tenantId, final long jobKey) {
+    if (!isBuilt) {
+      return;
+    }
+
+    final var jobType = getOrCreateJobType(type);
+    if (jobType.add(tenantId, jobKey)) {
+      uncommittedChanges.add(new Change(jobType, tenantId, jobKey, true));
+    }
+  }
+
+  void remove(final DirectBuffer type, final String tenantId, final long jobKey) {
+    if (!isBuilt) {
+      return;
+    }
+
+    final var jobType = getJobType(type);
+    if (jobType != null && jobType.remove(tenantId, jobKey)) {
+      uncommittedChanges.add(new Change(jobType, tenantId, jobKey, false));
+      removeIfEmpty(jobType);
+    }
+  }
+
+  /**
+   * Visits the activatable jobs of the given type which belong to one of the given tenants, in
+   * ascending order of their keys, until the visitor returns false.
+   */
+  void forEach(final DirectBuffer type, final List<String> tenantIds, final LongPredicate visitor) {
+    final var jobType = getJobType(type);
+    if (jobType == null) {
+      return;
+    }
+
+    if (tenantIds.size() == 1) {
+      final var jobKeys = jobType.jobKeysByTenant.get(tenantIds.get(0));
+      if (jobKeys != null) {
+        jobKeys.forEach(visitor);
+      }
+      return;
+    }
+
+    final List<JobKeys> tenantJobKeys = new ArrayList<>(tenantIds.size());
+    for (final String tenantId : tenantIds) {
+      final var jobKeys = jobType.jobKeysByTenant.get(tenantId);
+      if (jobKeys != null) {
+        tenantJobKeys.add(jobKeys);
+      }
+    }
+
+    // the keys of each tenant are sorted already, merge them to keep the order over all tenants
+    final var offsets = new int[tenantJobKeys.size()];
+    while (true) {
+      int next = -1;
+      long nextKey = Long.MAX_VALUE;
+      for (int i = 0; i < offsets.length; i++) {
+        final var jobKeys = tenantJobKeys.get(i);
+        if (offsets[i] < jobKeys.size() && (next == -1 || jobKeys.get(offsets[i]) < nextKey)) {
+          next = i;
+          nextKey = jobKeys.get(offsets[i]);
+        }
+      }
+
+      if (next == -1 || !visitor.test(nextKey)) {
+        return;
+      }
+      offsets[next]++;
+    }
+  }
+
+  @Override
+  public void onCommit() {
+    uncommittedChanges.clear();
+  }
+
+  @Override
+  public void onRollback() {
+    for (int i = uncommittedChanges.size() - 1; i >= 0; i--) {
+      final var change = uncommittedChanges.get(i);
+      final var jobType = change.jobType();
+      if (change.added()) {
+        jobType.remove(change.tenantId(), change.jobKey());
+        removeIfEmpty(jobType);
+      } else {
+        jobTypes.putIfAbsent(jobType.type, jobType);
+        jobType.add(change.tenantId(), change.jobKey());
+      }
+    }
+    uncommittedChanges.clear();
+  }
+
+  private JobType getJobType(final DirectBuffer type) {
+    typeLookup.wrap(type);
+    return jobTypes.get(typeLookup);
+  }
+
+  private JobType getOrCreateJobType(final DirectBuffer type) {
+    var jobType = getJobType(type);
+    if (jobType == null) {
+      // copy the type into the same buffer type as the lookup key, to keep them comparable
+      jobType = new JobType(new UnsafeBuffer(BufferUtil.bufferAsArray(type)));
+      jobTypes.put(jobType.type, jobType);
+    }
+    return jobType;
+  }
+
+  private void removeIfEmpty(final JobType jobType) {
+    if (jobType.jobKeysByTenant.isEmpty()) {
+      jobTypes.remove(jobType.type);
+    }
+  }
+
+  private static final class JobType {
+    private final DirectBuffer type;
+    private final Object2ObjectHashMap<String, JobKeys> jobKeysByTenant =
+        new Object2ObjectHashMap<>();
+
+    private JobType(final DirectBuffer type) {
+      this.type = type;
+    }
+
+    private boolean add(final String tenantId, final long jobKey) {
+      return jobKeysByTenant.computeIfAbsent(tenantId, id -> new JobKeys()).add(jobKey);
+    }
+
+    private boolean remove(final String tenantId, final long jobKey) {
+      final var jobKeys = jobKeysByTenant.get(tenantId);
+      if (jobKeys == null || !jobKeys.remove(jobKey)) {
+        return false;
+      }
+
+      if (jobKeys.isEmpty()) {
+        jobKeysByTenant.remove(tenantId);
+      }
+      return true;
+    }
+  }
+
+  /**
+   * A sorted set of job keys, stored in a primitive array to avoid boxing them. The keys are kept
+   * in the range from {@code start} to {@code end}. Since job keys are increasing, new jobs are
+   * usually appended, and the jobs which are activated first are usually removed by moving the
+   * start of the range.
+   */
+  private static final class JobKeys {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private int start;
+    private int end;
+
+    private int size() {
+      return end - start;
+    }
+
+    private boolean isEmpty() {
+      return start == end;
+    }
+
+    private long get(final int offset) {
+      return keys[start + offset];
+    }
+
+    private boolean add(final long key) {
+      int index = end;
+      if (!isEmpty() && keys[end - 1] >= key) {
+        index = Arrays.binarySearch(keys, start, end, key);
+        if (index >= 0) {
+          return false;
+        }
+        index = -index - 1;
+      }
+
+      final int offset = index - start;
+      ensureCapacity();
+      index = start + offset;
+      System.arraycopy(keys, index, keys, index + 1, end - index);
+      keys[index] = key;
+      end++;
+      return true;
+    }
+
+    private boolean remove(final long key) {
+      final int index = Arrays.binarySearch(keys, start, end, key);
+      if (index < 0) {
+        return false;
+      }
+
+      if (index == start) {
+        start++;
+      } else {
+        System.arraycopy(keys, index + 1, keys, index, end - index - 1);
+        end--;
+      }
+      return true;
+    }
+
+    private void forEach(final LongPredicate visitor) {
+      for (int i = start; i < end; i++) {
+        if (!visitor.test(keys[i])) {
+          return;
+        }
+      }
+    }
+
+    /** Makes room for one more key at the end, by moving the keys to the front or growing. */
+    private void ensureCapacity() {
+      if (end < keys.length) {
+        return;
+      }
+
+      final int size = size();
+      final long[] target = size < keys.length / 2 ? keys : new long[keys.length * 2];
+      System.arraycopy(keys, start, target, 0, size);
+      keys = target;
+      start = 0;
+      end = size;
+    }
+  }
+
+  private record Change(JobType jobType, String tenantId, long jobKey, boolean added) {}
+}
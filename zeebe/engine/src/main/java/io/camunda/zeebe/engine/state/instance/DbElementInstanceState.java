@@ -17,6 +17,8 @@ import io.camunda.zeebe.db.impl.DbInt;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.ElementInstanceCacheMetrics;
 import io.camunda.zeebe.engine.state.mutable.MutableElementInstanceState;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
@@ -33,7 +35,6 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.MutableInteger;
-import org.agrona.concurrent.UnsafeBuffer;
 
 public final class DbElementInstanceState implements MutableElementInstanceState {
 
@@ -45,6 +46,7 @@ public final class DbElementInstanceState implements MutableElementInstanceState
   private final DbLong elementInstanceKey;
   private final ElementInstance elementInstance;
   private final ColumnFamily<DbLong, ElementInstance> elementInstanceColumnFamily;
+  private final ElementInstanceCache elementInstanceCache;
 
   private final AwaitProcessInstanceResultMetadata awaitResultMetadata;
   private final ColumnFamily<DbLong, AwaitProcessInstanceResultMetadata>
@@ -76,7 +78,9 @@ public final class DbElementInstanceState implements MutableElementInstanceState
   public DbElementInstanceState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
-      final MutableVariableState variableState) {
+      final MutableVariableState variableState,
+      final int partitionId,
+      final EngineConfiguration config) {
 
     this.variableState = variableState;
 
@@ -105,6 +109,11 @@ public final class DbElementInstanceState implements MutableElementInstanceState
             transactionContext,
             elementInstanceKey,
             elementInstance);
+    elementInstanceCache =
+        new ElementInstanceCache(
+            config.getElementInstanceCacheCapacity(),
+            new ElementInstanceCacheMetrics(partitionId));
+    transactionContext.addTransactionListener(elementInstanceCache);
 
     awaitResultMetadata = new AwaitProcessInstanceResultMetadata();
     awaitProcessInstanceResultMetadataColumnFamily =
@@ -162,15 +171,16 @@ public final class DbElementInstanceState implements MutableElementInstanceState
 
   @Override
   public void removeInstance(final long key) {
-    elementInstanceKey.wrapLong(key);
-    final var instance = elementInstanceColumnFamily.get(elementInstanceKey);
+    final var instance = readInstance(key);
     if (instance == null) {
       return;
     }
     final long parent = instance.getParentKey();
+    elementInstanceKey.wrapLong(key);
     parentKey.inner().wrapLong(parent);
     parentChildColumnFamily.deleteIfExists(parentChildKey);
     elementInstanceColumnFamily.deleteExisting(elementInstanceKey);
+    elementInstanceCache.remove(key);
     variableState.removeScope(key);
     awaitProcessInstanceResultMetadataColumnFamily.deleteIfExists(elementInstanceKey);
     removeNumberOfTakenSequenceFlows(key);
@@ -183,8 +193,7 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     }
 
     if (parent > 0) {
-      elementInstanceKey.wrapLong(parent);
-      final var parentInstance = elementInstanceColumnFamily.get(elementInstanceKey);
+      final var parentInstance = readInstance(parent);
       if (parentInstance == null) {
         final var errorMsg =
             "Expected to find parent instance for element instance with key %d, but none was found.";
@@ -201,6 +210,7 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     parentKey.inner().wrapLong(instance.getParentKey());
 
     elementInstanceColumnFamily.insert(elementInstanceKey, instance);
+    elementInstanceCache.put(instance);
     parentChildColumnFamily.insert(parentChildKey, DbNil.INSTANCE);
     variableState.createScope(elementInstanceKey.getValue(), parentKey.inner().getValue());
 
@@ -217,12 +227,12 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     elementInstanceKey.wrapLong(scopeInstance.getKey());
     parentKey.inner().wrapLong(scopeInstance.getParentKey());
     elementInstanceColumnFamily.update(elementInstanceKey, scopeInstance);
+    elementInstanceCache.put(scopeInstance);
   }
 
   @Override
   public void updateInstance(final long key, final Consumer<ElementInstance> modifier) {
-    elementInstanceKey.wrapLong(key);
-    final var scopeInstance = elementInstanceColumnFamily.get(elementInstanceKey);
+    final var scopeInstance = readInstance(key);
     modifier.accept(scopeInstance);
     updateInstance(scopeInstance);
   }
@@ -294,9 +304,7 @@ public final class DbElementInstanceState implements MutableElementInstanceState
 
   @Override
   public ElementInstance getInstance(final long key) {
-    elementInstanceKey.wrapLong(key);
-    final ElementInstance elementInstance = elementInstanceColumnFamily.get(elementInstanceKey);
-    return copyElementInstance(elementInstance);
+    return readInstance(key);
   }
 
   @Override
@@ -311,9 +319,7 @@ public final class DbElementInstanceState implements MutableElementInstanceState
           (key, value) -> {
             final DbLong childKey = key.second().inner();
             final ElementInstance childInstance = getInstance(childKey.getValue());
-
-            final ElementInstance copiedElementInstance = copyElementInstance(childInstance);
-            children.add(copiedElementInstance);
+            children.add(childInstance);
           });
     }
     return children;
@@ -415,17 +421,19 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     return hasActiveInstances.get();
   }
 
-  private ElementInstance copyElementInstance(final ElementInstance elementInstance) {
-    if (elementInstance != null) {
-      final byte[] bytes = new byte[elementInstance.getLength()];
-      final UnsafeBuffer buffer = new UnsafeBuffer(bytes);
+  @Override
+  public void clearCache() {
+    elementInstanceCache.clear();
+  }
 
-      elementInstance.write(buffer, 0);
-      final ElementInstance copiedElementInstance = new ElementInstance();
-      copiedElementInstance.wrap(buffer, 0, elementInstance.getLength());
-      return copiedElementInstance;
-    }
-    return null;
+  /** Returns a copy of the element instance, which can be modified freely by the caller. */
+  private ElementInstance readInstance(final long key) {
+    return elementInstanceCache.get(key, this::loadInstance);
+  }
+
+  private ElementInstance loadInstance(final long key) {
+    elementInstanceKey.wrapLong(key);
+    return elementInstanceColumnFamily.get(elementInstanceKey);
   }
 
   private void removeNumberOfTakenSequenceFlows(final long flowScopeKey) {
@@ -24,6 +24,7 @@ import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.EnsureUtil;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
@@ -31,11 +32,13 @@ import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.LongHashSet;
+import org.agrona.collections.MutableBoolean;
 import org.slf4j.Logger;
 
 public final class DbJobState implements JobState, MutableJobState {
 
   private static final Logger LOG = Loggers.PROCESS_PROCESSOR_LOGGER;
+  private static final int ACTIVATABLE_JOBS_READ_BATCH_SIZE = 32;
 
   // key => job record value
   // we need two separate wrapper to not interfere with get and put
@@ -60,6 +63,10 @@ public final class DbJobState implements JobState, MutableJobState {
   private final ColumnFamily<
           DbTenantAwareKey<DbCompositeKey<DbString, DbForeignKey<DbLong>>>, DbNil>
       activatableColumnFamily;
+  private final ActivatableJobsIndex activatableJobsIndex = new ActivatableJobsIndex();
+  private final DbLong[] activatableJobKeys = new DbLong[ACTIVATABLE_JOBS_READ_BATCH_SIZE];
+  private final List<DbLong> activatableJobKeysToRead =
+      new ArrayList<>(ACTIVATABLE_JOBS_READ_BATCH_SIZE);
 
   // timeout => key
   private final DbLong deadlineKey;
@@ -96,6 +103,10 @@ public final class DbJobState implements JobState, MutableJobState {
             transactionContext,
             tenantAwareTypeJobKey,
             DbNil.INSTANCE);
+    transactionContext.addTransactionListener(activatableJobsIndex);
+    for (int i = 0; i < activatableJobKeys.length; i++) {
+      activatableJobKeys[i] = new DbLong();
+    }
 
     deadlineKey = new DbLong();
     deadlineJobKey = new DbCompositeKey<>(deadlineKey, fkJob);
@@ -277,6 +288,18 @@ public final class DbJobState implements JobState, MutableJobState {
     updateJobRecord(key, record);
   }
 
+  @Override
+  public void rebuildActivatableJobsIndex() {
+    activatableJobsIndex.clear();
+    activatableColumnFamily.forEach(
+        (key, value) ->
+            activatableJobsIndex.restore(
+                key.wrappedKey().first().getBuffer(),
+                key.tenantKey().toString(),
+                key.wrappedKey().second().inner().getValue()));
+    activatableJobsIndex.markBuilt();
+  }
+
   @Override
   public void restoreBackoff() {
     final var jobsWithBackoff = new LongHashSet();
@@ -407,8 +430,12 @@ public final class DbJobState implements JobState, MutableJobState {
       final DirectBuffer type,
       final List<String> tenantIds,
       final BiFunction<Long, JobRecord, Boolean> callback) {
-    jobTypeKey.wrapBuffer(type);
+    if (activatableJobsIndex.isBuilt()) {
+      forEachIndexedActivatableJob(type, tenantIds, callback);
+      return;
+    }
 
+    jobTypeKey.wrapBuffer(type);
     activatableColumnFamily.whileEqualPrefix(
         jobTypeKey,
         ((tenantAwareCompositeKey, zbNil) -> {
@@ -423,6 +450,53 @@ public final class DbJobState implements JobState, MutableJobState {
         }));
   }
 
+  /**
+   * Reads the jobs found in the index in batches, which is cheaper than reading them one by one.
+   * Since the callback can stop at any job, a batch is only read when its jobs are needed.
+   */
+  private void forEachIndexedActivatableJob(
+      final DirectBuffer type,
+      final List<String> tenantIds,
+      final BiFunction<Long, JobRecord, Boolean> callback) {
+    activatableJobKeysToRead.clear();
+    activatableJobsIndex.forEach(
+        type,
+        tenantIds,
+        key -> {
+          final var jobKeyToRead = activatableJobKeys[activatableJobKeysToRead.size()];
+          jobKeyToRead.wrapLong(key);
+          activatableJobKeysToRead.add(jobKeyToRead);
+          if (activatableJobKeysToRead.size() < ACTIVATABLE_JOBS_READ_BATCH_SIZE) {
+            return true;
+          }
+
+          final boolean shouldContinue = visitJobs(activatableJobKeysToRead, callback);
+          activatableJobKeysToRead.clear();
+          return shouldContinue;
+        });
+
+    if (!activatableJobKeysToRead.isEmpty()) {
+      visitJobs(activatableJobKeysToRead, callback);
+      activatableJobKeysToRead.clear();
+    }
+  }
+
+  private boolean visitJobs(
+      final List<DbLong> jobKeys, final BiFunction<Long, JobRecord, Boolean> callback) {
+    final var shouldContinue = new MutableBoolean(true);
+    jobsColumnFamily.multiGet(
+        jobKeys,
+        (key, job) -> {
+          if (job == null) {
+            LOG.warn("Expected to find job with key {}, but no job found", key.getValue());
+            return true; // we want to continue with the iteration
+          }
+          shouldContinue.set(callback.apply(key.getValue(), job.getRecord()));
+          return shouldContinue.get();
+        });
+    return shouldContinue.get();
+  }
+
   @Override
   public JobRecord getJob(final long key) {
     jobKey.wrapLong(key);
@@ -510,6 +584,7 @@ public final class DbJobState implements JobState, MutableJobState {
     // Need to upsert here because jobs can be marked as failed (and thus made activatable)
     // without activating them first
     activatableColumnFamily.upsert(tenantAwareTypeJobKey, DbNil.INSTANCE);
+    activatableJobsIndex.add(type, tenantId, key);
   }
 
   private void makeJobNotActivatable(final DirectBuffer type, final String tenantId) {
@@ -519,6 +594,7 @@ public final class DbJobState implements JobState, MutableJobState {
     jobTypeKey.wrapBuffer(type);
     tenantIdKey.wrapString(tenantId);
     activatableColumnFamily.deleteIfExists(tenantAwareTypeJobKey);
+    activatableJobsIndex.remove(type, tenantId, jobKey.getValue());
   }
 
   private void addJobDeadline(final long job, final long deadline) {
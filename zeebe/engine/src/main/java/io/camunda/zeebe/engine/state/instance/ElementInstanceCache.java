@@ -0,0 +1,120 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.camunda.zeebe.db.TransactionListener;
+import io.camunda.zeebe.engine.metrics.ElementInstanceCacheMetrics;
+import java.util.function.LongFunction;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Read-through cache of serialized element instances. Instances which are written in the current
+ * transaction are kept aside and only become visible to the shared cache once the transaction is
+ * committed, such that a rollback can never leave uncommitted state in the cache.
+ *
+ * <p>Every lookup returns a new {@link ElementInstance}, which the caller is free to modify. As
+ * copying an instance means decoding it anyway, the instances are kept serialized: a hit decodes
+ * the cached bytes, and saves reading the instance from the state and serializing it.
+ */
+final class ElementInstanceCache implements TransactionListener {
+
+  /** Marks an instance which was removed in the current transaction. */
+  private static final DirectBuffer REMOVED = new UnsafeBuffer(new byte[0]);
+
+  private final Cache<Long, DirectBuffer> committedInstances;
+  private final Long2ObjectHashMap<DirectBuffer> uncommittedInstances = new Long2ObjectHashMap<>();
+  private final ElementInstanceCacheMetrics metrics;
+
+  ElementInstanceCache(final int capacity, final ElementInstanceCacheMetrics metrics) {
+    committedInstances = CacheBuilder.newBuilder().maximumSize(capacity).build();
+    this.metrics = metrics;
+  }
+
+  /**
+   * Returns a copy of the element instance with the given key. If the instance is not cached, it
+   * is read with the given loader and added to the cache.
+   *
+   * @param key the key of the element instance
+   * @param loader reads the element instance from the state, returns {@code null} if it doesn't
+   *     exist; the returned instance is not retained
+   * @return a copy of the element instance, or {@code null} if it doesn't exist
+   */
+  ElementInstance get(final long key, final LongFunction<ElementInstance> loader) {
+    final var uncommitted = uncommittedInstances.get(key);
+    if (uncommitted != null) {
+      metrics.countHit();
+      return uncommitted == REMOVED ? null : read(uncommitted);
+    }
+
+    final var committed = committedInstances.getIfPresent(key);
+    if (committed != null) {
+      metrics.countHit();
+      return read(committed);
+    }
+
+    metrics.countMiss();
+    final var instance = loader.apply(key);
+    if (instance == null) {
+      return null;
+    }
+
+    // all writes of the current transaction are tracked as uncommitted, so anything we read from
+    // the state here was already committed before
+    final var serialized = serialize(instance);
+    committedInstances.put(key, serialized);
+    return read(serialized);
+  }
+
+  void put(final ElementInstance instance) {
+    uncommittedInstances.put(instance.getKey(), serialize(instance));
+  }
+
+  void remove(final long key) {
+    uncommittedInstances.put(key, REMOVED);
+  }
+
+  void clear() {
+    uncommittedInstances.clear();
+    committedInstances.invalidateAll();
+  }
+
+  @Override
+  public void onCommit() {
+    uncommittedInstances.forEachLong(
+        (key, instance) -> {
+          if (instance == REMOVED) {
+            committedInstances.invalidate(key);
+          } else {
+            committedInstances.put(key, instance);
+          }
+        });
+    uncommittedInstances.clear();
+  }
+
+  @Override
+  public void onRollback() {
+    uncommittedInstances.clear();
+  }
+
+  private static DirectBuffer serialize(final ElementInstance instance) {
+    final var buffer = new UnsafeBuffer(new byte[instance.getLength()]);
+    instance.write(buffer, 0);
+    return buffer;
+  }
+
+  private static ElementInstance read(final DirectBuffer serialized) {
+    // the serialized buffer is never modified, so the copy can safely keep referencing it
+    final var instance = new ElementInstance();
+    instance.wrap(serialized, 0, serialized.capacity());
+    return instance;
+  }
+}
@@ -47,4 +47,10 @@ public interface MutableJobState extends JobState {
   void migrate(long key, JobRecord record);
 
   void restoreBackoff();
+
+  /**
+   * Builds the in-memory index of activatable jobs from the state. From then on, the index is kept
+   * up to date and used to find activatable jobs, instead of iterating over the state.
+   */
+  void rebuildActivatableJobsIndex();
 }
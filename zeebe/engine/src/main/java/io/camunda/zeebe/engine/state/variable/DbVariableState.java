@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.state.variable;
 
 import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
@@ -26,8 +27,6 @@ import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
-import org.agrona.MutableDirectBuffer;
-import org.agrona.collections.MutableInteger;
 import org.agrona.collections.ObjectHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -54,7 +53,28 @@ public class DbVariableState implements MutableVariableState {
 
   // collecting variables
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
+  private final List<DirectBuffer> collectedVariableNameViews = new ArrayList<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
+  private int collectedVariableCount;
+
+  // the visitors are created once, as building the documents happens for almost every command
+  private final Predicate<DbString> notYetCollectedFilter =
+      name -> !collectedVariables.contains(name.getBuffer());
+  private final BiConsumer<DbString, VariableInstance> collectedVariableWriter =
+      this::writeCollectedVariable;
+  private final Predicate<DbString> toCollectFilter =
+      name -> variablesToCollect.contains(name.getBuffer());
+  private final BiConsumer<DbString, VariableInstance> toCollectVariableWriter =
+      this::writeVariableToCollect;
+  private final BooleanSupplier allCollectedCondition = variablesToCollect::isEmpty;
+  private final BiConsumer<DbString, VariableInstance> localVariableWriter =
+      this::writeLocalVariable;
+  private final KeyValuePairVisitor<DbCompositeKey<DbLong, DbString>, VariableInstance>
+      variableVisitor = this::visitVariable;
+  private Predicate<DbString> variableFilter;
+  private BiConsumer<DbString, VariableInstance> variableConsumer;
+  private BooleanSupplier completionCondition;
+  private boolean visitCompleted;
 
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
@@ -196,24 +216,12 @@ public class DbVariableState implements MutableVariableState {
   public DirectBuffer getVariablesAsDocument(final long scopeKey) {
 
     collectedVariables.clear();
+    collectedVariableCount = 0;
     writer.wrap(documentResultBuffer, 0);
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> !collectedVariables.contains(name.getBuffer()),
-        (name, value) -> {
-          final DirectBuffer variableNameBuffer = name.getBuffer();
-          writer.writeString(variableNameBuffer);
-          writer.writeRaw(value.getValue());
-
-          // must create a new name wrapper, because we keep them all in the hashset at the same
-          // time
-          final MutableDirectBuffer nameView = new UnsafeBuffer(variableNameBuffer);
-          collectedVariables.add(nameView);
-        },
-        () -> false);
+    visitVariables(scopeKey, notYetCollectedFilter, collectedVariableWriter, () -> false);
 
     writer.writeReservedMapHeader(0, collectedVariables.size());
 
@@ -232,16 +240,7 @@ public class DbVariableState implements MutableVariableState {
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
-
-          variablesToCollect.remove(name.getBuffer());
-        },
-        variablesToCollect::isEmpty);
+    visitVariables(scopeKey, toCollectFilter, toCollectVariableWriter, allCollectedCondition);
 
     writer.writeReservedMapHeader(0, names.size() - variablesToCollect.size());
 
@@ -254,19 +253,10 @@ public class DbVariableState implements MutableVariableState {
     writer.wrap(documentResultBuffer, 0);
     writer.reserveMapHeader();
 
-    final MutableInteger variableCount = new MutableInteger();
-    visitVariablesLocal(
-        scopeKey,
-        name -> true,
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
-
-          variableCount.addAndGet(1);
-        },
-        () -> false);
+    collectedVariableCount = 0;
+    visitVariablesLocal(scopeKey, name -> true, localVariableWriter, () -> false);
 
-    writer.writeReservedMapHeader(0, variableCount.get());
+    writer.writeReservedMapHeader(0, collectedVariableCount);
 
     resultView.wrap(documentResultBuffer, 0, writer.getOffset());
     return resultView;
@@ -351,18 +341,53 @@ public class DbVariableState implements MutableVariableState {
       final BiConsumer<DbString, VariableInstance> variableConsumer,
       final BooleanSupplier completionCondition) {
     this.scopeKey.wrapLong(scopeKey);
+    this.variableFilter = variableFilter;
+    this.variableConsumer = variableConsumer;
+    this.completionCondition = completionCondition;
+    visitCompleted = false;
+
+    variablesColumnFamily.whileEqualPrefix(this.scopeKey, variableVisitor);
+    return visitCompleted;
+  }
 
-    variablesColumnFamily.whileEqualPrefix(
-        this.scopeKey,
-        (compositeKey, variable) -> {
-          final DbString name = compositeKey.second();
+  private boolean visitVariable(
+      final DbCompositeKey<DbLong, DbString> compositeKey, final VariableInstance variable) {
+    final DbString name = compositeKey.second();
+
+    if (variableFilter.test(name)) {
+      variableConsumer.accept(name, variable);
+    }
+
+    visitCompleted = completionCondition.getAsBoolean();
+    return !visitCompleted;
+  }
+
+  private void writeCollectedVariable(final DbString name, final VariableInstance variable) {
+    final DirectBuffer variableNameBuffer = name.getBuffer();
+    writer.writeString(variableNameBuffer);
+    writer.writeRaw(variable.getValue());
+
+    // we keep all names in the hash set at the same time, so each one needs its own view; the
+    // views are pooled and reused across documents
+    if (collectedVariableCount == collectedVariableNameViews.size()) {
+      collectedVariableNameViews.add(new UnsafeBuffer());
+    }
+    final DirectBuffer nameView = collectedVariableNameViews.get(collectedVariableCount++);
+    nameView.wrap(variableNameBuffer);
+    collectedVariables.add(nameView);
+  }
+
+  private void writeVariableToCollect(final DbString name, final VariableInstance variable) {
+    writer.writeString(name.getBuffer());
+    writer.writeRaw(variable.getValue());
+
+    variablesToCollect.remove(name.getBuffer());
+  }
 
-          if (variableFilter.test(name)) {
-            variableConsumer.accept(name, variable);
-          }
+  private void writeLocalVariable(final DbString name, final VariableInstance variable) {
+    writer.writeString(name.getBuffer());
+    writer.writeRaw(variable.getValue());
 
-          return !completionCondition.getAsBoolean();
-        });
-    return false;
+    collectedVariableCount++;
   }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Reads the entries of a MsgPack document in a single forward pass, in the order in which they
+ * appear in the document. Contrary to {@link IndexedDocument}, no offsets are collected upfront, so
+ * this is the cheaper choice whenever every entry is visited exactly once and none are removed.
+ *
+ * <p>This class is meant to be mutable and reusable: wrap a document, read it fully, then wrap the
+ * next one. The same {@link DocumentEntry} instance is returned on every {@link #next()} call, and
+ * it only wraps the original document, so clone it if you need to keep it around.
+ *
+ * <p>As with {@link DocumentEntryIterator}, keys are expected to be strings and are exposed without
+ * their MsgPack length header, while values are kept as is.
+ */
+public final class DocumentEntryReader implements Iterator<DocumentEntry> {
+
+  private final MsgPackReader reader;
+  private final DocumentEntry entry = new DocumentEntry();
+  private final DirectBuffer document = new UnsafeBuffer();
+
+  private int remainingEntries;
+
+  public DocumentEntryReader() {
+    this(new MsgPackReader());
+  }
+
+  public DocumentEntryReader(final MsgPackReader reader) {
+    this.reader = reader;
+  }
+
+  /**
+   * Wraps the given document and reads its map header; entries are only read on {@link #next()}.
+   *
+   * @param document the MsgPack document to read, which must be a map
+   * @return the number of entries in the document
+   */
+  public int wrap(final DirectBuffer document) {
+    this.document.wrap(document);
+    reader.wrap(document, 0, document.capacity());
+    remainingEntries = reader.readMapHeader();
+    return remainingEntries;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return remainingEntries > 0;
+  }
+
+  @Override
+  public DocumentEntry next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    final int nameLength = reader.readStringLength();
+    final int nameOffset = reader.getOffset();
+    reader.skipBytes(nameLength);
+
+    final int valueOffset = reader.getOffset();
+    reader.skipValue();
+    final int valueLength = reader.getOffset() - valueOffset;
+
+    remainingEntries--;
+    entry.wrap(document, nameOffset, nameLength, valueOffset, valueLength);
+    return entry;
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.state.instance.DbElementInstanceState;
+import io.camunda.zeebe.engine.state.variable.DbVariableState;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Measures reading element instances through the element instance cache, once when every lookup
+ * hits the cache, and once when every lookup misses it, as the cache has no capacity. The cache
+ * keeps the instances serialized, so a hit still decodes the instance into a new copy; a miss
+ * additionally reads the instance from the state and serializes it.
+ *
+ * <p>Both are run with the {@link GCProfiler} to compare {@code gc.alloc.rate.norm}, i.e. the
+ * bytes allocated per lookup.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ElementInstanceCachePerformanceTest {
+
+  private static final int INSTANCE_COUNT = 100;
+  private static final long FIRST_INSTANCE_KEY = 1;
+
+  private File stateDirectory;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private DbElementInstanceState cachedState;
+  private DbElementInstanceState uncachedState;
+  private long nextInstanceKey = FIRST_INSTANCE_KEY;
+
+  @Setup
+  public void setup() throws Exception {
+    stateDirectory = Files.createTempDirectory("element-instance-cache-perf").toFile();
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(stateDirectory);
+    transactionContext = zeebeDb.createContext();
+    final var variableState = new DbVariableState(zeebeDb, transactionContext);
+    cachedState =
+        new DbElementInstanceState(
+            zeebeDb,
+            transactionContext,
+            variableState,
+            Protocol.DEPLOYMENT_PARTITION,
+            new EngineConfiguration().setElementInstanceCacheCapacity(INSTANCE_COUNT));
+    uncachedState =
+        new DbElementInstanceState(
+            zeebeDb,
+            transactionContext,
+            variableState,
+            Protocol.DEPLOYMENT_PARTITION,
+            new EngineConfiguration().setElementInstanceCacheCapacity(0));
+
+    final var record =
+        new ProcessInstanceRecord()
+            .setBpmnProcessId("process")
+            .setProcessDefinitionKey(1)
+            .setVersion(1)
+            .setElementId("task")
+            .setBpmnElementType(BpmnElementType.SERVICE_TASK);
+    transactionContext.runInTransaction(
+        () -> {
+          for (long key = FIRST_INSTANCE_KEY; key < FIRST_INSTANCE_KEY + INSTANCE_COUNT; key++) {
+            record.setProcessInstanceKey(key);
+            cachedState.newInstance(key, record, ProcessInstanceIntent.ELEMENT_ACTIVATED);
+          }
+        });
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    try (final var files = Files.walk(stateDirectory.toPath())) {
+      files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  @Benchmark
+  public void measureCacheHit(final Blackhole blackhole) {
+    final long key = nextInstanceKey();
+    transactionContext.runInTransaction(() -> blackhole.consume(cachedState.getInstance(key)));
+  }
+
+  @Benchmark
+  public void measureCacheMiss(final Blackhole blackhole) {
+    final long key = nextInstanceKey();
+    transactionContext.runInTransaction(() -> blackhole.consume(uncachedState.getInstance(key)));
+  }
+
+  @JMHTest("measureCacheHit")
+  void shouldAllocateLessOnCacheHitThanOnCacheMiss(final JMHTestCase testCase) {
+    // given
+    final var referenceResult =
+        JMHTestCase.of(getClass(), "measureCacheMiss", b -> b.addProfiler(GCProfiler.class)).run();
+
+    // when
+    final var assertResult = testCase.withOptions(b -> b.addProfiler(GCProfiler.class)).run();
+
+    // then
+    assertResult.allocatesLessThan(referenceResult, 0.1);
+  }
+
+  private long nextInstanceKey() {
+    final long key = nextInstanceKey;
+    nextInstanceKey = key + 1 < FIRST_INSTANCE_KEY + INSTANCE_COUNT ? key + 1 : FIRST_INSTANCE_KEY;
+    return key;
+  }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.engine.state.variable.DbVariableState;
+import io.camunda.zeebe.engine.state.variable.VariableInstance;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.ObjectHashSet;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Measures the allocations of collecting the variables of a scope and its parent scope into a
+ * document, as it happens e.g. for every activated job. Half of the variables of the child scope
+ * shadow variables of the parent scope, such that these must be deduplicated.
+ *
+ * <p>The document is read once through {@link DbVariableState#getVariablesAsDocument(long)}, and
+ * once through {@link PreviousDocumentReader}, the previous implementation of the same operation,
+ * which serves as the reference. Both are run with the {@link GCProfiler} to compare {@code
+ * gc.alloc.rate.norm}, i.e. the bytes allocated per document.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class VariableDocumentPerformanceTest {
+
+  private static final int VARIABLE_COUNT = 100;
+  private static final long PARENT_SCOPE_KEY = 1;
+  private static final long CHILD_SCOPE_KEY = 2;
+  private static final long PROCESS_DEFINITION_KEY = 3;
+
+  private File stateDirectory;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private DbVariableState variableState;
+  private PreviousDocumentReader previousDocumentReader;
+
+  @Setup
+  public void setup() throws Exception {
+    stateDirectory = Files.createTempDirectory("variable-document-perf").toFile();
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(stateDirectory);
+    transactionContext = zeebeDb.createContext();
+    variableState = new DbVariableState(zeebeDb, transactionContext);
+    previousDocumentReader = new PreviousDocumentReader(zeebeDb, transactionContext);
+
+    transactionContext.runInTransaction(
+        () -> {
+          variableState.createScope(PARENT_SCOPE_KEY, VariableState.NO_PARENT);
+          variableState.createScope(CHILD_SCOPE_KEY, PARENT_SCOPE_KEY);
+
+          long key = 10;
+          for (int i = 0; i < VARIABLE_COUNT; i++) {
+            final var name = BufferUtil.wrapString("var" + i);
+            final var value = MsgPackUtil.asMsgPack("index", i);
+            variableState.setVariableLocal(
+                key++, PARENT_SCOPE_KEY, PROCESS_DEFINITION_KEY, name, value);
+            if (i % 2 == 0) {
+              variableState.setVariableLocal(
+                  key++, CHILD_SCOPE_KEY, PROCESS_DEFINITION_KEY, name, value);
+            }
+          }
+        });
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    try (final var files = Files.walk(stateDirectory.toPath())) {
+      files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  @Benchmark
+  public void measureDocumentRead(final Blackhole blackhole) {
+    transactionContext.runInTransaction(
+        () -> blackhole.consume(variableState.getVariablesAsDocument(CHILD_SCOPE_KEY)));
+  }
+
+  @Benchmark
+  public void measurePreviousDocumentRead(final Blackhole blackhole) {
+    transactionContext.runInTransaction(
+        () -> blackhole.consume(previousDocumentReader.getVariablesAsDocument(CHILD_SCOPE_KEY)));
+  }
+
+  @JMHTest("measureDocumentRead")
+  void shouldAllocateLessThanPreviousDocumentRead(final JMHTestCase testCase) {
+    // given
+    final var referenceResult =
+        JMHTestCase.of(
+                getClass(), "measurePreviousDocumentRead", b -> b.addProfiler(GCProfiler.class))
+            .run();
+
+    // when
+    final var assertResult = testCase.withOptions(b -> b.addProfiler(GCProfiler.class)).run();
+
+    // then
+    assertResult.allocatesLessThan(referenceResult, 0.2);
+  }
+
+  /**
+   * {@link DbVariableState#getVariablesAsDocument(long)} as it was implemented before the visitors
+   * were created once and the name views were pooled, i.e. it allocates the visitors on every call
+   * and a name view for every collected variable.
+   */
+  private static final class PreviousDocumentReader {
+
+    private final MsgPackWriter writer = new MsgPackWriter();
+    private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
+    private final DirectBuffer resultView = new UnsafeBuffer(0, 0);
+    private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
+
+    private final ColumnFamily<DbCompositeKey<DbLong, DbString>, VariableInstance>
+        variablesColumnFamily;
+    private final DbLong scopeKey = new DbLong();
+    private final VariableState variableState;
+
+    private PreviousDocumentReader(
+        final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      variablesColumnFamily =
+          zeebeDb.createColumnFamily(
+              ZbColumnFamilies.VARIABLES,
+              transactionContext,
+              new DbCompositeKey<>(scopeKey, new DbString()),
+              new VariableInstance());
+      variableState = new DbVariableState(zeebeDb, transactionContext);
+    }
+
+    private DirectBuffer getVariablesAsDocument(final long scopeKey) {
+      collectedVariables.clear();
+      writer.wrap(documentResultBuffer, 0);
+
+      writer.reserveMapHeader();
+
+      visitVariables(
+          scopeKey,
+          name -> !collectedVariables.contains(name.getBuffer()),
+          (name, value) -> {
+            final DirectBuffer variableNameBuffer = name.getBuffer();
+            writer.writeString(variableNameBuffer);
+            writer.writeRaw(value.getValue());
+
+            final MutableDirectBuffer nameView = new UnsafeBuffer(variableNameBuffer);
+            collectedVariables.add(nameView);
+          },
+          () -> false);
+
+      writer.writeReservedMapHeader(0, collectedVariables.size());
+
+      resultView.wrap(documentResultBuffer, 0, writer.getOffset());
+      return resultView;
+    }
+
+    private void visitVariables(
+        final long scopeKey,
+        final Predicate<DbString> filter,
+        final BiConsumer<DbString, VariableInstance> variableConsumer,
+        final BooleanSupplier completionCondition) {
+      long currentScope = scopeKey;
+
+      do {
+        visitVariablesLocal(currentScope, filter, variableConsumer, completionCondition);
+
+        currentScope = variableState.getParentScopeKey(currentScope);
+
+      } while (currentScope >= 0);
+    }
+
+    private void visitVariablesLocal(
+        final long scopeKey,
+        final Predicate<DbString> variableFilter,
+        final BiConsumer<DbString, VariableInstance> variableConsumer,
+        final BooleanSupplier completionCondition) {
+      this.scopeKey.wrapLong(scopeKey);
+
+      variablesColumnFamily.whileEqualPrefix(
+          this.scopeKey,
+          (compositeKey, variable) -> {
+            final DbString name = compositeKey.second();
+
+            if (variableFilter.test(name)) {
+              variableConsumer.accept(name, variable);
+            }
+
+            return !completionCondition.getAsBoolean();
+          });
+    }
+  }
+}
@@ -512,6 +512,78 @@ public final class ElementInstanceStateTest {
     assertThat(metadata.getRequestStreamId()).isEqualTo(streamId);
   }
 
+  @Test
+  public void shouldNotFindInstanceCreatedInRolledBackTransaction() throws Exception {
+    // given
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(
+        () ->
+            elementInstanceState.newInstance(
+                100, createProcessInstanceRecord(), ProcessInstanceIntent.ELEMENT_ACTIVATED));
+    assertThat(elementInstanceState.getInstance(100)).isNotNull();
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(elementInstanceState.getInstance(100)).isNull();
+  }
+
+  @Test
+  public void shouldNotFindInstanceUpdatedInRolledBackTransaction() throws Exception {
+    // given
+    elementInstanceState.newInstance(
+        100, createProcessInstanceRecord(), ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(
+        () ->
+            elementInstanceState.updateInstance(
+                100, instance -> instance.setState(ProcessInstanceIntent.ELEMENT_COMPLETING)));
+    assertThat(elementInstanceState.getInstance(100).getState())
+        .isEqualTo(ProcessInstanceIntent.ELEMENT_COMPLETING);
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(elementInstanceState.getInstance(100).getState())
+        .isEqualTo(ProcessInstanceIntent.ELEMENT_ACTIVATED);
+  }
+
+  @Test
+  public void shouldFindInstanceUpdatedInCommittedTransaction() throws Exception {
+    // given
+    elementInstanceState.newInstance(
+        100, createProcessInstanceRecord(), ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(
+        () ->
+            elementInstanceState.updateInstance(
+                100, instance -> instance.setState(ProcessInstanceIntent.ELEMENT_COMPLETING)));
+
+    // when
+    transaction.commit();
+    elementInstanceState.clearCache();
+
+    // then
+    assertThat(elementInstanceState.getInstance(100).getState())
+        .isEqualTo(ProcessInstanceIntent.ELEMENT_COMPLETING);
+  }
+
+  @Test
+  public void shouldNotShareInstancesBetweenLookups() {
+    // given
+    elementInstanceState.newInstance(
+        100, createProcessInstanceRecord(), ProcessInstanceIntent.ELEMENT_ACTIVATED);
+
+    // when
+    elementInstanceState.getInstance(100).setState(ProcessInstanceIntent.ELEMENT_COMPLETING);
+
+    // then
+    assertThat(elementInstanceState.getInstance(100).getState())
+        .isEqualTo(ProcessInstanceIntent.ELEMENT_ACTIVATED);
+  }
+
   private void assertElementInstance(final ElementInstance elementInstance, final int childCount) {
     Assertions.assertThat(elementInstance.getKey()).isEqualTo(100);
     Assertions.assertThat(elementInstance.getState())
@@ -770,6 +770,86 @@ public final class JobStateTest {
     refuteListedAsTimedOut(key, jobRecord.getDeadline() + 1);
   }
 
+  @Test
+  public void shouldListActivatableJobsFromRebuiltIndex() {
+    // given
+    final JobRecord jobRecord = newJobRecord();
+    final JobRecord otherTenantJobRecord = newJobRecord("other-tenant");
+    jobState.create(3L, jobRecord);
+    jobState.create(1L, otherTenantJobRecord);
+
+    // when
+    jobState.rebuildActivatableJobsIndex();
+    jobState.create(2L, jobRecord);
+
+    // then
+    assertThat(
+            getActivatableKeys(
+                jobRecord.getTypeBuffer(), jobRecord.getTenantId(), "other-tenant"))
+        .containsExactly(1L, 2L, 3L);
+    assertThat(getActivatableKeys(jobRecord.getTypeBuffer(), "other-tenant")).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldNotListActivatedJobFromRebuiltIndex() {
+    // given
+    final JobRecord jobRecord = newJobRecord();
+    jobState.create(1L, jobRecord);
+    jobState.rebuildActivatableJobsIndex();
+
+    // when
+    jobState.activate(1L, jobRecord);
+
+    // then
+    refuteListedAsActivatable(1L, jobRecord.getTypeBuffer());
+  }
+
+  @Test
+  public void shouldUndoIndexChangesOnRollback() throws Exception {
+    // given
+    final JobRecord jobRecord = newJobRecord();
+    jobState.create(1L, jobRecord);
+    jobState.rebuildActivatableJobsIndex();
+
+    // when
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(
+        () -> {
+          jobState.activate(1L, jobRecord);
+          jobState.create(2L, jobRecord);
+        });
+    transaction.rollback();
+
+    // then
+    assertThat(getActivatableKeys(jobRecord.getTypeBuffer(), jobRecord.getTenantId()))
+        .containsExactly(1L);
+  }
+
+  @Test
+  public void shouldKeepIndexedJobsSortedWhenManyAreAddedAndRemoved() {
+    // given
+    final JobRecord jobRecord = newJobRecord();
+    jobState.rebuildActivatableJobsIndex();
+    for (long key = 100; key >= 1; key--) {
+      jobState.create(key, jobRecord);
+    }
+
+    // when
+    for (long key = 1; key <= 100; key += 2) {
+      jobState.activate(key, jobRecord);
+    }
+    jobState.create(101L, jobRecord);
+
+    // then
+    final List<Long> expectedKeys = new ArrayList<>();
+    for (long key = 2; key <= 100; key += 2) {
+      expectedKeys.add(key);
+    }
+    expectedKeys.add(101L);
+    assertThat(getActivatableKeys(jobRecord.getTypeBuffer(), jobRecord.getTenantId()))
+        .containsExactlyElementsOf(expectedKeys);
+  }
+
   private void createAndActivateJobRecord(final long key, final JobRecord record) {
     jobState.create(key, record);
     jobState.activate(key, record);
@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.Test;
+
+final class DocumentEntryReaderTest {
+
+  private final DocumentEntryReader reader = new DocumentEntryReader();
+
+  @Test
+  void shouldReadEntriesInDocumentOrder() {
+    // given
+    final DirectBuffer document =
+        MsgPackUtil.encodeMsgPack(
+            b ->
+                b.packMapHeader(3)
+                    .packString("foo")
+                    .packString("bar")
+                    .packString("nested")
+                    .packMapHeader(1)
+                    .packString("x")
+                    .packInt(1)
+                    .packString("baz")
+                    .packArrayHeader(2)
+                    .packInt(1)
+                    .packInt(2));
+
+    // when
+    final int size = reader.wrap(document);
+
+    // then
+    assertThat(size).isEqualTo(3);
+    assertThat(collectEntries())
+        .containsExactly(
+            entry("foo", MsgPackUtil.encodeMsgPack(b -> b.packString("bar"))),
+            entry("nested", MsgPackUtil.asMsgPack(Map.of("x", 1))),
+            entry(
+                "baz",
+                MsgPackUtil.encodeMsgPack(b -> b.packArrayHeader(2).packInt(1).packInt(2))));
+  }
+
+  @Test
+  void shouldReadEmptyDocument() {
+    // when
+    final int size = reader.wrap(MsgPackUtil.asMsgPack(Map.of()));
+
+    // then
+    assertThat(size).isZero();
+    assertThat(reader.hasNext()).isFalse();
+    assertThatThrownBy(reader::next).isInstanceOf(NoSuchElementException.class);
+  }
+
+  @Test
+  void shouldWrapNewDocument() {
+    // given
+    reader.wrap(MsgPackUtil.asMsgPack(Map.of("foo", "bar", "baz", "buz")));
+    reader.next();
+
+    // when
+    reader.wrap(MsgPackUtil.asMsgPack(Map.of("x", 1)));
+
+    // then
+    assertThat(collectEntries())
+        .containsExactly(entry("x", MsgPackUtil.encodeMsgPack(b -> b.packInt(1))));
+  }
+
+  private List<DocumentEntry> collectEntries() {
+    final List<DocumentEntry> entries = new ArrayList<>();
+    while (reader.hasNext()) {
+      final DocumentEntry entry = reader.next();
+      entries.add(
+          new DocumentEntry(
+              BufferUtil.cloneBuffer(entry.getName()), BufferUtil.cloneBuffer(entry.getValue())));
+    }
+    return entries;
+  }
+
+  private DocumentEntry entry(final String name, final DirectBuffer value) {
+    return new DocumentEntry(BufferUtil.wrapString(name), value);
+  }
+}
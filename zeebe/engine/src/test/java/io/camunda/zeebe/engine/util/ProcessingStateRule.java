@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.util;
 
+import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
@@ -25,6 +26,7 @@ public final class ProcessingStateRule extends ExternalResource {
   private final int partition;
   private ZeebeDb<ZbColumnFamilies> db;
   private MutableProcessingState processingState;
+  private TransactionContext transactionContext;
 
   public ProcessingStateRule() {
     this(Protocol.DEPLOYMENT_PARTITION);
@@ -39,13 +41,13 @@ public final class ProcessingStateRule extends ExternalResource {
     tempFolder.create();
     db = createNewDb();
 
-    final var context = db.createContext();
-    final var keyGenerator = new DbKeyGenerator(partition, db, context);
+    transactionContext = db.createContext();
+    final var keyGenerator = new DbKeyGenerator(partition, db, transactionContext);
     processingState =
         new ProcessingDbState(
             partition,
             db,
-            context,
+            transactionContext,
             keyGenerator,
             new TransientPendingSubscriptionState(),
             new TransientPendingSubscriptionState(),
@@ -66,6 +68,10 @@ public final class ProcessingStateRule extends ExternalResource {
     return processingState;
   }
 
+  public TransactionContext getTransactionContext() {
+    return transactionContext;
+  }
+
   public ZeebeDb<ZbColumnFamilies> createNewDb() {
     try {
 
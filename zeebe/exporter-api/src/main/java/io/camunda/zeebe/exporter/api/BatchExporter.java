@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.exporter.api;
+
+import io.camunda.zeebe.exporter.api.context.Controller;
+import io.camunda.zeebe.protocol.record.Record;
+
+/**
+ * An exporter which exports the records of a batch at once, instead of being called once for every
+ * record. When an exporter implements this interface, {@link #exportBatch(RecordCursor)} is called
+ * instead of {@link #export(Record)}, which is only expected to be called by tools which export
+ * single records, e.g. in tests.
+ */
+public interface BatchExporter extends Exporter {
+
+  /**
+   * Called with batches of consecutive records to be exported. Once a record is guaranteed to have
+   * been exported, implementations should call {@link
+   * Controller#updateLastExportedRecordPosition(long)} to signal that this record should not be
+   * received here ever again.
+   *
+   * <p>Should the method throw an unexpected {@link RuntimeException}, it will be called again with
+   * the remainder of the batch, starting with the record which was last returned by the cursor,
+   * until it terminates without any exception. The records returned before that one are considered
+   * to have been passed to the exporter successfully, and are not returned again. It is up to the
+   * implementation to handle errors properly, to implement retry strategies, etc.
+   *
+   * @param records the cursor over the records to export
+   */
+  void exportBatch(RecordCursor records);
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.exporter.api;
+
+import io.camunda.zeebe.protocol.record.Record;
+
+/**
+ * A cursor over a batch of records, which are passed to {@link BatchExporter#exportBatch}. It only
+ * returns the records which the exporter accepts with its record filter, in the order in which they
+ * were written to the log.
+ *
+ * <p>The cursor reuses the returned record views. A record is only valid until {@link #next()} is
+ * called again, or the batch was exported. Similar to {@link Exporter#export(Record)}, if the
+ * implementation needs to collect multiple records it either has to call {@link Record#toJson()}
+ * to get the serialized version of the record or {@link Record#clone()} to get a deep copy.
+ */
+public interface RecordCursor {
+
+  /**
+   * @return true if there is another record in the batch, false otherwise
+   */
+  boolean hasNext();
+
+  /**
+   * Moves the cursor to the next record of the batch. It should only be called if {@link
+   * #hasNext()} returns true.
+   *
+   * @return the next record
+   * @throws java.util.NoSuchElementException if there is no next record
+   */
+  Record<?> next();
+}
@@ -17,6 +17,7 @@ package io.camunda.zeebe.exporter.api.context;
 
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
 import org.slf4j.Logger;
 
 /** Encapsulates context associated with the exporter on open. */
@@ -67,5 +68,20 @@ public interface Context {
      * @return {@code true} if records with this type of value should be exported.
      */
     boolean acceptValue(ValueType valueType);
+
+    /**
+     * Should export records with the given intent? Only called for records of an accepted type and
+     * value type.
+     *
+     * <p>Like the other filters, this is evaluated on the metadata of the record before its value
+     * is deserialized, so rejecting intents which the exporter ignores avoids deserializing these
+     * records.
+     *
+     * @param intent the intent of the record.
+     * @return {@code true} if records with this intent should be exported.
+     */
+    default boolean acceptIntent(final Intent intent) {
+      return true;
+    }
   }
 }
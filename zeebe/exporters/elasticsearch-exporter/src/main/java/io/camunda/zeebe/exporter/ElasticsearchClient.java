@@ -27,11 +27,16 @@ import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.prometheus.client.Histogram;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.http.entity.EntityTemplate;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 
 class ElasticsearchClient implements AutoCloseable {
@@ -41,7 +46,8 @@ class ElasticsearchClient implements AutoCloseable {
   private final ElasticsearchExporterConfiguration configuration;
   private final TemplateReader templateReader;
   private final RecordIndexRouter indexRouter;
-  private final BulkIndexRequest bulkIndexRequest;
+  private final Deque<BulkIndexRequest> releasedBulks = new ArrayDeque<>();
+  private BulkIndexRequest bulkIndexRequest;
 
   private ElasticsearchMetrics metrics;
 
@@ -118,6 +124,83 @@ class ElasticsearchClient implements AutoCloseable {
     }
   }
 
+  /**
+   * Hands over the current bulk request, unless it's empty, so that it can be sent asynchronously
+   * via {@link #sendBulkAsync(BulkIndexRequest)}. Records are then indexed into a bulk request which
+   * was released via {@link #releaseBulk(BulkIndexRequest)}, or into a new one if there is none.
+   *
+   * @return the current bulk request, or null if it's empty
+   */
+  BulkIndexRequest takeBulk() {
+    if (bulkIndexRequest.isEmpty()) {
+      return null;
+    }
+
+    metrics.recordBulkSize(bulkIndexRequest.size());
+    metrics.recordBulkMemorySize(bulkIndexRequest.memoryUsageBytes());
+
+    final var bulk = bulkIndexRequest;
+    final var releasedBulk = releasedBulks.poll();
+    bulkIndexRequest = releasedBulk != null ? releasedBulk : new BulkIndexRequest();
+    return bulk;
+  }
+
+  /**
+   * Hands back a bulk request which was flushed successfully, so that its buffer is reused for the
+   * next bulk instead of allocating and growing a new one.
+   *
+   * @param bulk the flushed bulk request, as returned by {@link #takeBulk()}
+   */
+  void releaseBulk(final BulkIndexRequest bulk) {
+    bulk.clear();
+    releasedBulks.push(bulk);
+  }
+
+  /**
+   * Sends the given bulk request to Elastic without blocking. The returned future is completed from
+   * the thread of the rest client. It fails with an {@link ElasticsearchExporterException} if not
+   * all items of the bulk were flushed successfully, in which case the same bulk request can be
+   * sent again.
+   *
+   * @param bulk the bulk request to send, as returned by {@link #takeBulk()}
+   * @return a future which is completed once all items of the bulk were flushed
+   */
+  CompletableFuture<Void> sendBulkAsync(final BulkIndexRequest bulk) {
+    final var result = new CompletableFuture<Void>();
+    final Histogram.Timer timer = metrics.measureFlushDuration();
+
+    client.performRequestAsync(
+        createBulkRequest(bulk),
+        new ResponseListener() {
+          @Override
+          public void onSuccess(final Response response) {
+            try {
+              final var bulkResponse = readResponse(response, BulkIndexResponse.class);
+              if (bulkResponse.errors()) {
+                onBulkFailed(collectBulkError(bulkResponse));
+              } else {
+                timer.observeDuration();
+                result.complete(null);
+              }
+            } catch (final IOException e) {
+              onBulkFailed(new ElasticsearchExporterException("Failed to flush bulk", e));
+            }
+          }
+
+          @Override
+          public void onFailure(final Exception exception) {
+            onBulkFailed(new ElasticsearchExporterException("Failed to flush bulk", exception));
+          }
+
+          private void onBulkFailed(final ElasticsearchExporterException failure) {
+            metrics.recordFailedFlush();
+            result.completeExceptionally(failure);
+          }
+        });
+
+    return result;
+  }
+
   /**
    * Returns whether the exporter should call {@link #flush()} or not.
    *
@@ -156,22 +239,25 @@ class ElasticsearchClient implements AutoCloseable {
   private void exportBulk() {
     final BulkIndexResponse response;
     try {
-      final var request = new Request("POST", "/_bulk");
-      final var body = new EntityTemplate(bulkIndexRequest);
-      body.setContentType("application/x-ndjson");
-      request.setEntity(body);
-
-      response = sendRequest(request, BulkIndexResponse.class);
+      response = sendRequest(createBulkRequest(bulkIndexRequest), BulkIndexResponse.class);
     } catch (final IOException e) {
       throw new ElasticsearchExporterException("Failed to flush bulk", e);
     }
 
     if (response.errors()) {
-      throwCollectedBulkError(response);
+      throw collectBulkError(response);
     }
   }
 
-  private void throwCollectedBulkError(final BulkIndexResponse bulkResponse) {
+  private Request createBulkRequest(final BulkIndexRequest bulk) {
+    final var request = new Request("POST", "/_bulk");
+    final var body = new EntityTemplate(bulk);
+    body.setContentType("application/x-ndjson");
+    request.setEntity(body);
+    return request;
+  }
+
+  private ElasticsearchExporterException collectBulkError(final BulkIndexResponse bulkResponse) {
     final var collectedErrors = new ArrayList<String>();
     bulkResponse.items().stream()
         .flatMap(item -> Optional.ofNullable(item.index()).stream())
@@ -184,7 +270,7 @@ class ElasticsearchClient implements AutoCloseable {
                         "Failed to flush %d item(s) of bulk request [type: %s, reason: %s]",
                         errors.size(), errorType, errors.get(0).reason())));
 
-    throw new ElasticsearchExporterException("Failed to flush bulk request: " + collectedErrors);
+    return new ElasticsearchExporterException("Failed to flush bulk request: " + collectedErrors);
   }
 
   private boolean putIndexTemplate(final String templateName, final Template template) {
@@ -247,7 +333,11 @@ class ElasticsearchClient implements AutoCloseable {
   }
 
   private <T> T sendRequest(final Request request, final Class<T> responseType) throws IOException {
-    final var response = client.performRequest(request);
+    return readResponse(client.performRequest(request), responseType);
+  }
+
+  private <T> T readResponse(final Response response, final Class<T> responseType)
+      throws IOException {
     // buffer the complete response in memory before parsing it; this will give us a better error
     // message which contains the raw response should the deserialization fail
     final var responseBody = response.getEntity().getContent().readAllBytes();
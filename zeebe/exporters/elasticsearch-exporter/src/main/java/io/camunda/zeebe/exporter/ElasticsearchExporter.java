@@ -10,8 +10,9 @@ package io.camunda.zeebe.exporter;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.zeebe.exporter.ElasticsearchExporterConfiguration.IndexConfiguration;
-import io.camunda.zeebe.exporter.api.Exporter;
+import io.camunda.zeebe.exporter.api.BatchExporter;
 import io.camunda.zeebe.exporter.api.ExporterException;
+import io.camunda.zeebe.exporter.api.RecordCursor;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.protocol.record.Record;
@@ -21,12 +22,17 @@ import java.io.IOException;
 import java.time.Duration;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future.State;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class ElasticsearchExporter implements Exporter {
+public class ElasticsearchExporter implements BatchExporter {
 
   /**
    * Supported pattern for min_age property of ILM, we only support: days, hours, minutes and
@@ -51,6 +57,7 @@ public class ElasticsearchExporter implements Exporter {
   private ElasticsearchExporterConfiguration configuration;
   private ElasticsearchClient client;
   private ElasticsearchRecordCounters recordCounters;
+  private final Deque<InFlightBulk> inFlightBulks = new ArrayDeque<>();
 
   private long lastPosition = -1;
   private boolean indexTemplatesCreated;
@@ -89,6 +96,7 @@ public class ElasticsearchExporter implements Exporter {
   public void close() {
 
     try {
+      awaitInFlightBulks();
       flush();
       updateLastExportedPosition();
     } catch (final Exception e) {
@@ -104,19 +112,59 @@ public class ElasticsearchExporter implements Exporter {
     log.info("Exporter closed");
   }
 
+  /**
+   * Indexes all records of the batch into the current bulk. Without pipelining, the bulk is flushed
+   * synchronously at most once per batch, after its last record was indexed, instead of after any
+   * record which fills it up; a bulk may thus exceed its limits by the records of one batch. With
+   * pipelining, a full bulk is still sent as soon as possible, as sending it doesn't block.
+   */
+  @Override
+  public void exportBatch(final RecordCursor records) {
+    while (records.hasNext()) {
+      final var record = records.next();
+      export(record, !records.hasNext());
+    }
+  }
+
   @Override
   public void export(final Record<?> record) {
+    export(record, true);
+  }
+
+  private void export(final Record<?> record, final boolean mayFlush) {
     if (!indexTemplatesCreated) {
       createIndexTemplates();
 
       updateRetentionPolicyForExistingIndices();
     }
 
+    if (isPipelined()) {
+      // Fail before indexing the record, so that the director retries the export with a backoff
+      // and the record is indexed with the same record sequence.
+      final var failure = acknowledgeCompletedBulks();
+      if (failure != null) {
+        throw new ElasticsearchExporterException("Failed to flush bulk, retrying it", failure);
+      }
+      if (isInFlightWindowFull() && client.shouldFlush()) {
+        // the current bulk is full, but can't be sent yet; don't let it grow beyond its limits
+        throw new ElasticsearchExporterException(
+            String.format(
+                "Expected to send the full bulk, but %d bulks are still in flight; retrying",
+                inFlightBulks.size()));
+      }
+    }
+
     final var recordSequence = recordCounters.getNextRecordSequence(record);
     client.index(record, recordSequence);
     lastPosition = record.getPosition();
 
-    if (client.shouldFlush()) {
+    if (isPipelined()) {
+      // A failed bulk is resent as a whole, so the record counters can be updated immediately.
+      recordCounters.updateRecordCounters(record, recordSequence);
+      if (client.shouldFlush() && !isInFlightWindowFull()) {
+        sendBulk();
+      }
+    } else if (mayFlush && client.shouldFlush()) {
       flush();
       // Update the record counters only after the flush was successful. If the synchronous flush
       // fails then the exporter will be invoked with the same record again.
@@ -138,6 +186,13 @@ public class ElasticsearchExporter implements Exporter {
               configuration.index.prefix));
     }
 
+    if (configuration.bulk.maxInFlightRequests < 1) {
+      throw new ExporterException(
+          String.format(
+              "Elasticsearch bulk maxInFlightRequests must be >= 1. Current value: %d",
+              configuration.bulk.maxInFlightRequests));
+    }
+
     if (configuration.bulk.memoryLimit > RECOMMENDED_MAX_BULK_MEMORY_LIMIT) {
       log.warn(
           "The bulk memory limit is set to more than {} bytes. It is recommended to set the limit between 5 to 15 MB.",
@@ -185,8 +240,18 @@ public class ElasticsearchExporter implements Exporter {
 
   private void flushAndReschedule() {
     try {
-      flush();
-      updateLastExportedPosition();
+      if (isPipelined()) {
+        final var failure = acknowledgeCompletedBulks();
+        if (failure != null) {
+          log.warn("Failed to flush bulk, retrying it.", failure);
+        }
+        if (!isInFlightWindowFull()) {
+          sendBulk();
+        }
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
@@ -202,6 +267,72 @@ public class ElasticsearchExporter implements Exporter {
     client.flush();
   }
 
+  private boolean isPipelined() {
+    return configuration.bulk.maxInFlightRequests > 1;
+  }
+
+  private boolean isInFlightWindowFull() {
+    return inFlightBulks.size() >= configuration.bulk.maxInFlightRequests;
+  }
+
+  /**
+   * Sends the current bulk asynchronously, unless it's empty. It never waits for a response: the
+   * caller has to make sure that the max number of bulks is not in flight yet.
+   */
+  private void sendBulk() {
+    final var bulk = client.takeBulk();
+    if (bulk == null) {
+      return;
+    }
+
+    exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
+    final var metadata = serializeExporterMetadata(exporterMetadata);
+    inFlightBulks.addLast(
+        new InFlightBulk(bulk, lastPosition, metadata, client.sendBulkAsync(bulk)));
+  }
+
+  /**
+   * Updates the last exported position to the last bulk of the contiguous range of flushed bulks
+   * at the head of the in-flight bulks. Bulks flushed after a bulk which is still in flight, or
+   * which failed, are only acknowledged once that bulk is flushed. A failed bulk is resent.
+   *
+   * @return the failure of the oldest bulk, or null if it didn't fail
+   */
+  private Throwable acknowledgeCompletedBulks() {
+    InFlightBulk lastFlushedBulk = null;
+    Throwable failure = null;
+
+    while (!inFlightBulks.isEmpty()) {
+      final var bulk = inFlightBulks.getFirst();
+      final var state = bulk.response.state();
+      if (state == State.SUCCESS) {
+        lastFlushedBulk = inFlightBulks.removeFirst();
+        client.releaseBulk(lastFlushedBulk.request);
+      } else {
+        if (state == State.FAILED) {
+          failure = bulk.response.exceptionNow();
+          bulk.response = client.sendBulkAsync(bulk.request);
+        }
+        break;
+      }
+    }
+
+    if (lastFlushedBulk != null) {
+      controller.updateLastExportedRecordPosition(
+          lastFlushedBulk.position, lastFlushedBulk.metadata);
+    }
+
+    return failure;
+  }
+
+  private void awaitInFlightBulks() {
+    inFlightBulks.forEach(InFlightBulk::awaitResponse);
+    final var failure = acknowledgeCompletedBulks();
+    if (failure != null) {
+      throw new ElasticsearchExporterException("Failed to flush bulk", failure);
+    }
+  }
+
   private void updateLastExportedPosition() {
     exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
     final var serializeExporterMetadata = serializeExporterMetadata(exporterMetadata);
@@ -372,6 +503,33 @@ public class ElasticsearchExporter implements Exporter {
     }
   }
 
+  /** A bulk which was sent asynchronously, along with the export progress it acknowledges. */
+  private static final class InFlightBulk {
+    private final BulkIndexRequest request;
+    private final long position;
+    private final byte[] metadata;
+    private CompletableFuture<Void> response;
+
+    private InFlightBulk(
+        final BulkIndexRequest request,
+        final long position,
+        final byte[] metadata,
+        final CompletableFuture<Void> response) {
+      this.request = request;
+      this.position = position;
+      this.metadata = metadata;
+      this.response = response;
+    }
+
+    private void awaitResponse() {
+      try {
+        response.join();
+      } catch (final CompletionException e) {
+        // the failure is handled when the bulk is acknowledged
+      }
+    }
+  }
+
   private static class ElasticsearchRecordFilter implements Context.RecordFilter {
 
     private final ElasticsearchExporterConfiguration configuration;
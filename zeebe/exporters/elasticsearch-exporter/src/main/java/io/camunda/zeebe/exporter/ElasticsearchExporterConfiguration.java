@@ -313,6 +313,9 @@ public class ElasticsearchExporterConfiguration {
     public int size = 1_000;
     // memory limit of the bulk in bytes before flush
     public int memoryLimit = 10 * 1024 * 1024;
+    // number of bulk requests which may be in flight at the same time; with 1, the bulk requests
+    // are flushed synchronously
+    public int maxInFlightRequests = 1;
 
     @Override
     public String toString() {
@@ -323,6 +326,8 @@ public class ElasticsearchExporterConfiguration {
           + size
           + ", memoryLimit="
           + memoryLimit
+          + ", maxInFlightRequests="
+          + maxInFlightRequests
           + '}';
     }
   }
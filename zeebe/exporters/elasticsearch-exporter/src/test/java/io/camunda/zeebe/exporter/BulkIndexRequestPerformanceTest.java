@@ -0,0 +1,116 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonAppend;
+import io.camunda.zeebe.exporter.dto.BulkIndexAction;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordValue;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Compares serializing a bulk of records into the {@link BulkIndexRequest} buffer with the previous
+ * approach, which serialized each record into its own byte array first and copied it into the HTTP
+ * entity when sending the bulk. Both write the bulk to a discarding output stream, so the benchmark
+ * measures the serialization and copying only. Both are run with the {@link GCProfiler} to compare
+ * {@code gc.alloc.rate.norm}, i.e. the bytes allocated per bulk.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class BulkIndexRequestPerformanceTest {
+
+  private static final int BULK_SIZE = 1_000;
+  private static final ObjectMapper MAPPER =
+      new ObjectMapper().addMixIn(Record.class, RecordSequenceMixin.class);
+
+  private final BulkIndexRequest request = new BulkIndexRequest();
+  private final OutputStream output = OutputStream.nullOutputStream();
+  private List<Record<RecordValue>> records;
+  private List<BulkIndexAction> actions;
+
+  @Setup
+  public void setup() {
+    records = new ProtocolFactory().generateRecords().limit(BULK_SIZE).toList();
+    actions =
+        IntStream.range(0, BULK_SIZE)
+            .mapToObj(i -> new BulkIndexAction("index", "id-" + i, "routing"))
+            .toList();
+  }
+
+  @Benchmark
+  public int measureBufferedBulk() throws IOException {
+    for (int i = 0; i < BULK_SIZE; i++) {
+      request.index(actions.get(i), records.get(i), new RecordSequence(1, i));
+    }
+
+    final int size = request.size();
+    request.writeTo(output);
+    request.clear();
+    return size;
+  }
+
+  @Benchmark
+  public int measureByteArrayPerRecord() throws IOException {
+    final List<byte[]> sources = new ArrayList<>(BULK_SIZE);
+    for (int i = 0; i < BULK_SIZE; i++) {
+      sources.add(
+          MAPPER.writer().withAttribute("sequence", (long) i).writeValueAsBytes(records.get(i)));
+    }
+
+    for (int i = 0; i < BULK_SIZE; i++) {
+      MAPPER.writeValue(output, actions.get(i));
+      output.write('\n');
+      output.write(sources.get(i));
+      output.write('\n');
+    }
+    return sources.size();
+  }
+
+  @JMHTest("measureBufferedBulk")
+  void shouldAllocateLessThanByteArrayPerRecord(final JMHTestCase testCase) {
+    // given
+    final var referenceResult =
+        JMHTestCase.of(
+                getClass(), "measureByteArrayPerRecord", b -> b.addProfiler(GCProfiler.class))
+            .run();
+
+    // when
+    final var assertResult = testCase.withOptions(b -> b.addProfiler(GCProfiler.class)).run();
+
+    // then
+    assertResult.allocatesLessThan(referenceResult, 0.2);
+  }
+
+  @JsonAppend(attrs = {@JsonAppend.Attr(value = "sequence")})
+  private static final class RecordSequenceMixin {}
+}
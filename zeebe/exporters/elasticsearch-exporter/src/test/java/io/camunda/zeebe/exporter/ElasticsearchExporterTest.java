@@ -20,6 +20,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.exporter.api.ExporterException;
+import io.camunda.zeebe.exporter.api.RecordCursor;
 import io.camunda.zeebe.exporter.api.context.Context.RecordFilter;
 import io.camunda.zeebe.exporter.test.ExporterTestConfiguration;
 import io.camunda.zeebe.exporter.test.ExporterTestContext;
@@ -31,6 +32,7 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -311,6 +313,169 @@ final class ElasticsearchExporterTest {
           .isInstanceOf(ElasticsearchExporterException.class);
       assertThat(controller.getPosition()).isEqualTo(-1L);
     }
+
+    @Test
+    void shouldFlushOnlyOnceAfterLastRecordOfBatch() {
+      // given
+      exporter.configure(context);
+      exporter.open(controller);
+      when(client.shouldFlush()).thenReturn(true);
+      final List<Record<?>> records = List.of(newRecord(10L), newRecord(20L), newRecord(30L));
+
+      // when
+      exporter.exportBatch(cursorOf(records));
+
+      // then
+      verify(client, times(3)).index(any(), any());
+      verify(client, times(1)).flush();
+      assertThat(controller.getPosition()).isEqualTo(30L);
+    }
+
+    private Record<?> newRecord(final long position) {
+      return ImmutableRecord.builder()
+          .withPosition(position)
+          .withValueType(ValueType.PROCESS_INSTANCE)
+          .build();
+    }
+
+    private RecordCursor cursorOf(final List<Record<?>> records) {
+      final var iterator = records.iterator();
+      return new RecordCursor() {
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public Record<?> next() {
+          return iterator.next();
+        }
+      };
+    }
+  }
+
+  @Nested
+  final class PipelinedFlushTest {
+    private final BulkIndexRequest firstBulk = new BulkIndexRequest();
+    private final BulkIndexRequest secondBulk = new BulkIndexRequest();
+    private final CompletableFuture<Void> firstResponse = new CompletableFuture<>();
+    private final CompletableFuture<Void> secondResponse = new CompletableFuture<>();
+
+    @BeforeEach
+    void beforeEach() {
+      config.bulk.maxInFlightRequests = 2;
+      exporter.configure(context);
+      exporter.open(controller);
+
+      when(client.shouldFlush()).thenReturn(true);
+      when(client.takeBulk()).thenReturn(firstBulk, secondBulk, null);
+      when(client.sendBulkAsync(any())).thenReturn(firstResponse, secondResponse);
+    }
+
+    @Test
+    void shouldSendBulkWithoutWaitingForResponse() {
+      // when
+      exporter.export(newRecord(10L));
+      exporter.export(newRecord(20L));
+
+      // then
+      verify(client).sendBulkAsync(firstBulk);
+      verify(client).sendBulkAsync(secondBulk);
+      verify(client, never()).flush();
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+    }
+
+    @Test
+    void shouldUpdateLastExportedPositionOnceBulkIsAcknowledged() {
+      // given
+      exporter.export(newRecord(10L));
+
+      // when
+      firstResponse.complete(null);
+      controller.runScheduledTasks(Duration.ofSeconds(config.bulk.delay));
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(10L);
+    }
+
+    @Test
+    void shouldOnlyAcknowledgeContiguousBulks() {
+      // given
+      exporter.export(newRecord(10L));
+      exporter.export(newRecord(20L));
+
+      // when
+      secondResponse.complete(null);
+      controller.runScheduledTasks(Duration.ofSeconds(config.bulk.delay));
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+
+      // when
+      firstResponse.complete(null);
+      controller.runScheduledTasks(Duration.ofSeconds(config.bulk.delay));
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(20L);
+    }
+
+    @Test
+    void shouldResendFailedBulk() {
+      // given
+      exporter.export(newRecord(10L));
+
+      // when
+      firstResponse.completeExceptionally(new ElasticsearchExporterException("failed to flush"));
+
+      // then
+      assertThatCode(() -> exporter.export(newRecord(20L)))
+          .isInstanceOf(ElasticsearchExporterException.class);
+      verify(client, times(2)).sendBulkAsync(firstBulk);
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+    }
+
+    @Test
+    void shouldNotIndexIntoFullBulkWhileMaxBulksAreInFlight() {
+      // given
+      exporter.export(newRecord(10L));
+      exporter.export(newRecord(20L));
+
+      // when
+      assertThatCode(() -> exporter.export(newRecord(30L)))
+          .isInstanceOf(ElasticsearchExporterException.class);
+
+      // then
+      verify(client, times(2)).index(any(), any());
+      verify(client, times(2)).sendBulkAsync(any());
+
+      // when
+      firstResponse.complete(null);
+      exporter.export(newRecord(30L));
+
+      // then
+      verify(client, times(3)).index(any(), any());
+      assertThat(controller.getPosition()).isEqualTo(10L);
+    }
+
+    @Test
+    void shouldAwaitInFlightBulksOnClose() {
+      // given
+      exporter.export(newRecord(10L));
+      firstResponse.complete(null);
+
+      // when
+      exporter.close();
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(10L);
+    }
+
+    private Record<?> newRecord(final long position) {
+      return ImmutableRecord.builder()
+          .withPosition(position)
+          .withValueType(ValueType.PROCESS_INSTANCE)
+          .build();
+    }
   }
 
   @Nested
@@ -360,6 +525,16 @@ final class ElasticsearchExporterTest {
           .hasMessageContaining("Examples are: 'yyyy-MM-dd' or 'yyyy-MM-dd_HH'");
     }
 
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(ints = {-1, 0})
+    void shouldForbidNonPositiveMaxInFlightRequests(final int invalidMaxInFlightRequests) {
+      // given
+      config.bulk.maxInFlightRequests = invalidMaxInFlightRequests;
+
+      // when - then
+      assertThatCode(() -> exporter.configure(context)).isInstanceOf(ExporterException.class);
+    }
+
     @Test
     void shouldForbidNegativeNumberOfReplicas() {
       // given
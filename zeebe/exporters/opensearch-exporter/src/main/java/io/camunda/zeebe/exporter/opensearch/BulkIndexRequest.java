@@ -9,19 +9,27 @@ package io.camunda.zeebe.exporter.opensearch;
 
 import com.fasterxml.jackson.core.JsonParser.Feature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.annotation.JsonAppend;
 import io.camunda.zeebe.exporter.opensearch.dto.BulkIndexAction;
 import io.camunda.zeebe.protocol.record.Record;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import org.agrona.ExpandableArrayBuffer;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.ContentProducer;
+import org.apache.http.entity.ContentType;
 
 /**
  * Buffers indexing requests of records. Each bulk operation is serialized before being buffered to
  * avoid having to serialize it again on retry.
+ *
+ * <p>The operations are serialized as nd-json directly into a single growable buffer, which is
+ * written as is to the HTTP entity, instead of allocating an intermediate byte array per record.
+ * The buffer is reused once the request is cleared.
  */
 final class BulkIndexRequest implements ContentProducer {
 
@@ -29,11 +37,13 @@ final class BulkIndexRequest implements ContentProducer {
       new ObjectMapper()
           .addMixIn(Record.class, RecordSequenceMixin.class)
           .enable(Feature.ALLOW_SINGLE_QUOTES);
+  private static final ObjectWriter WRITER = MAPPER.writer();
 
   // The property of the ES record template to store the sequence of the record.
   private static final String RECORD_SEQUENCE_PROPERTY = "sequence";
 
-  private final List<BulkOperation> operations = new ArrayList<>();
+  private final List<BufferedOperation> operations = new ArrayList<>();
+  private final BufferOutputStream buffer = new BufferOutputStream();
 
   private BulkIndexAction lastIndexedMetadata;
   private int memoryUsageBytes = 0;
@@ -55,31 +65,36 @@ final class BulkIndexRequest implements ContentProducer {
       return;
     }
 
-    final byte[] source;
+    final int operationOffset = buffer.position();
+    final int sourceOffset;
     try {
-      source = serializeRecord(record, recordSequence);
-
+      WRITER.writeValue(buffer, action);
+      buffer.write('\n');
+      sourceOffset = buffer.position();
+      serializeRecord(record, recordSequence);
+      buffer.write('\n');
     } catch (final IOException e) {
+      // drop the partially written operation, such that the record can be indexed again
+      buffer.reset(operationOffset);
       throw new OpensearchExporterException(
           String.format("Failed to serialize record to JSON for indexing action %s", action), e);
     }
 
-    final BulkOperation command = new BulkOperation(action, source);
-    memoryUsageBytes += command.source().length;
+    final int sourceLength = buffer.position() - sourceOffset - 1;
+    memoryUsageBytes += sourceLength;
     lastIndexedMetadata = action;
-    operations.add(command);
+    operations.add(new BufferedOperation(action, sourceOffset, sourceLength));
   }
 
-  private static byte[] serializeRecord(final Record<?> record, final RecordSequence recordSequence)
+  private void serializeRecord(final Record<?> record, final RecordSequence recordSequence)
       throws IOException {
-    return MAPPER
-        .writer()
+    WRITER
         // Enhance the serialized record by its sequence number. The sequence number is not a part
         // of the record itself but a special property for Opensearch. It can be used to limit
         // the number of records when reading from the index, for example, by using a range query.
         // Read https://github.com/camunda/camunda/issues/10568 for details.
         .withAttribute(RECORD_SEQUENCE_PROPERTY, recordSequence.sequence())
-        .writeValueAsBytes(record);
+        .writeValue(buffer, record);
   }
 
   /** Returns the number of operations indexed so far. */
@@ -100,6 +115,7 @@ final class BulkIndexRequest implements ContentProducer {
   /** Clears the buffer entirely. */
   void clear() {
     operations.clear();
+    buffer.reset(0);
     memoryUsageBytes = 0;
     lastIndexedMetadata = null;
   }
@@ -109,9 +125,17 @@ final class BulkIndexRequest implements ContentProducer {
     return lastIndexedMetadata;
   }
 
-  /** Returns the currently indexed operations as an unmodifiable shallow copy. */
+  /**
+   * Returns a copy of the currently indexed operations. The sources are copied out of the buffer,
+   * so this is only meant for inspecting the request, not for sending it.
+   */
   List<BulkOperation> bulkOperations() {
-    return Collections.unmodifiableList(operations);
+    return operations.stream().map(this::copyOperation).toList();
+  }
+
+  private BulkOperation copyOperation(final BufferedOperation operation) {
+    final var source = buffer.copy(operation.sourceOffset(), operation.sourceLength());
+    return new BulkOperation(operation.metadata(), source);
   }
 
   /**
@@ -120,16 +144,62 @@ final class BulkIndexRequest implements ContentProducer {
    */
   @Override
   public void writeTo(final OutputStream outStream) throws IOException {
-    for (final var operation : operations) {
-      MAPPER.writeValue(outStream, operation.metadata());
-      outStream.write('\n');
-      outStream.write(operation.source());
-      outStream.write('\n');
-    }
+    buffer.writeTo(outStream);
+  }
+
+  /**
+   * Returns an entity which sends the serialized operations straight out of the buffer. As its
+   * length is known upfront, it can be signed without being copied first. The entity is only valid
+   * until more records are indexed or the request is cleared.
+   */
+  HttpEntity toEntity() {
+    return buffer.toEntity();
   }
 
   record BulkOperation(BulkIndexAction metadata, byte[] source) {}
 
+  private record BufferedOperation(BulkIndexAction metadata, int sourceOffset, int sourceLength) {}
+
   @JsonAppend(attrs = {@JsonAppend.Attr(value = RECORD_SEQUENCE_PROPERTY)})
   private static final class RecordSequenceMixin {}
+
+  /** An output stream over a growable buffer, which can be rewound to a previous position. */
+  private static final class BufferOutputStream extends OutputStream {
+    private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    private int position;
+
+    @Override
+    public void write(final int b) {
+      buffer.putByte(position, (byte) b);
+      position++;
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) {
+      buffer.putBytes(position, bytes, offset, length);
+      position += length;
+    }
+
+    private int position() {
+      return position;
+    }
+
+    private void reset(final int position) {
+      this.position = position;
+    }
+
+    private byte[] copy(final int offset, final int length) {
+      final var bytes = new byte[length];
+      buffer.getBytes(offset, bytes);
+      return bytes;
+    }
+
+    private void writeTo(final OutputStream outStream) throws IOException {
+      outStream.write(buffer.byteArray(), 0, position);
+    }
+
+    private HttpEntity toEntity() {
+      return new ByteArrayEntity(buffer.byteArray(), 0, position, ContentType.APPLICATION_JSON);
+    }
+  }
 }
@@ -29,14 +29,18 @@ import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.prometheus.client.Histogram;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
-import org.apache.http.entity.EntityTemplate;
 import org.opensearch.client.Request;
+import org.opensearch.client.Response;
+import org.opensearch.client.ResponseListener;
 import org.opensearch.client.RestClient;
 
 public class OpensearchClient implements AutoCloseable {
@@ -47,7 +51,8 @@ public class OpensearchClient implements AutoCloseable {
   private final OpensearchExporterConfiguration configuration;
   private final TemplateReader templateReader;
   private final RecordIndexRouter indexRouter;
-  private final BulkIndexRequest bulkIndexRequest;
+  private final Deque<BulkIndexRequest> releasedBulks = new ArrayDeque<>();
+  private BulkIndexRequest bulkIndexRequest;
 
   private OpensearchMetrics metrics;
 
@@ -124,6 +129,82 @@ public class OpensearchClient implements AutoCloseable {
     }
   }
 
+  /**
+   * Hands over the current bulk request, unless it's empty, so that it can be sent asynchronously
+   * via {@link #sendBulkAsync(BulkIndexRequest)}. Records are then indexed into a bulk request which
+   * was released via {@link #releaseBulk(BulkIndexRequest)}, or into a new one if there is none.
+   *
+   * @return the current bulk request, or null if it's empty
+   */
+  BulkIndexRequest takeBulk() {
+    if (bulkIndexRequest.isEmpty()) {
+      return null;
+    }
+
+    metrics.recordBulkSize(bulkIndexRequest.size());
+    metrics.recordBulkMemorySize(bulkIndexRequest.memoryUsageBytes());
+
+    final var bulk = bulkIndexRequest;
+    final var releasedBulk = releasedBulks.poll();
+    bulkIndexRequest = releasedBulk != null ? releasedBulk : new BulkIndexRequest();
+    return bulk;
+  }
+
+  /**
+   * Hands back a bulk request which was flushed successfully, so that its buffer is reused for the
+   * next bulk instead of allocating and growing a new one.
+   *
+   * @param bulk the flushed bulk request, as returned by {@link #takeBulk()}
+   */
+  void releaseBulk(final BulkIndexRequest bulk) {
+    bulk.clear();
+    releasedBulks.push(bulk);
+  }
+
+  /**
+   * Sends the given bulk request to Opensearch without blocking. The returned future is completed
+   * from the thread of the rest client. It fails with an {@link OpensearchExporterException} if not
+   * all items of the bulk were flushed successfully, in which case the same bulk request can be
+   * sent again.
+   *
+   * @param bulk the bulk request to send, as returned by {@link #takeBulk()}
+   * @return a future which is completed once all items of the bulk were flushed
+   */
+  CompletableFuture<Void> sendBulkAsync(final BulkIndexRequest bulk) {
+    final var result = new CompletableFuture<Void>();
+    final Histogram.Timer timer = metrics.measureFlushDuration();
+    client.performRequestAsync(
+        createBulkRequest(bulk),
+        new ResponseListener() {
+          @Override
+          public void onSuccess(final Response response) {
+            try {
+              final var bulkResponse = readResponse(response, BulkIndexResponse.class);
+              if (bulkResponse.errors()) {
+                onBulkFailed(collectBulkError(bulkResponse));
+              } else {
+                timer.observeDuration();
+                result.complete(null);
+              }
+            } catch (final IOException e) {
+              onBulkFailed(new OpensearchExporterException("Failed to flush bulk", e));
+            }
+          }
+
+          @Override
+          public void onFailure(final Exception exception) {
+            onBulkFailed(new OpensearchExporterException("Failed to flush bulk", exception));
+          }
+
+          private void onBulkFailed(final OpensearchExporterException failure) {
+            metrics.recordFailedFlush();
+            result.completeExceptionally(failure);
+          }
+        });
+
+    return result;
+  }
+
   /**
    * Returns whether the exporter should call {@link #flush()} or not.
    *
@@ -162,21 +243,23 @@ public class OpensearchClient implements AutoCloseable {
   private void exportBulk() {
     final BulkIndexResponse response;
     try {
-      final var request = new Request("POST", "/_bulk");
-      final var body = new EntityTemplate(bulkIndexRequest);
-      request.setJsonEntity(new String(body.getContent().readAllBytes()));
-
-      response = sendRequest(request, BulkIndexResponse.class);
+      response = sendRequest(createBulkRequest(bulkIndexRequest), BulkIndexResponse.class);
     } catch (final IOException e) {
       throw new OpensearchExporterException("Failed to flush bulk", e);
     }
 
     if (response.errors()) {
-      throwCollectedBulkError(response);
+      throw collectBulkError(response);
     }
   }
 
-  private void throwCollectedBulkError(final BulkIndexResponse bulkResponse) {
+  private Request createBulkRequest(final BulkIndexRequest bulk) {
+    final var request = new Request("POST", "/_bulk");
+    request.setEntity(bulk.toEntity());
+    return request;
+  }
+
+  private OpensearchExporterException collectBulkError(final BulkIndexResponse bulkResponse) {
     final var collectedErrors = new ArrayList<String>();
     bulkResponse.items().stream()
         .flatMap(item -> Optional.ofNullable(item.index()).stream())
@@ -189,7 +272,7 @@ public class OpensearchClient implements AutoCloseable {
                         "Failed to flush %d item(s) of bulk request [type: %s, reason: %s]",
                         errors.size(), errorType, errors.get(0).reason())));
 
-    throw new OpensearchExporterException("Failed to flush bulk request: " + collectedErrors);
+    return new OpensearchExporterException("Failed to flush bulk request: " + collectedErrors);
   }
 
   private boolean putIndexTemplate(final String templateName, final Template template) {
@@ -311,7 +394,11 @@ public class OpensearchClient implements AutoCloseable {
   }
 
   private <T> T sendRequest(final Request request, final Class<T> responseType) throws IOException {
-    final var response = client.performRequest(request);
+    return readResponse(client.performRequest(request), responseType);
+  }
+
+  private <T> T readResponse(final Response response, final Class<T> responseType)
+      throws IOException {
     // buffer the complete response in memory before parsing it; this will give us a better error
     // message which contains the raw response should the deserialization fail
     final var responseBody = response.getEntity().getContent().readAllBytes();
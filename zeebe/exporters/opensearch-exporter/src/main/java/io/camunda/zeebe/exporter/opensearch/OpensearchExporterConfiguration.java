@@ -300,6 +300,9 @@ public class OpensearchExporterConfiguration {
     public int size = 1_000;
     // memory limit of the bulk in bytes before flush
     public int memoryLimit = 10 * 1024 * 1024;
+    // number of bulk requests which may be in flight at the same time; with 1, the bulk requests
+    // are flushed synchronously
+    public int maxInFlightRequests = 1;
 
     @Override
     public String toString() {
@@ -310,6 +313,8 @@ public class OpensearchExporterConfiguration {
           + size
           + ", memoryLimit="
           + memoryLimit
+          + ", maxInFlightRequests="
+          + maxInFlightRequests
           + '}';
     }
   }
@@ -197,6 +197,59 @@ final class BulkIndexRequestTest {
               Tuple.tuple(actions.get(1), records.get(1)));
     }
 
+    @Test
+    void shouldOnlyWriteOperationsIndexedAfterClear() throws IOException {
+      // given
+      final var records = recordFactory.generateRecords().limit(2).toList();
+      final var actions =
+          List.of(
+              new BulkIndexAction("index", "id", "routing"),
+              new BulkIndexAction("index2", "id2", "routing2"));
+      request.index(actions.get(0), records.get(0), new RecordSequence(PARTITION_ID, 1));
+      request.clear();
+
+      // when
+      request.index(actions.get(1), records.get(1), new RecordSequence(PARTITION_ID, 2));
+
+      // then
+      final byte[] serializedBuffer;
+      try (final var output = new ByteArrayOutputStream()) {
+        request.writeTo(output);
+        serializedBuffer = output.toByteArray();
+      }
+
+      try (final var input =
+          new BufferedReader(new InputStreamReader(new ByteArrayInputStream(serializedBuffer)))) {
+        assertThat(deserializeOperation(input.readLine().getBytes(), input.readLine().getBytes()))
+            .isEqualTo(Tuple.tuple(actions.get(1), records.get(1)));
+        assertThat(input.readLine()).isNull();
+      }
+    }
+
+    @Test
+    void shouldCreateEntityOfSerializedOperations() throws IOException {
+      // given
+      final var records = recordFactory.generateRecords().limit(2).toList();
+      request.index(
+          new BulkIndexAction("index", "id", "routing"),
+          records.get(0),
+          new RecordSequence(PARTITION_ID, 1));
+      request.index(
+          new BulkIndexAction("index2", "id2", "routing2"),
+          records.get(1),
+          new RecordSequence(PARTITION_ID, 2));
+
+      // when
+      final var entity = request.toEntity();
+
+      // then
+      try (final var output = new ByteArrayOutputStream()) {
+        request.writeTo(output);
+        assertThat(entity.getContentLength()).isEqualTo(output.size());
+        assertThat(entity.getContent().readAllBytes()).isEqualTo(output.toByteArray());
+      }
+    }
+
     @Test
     void shouldIndexRecordWithSequence() {
       // given
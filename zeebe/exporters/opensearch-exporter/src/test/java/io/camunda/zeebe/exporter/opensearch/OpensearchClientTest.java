@@ -204,6 +204,23 @@ final class OpensearchClientTest {
       assertThat(bulkRequest.isEmpty()).isTrue();
     }
 
+    @Test
+    void shouldReuseReleasedBulk() {
+      // given
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 1));
+      final var flushedBulk = client.takeBulk();
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 2));
+
+      // when
+      client.releaseBulk(flushedBulk);
+      client.takeBulk();
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 3));
+
+      // then
+      assertThat(flushedBulk).isSameAs(bulkRequest);
+      assertThat(flushedBulk.size()).isEqualTo(1);
+    }
+
     @Test
     void shouldNotClearBulkOnFailure() throws IOException {
       // given
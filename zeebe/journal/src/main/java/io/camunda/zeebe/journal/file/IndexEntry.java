@@ -0,0 +1,14 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+/**
+ * A single mapping of a {@link JournalIndex}, as persisted in a {@link SegmentIndexFile}. The asqn
+ * is {@link SegmentedJournal#ASQN_IGNORE} if the indexed record has none.
+ */
+record IndexEntry(long index, long asqn, int position) {}
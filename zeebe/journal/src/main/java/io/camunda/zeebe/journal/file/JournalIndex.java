@@ -16,6 +16,7 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
+import java.util.List;
 
 /**
  * JournalIndex that indexes record's index, position and asqn. JournalReader may use this to
@@ -31,6 +32,23 @@ interface JournalIndex {
    */
   void index(JournalRecord record, int position);
 
+  /**
+   * Restores a mapping which was previously indexed, e.g. one read from a {@link
+   * SegmentIndexFile}. Unlike {@link #index(JournalRecord, int)}, the mapping is added as is.
+   *
+   * @param entry the mapping to restore
+   */
+  void restore(IndexEntry entry);
+
+  /**
+   * Returns all mappings between the given indexes, both inclusive, ordered by index.
+   *
+   * @param fromIndex the lowest index to return
+   * @param toIndex the highest index to return
+   * @return the mappings in the given range
+   */
+  List<IndexEntry> entries(long fromIndex, long toIndex);
+
   /**
    * Looks up the position of the given index.
    *
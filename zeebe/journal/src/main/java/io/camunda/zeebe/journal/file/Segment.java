@@ -29,6 +29,7 @@ import java.nio.ByteOrder;
 import java.nio.MappedByteBuffer;
 import java.nio.file.Files;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.agrona.IoUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,6 +49,10 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private final JournalIndex index;
   private final SegmentWriter writer;
   private final Set<SegmentReader> readers = Sets.newConcurrentHashSet();
+  // Counts the holders of records read from this segment which are not readers themselves, e.g. a
+  // journal reader which moved on to the next segment. The records are views of the mapped buffer,
+  // so the buffer must not be unmapped while they are retained.
+  private final AtomicInteger retainCount = new AtomicInteger();
   private final MappedByteBuffer buffer;
   private final JournalMetrics metrics;
 
@@ -149,6 +154,15 @@ final class Segment implements AutoCloseable, FlushableSegment {
     return writer.getLastAsqn();
   }
 
+  /**
+   * Updates the last asqn of the previous segment, if this segment was loaded before it.
+   *
+   * @param lastWrittenAsqn the last asqn of the previous segment
+   */
+  void updateLastWrittenAsqn(final long lastWrittenAsqn) {
+    writer.updateLastWrittenAsqn(lastWrittenAsqn);
+  }
+
   /**
    * Returns the segment file.
    *
@@ -204,11 +218,36 @@ final class Segment implements AutoCloseable, FlushableSegment {
     // When multiple readers are closed simultaneously, both readers might try to delete the file.
     // This is ok, as safeDelete is idempotent. Hence we keep it simple, and doesn't add more
     // concurrency control.
-    if (markedForDeletion && readers.isEmpty()) {
+    if (markedForDeletion && isUnreferenced()) {
       safeDelete();
     }
   }
 
+  /**
+   * Retains the mapped buffer of this segment, such that records previously read from it remain
+   * valid even if the segment is deleted in the meantime. Every call must be followed by exactly
+   * one call to {@link #release()}.
+   */
+  void retain() {
+    retainCount.incrementAndGet();
+  }
+
+  /**
+   * Releases a reference acquired via {@link #retain()}. If the segment was deleted while it was
+   * retained, and there are no other references left, the deletion is completed now.
+   */
+  void release() {
+    final var remaining = retainCount.decrementAndGet();
+    checkState(remaining >= 0, "Segment %s was released more often than it was retained", this);
+    if (markedForDeletion && isUnreferenced()) {
+      safeDelete();
+    }
+  }
+
+  private boolean isUnreferenced() {
+    return readers.isEmpty() && retainCount.get() == 0;
+  }
+
   /** Checks whether the segment is open. */
   private void checkOpen() {
     checkState(open, "Segment not open");
@@ -231,21 +270,55 @@ final class Segment implements AutoCloseable, FlushableSegment {
     IoUtil.unmap(buffer);
   }
 
+  /**
+   * Persists the index entries of this segment, such that they can be restored via {@link
+   * #restoreIndex()} when the journal is opened again. This is meant to be called once the segment
+   * is sealed. Failures are only logged, as the index can always be rebuilt from the segment.
+   */
+  void persistIndex() {
+    final long lastIndex = lastIndex();
+    try {
+      SegmentIndexFile.write(
+          file.indexFile(), id(), index(), lastIndex, index.entries(index(), lastIndex));
+    } catch (final IOException e) {
+      LOG.warn("Failed to persist index of segment {}, it will be rebuilt on demand", this, e);
+    }
+  }
+
+  /** Restores the index entries persisted via {@link #persistIndex()}, if they are still valid. */
+  void restoreIndex() {
+    SegmentIndexFile.read(file.indexFile(), id(), index(), lastIndex()).forEach(index::restore);
+  }
+
+  /**
+   * Deletes the persisted index of this segment, e.g. because the segment is truncated and the
+   * persisted positions may not be valid anymore.
+   */
+  void deleteIndex() {
+    try {
+      Files.deleteIfExists(file.indexFile());
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete index file {} of segment {}", file.indexFile(), this, e);
+    }
+  }
+
   /** Deletes the segment. */
   void delete() {
     open = false;
+    deleteIndex();
     markForDeletion();
-    if (readers.isEmpty()) {
+    if (isUnreferenced()) {
       safeDelete();
     }
   }
 
   private void safeDelete() {
-    if (!readers.isEmpty()) {
+    if (!isUnreferenced()) {
       throw new JournalException(
           String.format(
-              "Cannot delete segment file. There are %d readers referring to this segment.",
-              readers.size()));
+              "Cannot delete segment file. There are %d readers and %d retained references"
+                  + " referring to this segment.",
+              readers.size(), retainCount.get()));
     }
     try {
       IoUtil.unmap(buffer);
@@ -32,6 +32,7 @@ public final class SegmentFile {
   private static final char PART_SEPARATOR = '-';
   private static final char EXTENSION_SEPARATOR = '.';
   private static final String EXTENSION = "log";
+  private static final String INDEX_EXTENSION = "idx";
   private static final String DELETE_EXTENSION = "deleted";
   private static final char DELETE_EXTENSION_SEPARATOR = '_';
   private final File file;
@@ -125,6 +126,18 @@ public final class SegmentFile {
     return file.getName();
   }
 
+  /**
+   * Returns the path of the file in which the index of this segment is persisted. It sits next to
+   * the segment file, with the same name but a different extension.
+   *
+   * @return the path of the segment's index file
+   */
+  Path indexFile() {
+    final var name = name();
+    final var baseName = name.substring(0, name.lastIndexOf(EXTENSION_SEPARATOR) + 1);
+    return file.toPath().resolveSibling(baseName + INDEX_EXTENSION);
+  }
+
   public Path getFileMarkedForDeletion() {
     if (fileMarkedForDeletion == null) {
       final String renamedFileName =
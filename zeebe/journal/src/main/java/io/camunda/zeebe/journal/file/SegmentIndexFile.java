@@ -0,0 +1,135 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.ChecksumGenerator;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the {@link JournalIndex} entries of a sealed segment next to the segment file, such that
+ * they can be restored when the journal is opened, instead of being rebuilt by scanning the segment
+ * on the first seek.
+ *
+ * <p>The file is only a cache: it is written without flushing, and it is ignored if it is missing,
+ * corrupted, or does not match the segment it is read for. The layout is, in little endian:
+ *
+ * <pre>
+ * | version (int) | segment id (long) | first index (long) | last index (long) | count (int) |
+ * | count * [ index (long) | asqn (long) | position (int) ] | checksum (long) |
+ * </pre>
+ */
+final class SegmentIndexFile {
+  static final int VERSION = 1;
+
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentIndexFile.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final int HEADER_LENGTH = Integer.BYTES + 3 * Long.BYTES + Integer.BYTES;
+  private static final int ENTRY_LENGTH = 2 * Long.BYTES + Integer.BYTES;
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+  private SegmentIndexFile() {}
+
+  /**
+   * Writes the given entries to the index file, replacing any previous content.
+   *
+   * @param path the path of the index file
+   * @param segmentId the id of the segment the entries belong to
+   * @param firstIndex the first index of the segment
+   * @param lastIndex the last index of the segment
+   * @param entries the index entries of the segment, ordered by index
+   * @throws IOException if the file cannot be written
+   */
+  static void write(
+      final Path path,
+      final long segmentId,
+      final long firstIndex,
+      final long lastIndex,
+      final List<IndexEntry> entries)
+      throws IOException {
+    final var length = HEADER_LENGTH + entries.size() * ENTRY_LENGTH + CHECKSUM_LENGTH;
+    final var buffer = ByteBuffer.allocate(length).order(ENDIANNESS);
+    buffer
+        .putInt(VERSION)
+        .putLong(segmentId)
+        .putLong(firstIndex)
+        .putLong(lastIndex)
+        .putInt(entries.size());
+    for (final var entry : entries) {
+      buffer.putLong(entry.index()).putLong(entry.asqn()).putInt(entry.position());
+    }
+    buffer.putLong(new ChecksumGenerator().compute(buffer, 0, length - CHECKSUM_LENGTH));
+
+    Files.write(path, buffer.array());
+  }
+
+  /**
+   * Reads the entries persisted for the given segment. Returns an empty list if there is no index
+   * file, or if it cannot be used, in which case the index is rebuilt on demand as before.
+   *
+   * @param path the path of the index file
+   * @param segmentId the id of the segment to read the entries for
+   * @param firstIndex the first index of the segment
+   * @param lastIndex the last index of the segment
+   * @return the persisted entries, ordered by index, or an empty list
+   */
+  static List<IndexEntry> read(
+      final Path path, final long segmentId, final long firstIndex, final long lastIndex) {
+    if (!Files.exists(path)) {
+      return List.of();
+    }
+
+    final ByteBuffer buffer;
+    try {
+      buffer = ByteBuffer.wrap(Files.readAllBytes(path)).order(ENDIANNESS);
+    } catch (final IOException e) {
+      LOG.warn("Failed to read segment index file {}, it will be rebuilt on demand", path, e);
+      return List.of();
+    }
+
+    final var length = buffer.capacity();
+    if (length < HEADER_LENGTH + CHECKSUM_LENGTH
+        || buffer.getLong(length - CHECKSUM_LENGTH)
+            != new ChecksumGenerator().compute(buffer, 0, length - CHECKSUM_LENGTH)) {
+      LOG.debug("Ignoring segment index file {}, as it is incomplete or corrupted", path);
+      return List.of();
+    }
+
+    final var version = buffer.getInt();
+    final var persistedSegmentId = buffer.getLong();
+    final var persistedFirstIndex = buffer.getLong();
+    final var persistedLastIndex = buffer.getLong();
+    final var count = buffer.getInt();
+    if (version != VERSION
+        || persistedSegmentId != segmentId
+        || persistedFirstIndex != firstIndex
+        || persistedLastIndex != lastIndex
+        || length != HEADER_LENGTH + count * ENTRY_LENGTH + CHECKSUM_LENGTH) {
+      LOG.debug(
+          "Ignoring segment index file {}, as it does not match segment {} with indexes {} to {}",
+          path,
+          segmentId,
+          firstIndex,
+          lastIndex);
+      return List.of();
+    }
+
+    final var entries = new ArrayList<IndexEntry>(count);
+    for (int i = 0; i < count; i++) {
+      entries.add(new IndexEntry(buffer.getLong(), buffer.getLong(), buffer.getInt()));
+    }
+    return entries;
+  }
+}
@@ -114,8 +114,9 @@ final class SegmentLoader {
 
   Segment loadExistingSegment(
       final Path segmentFile, final long lastWrittenAsqn, final JournalIndex journalIndex) {
-    try (final var channel =
-        FileChannel.open(segmentFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+    try (final var ignored = metrics.observeSegmentLoad();
+        final var channel =
+            FileChannel.open(segmentFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
       MappedByteBuffer mappedSegment;
       final var initialMappedLength = Files.size(segmentFile);
       mappedSegment = mapSegment(channel, initialMappedLength);
@@ -127,7 +128,10 @@ final class SegmentLoader {
         mappedSegment = mapSegment(channel, descriptor.maxSegmentSize());
       }
 
-      return loadSegment(segmentFile, mappedSegment, descriptor, lastWrittenAsqn, journalIndex);
+      final var segment =
+          loadSegment(segmentFile, mappedSegment, descriptor, lastWrittenAsqn, journalIndex);
+      segment.restoreIndex();
+      return segment;
     } catch (final IOException e) {
       throw new JournalException(
           String.format("Failed to load existing segment %s", segmentFile), e);
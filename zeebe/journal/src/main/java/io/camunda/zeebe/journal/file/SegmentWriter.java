@@ -49,7 +49,7 @@ final class SegmentWriter {
   private final Segment segment;
   private final JournalIndex index;
   private final long firstIndex;
-  private final long firstAsqn;
+  private long firstAsqn;
   private long lastAsqn;
   private JournalRecord lastEntry;
   private int lastEntryPosition;
@@ -112,6 +112,20 @@ final class SegmentWriter {
     return lastAsqn;
   }
 
+  /**
+   * Updates the asqn of the last record written before this segment, i.e. the last asqn of the
+   * previous segment. This is necessary if the writer was created before the previous segment was
+   * loaded, in which case it assumed {@link SegmentedJournal#ASQN_IGNORE}.
+   *
+   * @param lastWrittenAsqn the last asqn of the previous segment
+   */
+  void updateLastWrittenAsqn(final long lastWrittenAsqn) {
+    firstAsqn = lastWrittenAsqn + 1;
+    if (lastAsqn == ASQN_IGNORE) {
+      lastAsqn = lastWrittenAsqn;
+    }
+  }
+
   // Used to append records received from a leader that are at version 8.2.x or older.
   Either<SegmentFull, JournalRecord> append(final JournalRecord record) {
     final var entryIndex = record.index();
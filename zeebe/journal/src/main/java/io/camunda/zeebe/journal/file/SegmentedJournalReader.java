@@ -27,6 +27,10 @@ class SegmentedJournalReader implements JournalReader {
   private final SegmentedJournal journal;
   private Segment currentSegment;
   private SegmentReader currentReader;
+  // The records returned by this reader are views of the mapped segment, and consumers commonly
+  // hold on to the last record(s) while reading ahead. The previous segment is thus retained until
+  // the reader switches segments again, such that its records stay valid even if it gets deleted.
+  private Segment previousSegment;
   private final JournalMetrics metrics;
 
   SegmentedJournalReader(final SegmentedJournal journal, final JournalMetrics journalMetrics) {
@@ -165,6 +169,7 @@ class SegmentedJournalReader implements JournalReader {
   @Override
   public void close() {
     currentReader.close();
+    releasePreviousSegment();
     journal.closeReader(this);
   }
 
@@ -246,8 +251,20 @@ class SegmentedJournalReader implements JournalReader {
       return;
     }
 
+    // retain the segment before closing its reader, such that it is never unreferenced in between
+    releasePreviousSegment();
+    previousSegment = currentSegment;
+    previousSegment.retain();
+
     currentReader.close();
     currentSegment = nextSegment;
     currentReader = currentSegment.createReader();
   }
+
+  private void releasePreviousSegment() {
+    if (previousSegment != null) {
+      previousSegment.release();
+      previousSegment = null;
+    }
+  }
 }
@@ -113,6 +113,7 @@ final class SegmentedJournalWriter {
     // Reset last entry position in descriptor to 0, to ensure that after a restart it is not using
     // the old truncated entry.
     currentSegment.resetLastEntryInDescriptor();
+    currentSegment.deleteIndex();
     // Truncate down to the current index, such that the last index is `index`, and the next index
     // `index + 1`
     currentWriter.truncate(index);
@@ -127,6 +128,7 @@ final class SegmentedJournalWriter {
 
   private void createNewSegment() {
     currentSegment.updateDescriptor();
+    currentSegment.persistIndex();
     currentSegment = segments.getNextSegment();
     currentWriter = currentSegment.writer();
   }
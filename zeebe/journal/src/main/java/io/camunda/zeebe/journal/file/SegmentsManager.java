@@ -32,6 +32,7 @@ import java.util.SortedMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,6 +42,10 @@ final class SegmentsManager implements AutoCloseable {
   private static final long FIRST_SEGMENT_ID = 1;
   private static final long INITIAL_INDEX = 1;
   private static final long INITIAL_ASQN = SegmentedJournal.ASQN_IGNORE;
+  // loading is mostly I/O and checksum computation; bound it since all partitions may open their
+  // journals at the same time
+  private static final int MAX_SEGMENT_LOADING_THREADS =
+      Math.min(Runtime.getRuntime().availableProcessors(), 4);
 
   private static final Logger LOG = LoggerFactory.getLogger(SegmentsManager.class);
   private static final Logger THROTTLED_LOG = new ThrottledLogger(LOG, Duration.ofSeconds(5));
@@ -347,7 +352,9 @@ final class SegmentsManager implements AutoCloseable {
   }
 
   /**
-   * Loads all segments from disk.
+   * Loads all segments from disk. The segments are loaded concurrently, as loading a segment maps
+   * it and verifies the checksums of the records it has to read to find its last entry, but they
+   * are validated against each other in order.
    *
    * @return A collection of segments for the log.
    */
@@ -360,42 +367,100 @@ final class SegmentsManager implements AutoCloseable {
     final List<Segment> segments = new ArrayList<>();
 
     final List<File> files = getSortedLogSegments();
-    Segment previousSegment = null;
-    for (int i = 0; i < files.size(); i++) {
-      final File file = files.get(i);
-
-      try {
-        LOG.debug("Found segment file: {}", file.getName());
-        final Segment segment =
-            segmentLoader.loadExistingSegment(
-                file.toPath(),
-                previousSegment != null ? previousSegment.lastAsqn() : INITIAL_ASQN,
-                journalIndex);
-
-        if (i > 0) {
-          // throws CorruptedJournalException if there is gap
-          checkForIndexGaps(segments.get(i - 1), segment);
+    final List<CompletableFuture<Segment>> loadingSegments = loadSegmentsConcurrently(files);
+    // the segments from this index on were already closed, after a corrupted segment was found
+    int firstClosedSegment = files.size();
+    try {
+      Segment previousSegment = null;
+      for (int i = 0; i < files.size(); i++) {
+        final File file = files.get(i);
+
+        try {
+          LOG.debug("Found segment file: {}", file.getName());
+          final Segment segment = awaitSegment(loadingSegments.get(i));
+          segment.updateLastWrittenAsqn(
+              previousSegment != null ? previousSegment.lastAsqn() : INITIAL_ASQN);
+
+          if (i > 0) {
+            // throws CorruptedJournalException if there is gap
+            checkForIndexGaps(segments.get(i - 1), segment);
+          }
+
+          final boolean isLastSegment = i == files.size() - 1;
+          if (isLastSegment && segment.lastIndex() < lastFlushedIndex) {
+            throw new CorruptedJournalException(
+                "Expected to find records until index %d, but last index is %d"
+                    .formatted(lastFlushedIndex, segment.lastIndex()));
+          }
+
+          segments.add(segment);
+          previousSegment = segment;
+        } catch (final CorruptedJournalException e) {
+          // the following segments were loaded already; close them before they are deleted, and
+          // drop any index mappings they added
+          closeLoadedSegments(loadingSegments.subList(i, firstClosedSegment));
+          firstClosedSegment = i;
+          journalIndex.deleteAfter(previousSegment != null ? previousSegment.lastIndex() : 0);
+          if (handleSegmentCorruption(files, segments, i, lastFlushedIndex)) {
+            return segments;
+          }
+
+          throw e;
         }
+      }
+    } catch (final RuntimeException e) {
+      closeLoadedSegments(loadingSegments.subList(0, firstClosedSegment));
+      throw e;
+    }
 
-        final boolean isLastSegment = i == files.size() - 1;
-        if (isLastSegment && segment.lastIndex() < lastFlushedIndex) {
-          throw new CorruptedJournalException(
-              "Expected to find records until index %d, but last index is %d"
-                  .formatted(lastFlushedIndex, segment.lastIndex()));
-        }
+    return segments;
+  }
 
-        segments.add(segment);
-        previousSegment = segment;
-      } catch (final CorruptedJournalException e) {
-        if (handleSegmentCorruption(files, segments, i, lastFlushedIndex)) {
-          return segments;
-        }
+  private List<CompletableFuture<Segment>> loadSegmentsConcurrently(final List<File> files) {
+    final var threadCount = Math.min(files.size(), MAX_SEGMENT_LOADING_THREADS);
+    if (threadCount <= 1) {
+      return files.stream()
+          .map(file -> CompletableFuture.supplyAsync(() -> loadSegment(file), Runnable::run))
+          .toList();
+    }
+
+    final var executor =
+        Executors.newFixedThreadPool(
+            threadCount, Thread.ofPlatform().name(name + "-segment-loader-", 0).factory());
+    try {
+      return files.stream()
+          .map(file -> CompletableFuture.supplyAsync(() -> loadSegment(file), executor))
+          .toList();
+    } finally {
+      // already submitted segments are still loaded, the threads terminate afterwards
+      executor.shutdown();
+    }
+  }
 
-        throw e;
+  private Segment loadSegment(final File file) {
+    // the last asqn of the previous segment is not known yet, and is updated once it is loaded
+    return segmentLoader.loadExistingSegment(file.toPath(), INITIAL_ASQN, journalIndex);
+  }
+
+  private static Segment awaitSegment(final CompletableFuture<Segment> loadingSegment) {
+    try {
+      return loadingSegment.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
       }
+      throw e;
     }
+  }
 
-    return segments;
+  private void closeLoadedSegments(final List<CompletableFuture<Segment>> loadingSegments) {
+    for (final var loadingSegment : loadingSegments) {
+      try {
+        loadingSegment.join().close();
+      } catch (final Exception e) {
+        LOG.trace("Segment failed to load, there is nothing to close", e);
+      }
+    }
   }
 
   private void checkForIndexGaps(final Segment prevSegment, final Segment segment) {
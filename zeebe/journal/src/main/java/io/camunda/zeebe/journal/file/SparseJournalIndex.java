@@ -16,6 +16,8 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
@@ -38,15 +40,30 @@ final class SparseJournalIndex implements JournalIndex {
   public void index(final JournalRecord indexedEntry, final int position) {
     final long index = indexedEntry.index();
     if (index % density == 0) {
-      indexToPosition.put(index, position);
-      final long asqn = indexedEntry.asqn();
-      if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
-        indexToAsqn.put(index, asqn);
-      }
+      put(index, indexedEntry.asqn(), position);
     }
   }
 
+  @Override
+  public void restore(final IndexEntry entry) {
+    put(entry.index(), entry.asqn(), entry.position());
+  }
+
+  @Override
+  public List<IndexEntry> entries(final long fromIndex, final long toIndex) {
+    final var entries = new ArrayList<IndexEntry>();
+    indexToPosition
+        .subMap(fromIndex, true, toIndex, true)
+        .forEach(
+            (index, position) ->
+                entries.add(
+                    new IndexEntry(
+                        index,
+                        indexToAsqn.getOrDefault(index, SegmentedJournal.ASQN_IGNORE),
+                        position)));
+    return entries;
+  }
+
   @Override
   public IndexInfo lookup(final long index) {
     final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
@@ -111,4 +128,12 @@ final class SparseJournalIndex implements JournalIndex {
       return indexInfo.index() > index - density;
     }
   }
+
+  private void put(final long index, final long asqn, final int position) {
+    indexToPosition.put(index, position);
+    if (asqn != SegmentedJournal.ASQN_IGNORE) {
+      asqnToIndex.put(asqn, index);
+      indexToAsqn.put(index, asqn);
+    }
+  }
 }
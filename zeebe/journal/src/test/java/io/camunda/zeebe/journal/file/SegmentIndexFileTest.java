@@ -0,0 +1,96 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class SegmentIndexFileTest {
+
+  private static final List<IndexEntry> ENTRIES =
+      List.of(new IndexEntry(10, 100, 64), new IndexEntry(20, SegmentedJournal.ASQN_IGNORE, 512));
+
+  private @TempDir Path directory;
+
+  @Test
+  void shouldReadWrittenEntries() throws IOException {
+    // given
+    final var indexFile = directory.resolve("journal-1.idx");
+
+    // when
+    SegmentIndexFile.write(indexFile, 1, 10, 25, ENTRIES);
+
+    // then
+    assertThat(SegmentIndexFile.read(indexFile, 1, 10, 25)).isEqualTo(ENTRIES);
+  }
+
+  @Test
+  void shouldReturnNoEntriesIfFileDoesNotExist() {
+    // given
+    final var indexFile = directory.resolve("journal-1.idx");
+
+    // when
+    final var entries = SegmentIndexFile.read(indexFile, 1, 10, 25);
+
+    // then
+    assertThat(entries).isEmpty();
+  }
+
+  @Test
+  void shouldReturnNoEntriesIfSegmentDoesNotMatch() throws IOException {
+    // given
+    final var indexFile = directory.resolve("journal-1.idx");
+    SegmentIndexFile.write(indexFile, 1, 10, 25, ENTRIES);
+
+    // when - the segment was truncated, or recreated with the same id
+    final var truncatedEntries = SegmentIndexFile.read(indexFile, 1, 10, 20);
+    final var recreatedEntries = SegmentIndexFile.read(indexFile, 1, 100, 125);
+
+    // then
+    assertThat(truncatedEntries).isEmpty();
+    assertThat(recreatedEntries).isEmpty();
+  }
+
+  @Test
+  void shouldReturnNoEntriesIfFileIsCorrupted() throws IOException {
+    // given
+    final var indexFile = directory.resolve("journal-1.idx");
+    SegmentIndexFile.write(indexFile, 1, 10, 25, ENTRIES);
+    final var content = Files.readAllBytes(indexFile);
+    content[content.length / 2] ^= 0xFF;
+    Files.write(indexFile, content);
+
+    // when
+    final var entries = SegmentIndexFile.read(indexFile, 1, 10, 25);
+
+    // then
+    assertThat(entries).isEmpty();
+  }
+
+  @Test
+  void shouldReturnNoEntriesIfFileIsIncomplete() throws IOException {
+    // given
+    final var indexFile = directory.resolve("journal-1.idx");
+    SegmentIndexFile.write(indexFile, 1, 10, 25, ENTRIES);
+    final var content = Files.readAllBytes(indexFile);
+    Files.write(indexFile, Arrays.copyOf(content, content.length - 10));
+
+    // when
+    final var entries = SegmentIndexFile.read(indexFile, 1, 10, 25);
+
+    // then
+    assertThat(entries).isEmpty();
+  }
+}
@@ -84,6 +84,44 @@ class SegmentedJournalReaderTest {
     assertThat(reader.next().index()).isEqualTo(indexToCompact);
   }
 
+  @Test
+  void shouldKeepRecordOfPreviousSegmentReadableAfterCompact() {
+    // given - the reader returned the last record of the first segment and moved on to the next
+    for (int i = 1; i <= ENTRIES_PER_SEGMENT * 3; i++) {
+      journal.append(i, recordDataWriter);
+    }
+    reader.seek(ENTRIES_PER_SEGMENT);
+    final var lastRecordOfFirstSegment = reader.next();
+    reader.next();
+
+    // when
+    journal.deleteUntil(ENTRIES_PER_SEGMENT + 1);
+
+    // then
+    assertThat(lastRecordOfFirstSegment.index()).isEqualTo(ENTRIES_PER_SEGMENT);
+    assertThat(lastRecordOfFirstSegment.data()).isEqualTo(data);
+    assertThat(getDeletedSegmentFiles()).hasSize(1);
+  }
+
+  @Test
+  void shouldDeleteRetainedSegmentWhenReaderMovesOn() {
+    // given
+    for (int i = 1; i <= ENTRIES_PER_SEGMENT * 3; i++) {
+      journal.append(i, recordDataWriter);
+    }
+    reader.seek(ENTRIES_PER_SEGMENT);
+    reader.next();
+    reader.next();
+    journal.deleteUntil(ENTRIES_PER_SEGMENT + 1);
+
+    // when - move to the third segment
+    reader.seek(ENTRIES_PER_SEGMENT * 2 + 1);
+
+    // then
+    assertThat(reader.next().index()).isEqualTo(ENTRIES_PER_SEGMENT * 2 + 1);
+    assertThat(getDeletedSegmentFiles()).isEmpty();
+  }
+
   @Test
   void shouldSeekToAnyIndexInMultipleSegments() {
     // given
@@ -177,4 +215,8 @@ class SegmentedJournalReaderTest {
     return serializer.writeData(record, new UnsafeBuffer(buffer), 0).get()
         + serializer.getMetadataLength();
   }
+
+  private String[] getDeletedSegmentFiles() {
+    return directory.resolve("data").toFile().list((dir, name) -> name.endsWith("-deleted"));
+  }
 }
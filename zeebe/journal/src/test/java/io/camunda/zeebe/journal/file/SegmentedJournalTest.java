@@ -419,8 +419,9 @@ class SegmentedJournalTest {
     final var thirdIndex = journal.append(3, journalFactory.entry()).index();
     final JournalIndex indexBeforeRestart = journal.getJournalIndex();
 
-    // when
+    // when - the persisted index of the first segment is gone
     journal.close();
+    deleteSegmentIndexFiles();
     journal = openJournal(entriesPerSegment);
 
     // then
@@ -431,6 +432,48 @@ class SegmentedJournalTest {
         .isEqualTo(indexBeforeRestart.lookup(thirdIndex));
   }
 
+  @Test
+  void shouldRestorePersistedIndexMappingsAfterRestart() {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    final var secondIndex = journal.append(2, journalFactory.entry()).index();
+    journal.append(3, journalFactory.entry());
+    final var firstIndexInfo = journal.getJournalIndex().lookup(firstIndex);
+    final var secondIndexInfo = journal.getJournalIndex().lookup(secondIndex);
+
+    // when
+    journal.close();
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    final JournalIndex indexAfterRestart = journal.getJournalIndex();
+    assertThat(indexAfterRestart.lookup(firstIndex)).isEqualTo(firstIndexInfo);
+    assertThat(indexAfterRestart.lookup(secondIndex)).isEqualTo(secondIndexInfo);
+    assertThat(indexAfterRestart.lookupAsqn(2)).isEqualTo(secondIndex);
+  }
+
+  @Test
+  void shouldNotRestorePersistedIndexMappingsOfTruncatedSegment() {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    final var secondIndex = journal.append(2, journalFactory.entry()).index();
+    journal.append(3, journalFactory.entry());
+    journal.deleteAfter(firstIndex);
+
+    // when
+    journal.close();
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    final JournalIndex indexAfterRestart = journal.getJournalIndex();
+    assertThat(indexAfterRestart.lookup(secondIndex).index()).isEqualTo(firstIndex);
+    assertThat(indexAfterRestart.lookupAsqn(2)).isEqualTo(firstIndex);
+  }
+
   @Test
   void shouldContinueAppendAfterDetectingPartiallyWrittenDescriptor() throws Exception {
     // given
@@ -926,6 +969,14 @@ class SegmentedJournalTest {
     return journal;
   }
 
+  private void deleteSegmentIndexFiles() {
+    final var indexFiles =
+        directory.resolve("data").toFile().listFiles(f -> f.getName().endsWith(".idx"));
+    for (final var indexFile : Objects.requireNonNull(indexFiles)) {
+      assertThat(indexFile.delete()).isTrue();
+    }
+  }
+
   /**
    * Creates a segment allocator, which should fail after the given segments count has been reached.
    * Failing will be done via throwing an OutOfDiskException.
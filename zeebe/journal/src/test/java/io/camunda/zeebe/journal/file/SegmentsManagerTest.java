@@ -257,6 +257,72 @@ class SegmentsManagerTest {
     assertThatNoException().isThrownBy(() -> segments.open());
   }
 
+  @Test
+  void shouldLoadAllSegments() {
+    // given
+    final var segmentCount = 16;
+    try (final var journal = openJournal()) {
+      for (int i = 1; i <= segmentCount; i++) {
+        journal.append(i, journalFactory.entry());
+      }
+    }
+
+    // when
+    segments = journalFactory.segmentsManager(directory);
+    segments.open();
+
+    // then
+    final var loadedSegments = new ArrayList<>(segments.getTailSegments(1));
+    assertThat(loadedSegments).hasSize(segmentCount);
+    for (int i = 0; i < segmentCount; i++) {
+      final var segment = loadedSegments.get(i);
+      assertThat(segment.index()).isEqualTo(i + 1);
+      assertThat(segment.lastIndex()).isEqualTo(i + 1);
+      assertThat(segment.lastAsqn()).isEqualTo(i + 1);
+    }
+  }
+
+  @Test
+  void shouldTakeOverLastAsqnOfPreviousSegmentOnLoad() {
+    // given - the last segment only contains a record without asqn
+    try (final var journal = openJournal()) {
+      journal.append(1, journalFactory.entry());
+      journal.append(2, journalFactory.entry());
+      journal.append(SegmentedJournal.ASQN_IGNORE, journalFactory.entry());
+    }
+
+    // when
+    segments = journalFactory.segmentsManager(directory);
+    segments.open();
+
+    // then
+    assertThat(segments.getLastSegment().lastAsqn()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRemoveIndexMappingsOfDeletedUnflushedSegments() throws Exception {
+    // given
+    try (final var journal = openJournal()) {
+      journal.append(1, journalFactory.entry());
+      journal.append(2, journalFactory.entry());
+      journal.append(3, journalFactory.entry());
+      journal.append(4, journalFactory.entry());
+    }
+    journalFactory.metaStore().storeLastFlushedIndex(2);
+    final File dataFile = directory.resolve("data").toFile();
+    final File logFile =
+        Objects.requireNonNull(dataFile.listFiles(f -> f.getName().endsWith("3.log")))[0];
+    LogCorrupter.corruptDescriptor(logFile);
+
+    // when
+    try (final var journal = openJournal()) {
+
+      // then
+      assertThat(journal.getLastIndex()).isEqualTo(2);
+      assertThat(journal.getJournalIndex().lookup(4).index()).isEqualTo(2);
+    }
+  }
+
   @RegressionTest("https://github.com/camunda/camunda/issues/12754")
   void shouldDeleteSegmentsInReverseOrderOnReset() {
     // given
@@ -265,4 +265,34 @@ class SparseJournalIndexTest {
     assertThat(index.hasIndexed(11)).isFalse();
     assertThat(index.hasIndexed(100)).isFalse();
   }
+
+  @Test
+  void shouldReturnEntriesWithinRange() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(2);
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(4, SegmentedJournal.ASQN_IGNORE), 8);
+    index.index(asJournalRecord(6, 60), 12);
+
+    // when
+    final var entries = index.entries(3, 6);
+
+    // then
+    assertThat(entries)
+        .containsExactly(
+            new IndexEntry(4, SegmentedJournal.ASQN_IGNORE, 8), new IndexEntry(6, 60, 12));
+  }
+
+  @Test
+  void shouldRestoreEntriesRegardlessOfDensity() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(5);
+
+    // when
+    index.restore(new IndexEntry(3, 30, 6));
+
+    // then
+    assertThat(index.lookup(3)).isEqualTo(new IndexInfo(3, 6));
+    assertThat(index.lookupAsqn(30)).isEqualTo(3L);
+  }
 }
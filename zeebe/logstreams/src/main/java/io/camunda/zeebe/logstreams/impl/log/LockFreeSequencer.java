@@ -0,0 +1,277 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import static io.camunda.zeebe.logstreams.impl.log.LogAppendEntryMetadata.copyMetadata;
+import static io.camunda.zeebe.logstreams.impl.serializer.DataFrameDescriptor.FRAME_ALIGNMENT;
+import static io.camunda.zeebe.logstreams.impl.serializer.SequencedBatchSerializer.calculateBatchLength;
+import static io.camunda.zeebe.scheduler.clock.ActorClock.currentTimeMillis;
+
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.InFlightEntry;
+import io.camunda.zeebe.logstreams.impl.serializer.DataFrameDescriptor;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorage.AppendListener;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A variant of the {@link Sequencer} which does not take a lock on {@link #tryWrite(WriteContext,
+ * List, long) tryWrite}. Writers claim their positions with a single atomic increment, and publish
+ * their batch to a bounded multi-producer, single-consumer queue.
+ *
+ * <p>Batches are appended to the {@link LogStorage} by whichever writer wins the drain flag: it
+ * takes all published batches from the queue and appends them in position order. As writers may
+ * publish out of order, batches which follow a gap are held back until the missing batch is
+ * published, which its writer is guaranteed to do since a claimed position can't fail anymore.
+ * Consecutive batches are appended together as a single block, as long as the block does not
+ * exceed the max fragment size, which reduces the number of appends under high write rates.
+ */
+final class LockFreeSequencer implements LogStreamWriter, Closeable {
+  static final int QUEUE_CAPACITY = 1024;
+  private static final Logger LOG = LoggerFactory.getLogger(LockFreeSequencer.class);
+
+  private final int maxFragmentSize;
+  private final AtomicLong position;
+  private final AtomicBoolean isDraining = new AtomicBoolean();
+  private final ManyToOneConcurrentArrayQueue<PendingBatch> publishedBatches =
+      new ManyToOneConcurrentArrayQueue<>(QUEUE_CAPACITY);
+  private final LogStorage logStorage;
+  private final SequencerMetrics sequencerMetrics;
+  private final FlowControl flowControl;
+  private volatile boolean isClosed = false;
+
+  // only accessed by the writer which currently holds the drain flag
+  private final Long2ObjectHashMap<PendingBatch> pendingBatches = new Long2ObjectHashMap<>();
+  private final List<PendingBatch> block = new ArrayList<>();
+  private long nextAppendPosition;
+
+  LockFreeSequencer(
+      final LogStorage logStorage,
+      final long initialPosition,
+      final int maxFragmentSize,
+      final SequencerMetrics sequencerMetrics,
+      final FlowControl flowControl) {
+    this.logStorage = logStorage;
+    LOG.trace("Starting new lock free sequencer at position {}", initialPosition);
+    position = new AtomicLong(initialPosition);
+    nextAppendPosition = initialPosition;
+    this.maxFragmentSize = maxFragmentSize;
+    this.sequencerMetrics =
+        Objects.requireNonNull(sequencerMetrics, "must specify sequencer metrics");
+    this.flowControl = flowControl;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean canWriteEvents(final int eventCount, final int batchSize) {
+    final int framedMessageLength =
+        batchSize
+            + eventCount * (DataFrameDescriptor.HEADER_LENGTH + FRAME_ALIGNMENT)
+            + FRAME_ALIGNMENT;
+    return framedMessageLength <= maxFragmentSize;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Either<WriteFailure, Long> tryWrite(
+      final WriteContext context,
+      final List<LogAppendEntry> appendEntries,
+      final long sourcePosition) {
+    if (isClosed) {
+      LOG.warn("Rejecting write of {}, sequencer is closed", appendEntries);
+      return Either.left(WriteFailure.CLOSED);
+    }
+    if (appendEntries.isEmpty()) {
+      return Either.left(WriteFailure.INVALID_ARGUMENT);
+    }
+    for (final var entry : appendEntries) {
+      if (!isEntryValid(entry)) {
+        LOG.warn("Reject write of invalid entry {}", entry);
+        return Either.left(WriteFailure.INVALID_ARGUMENT);
+      }
+    }
+    final var permit = flowControl.tryAcquire(context, copyMetadata(appendEntries));
+    if (permit.isLeft()) {
+      return Either.left(WriteFailure.FULL);
+    }
+
+    final int batchSize = appendEntries.size();
+    final int batchLength = calculateBatchLength(appendEntries);
+
+    // once the positions are claimed, the batch must be published, otherwise all following batches
+    // would be held back forever
+    final var firstPosition = position.getAndAdd(batchSize);
+    final var highestPosition = firstPosition + batchSize - 1;
+    final var batch =
+        new PendingBatch(
+            firstPosition,
+            highestPosition,
+            sourcePosition,
+            appendEntries,
+            batchLength,
+            permit.get());
+    while (!publishedBatches.offer(batch)) {
+      // the queue is full; help draining it instead of waiting for the current drainer
+      drain();
+      Thread.onSpinWait();
+    }
+    drain();
+
+    sequencerMetrics.observeBatchLengthBytes(batchLength);
+    sequencerMetrics.observeBatchSize(batchSize);
+    return Either.right(highestPosition);
+  }
+
+  /**
+   * Closes the sequencer. After closing, writes are rejected but reads are still allowed to drain
+   * the queue. Closing the sequencer is not atomic so some writes may occur shortly after closing.
+   */
+  @Override
+  public void close() {
+    LOG.info("Closing sequencer for writing");
+    isClosed = true;
+  }
+
+  private void drain() {
+    // re-check after releasing the flag: a batch published while we were draining would otherwise
+    // be left in the queue, as its writer gave up on the flag
+    while (!publishedBatches.isEmpty() && isDraining.compareAndSet(false, true)) {
+      try {
+        publishedBatches.drain(batch -> pendingBatches.put(batch.firstPosition(), batch));
+        appendPendingBatches();
+      } finally {
+        isDraining.set(false);
+      }
+    }
+  }
+
+  private void appendPendingBatches() {
+    while (pendingBatches.containsKey(nextAppendPosition)) {
+      var blockLength = 0;
+      var batch = pendingBatches.get(nextAppendPosition);
+      while (batch != null
+          && (block.isEmpty() || blockLength + batch.length() <= maxFragmentSize)) {
+        pendingBatches.remove(nextAppendPosition);
+        block.add(batch);
+        blockLength += batch.length();
+        nextAppendPosition = batch.highestPosition() + 1;
+        batch = pendingBatches.get(nextAppendPosition);
+      }
+
+      try {
+        appendBlock(blockLength);
+      } finally {
+        block.clear();
+      }
+    }
+  }
+
+  private void appendBlock(final int blockLength) {
+    final var timestamp = currentTimeMillis();
+    final var blockSize = block.size();
+    final var lowestPosition = block.getFirst().firstPosition();
+    final var highestPosition = block.getLast().highestPosition();
+    sequencerMetrics.observeBlockBatchCount(blockSize);
+
+    if (blockSize == 1) {
+      final var batch = block.getFirst();
+      flowControl.onAppend(batch.permit(), highestPosition);
+      logStorage.append(lowestPosition, highestPosition, batch.sequence(timestamp), flowControl);
+      return;
+    }
+
+    final var sequencedBatches = new SequencedBatch[blockSize];
+    final var highestPositions = new long[blockSize];
+    for (int i = 0; i < blockSize; i++) {
+      final var batch = block.get(i);
+      sequencedBatches[i] = batch.sequence(timestamp);
+      highestPositions[i] = batch.highestPosition();
+      flowControl.onAppend(batch.permit(), batch.highestPosition());
+    }
+    logStorage.append(
+        lowestPosition,
+        highestPosition,
+        new SequencedBlock(sequencedBatches, blockLength),
+        new BlockAppendListener(flowControl, highestPositions));
+  }
+
+  private static boolean isEntryValid(final LogAppendEntry entry) {
+    return entry.recordValue() != null
+        && entry.recordValue().getLength() > 0
+        && entry.recordMetadata() != null
+        && entry.recordMetadata().getLength() > 0;
+  }
+
+  private record PendingBatch(
+      long firstPosition,
+      long highestPosition,
+      long sourcePosition,
+      List<LogAppendEntry> entries,
+      int length,
+      InFlightEntry permit) {
+
+    private SequencedBatch sequence(final long timestamp) {
+      return new SequencedBatch(timestamp, firstPosition, sourcePosition, entries, length);
+    }
+  }
+
+  /** Multiple consecutive batches which are written as one block. */
+  private record SequencedBlock(SequencedBatch[] batches, int length) implements BufferWriter {
+
+    @Override
+    public int getLength() {
+      return length;
+    }
+
+    @Override
+    public void write(final MutableDirectBuffer buffer, final int offset) {
+      int currentOffset = offset;
+      for (final var batch : batches) {
+        batch.write(buffer, currentOffset);
+        currentOffset += batch.length();
+      }
+    }
+  }
+
+  /**
+   * Forwards the events of a block to the flow control once per batch, since it tracks in-flight
+   * appends by the highest position of each batch.
+   */
+  private record BlockAppendListener(FlowControl flowControl, long[] highestPositions)
+      implements AppendListener {
+
+    @Override
+    public void onWrite(final long index, final long highestPosition) {
+      for (final var position : highestPositions) {
+        flowControl.onWrite(index, position);
+      }
+    }
+
+    @Override
+    public void onCommit(final long index, final long highestPosition) {
+      for (final var position : highestPositions) {
+        flowControl.onCommit(index, position);
+      }
+    }
+  }
+}
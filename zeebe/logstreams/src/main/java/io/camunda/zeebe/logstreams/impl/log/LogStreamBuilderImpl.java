@@ -26,6 +26,7 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
   private String logName;
   private Limit requestLimit;
   private RateLimit writeRateLimit;
+  private boolean lockFreeSequencer;
 
   @Override
   public LogStreamBuilder withActorSchedulingService(
@@ -70,13 +71,25 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public LogStreamBuilder withLockFreeSequencer(final boolean lockFreeSequencer) {
+    this.lockFreeSequencer = lockFreeSequencer;
+    return this;
+  }
+
   @Override
   public ActorFuture<LogStream> buildAsync() {
     validate();
 
     final var logStreamService =
         new LogStreamImpl(
-            logName, partitionId, maxFragmentSize, logStorage, requestLimit, writeRateLimit);
+            logName,
+            partitionId,
+            maxFragmentSize,
+            logStorage,
+            requestLimit,
+            writeRateLimit,
+            lockFreeSequencer);
 
     final var logStreamInstallFuture = new CompletableActorFuture<LogStream>();
     actorSchedulingService
@@ -42,10 +42,11 @@ public final class LogStreamImpl extends Actor
   private final int partitionId;
   private final List<LogStreamReader> readers;
   private final int maxFragmentSize;
+  private final boolean lockFreeSequencer;
   private final LogStorage logStorage;
   private final CompletableActorFuture<Void> closeFuture;
   private final Set<FailureListener> failureListeners = new HashSet<>();
-  private Sequencer sequencer;
+  private LogStreamWriter sequencer;
   private final String actorName;
   private HealthReport healthReport = HealthReport.healthy(this);
   private final Limit requestLimit;
@@ -59,13 +60,15 @@ public final class LogStreamImpl extends Actor
       final int maxFragmentSize,
       final LogStorage logStorage,
       final Limit requestLimit,
-      final RateLimit writeRateLimiter) {
+      final RateLimit writeRateLimiter,
+      final boolean lockFreeSequencer) {
     this.logName = logName;
 
     this.partitionId = partitionId;
     actorName = buildActorName("LogStream", partitionId);
 
     this.maxFragmentSize = maxFragmentSize;
+    this.lockFreeSequencer = lockFreeSequencer;
     this.logStorage = logStorage;
     this.requestLimit = requestLimit;
     writeRateLimit = writeRateLimiter;
@@ -165,13 +168,7 @@ public final class LogStreamImpl extends Actor
           try {
             if (sequencer == null) {
               flowControl = new FlowControl(logStreamMetrics, requestLimit, writeRateLimit);
-              sequencer =
-                  new Sequencer(
-                      logStorage,
-                      getWriteBuffersInitialPosition(),
-                      maxFragmentSize,
-                      new SequencerMetrics(partitionId),
-                      flowControl);
+              sequencer = createSequencer();
             }
             result.complete(sequencer);
           } catch (final Throwable e) {
@@ -211,6 +208,17 @@ public final class LogStreamImpl extends Actor
     return newReader;
   }
 
+  private LogStreamWriter createSequencer() {
+    final var initialPosition = getWriteBuffersInitialPosition();
+    final var sequencerMetrics = new SequencerMetrics(partitionId);
+    if (lockFreeSequencer) {
+      return new LockFreeSequencer(
+          logStorage, initialPosition, maxFragmentSize, sequencerMetrics, flowControl);
+    }
+    return new Sequencer(
+        logStorage, initialPosition, maxFragmentSize, sequencerMetrics, flowControl);
+  }
+
   private long getWriteBuffersInitialPosition() {
     final var lastPosition = getLastCommittedPosition();
     long initialPosition = 1;
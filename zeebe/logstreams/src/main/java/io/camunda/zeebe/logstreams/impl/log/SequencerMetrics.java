@@ -28,13 +28,26 @@ final class SequencerMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Histogram BLOCK_BATCH_COUNT =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("sequencer_block_batch_count")
+          .help(
+              "Histogram over the number of batches which are appended together as one block, when"
+                  + " using the lock free sequencer")
+          .buckets(1, 2, 3, 5, 10, 25, 50, 100, 500, 1000)
+          .labelNames("partition")
+          .register();
+
   private final Histogram.Child batchSize;
   private final Histogram.Child batchLengthBytes;
+  private final Histogram.Child blockBatchCount;
 
   SequencerMetrics(final int partitionId) {
     final var partitionLabel = String.valueOf(partitionId);
     batchSize = BATCH_SIZE.labels(partitionLabel);
     batchLengthBytes = BATCH_LENGTH_BYTES.labels(partitionLabel);
+    blockBatchCount = BLOCK_BATCH_COUNT.labels(partitionLabel);
   }
 
   void observeBatchSize(final int size) {
@@ -45,4 +58,8 @@ final class SequencerMetrics {
     final int batchLengthKiloBytes = Math.floorDiv(lengthBytes, 1024);
     batchLengthBytes.observe(batchLengthKiloBytes);
   }
+
+  void observeBlockBatchCount(final int count) {
+    blockBatchCount.observe(count);
+  }
 }
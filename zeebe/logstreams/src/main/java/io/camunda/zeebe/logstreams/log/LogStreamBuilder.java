@@ -62,6 +62,16 @@ public interface LogStreamBuilder {
 
   LogStreamBuilder withWriteRateLimit(RateLimit writeRateLimit);
 
+  /**
+   * Whether writes should be sequenced without a lock: writers claim their positions atomically
+   * and hand their batches over via a multi-producer queue, which is drained into the storage in
+   * blocks of consecutive batches. Defaults to false, i.e. a lock is taken for every write.
+   *
+   * @param lockFreeSequencer true to use the lock free sequencer
+   * @return this builder
+   */
+  LogStreamBuilder withLockFreeSequencer(boolean lockFreeSequencer);
+
   /**
    * Returns a future which, when completed, contains a log stream that can be read from/written to.
    *
@@ -0,0 +1,391 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.logstreams.util.TestEntry;
+import io.camunda.zeebe.test.util.asserts.EitherAssert;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.mockito.Mockito;
+
+@SuppressWarnings("resource")
+@Execution(ExecutionMode.CONCURRENT)
+final class LockFreeSequencerTest {
+
+  @Test
+  void writingMultipleEntriesIncreasesPositions() {
+    // given
+    final long initialPosition = 1L;
+    final var logStorage = Mockito.mock(LogStorage.class);
+    final var sequencer = newSequencer(logStorage, initialPosition, 16);
+    final var entries =
+        List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults(), TestEntry.ofDefaults());
+
+    // when
+    final var result = sequencer.tryWrite(WriteContext.internal(), entries);
+
+    // then
+    EitherAssert.assertThat(result)
+        .isRight()
+        .right()
+        .isEqualTo(initialPosition + entries.size() - 1);
+  }
+
+  @Test
+  void writesMultipleEntriesToLogStorage() {
+    // given
+    final var logStorage = Mockito.mock(LogStorage.class);
+    final var sequencer = newSequencer(logStorage, 1, 16);
+    final var entries =
+        List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults(), TestEntry.ofDefaults());
+
+    // when
+    sequencer.tryWrite(WriteContext.internal(), entries);
+
+    // then
+    Mockito.verify(logStorage).append(eq(1L), eq(3L), any(BufferWriter.class), any());
+  }
+
+  @Test
+  void appendsConsecutiveBatchesAsOneBlock() throws InterruptedException {
+    // given -- the first append blocks, such that the next batches are published while draining
+    final var logStorage = new BlockingLogStorage();
+    final var sequencer = newSequencer(logStorage, 1, 4 * 1024 * 1024);
+    final var firstWriter =
+        new Thread(() -> sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()));
+    firstWriter.start();
+    Awaitility.await("until the first batch is being appended")
+        .until(() -> logStorage.appendStarted.getCount() == 0);
+
+    // when
+    sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+    sequencer.tryWrite(
+        WriteContext.internal(), List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults()));
+    sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+    logStorage.continueAppending.countDown();
+    firstWriter.join(Duration.ofSeconds(10).toMillis());
+
+    // then
+    Assertions.assertThat(logStorage.appendedBlocks)
+        .containsExactly(new AppendedBlock(1, 1), new AppendedBlock(2, 5));
+  }
+
+  @Test
+  void doesNotAppendBlocksLargerThanMaxFragmentSize() throws InterruptedException {
+    // given -- the first append blocks, such that the next batches are published while draining
+    final var logStorage = new BlockingLogStorage();
+    final var sequencer = newSequencer(logStorage, 1, 1);
+    final var firstWriter =
+        new Thread(() -> sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()));
+    firstWriter.start();
+    Awaitility.await("until the first batch is being appended")
+        .until(() -> logStorage.appendStarted.getCount() == 0);
+
+    // when
+    sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+    sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+    logStorage.continueAppending.countDown();
+    firstWriter.join(Duration.ofSeconds(10).toMillis());
+
+    // then
+    Assertions.assertThat(logStorage.appendedBlocks)
+        .containsExactly(
+            new AppendedBlock(1, 1), new AppendedBlock(2, 2), new AppendedBlock(3, 3));
+  }
+
+  @Test
+  void maintainsPositionWithSingleWriterAndMultipleEntries() throws InterruptedException {
+    // given
+    final var logStorage = new VerifyingLogStorage();
+    final var sequencer = newSequencer(logStorage, 1, 16);
+    final var entries =
+        List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults(), TestEntry.ofDefaults());
+    final var testFailures = new ConcurrentLinkedQueue<Throwable>();
+
+    // when -- start a single writer thread
+    final var writer = newWriterThread(sequencer, 1, 100_000, entries, true, testFailures::add);
+    writer.start();
+    writer.join();
+
+    // then -- VerifyingLogStorage did not throw
+    Assertions.assertThat(testFailures).isEmpty();
+    Assertions.assertThat(logStorage.position).isEqualTo(300_000);
+  }
+
+  @Test
+  void maintainsPositionWithMultipleWritersAndMultipleEntries() throws InterruptedException {
+    // given
+    final var numberOfWriters = 8;
+    final var logStorage = new VerifyingLogStorage();
+    final var sequencer = newSequencer(logStorage, 1, 4 * 1024 * 1024);
+    final var entries =
+        List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults(), TestEntry.ofDefaults());
+    final var testFailures = new ConcurrentLinkedQueue<Throwable>();
+
+    // when
+    final var writers = new Thread[numberOfWriters];
+    for (int i = 0; i < numberOfWriters; i++) {
+      writers[i] = newWriterThread(sequencer, 1, 100_000, entries, false, testFailures::add);
+    }
+    for (final var writer : writers) {
+      writer.start();
+    }
+    for (final var writer : writers) {
+      writer.join();
+    }
+
+    // then -- VerifyingLogStorage did not throw, and every batch was appended
+    Assertions.assertThat(testFailures).isEmpty();
+    Assertions.assertThat(logStorage.position).isEqualTo(numberOfWriters * 300_000L);
+  }
+
+  @Test
+  void appendsEntriesOfConcurrentWritersAtTheirPositions() throws InterruptedException {
+    // given
+    final var numberOfWriters = 8;
+    final var batchesPerWriter = 10_000;
+    final var logStorage = new RecordingLogStorage();
+    final var sequencer = newSequencer(logStorage, 1, 4 * 1024 * 1024);
+    final var writtenPositions = new ConcurrentHashMap<Long, Long>();
+    final var testFailures = new ConcurrentLinkedQueue<Throwable>();
+
+    // when -- every writer writes entries with increasing keys, from its own range of keys
+    final var writers = new Thread[numberOfWriters];
+    for (int i = 0; i < numberOfWriters; i++) {
+      final long firstKey = (long) i * batchesPerWriter;
+      writers[i] =
+          new Thread(
+              () -> {
+                var key = firstKey;
+                while (key < firstKey + batchesPerWriter) {
+                  final var result =
+                      sequencer.tryWrite(WriteContext.internal(), TestEntry.ofKey(key));
+                  if (result.isRight()) {
+                    writtenPositions.put(key, result.get());
+                    key += 1;
+                  } else {
+                    LockSupport.parkNanos(1_000_000);
+                  }
+                }
+              });
+      writers[i].setUncaughtExceptionHandler((t, e) -> testFailures.add(e));
+    }
+    for (final var writer : writers) {
+      writer.start();
+    }
+    for (final var writer : writers) {
+      writer.join();
+    }
+
+    // then -- every entry was appended once, at the position returned to its writer, and the
+    // entries of each writer were appended in the order in which they were written
+    Assertions.assertThat(testFailures).isEmpty();
+    final var appendedEntries = List.copyOf(logStorage.appendedEntries);
+    Assertions.assertThat(appendedEntries)
+        .extracting(AppendedEntry::position)
+        .containsExactlyElementsOf(
+            LongStream.rangeClosed(1, (long) numberOfWriters * batchesPerWriter).boxed().toList());
+    Assertions.assertThat(appendedEntries)
+        .allSatisfy(
+            entry ->
+                Assertions.assertThat(entry.position())
+                    .isEqualTo(writtenPositions.get(entry.key())));
+    Assertions.assertThat(
+            appendedEntries.stream()
+                .collect(
+                    Collectors.groupingBy(
+                        entry -> entry.key() / batchesPerWriter,
+                        Collectors.mapping(AppendedEntry::key, Collectors.toList()))))
+        .hasSize(numberOfWriters)
+        .allSatisfy((writer, keys) -> Assertions.assertThat(keys).isSorted());
+  }
+
+  private LockFreeSequencer newSequencer(
+      final LogStorage logStorage, final long initialPosition, final int maxFragmentSize) {
+    return new LockFreeSequencer(
+        logStorage,
+        initialPosition,
+        maxFragmentSize,
+        new SequencerMetrics(1),
+        new FlowControl(new LogStreamMetrics(1)));
+  }
+
+  private Thread newWriterThread(
+      final LockFreeSequencer sequencer,
+      final long initialPosition,
+      final long batchesToWrite,
+      final List<LogAppendEntry> batchToWrite,
+      final boolean isOnlyWriter,
+      final Consumer<Throwable> failedAssertionHandler) {
+    final var thread =
+        new Thread(
+            () -> {
+              var batchesWritten = 0L;
+              var lastWrittenPosition = initialPosition - 1;
+              while (batchesWritten < batchesToWrite) {
+                final var result = sequencer.tryWrite(WriteContext.internal(), batchToWrite);
+                if (result.isRight()) {
+                  if (isOnlyWriter) {
+                    Assertions.assertThat(result.get())
+                        .isEqualTo(lastWrittenPosition + batchToWrite.size());
+                  } else {
+                    Assertions.assertThat(result.get()).isGreaterThan(lastWrittenPosition);
+                  }
+                  lastWrittenPosition = result.get();
+                  batchesWritten += 1;
+                } else {
+                  LockSupport.parkNanos(1_000_000);
+                }
+              }
+            });
+    thread.setUncaughtExceptionHandler((t, e) -> failedAssertionHandler.accept(e));
+
+    return thread;
+  }
+
+  private record AppendedBlock(long lowestPosition, long highestPosition) {}
+
+  private record AppendedEntry(long position, long key) {}
+
+  private static final class BlockingLogStorage implements LogStorage {
+    private final CountDownLatch appendStarted = new CountDownLatch(1);
+    private final CountDownLatch continueAppending = new CountDownLatch(1);
+    private final ConcurrentLinkedQueue<AppendedBlock> appendedBlocks =
+        new ConcurrentLinkedQueue<>();
+
+    @Override
+    public LogStorageReader newReader() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      appendedBlocks.add(new AppendedBlock(lowestPosition, highestPosition));
+      appendStarted.countDown();
+      try {
+        continueAppending.await(10, TimeUnit.SECONDS);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  private static final class VerifyingLogStorage implements LogStorage {
+
+    // only written by the writer which currently drains, read after all writers are joined
+    private volatile long position = -1;
+
+    @Override
+    public LogStorageReader newReader() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      if (position != -1) {
+        Assertions.assertThat(lowestPosition).isEqualTo(position + 1);
+      }
+      position = highestPosition;
+      listener.onCommit(position, highestPosition);
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  /** Reads back the entries of every appended block, in the order in which they were appended. */
+  private static final class RecordingLogStorage implements LogStorage {
+
+    // only written by the writer which currently drains, read after all writers are joined
+    private final ConcurrentLinkedQueue<AppendedEntry> appendedEntries =
+        new ConcurrentLinkedQueue<>();
+    private final LoggedEventImpl event = new LoggedEventImpl();
+
+    @Override
+    public LogStorageReader newReader() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      final var block = new UnsafeBuffer(new byte[bufferWriter.getLength()]);
+      bufferWriter.write(block, 0);
+
+      var offset = 0;
+      while (offset < block.capacity()) {
+        event.wrap(block, offset);
+        appendedEntries.add(new AppendedEntry(event.getPosition(), event.getKey()));
+        offset += event.getLength();
+      }
+      listener.onCommit(highestPosition, highestPosition);
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.logstreams.util.TestEntry;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link Sequencer} and the {@link LockFreeSequencer} with 1, 4 and 16 concurrent
+ * writers. The log storage does nothing but mark the appended positions as processed, such that
+ * the flow control does not accumulate in-flight entries, so the benchmark measures the cost of
+ * sequencing only.
+ *
+ * <p>The scores depend on the number of cores of the machine running the benchmark, so there are no
+ * assertions; the ordering of concurrent writes is verified by {@link LockFreeSequencerTest}.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class SequencerPerformanceTest {
+
+  private static final int MAX_FRAGMENT_SIZE = 4 * 1024 * 1024;
+
+  @Param({"LOCKING", "LOCK_FREE"})
+  public SequencerType sequencerType;
+
+  private final List<LogAppendEntry> batch = List.of(TestEntry.ofDefaults());
+  private LogStreamWriter sequencer;
+
+  @Setup
+  public void setup() {
+    final var flowControl = new FlowControl(new LogStreamMetrics(1));
+    final var logStorage = new ProcessingLogStorage(flowControl);
+    final var metrics = new SequencerMetrics(1);
+    sequencer =
+        switch (sequencerType) {
+          case LOCKING -> new Sequencer(logStorage, 1, MAX_FRAGMENT_SIZE, metrics, flowControl);
+          case LOCK_FREE ->
+              new LockFreeSequencer(logStorage, 1, MAX_FRAGMENT_SIZE, metrics, flowControl);
+        };
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Either<WriteFailure, Long> measureSingleWriter() {
+    return sequencer.tryWrite(WriteContext.internal(), batch);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Either<WriteFailure, Long> measureFourWriters() {
+    return sequencer.tryWrite(WriteContext.internal(), batch);
+  }
+
+  @Benchmark
+  @Threads(16)
+  public Either<WriteFailure, Long> measureSixteenWriters() {
+    return sequencer.tryWrite(WriteContext.internal(), batch);
+  }
+
+  public enum SequencerType {
+    LOCKING,
+    LOCK_FREE
+  }
+
+  /**
+   * Both sequencers only append while holding exclusive access (the lock or the drain flag), so
+   * it's safe to update the flow control here; this keeps its in-flight map from growing.
+   */
+  private record ProcessingLogStorage(FlowControl flowControl) implements LogStorage {
+
+    @Override
+    public LogStorageReader newReader() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      flowControl.onProcessed(highestPosition);
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -74,6 +74,12 @@ public final class SyncLogStreamBuilder implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public LogStreamBuilder withLockFreeSequencer(final boolean lockFreeSequencer) {
+    delegate.withLockFreeSequencer(lockFreeSequencer);
+    return this;
+  }
+
   @Override
   public ActorFuture<LogStream> buildAsync() {
     return delegate.buildAsync();
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.snapshots;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 
 /** Mutable checksum collection in simple file verification (SFV) file format */
@@ -29,9 +30,10 @@ public interface MutableChecksumsSFV extends ImmutableChecksumsSFV {
    *
    * @param fileName the name of the file (which relates to the given bytes), that is used in the
    *     checksum collection in SFV file format
-   * @param bytes the bytes for which the checksum should be created
+   * @param bytes the bytes for which the checksum should be created, from their position to their
+   *     limit; the position is not changed
    */
-  void updateFromBytes(final String fileName, final byte[] bytes);
+  void updateFromBytes(final String fileName, final ByteBuffer bytes);
 
   /**
    * Build the checksum collection from a SFV format string array.
@@ -9,6 +9,7 @@ package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import java.nio.file.Path;
+import java.util.Map;
 
 /** Represents a snapshot, which was persisted at the {@link PersistedSnapshotStore}. */
 public interface PersistedSnapshot {
@@ -78,6 +79,14 @@ public interface PersistedSnapshot {
    */
   long getChecksum();
 
+  /**
+   * Returns the checksums of the single files of the snapshot, by file name. Snapshots which only
+   * have a combined checksum return no file checksums.
+   *
+   * @return the checksums of the snapshot files
+   */
+  Map<String, Long> getFileChecksums();
+
   /**
    * SnapshotMetadata includes information related to a snapshot.
    *
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.snapshots;
 
+import java.nio.ByteBuffer;
+
 /** A chunk of an already persisted Snapshot. */
 public interface SnapshotChunk {
 
@@ -35,6 +37,14 @@ public interface SnapshotChunk {
    */
   byte[] getContent();
 
+  /**
+   * Returns the content of the current chunk without copying it, unlike {@link #getContent()}. The
+   * buffer is only valid as long as the chunk is, and must not be modified.
+   *
+   * @return a view of the content of the current chunk
+   */
+  ByteBuffer getContentBuffer();
+
   /**
    * @return the checksum of the entire snapshot
    */
@@ -46,4 +56,11 @@ public interface SnapshotChunk {
   long getFileBlockPosition();
 
   long getTotalFileSize();
+
+  /**
+   * @return true if the chunk doesn't carry the content of the file, because the receiver has the
+   *     same file in its latest snapshot already; the checksum is then the checksum of the whole
+   *     file
+   */
+  boolean isReusedFile();
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Map;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -41,4 +42,14 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @param maximumChunkSize
    */
   void setMaximumChunkSize(final int maximumChunkSize);
+
+  /**
+   * Sets the files which the receiver has already, by name and checksum. Files of this snapshot
+   * with the same name and checksum are not read anymore, but returned as a single chunk without
+   * content, see {@link SnapshotChunk#isReusedFile()}. Files which were partially returned already
+   * are continued as usual. The reusable files are cleared on {@link #reset()}.
+   *
+   * @param fileChecksums the checksums of the receiver's files by file name
+   */
+  void setReusableFiles(Map<String, Long> fileChecksums);
 }
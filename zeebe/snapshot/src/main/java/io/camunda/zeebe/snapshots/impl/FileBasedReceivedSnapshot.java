@@ -16,15 +16,33 @@ import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotId;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
+import java.util.TreeMap;
+import java.util.zip.CRC32C;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * A snapshot which is received chunk by chunk from the leader. Chunks may be applied in any order,
+ * and chunks which were applied already are ignored, so that the leader can send several chunks
+ * concurrently and retry them. The snapshot can only be persisted once all chunks of all files were
+ * applied.
+ *
+ * <p>Files which the receiver has in its latest snapshot already are not sent by the leader, but
+ * referenced by a chunk without content. They are hard linked from the latest snapshot, or copied
+ * if the file system doesn't support hard links, after verifying their checksum and size.
+ */
 public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(FileBasedReceivedSnapshot.class);
@@ -39,8 +57,8 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private int expectedTotalCount;
   private FileBasedSnapshotMetadata metadata;
   private ByteBuffer metadataBuffer;
-  private long writtenMetadataBytes;
   private SfvChecksumImpl checksumCollection;
+  private final Map<String, ReceivedFile> receivedFiles = new HashMap<>();
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
@@ -53,7 +71,6 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     this.actor = actor;
     expectedSnapshotChecksum = Long.MIN_VALUE;
     expectedTotalCount = Integer.MIN_VALUE;
-    writtenMetadataBytes = 0;
   }
 
   @Override
@@ -90,7 +107,28 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
-    checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
+    final var receivedFile =
+        receivedFiles.computeIfAbsent(
+            chunkName, name -> new ReceivedFile(snapshotChunk.getTotalFileSize()));
+    // the content is not copied, it's written from the received message straight to the file
+    final ByteBuffer content = snapshotChunk.getContentBuffer();
+    final long startPosition = snapshotChunk.getFileBlockPosition();
+    final long endPosition =
+        snapshotChunk.isReusedFile()
+            ? snapshotChunk.getTotalFileSize()
+            : startPosition + content.remaining();
+    if (receivedFile.contains(startPosition, endPosition)) {
+      LOGGER.trace(
+          "Ignore snapshot snapshotChunk {} at position {}, because it was applied already.",
+          chunkName,
+          startPosition);
+      snapshotStore.getSnapshotMetrics().incrementDuplicateChunkCount();
+      return;
+    }
+
+    if (!snapshotChunk.isReusedFile()) {
+      checkChunkChecksumIsValid(snapshotChunk, content, snapshotId, chunkName);
+    }
 
     final var tmpSnapshotDirectory = directory;
     try {
@@ -101,43 +139,112 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
 
     final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
-
-    LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
-    writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
-
     if (checksumCollection == null) {
       checksumCollection = new SfvChecksumImpl();
     }
-    checksumCollection.updateFromBytes(
-        snapshotFile.getFileName().toString(), snapshotChunk.getContent());
+
+    if (snapshotChunk.isReusedFile()) {
+      applyReusedFile(snapshotChunk, snapshotFile);
+      receivedFile.add(startPosition, endPosition);
+      snapshotStore.getSnapshotMetrics().observeReusedFile(snapshotChunk.getTotalFileSize());
+      return;
+    }
+
+    LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
+    writeReceivedSnapshotChunk(snapshotChunk, content, snapshotFile);
+    receivedFile.add(startPosition, endPosition);
+    snapshotStore.getSnapshotMetrics().observeReceivedChunk(content.remaining());
+
+    checksumCollection.updateFromBytes(snapshotFile.getFileName().toString(), content);
 
     if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStore.METADATA_FILE_NAME)) {
       try {
-        collectMetadata(snapshotChunk);
+        collectMetadata(snapshotChunk, content, receivedFile);
       } catch (final IOException e) {
         throw new SnapshotWriteException("Cannot decode snapshot metadata");
       }
     }
   }
 
-  private void collectMetadata(final SnapshotChunk chunk) throws IOException {
+  private void applyReusedFile(final SnapshotChunk snapshotChunk, final Path snapshotFile)
+      throws SnapshotWriteException {
+    final var chunkName = snapshotChunk.getChunkName();
+    final var latestSnapshot =
+        snapshotStore
+            .getLatestSnapshot()
+            .orElseThrow(
+                () ->
+                    new SnapshotWriteException(
+                        String.format(
+                            "Expected to reuse file %s of the latest snapshot, but there is no snapshot",
+                            chunkName)));
+    final var reusedFile = latestSnapshot.getPath().resolve(chunkName);
+
+    try {
+      final var checksum = latestSnapshot.getFileChecksums().get(chunkName);
+      if (checksum == null
+          || checksum != snapshotChunk.getChecksum()
+          || Files.size(reusedFile) != snapshotChunk.getTotalFileSize()) {
+        throw new SnapshotWriteException(
+            String.format(
+                "Expected to reuse file %s with checksum %d and size %d of the latest snapshot %s, but the snapshot has no such file",
+                chunkName,
+                snapshotChunk.getChecksum(),
+                snapshotChunk.getTotalFileSize(),
+                latestSnapshot.getId()));
+      }
+
+      // chunks of the file may have been written already, before the leader restarted sending
+      Files.deleteIfExists(snapshotFile);
+      try {
+        Files.createLink(snapshotFile, reusedFile);
+      } catch (final UnsupportedOperationException | FileSystemException e) {
+        LOGGER.debug("Failed to link reused file {}, copying it instead", reusedFile, e);
+        Files.copy(reusedFile, snapshotFile);
+      }
+
+      if (chunkName.equals(FileBasedSnapshotStore.METADATA_FILE_NAME)) {
+        metadata = FileBasedSnapshotMetadata.decode(Files.readAllBytes(snapshotFile));
+      }
+    } catch (final IOException | UncheckedIOException e) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Failed to reuse file %s of the latest snapshot %s",
+              chunkName,
+              latestSnapshot.getId()),
+          e);
+    }
+
+    LOGGER.trace("Reused file {} of snapshot {}", reusedFile, latestSnapshot.getId());
+    checksumCollection.updateFromChecksum(snapshotFile, snapshotChunk.getChecksum());
+  }
+
+  private void collectMetadata(
+      final SnapshotChunk chunk, final ByteBuffer content, final ReceivedFile receivedFile)
+      throws IOException {
     if (metadataBuffer == null) {
       metadataBuffer = ByteBuffer.allocate(Math.toIntExact(chunk.getTotalFileSize()));
     }
 
-    metadataBuffer.put(Math.toIntExact(chunk.getFileBlockPosition()), chunk.getContent());
-    writtenMetadataBytes += chunk.getContent().length;
+    metadataBuffer.put(
+        Math.toIntExact(chunk.getFileBlockPosition()),
+        content,
+        content.position(),
+        content.remaining());
 
-    if (writtenMetadataBytes == chunk.getTotalFileSize()) {
+    if (receivedFile.isComplete()) {
       metadata = FileBasedSnapshotMetadata.decode(metadataBuffer.array());
     }
   }
 
   private void checkChunkChecksumIsValid(
-      final SnapshotChunk snapshotChunk, final String snapshotId, final String chunkName)
+      final SnapshotChunk snapshotChunk,
+      final ByteBuffer content,
+      final String snapshotId,
+      final String chunkName)
       throws SnapshotWriteException {
     final long expectedChecksum = snapshotChunk.getChecksum();
-    final long actualChecksum = SnapshotChunkUtil.createChecksum(snapshotChunk.getContent());
+    final long actualChecksum = SnapshotChunkUtil.createChecksum(content);
 
     if (expectedChecksum != actualChecksum) {
       throw new SnapshotWriteException(
@@ -191,17 +298,21 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   }
 
   private void writeReceivedSnapshotChunk(
-      final SnapshotChunk snapshotChunk, final Path snapshotFile) throws SnapshotWriteException {
+      final SnapshotChunk snapshotChunk, final ByteBuffer content, final Path snapshotFile)
+      throws SnapshotWriteException {
 
     try (final var channel =
         FileChannel.open(snapshotFile, StandardOpenOption.WRITE, StandardOpenOption.CREATE)) {
-      final ByteBuffer buffer = ByteBuffer.wrap(snapshotChunk.getContent());
+      final ByteBuffer buffer = content.duplicate();
+      final int limit = buffer.limit();
+      long filePosition = snapshotChunk.getFileBlockPosition();
 
+      // written in blocks, as the JDK copies a heap buffer into a temporary direct buffer of the
+      // same size for every write
       while (buffer.hasRemaining()) {
-        final int newLimit = Math.min(buffer.capacity(), buffer.position() + BLOCK_SIZE);
-        channel.position(snapshotChunk.getFileBlockPosition() + buffer.position());
-        channel.write(buffer.limit(newLimit));
-        buffer.limit(buffer.capacity());
+        buffer.limit(Math.min(limit, buffer.position() + BLOCK_SIZE));
+        filePosition += channel.write(buffer, filePosition);
+        buffer.limit(limit);
       }
 
       channel.force(true);
@@ -277,7 +388,27 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
+    for (final var file : receivedFiles.entrySet()) {
+      if (!file.getValue().isComplete()) {
+        future.completeExceptionally(
+            new IllegalStateException(
+                String.format(
+                    "Expected to receive all %d bytes of file '%s' of this snapshot, but only received the byte ranges %s.",
+                    file.getValue().size, file.getKey(), file.getValue().ranges)));
+        return;
+      }
+    }
+
     try {
+      // the checksum of a file which was received in several chunks, possibly out of order, is
+      // only known once the whole file is written
+      for (final var file : receivedFiles.entrySet()) {
+        if (file.getValue().chunkCount > 1) {
+          final var filePath = directory.resolve(file.getKey());
+          checksumCollection.updateFromChecksum(filePath, computeFileChecksum(filePath));
+        }
+      }
+
       if (metadata == null) {
         // backward compatibility
         metadata =
@@ -297,6 +428,18 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     snapshotStore.removePendingSnapshot(this);
   }
 
+  private static long computeFileChecksum(final Path file) throws IOException {
+    final var checksum = new CRC32C();
+    final var buffer = ByteBuffer.allocate(BLOCK_SIZE);
+    try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      while (channel.read(buffer) > 0) {
+        checksum.update(buffer.flip());
+        buffer.clear();
+      }
+    }
+    return checksum.getValue();
+  }
+
   @Override
   public String toString() {
     return "FileBasedReceivedSnapshot{"
@@ -308,4 +451,46 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         + snapshotId
         + '}';
   }
+
+  /** Keeps track of the byte ranges of a snapshot file which were received already. */
+  private static final class ReceivedFile {
+    private final long size;
+    // non-overlapping ranges of received bytes, from the start position to the end position
+    // (exclusive)
+    private final NavigableMap<Long, Long> ranges = new TreeMap<>();
+    private int chunkCount;
+
+    private ReceivedFile(final long size) {
+      this.size = size;
+    }
+
+    private boolean contains(final long start, final long end) {
+      final var range = ranges.floorEntry(start);
+      return range != null && range.getValue() >= end;
+    }
+
+    private void add(final long start, final long end) {
+      chunkCount++;
+
+      long mergedStart = start;
+      long mergedEnd = end;
+      final var previous = ranges.floorEntry(start);
+      if (previous != null && previous.getValue() >= start) {
+        mergedStart = previous.getKey();
+      }
+
+      var next = ranges.ceilingEntry(mergedStart);
+      while (next != null && next.getKey() <= mergedEnd) {
+        mergedEnd = Math.max(mergedEnd, next.getValue());
+        ranges.remove(next.getKey());
+        next = ranges.ceilingEntry(mergedStart);
+      }
+      ranges.put(mergedStart, mergedEnd);
+    }
+
+    private boolean isComplete() {
+      final var range = ranges.firstEntry();
+      return range != null && range.getKey() == 0 && range.getValue() >= size;
+    }
+  }
 }
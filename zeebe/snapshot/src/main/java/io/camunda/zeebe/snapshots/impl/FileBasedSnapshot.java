@@ -20,7 +20,9 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
@@ -42,6 +44,7 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
   private final ActorControl actor;
 
   private boolean deleted = false;
+  private volatile Map<String, Long> fileChecksums;
 
   FileBasedSnapshot(
       final Path directory,
@@ -86,7 +89,7 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
   @Override
   public SnapshotChunkReader newChunkReader() {
     try {
-      return new FileBasedSnapshotChunkReader(directory, checksum);
+      return new FileBasedSnapshotChunkReader(directory, checksum, getFileChecksums());
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
@@ -117,6 +120,22 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
     return checksum;
   }
 
+  @Override
+  public Map<String, Long> getFileChecksums() {
+    // the checksum file of a persisted snapshot doesn't change, so it's only read once
+    Map<String, Long> checksums = fileChecksums;
+    if (checksums == null) {
+      try {
+        checksums =
+            Collections.unmodifiableSortedMap(SnapshotChecksum.read(checksumFile).getChecksums());
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      fileChecksums = checksums;
+    }
+    return checksums;
+  }
+
   @Override
   public SnapshotMetadata getMetadata() {
     return metadata;
@@ -15,17 +15,33 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.NavigableSet;
+import java.util.Set;
 import java.util.TreeSet;
 
 /**
  * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
  * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
  * the directory once this is created.
+ *
+ * <p>Files which the receiver has already, with the same name and checksum, are not read at all if
+ * set as reusable. They are returned as a single chunk without content, which the receiver resolves
+ * against its own latest snapshot. Consecutive snapshots share most of their SST files, so usually
+ * only the files which were added since the receiver's snapshot are sent.
+ *
+ * <p>The content of a chunk is read into a heap array; it's not streamed from the file to the
+ * network via {@link java.nio.channels.FileChannel#transferTo}. The chunk checksum is computed over
+ * the content, the Raft messaging only sends byte array payloads, and file regions can't be sent
+ * over TLS connections. Only the receiver avoids copying the content, see {@link
+ * SnapshotChunk#getContentBuffer()}.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final Path directory;
   private final NavigableSet<CharSequence> chunks;
+  private final Map<String, Long> fileChecksums;
+  private final Set<String> reusableFiles = new HashSet<>();
 
   private long offset;
   private NavigableSet<CharSequence> chunksView;
@@ -34,14 +50,20 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final String snapshotID;
   private long maximumChunkSize;
 
-  public FileBasedSnapshotChunkReader(final Path directory, final long checksum)
+  public FileBasedSnapshotChunkReader(
+      final Path directory, final long checksum, final Map<String, Long> fileChecksums)
       throws IOException {
-    this(directory, checksum, Long.MAX_VALUE);
+    this(directory, checksum, fileChecksums, Long.MAX_VALUE);
   }
 
   FileBasedSnapshotChunkReader(
-      final Path directory, final long checksum, final long maximumChunkSize) throws IOException {
+      final Path directory,
+      final long checksum,
+      final Map<String, Long> fileChecksums,
+      final long maximumChunkSize)
+      throws IOException {
     this.directory = directory;
+    this.fileChecksums = fileChecksums;
     chunks = collectChunks(directory);
     totalCount = chunks.size();
     chunksView = new TreeSet<>(chunks);
@@ -64,6 +86,7 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   @Override
   public void reset() {
     chunksView = new TreeSet<>(chunks);
+    reusableFiles.clear();
   }
 
   @Override
@@ -93,10 +116,22 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     this.maximumChunkSize = maximumChunkSize;
   }
 
+  @Override
+  public void setReusableFiles(final Map<String, Long> receiverFileChecksums) {
+    reusableFiles.clear();
+    receiverFileChecksums.forEach(
+        (fileName, checksum) -> {
+          if (checksum.equals(fileChecksums.get(fileName))) {
+            reusableFiles.add(fileName);
+          }
+        });
+  }
+
   @Override
   public void close() {
     chunks.clear();
     chunksView.clear();
+    reusableFiles.clear();
   }
 
   @Override
@@ -107,8 +142,11 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   @Override
   public SnapshotChunk next() {
     final var fileName = chunksView.first().toString();
-    final var filePath = directory.resolve(fileName).toString();
+    if (offset == 0 && reusableFiles.contains(fileName)) {
+      return nextReusedFile(fileName);
+    }
 
+    final var filePath = directory.resolve(fileName).toString();
     try (final var file = new RandomAccessFile(filePath, "r")) {
       final var fileLength = file.length();
       final var bytesToRead = Math.min(maximumChunkSize, fileLength - offset);
@@ -135,4 +173,21 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       throw new UncheckedIOException(e);
     }
   }
+
+  private SnapshotChunk nextReusedFile(final String fileName) {
+    try {
+      final var fileLength = Files.size(directory.resolve(fileName));
+      chunksView.pollFirst();
+
+      return SnapshotChunkUtil.createSnapshotChunkForReusedFile(
+          snapshotID,
+          totalCount,
+          snapshotChecksum,
+          fileName,
+          fileChecksums.get(fileName),
+          fileLength);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
 }
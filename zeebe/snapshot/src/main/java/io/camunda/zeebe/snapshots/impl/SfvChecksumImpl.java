@@ -134,11 +134,11 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
   }
 
   @Override
-  public void updateFromBytes(final String fileName, final byte[] bytes) {
+  public void updateFromBytes(final String fileName, final ByteBuffer bytes) {
     combinedChecksum.update(fileName.getBytes(UTF_8));
     final Checksum checksum = new CRC32C();
-    checksum.update(bytes);
-    combinedChecksum.update(bytes);
+    checksum.update(bytes.duplicate());
+    combinedChecksum.update(bytes.duplicate());
     checksums.put(fileName, checksum.getValue());
   }
 
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.snapshots.impl;
 
 import io.camunda.zeebe.snapshots.SnapshotChunk;
+import java.nio.ByteBuffer;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
 
@@ -21,6 +22,12 @@ final class SnapshotChunkUtil {
     return checksum.getValue();
   }
 
+  static long createChecksum(final ByteBuffer content) {
+    final Checksum checksum = newChecksum();
+    checksum.update(content.duplicate());
+    return checksum.getValue();
+  }
+
   static Checksum newChecksum() {
     return new CRC32C();
   }
@@ -43,7 +50,27 @@ final class SnapshotChunkUtil {
         fileData,
         snapshotChecksum,
         fileBlockPosition,
-        totalFileSize);
+        totalFileSize,
+        false);
+  }
+
+  static SnapshotChunk createSnapshotChunkForReusedFile(
+      final String snapshotId,
+      final int totalCount,
+      final long snapshotChecksum,
+      final String fileName,
+      final long fileChecksum,
+      final long totalFileSize) {
+    return new SnapshotChunkImpl(
+        snapshotId,
+        totalCount,
+        fileName,
+        fileChecksum,
+        new byte[0],
+        snapshotChecksum,
+        0,
+        totalFileSize,
+        true);
   }
 
   private static final class SnapshotChunkImpl implements SnapshotChunk {
@@ -55,6 +82,7 @@ final class SnapshotChunkUtil {
     private final long checksum;
     private final long fileBlockPosition;
     private final long totalFileSize;
+    private final boolean reusedFile;
 
     SnapshotChunkImpl(
         final String snapshotId,
@@ -64,7 +92,8 @@ final class SnapshotChunkUtil {
         final byte[] content,
         final long snapshotChecksum,
         final long fileBlockPosition,
-        final long totalFileSize) {
+        final long totalFileSize,
+        final boolean reusedFile) {
       this.snapshotId = snapshotId;
       this.totalCount = totalCount;
       this.chunkName = chunkName;
@@ -73,6 +102,7 @@ final class SnapshotChunkUtil {
       this.snapshotChecksum = snapshotChecksum;
       this.fileBlockPosition = fileBlockPosition;
       this.totalFileSize = totalFileSize;
+      this.reusedFile = reusedFile;
     }
 
     @Override
@@ -100,6 +130,11 @@ final class SnapshotChunkUtil {
       return content;
     }
 
+    @Override
+    public ByteBuffer getContentBuffer() {
+      return ByteBuffer.wrap(content);
+    }
+
     @Override
     public long getSnapshotChecksum() {
       return snapshotChecksum;
@@ -114,5 +149,10 @@ final class SnapshotChunkUtil {
     public long getTotalFileSize() {
       return totalFileSize;
     }
+
+    @Override
+    public boolean isReusedFile() {
+      return reusedFile;
+    }
   }
 }
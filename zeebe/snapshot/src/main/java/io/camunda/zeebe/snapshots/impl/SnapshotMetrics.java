@@ -61,6 +61,36 @@ public final class SnapshotMetrics {
           .name("snapshot_file_size_megabytes")
           .buckets(.01, .1, .5, 1, 5, 10, 25, 50, 100, 250, 500)
           .register();
+  private static final Counter SNAPSHOT_CHUNKS_RECEIVED =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_chunks_received")
+          .help("Total count of snapshot chunks received and written by a follower")
+          .register();
+  private static final Counter SNAPSHOT_RECEIVED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_received_bytes")
+          .help(
+              "Total size of the snapshot chunks received and written by a follower; its rate is the snapshot replication throughput")
+          .register();
+  private static final Counter SNAPSHOT_DUPLICATE_CHUNKS_RECEIVED =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_duplicate_chunks_received")
+          .help("Total count of received snapshot chunks which were ignored as applied already")
+          .register();
+  private static final Counter SNAPSHOT_REUSED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_reused_bytes")
+          .help(
+              "Total size of the files of received snapshots which were taken over from the previous snapshot instead of being sent by the leader")
+          .register();
 
   private final Histogram.Child snapshotPersistDuration;
   private final Histogram.Child snapshotFileSize;
@@ -68,6 +98,10 @@ public final class SnapshotMetrics {
   private final Gauge.Child snapshotChunkCount;
   private final Gauge.Child snapshotSize;
   private final Child snapshotCount;
+  private final Child snapshotChunksReceived;
+  private final Child snapshotReceivedBytes;
+  private final Child snapshotDuplicateChunksReceived;
+  private final Child snapshotReusedBytes;
 
   public SnapshotMetrics(final String partitionId) {
     snapshotDuration = SNAPSHOT_DURATION.labels(partitionId);
@@ -76,6 +110,10 @@ public final class SnapshotMetrics {
     snapshotChunkCount = SNAPSHOT_CHUNK_COUNT.labels(partitionId);
     snapshotSize = SNAPSHOT_SIZE.labels(partitionId);
     snapshotCount = SNAPSHOT_COUNT.labels(partitionId);
+    snapshotChunksReceived = SNAPSHOT_CHUNKS_RECEIVED.labels(partitionId);
+    snapshotReceivedBytes = SNAPSHOT_RECEIVED_BYTES.labels(partitionId);
+    snapshotDuplicateChunksReceived = SNAPSHOT_DUPLICATE_CHUNKS_RECEIVED.labels(partitionId);
+    snapshotReusedBytes = SNAPSHOT_REUSED_BYTES.labels(partitionId);
   }
 
   void incrementSnapshotCount() {
@@ -94,6 +132,19 @@ public final class SnapshotMetrics {
     snapshotFileSize.observe(sizeInBytes / 1_000_000f);
   }
 
+  void observeReceivedChunk(final long sizeInBytes) {
+    snapshotChunksReceived.inc();
+    snapshotReceivedBytes.inc(sizeInBytes);
+  }
+
+  void incrementDuplicateChunkCount() {
+    snapshotDuplicateChunksReceived.inc();
+  }
+
+  void observeReusedFile(final long sizeInBytes) {
+    snapshotReusedBytes.inc(sizeInBytes);
+  }
+
   Timer startTimer() {
     return snapshotDuration.startTimer();
   }
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.snapshots;
 
+import java.nio.ByteBuffer;
+
 public final class SnapshotChunkWrapper implements SnapshotChunk {
 
   private final SnapshotChunk wrappedChunk;
@@ -16,6 +18,7 @@ public final class SnapshotChunkWrapper implements SnapshotChunk {
   private Long checksum;
   private Long snapshotChecksum;
   private byte[] contents;
+  private ByteBuffer contentBuffer;
 
   private SnapshotChunkWrapper(final SnapshotChunk wrappedChunk) {
     this.wrappedChunk = wrappedChunk;
@@ -60,6 +63,14 @@ public final class SnapshotChunkWrapper implements SnapshotChunk {
     return wrapper;
   }
 
+  public static SnapshotChunk withContentBuffer(
+      final SnapshotChunk wrappedChunk, final ByteBuffer contentBuffer) {
+    final var wrapper = new SnapshotChunkWrapper(wrappedChunk);
+    wrapper.contentBuffer = contentBuffer;
+
+    return wrapper;
+  }
+
   @Override
   public String getSnapshotId() {
     if (snapshotId == null) {
@@ -91,12 +102,25 @@ public final class SnapshotChunkWrapper implements SnapshotChunk {
 
   @Override
   public byte[] getContent() {
+    if (contentBuffer != null) {
+      final var bytes = new byte[contentBuffer.remaining()];
+      contentBuffer.duplicate().get(bytes);
+      return bytes;
+    }
     if (contents == null) {
       return wrappedChunk.getContent();
     }
     return contents;
   }
 
+  @Override
+  public ByteBuffer getContentBuffer() {
+    if (contentBuffer != null) {
+      return contentBuffer.duplicate();
+    }
+    return contents == null ? wrappedChunk.getContentBuffer() : ByteBuffer.wrap(contents);
+  }
+
   @Override
   public long getSnapshotChecksum() {
     if (snapshotChecksum == null) {
@@ -114,4 +138,9 @@ public final class SnapshotChunkWrapper implements SnapshotChunk {
   public long getTotalFileSize() {
     return wrappedChunk.getTotalFileSize();
   }
+
+  @Override
+  public boolean isReusedFile() {
+    return wrappedChunk.isReusedFile();
+  }
 }
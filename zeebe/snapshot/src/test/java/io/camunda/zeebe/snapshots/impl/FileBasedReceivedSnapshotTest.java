@@ -22,10 +22,14 @@ import io.camunda.zeebe.test.util.asserts.DirectoryAssert;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.assertj.core.api.Assertions;
@@ -372,6 +376,166 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldReceiveChunksWhoseContentIsASliceOfALargerBuffer() throws IOException {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when - the content is only a part of the received message, as when it's decoded in place
+    for (final var chunk : readChunks(persistedSnapshot, 3)) {
+      final var content = chunk.getContent();
+      final var message = new byte[content.length + 8];
+      System.arraycopy(content, 0, message, 4, content.length);
+      final var contentBuffer = ByteBuffer.wrap(message, 4, content.length).slice();
+
+      receivedSnapshot.apply(SnapshotChunkWrapper.withContentBuffer(chunk, contentBuffer)).join();
+    }
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    for (final var fileName : SNAPSHOT_FILE_CONTENTS.keySet()) {
+      assertThat(receivedPersistedSnapshot.getPath().resolve(fileName))
+          .hasSameBinaryContentAs(persistedSnapshot.getPath().resolve(fileName));
+    }
+  }
+
+  @Test
+  public void shouldReceiveChunksOutOfOrder() throws IOException {
+    // given
+    final var persistedSnapshot = (FileBasedSnapshot) takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    final var chunks = readChunks(persistedSnapshot, 2);
+
+    // when
+    Collections.reverse(chunks);
+    for (final var chunk : chunks) {
+      receivedSnapshot.apply(chunk).join();
+    }
+    final var receivedPersistedSnapshot = (FileBasedSnapshot) receivedSnapshot.persist().join();
+
+    // then
+    assertThat(receivedPersistedSnapshot.getMetadata()).isEqualTo(persistedSnapshot.getMetadata());
+    assertThat(SnapshotChecksum.read(receivedPersistedSnapshot.getChecksumPath()).getChecksums())
+        .as("the checksum of every file is computed over the whole file")
+        .isEqualTo(SnapshotChecksum.read(persistedSnapshot.getChecksumPath()).getChecksums());
+  }
+
+  @Test
+  public void shouldIgnoreChunkWhichWasAppliedAlready() {
+    // given
+    final var persistedSnapshot = (FileBasedSnapshot) takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    final var chunks = readChunks(persistedSnapshot, 4);
+
+    // when
+    for (final var chunk : chunks) {
+      receivedSnapshot.apply(chunk).join();
+      receivedSnapshot.apply(chunk).join();
+    }
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(receivedPersistedSnapshot.getMetadata()).isEqualTo(persistedSnapshot.getMetadata());
+  }
+
+  @Test
+  public void shouldNotPersistIfChunkIsMissing() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    final var chunks = readChunks(persistedSnapshot, 2);
+    final var missingChunk =
+        chunks.stream().filter(chunk -> chunk.getFileBlockPosition() > 0).findFirst().orElseThrow();
+
+    // when
+    for (final var chunk : chunks) {
+      if (chunk != missingChunk) {
+        receivedSnapshot.apply(chunk).join();
+      }
+    }
+
+    // then
+    assertThatThrownBy(() -> receivedSnapshot.persist().join())
+        .hasCauseInstanceOf(IllegalStateException.class)
+        .hasMessageContaining(missingChunk.getChunkName());
+  }
+
+  @Test
+  public void shouldReuseFilesOfLatestSnapshot() throws IOException {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var latestSnapshot = receiverSnapshotStore.getLatestSnapshot().orElseThrow();
+    final var persistedSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    final var chunks = new ArrayList<SnapshotChunk>();
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setReusableFiles(latestSnapshot.getFileChecksums());
+      while (snapshotChunkReader.hasNext()) {
+        chunks.add(snapshotChunkReader.next());
+      }
+    }
+    for (final var chunk : chunks) {
+      receivedSnapshot.apply(chunk).join();
+    }
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(chunks)
+        .as("the files are the same in both snapshots, so none is sent")
+        .allMatch(SnapshotChunk::isReusedFile);
+    assertThat(latestSnapshot.getPath()).as("the previous snapshot was deleted").doesNotExist();
+    assertThat(receivedPersistedSnapshot.getMetadata()).isEqualTo(persistedSnapshot.getMetadata());
+    assertThat(receivedPersistedSnapshot.getFileChecksums())
+        .isEqualTo(persistedSnapshot.getFileChecksums());
+    for (final var file : SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      assertThat(receivedPersistedSnapshot.getPath().resolve(file.getKey()))
+          .hasContent(file.getValue());
+    }
+  }
+
+  @Test
+  public void shouldNotApplyReusedFileWhichLatestSnapshotDoesNotHave() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    final var fileChecksums = persistedSnapshot.getFileChecksums();
+
+    // when
+    final var reusedChunk =
+        SnapshotChunkUtil.createSnapshotChunkForReusedFile(
+            persistedSnapshot.getId(),
+            fileChecksums.size(),
+            persistedSnapshot.getChecksum(),
+            "file1",
+            fileChecksums.get("file1"),
+            SNAPSHOT_FILE_CONTENTS.get("file1").length());
+
+    // then
+    assertThatThrownBy(() -> receivedSnapshot.apply(reusedChunk).join())
+        .hasCauseInstanceOf(SnapshotWriteException.class);
+  }
+
+  private List<SnapshotChunk> readChunks(
+      final PersistedSnapshot persistedSnapshot, final int maximumChunkSize) {
+    final var chunks = new ArrayList<SnapshotChunk>();
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(maximumChunkSize);
+      while (snapshotChunkReader.hasNext()) {
+        chunks.add(snapshotChunkReader.next());
+      }
+    }
+    return chunks;
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
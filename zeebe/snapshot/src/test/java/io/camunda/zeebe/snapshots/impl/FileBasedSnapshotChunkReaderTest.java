@@ -9,6 +9,7 @@ package io.camunda.zeebe.snapshots.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
@@ -333,6 +334,68 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(chunkFromFirstSeek.getChecksum()).isEqualTo(chunkFromSecondSeek.getChecksum());
   }
 
+  @Test
+  public void shouldReturnReusableFileWithoutContent() throws IOException {
+    // given
+    final var reader = newReader();
+
+    // when
+    reader.setReusableFiles(Map.of("file2", fileChecksum("file2")));
+    final var chunks = getAllChunks(reader);
+
+    // then
+    assertThat(chunks)
+        .extracting(SnapshotChunk::getChunkName, SnapshotChunk::isReusedFile)
+        .containsExactly(tuple("file1", false), tuple("file2", true), tuple("file3", false));
+    final var reusedChunk = chunks.get(1);
+    assertThat(reusedChunk.getContent()).isEmpty();
+    assertThat(reusedChunk.getChecksum()).isEqualTo(fileChecksum("file2"));
+    assertThat(reusedChunk.getTotalFileSize()).isEqualTo(SNAPSHOT_CHUNK.get("file2").length());
+  }
+
+  @Test
+  public void shouldNotReuseFileWithDifferentChecksum() throws IOException {
+    // given
+    final var reader = newReader();
+
+    // when
+    reader.setReusableFiles(Map.of("file2", fileChecksum("file2") + 1));
+    final var chunks = getAllChunks(reader);
+
+    // then
+    assertThat(chunks).noneMatch(SnapshotChunk::isReusedFile);
+  }
+
+  @Test
+  public void shouldContinuePartiallyReadFileWhichIsReusable() throws IOException {
+    // given
+    final var reader = newReader(2);
+    reader.next(); // first chunk of file1
+
+    // when
+    reader.setReusableFiles(Map.of("file1", fileChecksum("file1")));
+    final var chunk = reader.next();
+
+    // then
+    assertThat(chunk.getChunkName()).isEqualTo("file1");
+    assertThat(chunk.isReusedFile()).isFalse();
+    assertThat(chunk.getFileBlockPosition()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotReuseFilesAfterReset() throws IOException {
+    // given
+    final var reader = newReader();
+    reader.setReusableFiles(Map.of("file2", fileChecksum("file2")));
+
+    // when
+    reader.reset();
+    final var chunks = getAllChunks(reader);
+
+    // then
+    assertThat(chunks).noneMatch(SnapshotChunk::isReusedFile);
+  }
+
   private List<SnapshotChunk> getAllChunks(final FileBasedSnapshotChunkReader reader) {
     final var snapshotChunks = new ArrayList<SnapshotChunk>();
 
@@ -356,7 +419,19 @@ public final class FileBasedSnapshotChunkReaderTest {
       Files.writeString(path, SNAPSHOT_CHUNK.get(chunk));
     }
 
-    return new FileBasedSnapshotChunkReader(snapshotDirectory, SNAPSHOT_CHECKSUM, chunkSize);
+    return new FileBasedSnapshotChunkReader(
+        snapshotDirectory, SNAPSHOT_CHECKSUM, fileChecksums(), chunkSize);
+  }
+
+  private Map<String, Long> fileChecksums() {
+    final var checksums = new HashMap<String, Long>();
+    SNAPSHOT_CHUNK.keySet().forEach(fileName -> checksums.put(fileName, fileChecksum(fileName)));
+    return checksums;
+  }
+
+  private long fileChecksum(final String fileName) {
+    return SnapshotChunkUtil.createChecksum(
+        SNAPSHOT_CHUNK.get(fileName).getBytes(StandardCharsets.UTF_8));
   }
 
   private FileBasedSnapshotChunkReader newReader() throws IOException {
@@ -109,6 +109,22 @@ public final class FileBasedSnapshotTest {
     assertThat(snapshot.isReserved()).isFalse();
   }
 
+  @Test
+  public void shouldReadFileChecksumsOnlyOnce() throws IOException {
+    // given
+    final var snapshotPath = snapshotDir.resolve("snapshot");
+    final Path checksumPath = snapshotDir.resolve("checksum");
+    final var snapshot = createSnapshot(snapshotPath, checksumPath);
+    final var fileChecksums = snapshot.getFileChecksums();
+
+    // when
+    Files.delete(checksumPath);
+
+    // then
+    assertThat(fileChecksums).containsOnlyKeys(SNAPSHOT_FILE_CONTENTS.keySet());
+    assertThat(snapshot.getFileChecksums()).isSameAs(fileChecksums);
+  }
+
   private FileBasedSnapshot createSnapshot(final Path snapshotPath, final Path checksumPath)
       throws IOException {
     final var metadata = new FileBasedSnapshotId(1L, 1L, 1L, 1L);
@@ -0,0 +1,144 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import io.camunda.zeebe.stream.api.records.RecordBatchSizePredicate;
+import io.camunda.zeebe.stream.impl.metrics.StreamProcessorMetrics;
+import java.time.Duration;
+
+/**
+ * Decides how many commands the {@link ProcessingStateMachine} may process in one batch.
+ *
+ * <p>By default, the limit is fixed to the configured {@code maxCommandsInBatch}. In adaptive mode,
+ * the configured value is only the starting point, and the limit is adjusted after each batch:
+ *
+ * <ul>
+ *   <li>it grows by roughly 10% if the last batch was cut off by the limit, and a batch of the
+ *       grown size (extrapolated from the bytes and records per command of the last batch, with
+ *       room to spare) could still be written at once, as checked via {@link
+ *       io.camunda.zeebe.logstreams.log.LogStreamWriter#canWriteEvents(int, int)} against the max
+ *       fragment size of the sequencer
+ *   <li>it is halved if a batch exceeded the max batch size, and had to be rolled back and retried
+ *   <li>it shrinks by a quarter if committing the state of a batch which was cut off by the limit
+ *       took longer than {@link #TARGET_COMMIT_LATENCY}
+ * </ul>
+ *
+ * The limit always stays between 1 and {@link #MAX_ADAPTIVE_COMMANDS_IN_BATCH}.
+ */
+final class CommandBatchSizeController {
+
+  static final int MAX_ADAPTIVE_COMMANDS_IN_BATCH = 1024;
+  static final Duration TARGET_COMMIT_LATENCY = Duration.ofMillis(50);
+
+  // we only grow if twice the projected batch would still fit; the next commands may well produce
+  // more follow up records than the last ones, and exceeding the batch size is expensive
+  private static final int GROWTH_HEADROOM_FACTOR = 2;
+
+  private final boolean adaptive;
+  private final RecordBatchSizePredicate canWriteEvents;
+  private final StreamProcessorMetrics metrics;
+  private final long targetCommitLatencyNanos = TARGET_COMMIT_LATENCY.toNanos();
+
+  private int limit;
+  private boolean lastBatchReachedLimit;
+
+  CommandBatchSizeController(
+      final int maxCommandsInBatch,
+      final boolean adaptive,
+      final RecordBatchSizePredicate canWriteEvents,
+      final StreamProcessorMetrics metrics) {
+    this.adaptive = adaptive;
+    this.canWriteEvents = canWriteEvents;
+    this.metrics = metrics;
+    limit = adaptive ? clamp(maxCommandsInBatch) : maxCommandsInBatch;
+    metrics.setBatchProcessingLimit(limit);
+  }
+
+  /**
+   * @return the maximum number of commands which should be processed in the next batch
+   */
+  int getLimit() {
+    return limit;
+  }
+
+  /**
+   * Called after a batch was processed successfully, before it is written.
+   *
+   * @param processedCommands the number of commands processed in the batch
+   * @param batchLimit the limit the batch was processed with, which can be lower than {@link
+   *     #getLimit()} when retrying a batch which exceeded the max batch size
+   * @param recordCount the number of records which will be written for the batch
+   * @param batchBytes the size in bytes of the records which will be written for the batch
+   */
+  void onBatchProcessed(
+      final int processedCommands,
+      final int batchLimit,
+      final int recordCount,
+      final int batchBytes) {
+    if (!adaptive || processedCommands < 1) {
+      return;
+    }
+
+    lastBatchReachedLimit = processedCommands >= batchLimit;
+    if (!lastBatchReachedLimit || batchLimit < limit || limit >= MAX_ADAPTIVE_COMMANDS_IN_BATCH) {
+      return;
+    }
+
+    final int grownLimit = clamp(limit + Math.max(1, limit / 10));
+    final long projectedRecords =
+        (long) recordCount * grownLimit * GROWTH_HEADROOM_FACTOR / processedCommands;
+    final long projectedBytes =
+        (long) batchBytes * grownLimit * GROWTH_HEADROOM_FACTOR / processedCommands;
+    if (projectedRecords <= Integer.MAX_VALUE
+        && projectedBytes <= Integer.MAX_VALUE
+        && canWriteEvents.test((int) projectedRecords, (int) projectedBytes)) {
+      limit = grownLimit;
+      metrics.batchProcessingLimitGrown(limit);
+    }
+  }
+
+  /**
+   * Called when the result of a batch exceeded the max batch size, before it is retried.
+   *
+   * @param processedCommands the number of commands processed before the batch size was exceeded
+   */
+  void onBatchSizeExceeded(final int processedCommands) {
+    lastBatchReachedLimit = false;
+    if (!adaptive) {
+      return;
+    }
+
+    final int shrunkLimit = clamp(Math.min(limit / 2, processedCommands));
+    if (shrunkLimit < limit) {
+      limit = shrunkLimit;
+      metrics.batchProcessingLimitShrunkOnExceededBatchSize(limit);
+    }
+  }
+
+  /**
+   * Called after the state changes of the last batch were committed.
+   *
+   * @param commitLatencyNanos how long the commit took, in nanoseconds
+   */
+  void onCommitted(final long commitLatencyNanos) {
+    if (!adaptive || !lastBatchReachedLimit || commitLatencyNanos <= targetCommitLatencyNanos) {
+      return;
+    }
+
+    lastBatchReachedLimit = false;
+    final int shrunkLimit = clamp(limit - limit / 4);
+    if (shrunkLimit < limit) {
+      limit = shrunkLimit;
+      metrics.batchProcessingLimitShrunkOnCommitLatency(limit);
+    }
+  }
+
+  private static int clamp(final int limit) {
+    return Math.max(1, Math.min(limit, MAX_ADAPTIVE_COMMANDS_IN_BATCH));
+  }
+}
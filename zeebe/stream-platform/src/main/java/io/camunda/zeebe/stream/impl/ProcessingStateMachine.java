@@ -159,7 +159,7 @@ public final class ProcessingStateMachine {
   private RecordProcessor currentProcessor;
   private final LogStreamWriter logStreamWriter;
   private boolean inProcessing;
-  private final int maxCommandsInBatch;
+  private final CommandBatchSizeController batchSizeController;
   private int processedCommandsCount;
   private final ProcessingMetrics processingMetrics;
   private final ScheduledCommandCache scheduledCommandCache;
@@ -180,7 +180,6 @@ public final class ProcessingStateMachine {
     transactionContext = context.getTransactionContext();
     abortCondition = context.getAbortCondition();
     lastProcessedPositionState = context.getLastProcessedPositionState();
-    maxCommandsInBatch = context.getMaxCommandsInBatch();
 
     writeRetryStrategy = new AbortableRetryStrategy(actor);
     sideEffectsRetryStrategy = new AbortableRetryStrategy(actor);
@@ -192,6 +191,12 @@ public final class ProcessingStateMachine {
 
     metrics = new StreamProcessorMetrics(partitionId);
     metrics.initializeProcessorPhase(context.getStreamProcessorPhase());
+    batchSizeController =
+        new CommandBatchSizeController(
+            context.getMaxCommandsInBatch(),
+            context.isEnableAdaptiveCommandBatching(),
+            logStreamWriter::canWriteEvents,
+            metrics);
     streamProcessorListener = context.getStreamProcessorListener();
 
     processingMetrics = new ProcessingMetrics(Integer.toString(partitionId));
@@ -303,9 +308,10 @@ public final class ProcessingStateMachine {
         LOG.warn(
             WARN_MESSAGE_BATCH_PROCESSING_RETRY,
             processedCommandsCount,
-            maxCommandsInBatch,
+            batchSizeController.getLimit(),
             exceededBatchRecordSizeException);
         processingMetrics.countRetry();
+        batchSizeController.onBatchSizeExceeded(processedCommandsCount);
         onError(exceededBatchRecordSizeException, () -> processCommand(loggedEvent));
       } else {
         onError(
@@ -354,7 +360,7 @@ public final class ProcessingStateMachine {
     // We know that we can process until the last processed commands count, which is why we set it
     // as our processing batch limit, in order to handle the commands afterwards as own batch.
     final var currentProcessingBatchLimit =
-        processedCommandsCount > 0 ? processedCommandsCount : maxCommandsInBatch;
+        processedCommandsCount > 0 ? processedCommandsCount : batchSizeController.getLimit();
     processedCommandsCount = 0;
     pendingWrites = new ArrayList<>();
     pendingResponses = Collections.newSetFromMap(new IdentityHashMap<>(2));
@@ -389,6 +395,13 @@ public final class ProcessingStateMachine {
       processedCommandsCount++;
       metrics.commandsProcessed();
     }
+
+    var batchBytes = 0;
+    for (final var pendingWrite : pendingWrites) {
+      batchBytes += pendingWrite.getLength();
+    }
+    batchSizeController.onBatchProcessed(
+        processedCommandsCount, currentProcessingBatchLimit, pendingWrites.size(), batchBytes);
   }
 
   /**
@@ -644,7 +657,9 @@ public final class ProcessingStateMachine {
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
+              final var commitStartTime = System.nanoTime();
               zeebeDbTransaction.commit();
+              batchSizeController.onCommitted(System.nanoTime() - commitStartTime);
               lastSuccessfulProcessedRecordPosition = currentRecord.getPosition();
               metrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
               lastWrittenPosition = writtenPosition;
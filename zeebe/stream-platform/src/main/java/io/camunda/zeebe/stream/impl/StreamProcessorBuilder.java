@@ -152,6 +152,11 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  public StreamProcessorBuilder setEnableAdaptiveCommandBatching(final boolean enabled) {
+    streamProcessorContext.setEnableAdaptiveCommandBatching(enabled);
+    return this;
+  }
+
   public StreamProcessorBuilder setEnableAsyncScheduledTasks(final boolean enabled) {
     streamProcessorContext.setEnableAsyncScheduledTasks(enabled);
     return this;
@@ -48,6 +48,7 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private volatile StreamProcessor.Phase phase = Phase.INITIAL;
   private KeyGeneratorControls keyGeneratorControls;
   private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private boolean enableAdaptiveCommandBatching;
   private boolean enableAsyncScheduledTasks = true;
   private EventFilter processingFilter = e -> true;
 
@@ -206,6 +207,15 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
     return maxCommandsInBatch;
   }
 
+  public StreamProcessorContext setEnableAdaptiveCommandBatching(final boolean enabled) {
+    enableAdaptiveCommandBatching = enabled;
+    return this;
+  }
+
+  public boolean isEnableAdaptiveCommandBatching() {
+    return enableAdaptiveCommandBatching;
+  }
+
   public StreamProcessorContext setEnableAsyncScheduledTasks(final boolean enabled) {
     enableAsyncScheduledTasks = enabled;
     return this;
@@ -22,6 +22,10 @@ public final class StreamProcessorMetrics {
   private static final String LABEL_WRITTEN = "written";
   private static final String LABEL_SKIPPED = "skipped";
   private static final String LABEL_PROCESSED = "processed";
+  private static final String LABEL_NAME_REASON = "reason";
+  private static final String LABEL_GROW = "grow";
+  private static final String LABEL_EXCEEDED_BATCH_SIZE = "exceeded_batch_size";
+  private static final String LABEL_COMMIT_LATENCY = "commit_latency";
   private static final String NAMESPACE = "zeebe";
 
   private static final Counter STREAM_PROCESSOR_EVENTS =
@@ -73,12 +77,31 @@ public final class StreamProcessorMetrics {
           .help("Describes the state of the stream processor, namely if it is active or paused.")
           .labelNames(LABEL_NAME_PARTITION)
           .register();
+
+  private static final Gauge BATCH_PROCESSING_LIMIT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_batch_processing_limit")
+          .help("The current maximum number of commands which are processed in one batch")
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
+  private static final Counter BATCH_PROCESSING_LIMIT_CHANGES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_batch_processing_limit_changes_total")
+          .help("Number of times the adaptive batch processing limit was changed, by reason")
+          .labelNames(LABEL_NAME_PARTITION, LABEL_NAME_REASON)
+          .register();
+
   private final String partitionIdLabel;
   private final Gauge.Child processorState;
+  private final Gauge.Child batchProcessingLimit;
 
   public StreamProcessorMetrics(final int partitionId) {
     partitionIdLabel = String.valueOf(partitionId);
     processorState = PROCESSOR_STATE.labels(partitionIdLabel);
+    batchProcessingLimit = BATCH_PROCESSING_LIMIT.labels(partitionIdLabel);
   }
 
   public void setStreamProcessorInitial() {
@@ -146,6 +169,30 @@ public final class StreamProcessorMetrics {
     LAST_PROCESSED_POSITION.labels(partitionIdLabel).set(position);
   }
 
+  public void setBatchProcessingLimit(final int limit) {
+    batchProcessingLimit.set(limit);
+  }
+
+  /** The batch processing limit was raised, because batches reached it and had room to grow. */
+  public void batchProcessingLimitGrown(final int limit) {
+    batchProcessingLimitChanged(limit, LABEL_GROW);
+  }
+
+  /** The batch processing limit was lowered, because a batch exceeded the max batch size. */
+  public void batchProcessingLimitShrunkOnExceededBatchSize(final int limit) {
+    batchProcessingLimitChanged(limit, LABEL_EXCEEDED_BATCH_SIZE);
+  }
+
+  /** The batch processing limit was lowered, because committing a full batch took too long. */
+  public void batchProcessingLimitShrunkOnCommitLatency(final int limit) {
+    batchProcessingLimitChanged(limit, LABEL_COMMIT_LATENCY);
+  }
+
+  private void batchProcessingLimitChanged(final int limit, final String reason) {
+    batchProcessingLimit.set(limit);
+    BATCH_PROCESSING_LIMIT_CHANGES.labels(partitionIdLabel, reason).inc();
+  }
+
   public void initializeProcessorPhase(final Phase phase) {
     switch (phase) {
       case INITIAL:
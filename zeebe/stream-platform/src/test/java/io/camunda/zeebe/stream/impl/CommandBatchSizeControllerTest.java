@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.stream.impl.metrics.StreamProcessorMetrics;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+final class CommandBatchSizeControllerTest {
+
+  private static final int MAX_BATCH_BYTES = 4 * 1024 * 1024;
+
+  private final StreamProcessorMetrics metrics = new StreamProcessorMetrics(1);
+
+  @Test
+  void shouldKeepFixedLimitIfNotAdaptive() {
+    // given
+    final var controller =
+        new CommandBatchSizeController(100, false, (count, size) -> true, metrics);
+
+    // when
+    controller.onBatchProcessed(100, 100, 300, 1024);
+    controller.onBatchSizeExceeded(10);
+    controller.onCommitted(Duration.ofSeconds(1).toNanos());
+
+    // then
+    assertThat(controller.getLimit()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldGrowIfBatchReachedLimitAndLargerBatchFits() {
+    // given
+    final var controller = new CommandBatchSizeController(100, true, this::fits, metrics);
+
+    // when
+    controller.onBatchProcessed(100, 100, 300, 100 * 1024);
+
+    // then
+    assertThat(controller.getLimit()).isEqualTo(110);
+  }
+
+  @Test
+  void shouldNotGrowIfBatchDidNotReachLimit() {
+    // given
+    final var controller = new CommandBatchSizeController(100, true, this::fits, metrics);
+
+    // when
+    controller.onBatchProcessed(5, 100, 15, 5 * 1024);
+
+    // then
+    assertThat(controller.getLimit()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldNotGrowIfLargerBatchWouldNotFit() {
+    // given
+    final var controller = new CommandBatchSizeController(100, true, this::fits, metrics);
+
+    // when - each command produces 32KB, so twice a batch of 110 commands exceeds 4MB
+    controller.onBatchProcessed(100, 100, 300, 100 * 32 * 1024);
+
+    // then
+    assertThat(controller.getLimit()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldNotGrowBeyondUpperBound() {
+    // given
+    final var controller =
+        new CommandBatchSizeController(
+            CommandBatchSizeController.MAX_ADAPTIVE_COMMANDS_IN_BATCH,
+            true,
+            (count, size) -> true,
+            metrics);
+
+    // when
+    controller.onBatchProcessed(
+        CommandBatchSizeController.MAX_ADAPTIVE_COMMANDS_IN_BATCH,
+        CommandBatchSizeController.MAX_ADAPTIVE_COMMANDS_IN_BATCH,
+        3000,
+        1024);
+
+    // then
+    assertThat(controller.getLimit())
+        .isEqualTo(CommandBatchSizeController.MAX_ADAPTIVE_COMMANDS_IN_BATCH);
+  }
+
+  @Test
+  void shouldShrinkIfBatchSizeWasExceeded() {
+    // given
+    final var controller = new CommandBatchSizeController(100, true, this::fits, metrics);
+
+    // when
+    controller.onBatchSizeExceeded(20);
+
+    // then
+    assertThat(controller.getLimit()).isEqualTo(20);
+  }
+
+  @Test
+  void shouldNotShrinkBelowOne() {
+    // given
+    final var controller = new CommandBatchSizeController(2, true, this::fits, metrics);
+
+    // when
+    controller.onBatchSizeExceeded(0);
+
+    // then
+    assertThat(controller.getLimit()).isOne();
+  }
+
+  @Test
+  void shouldShrinkIfCommittingFullBatchWasSlow() {
+    // given
+    final var controller =
+        new CommandBatchSizeController(100, true, (count, size) -> false, metrics);
+    controller.onBatchProcessed(100, 100, 300, 1024);
+
+    // when
+    controller.onCommitted(
+        CommandBatchSizeController.TARGET_COMMIT_LATENCY.multipliedBy(2).toNanos());
+
+    // then
+    assertThat(controller.getLimit()).isEqualTo(75);
+  }
+
+  @Test
+  void shouldNotShrinkIfCommittingSmallBatchWasSlow() {
+    // given
+    final var controller = new CommandBatchSizeController(100, true, this::fits, metrics);
+    controller.onBatchProcessed(5, 100, 15, 1024);
+
+    // when
+    controller.onCommitted(
+        CommandBatchSizeController.TARGET_COMMIT_LATENCY.multipliedBy(2).toNanos());
+
+    // then
+    assertThat(controller.getLimit()).isEqualTo(100);
+  }
+
+  private boolean fits(final int count, final int size) {
+    return size <= MAX_BATCH_BYTES;
+  }
+}
@@ -10,12 +10,14 @@ package io.camunda.zeebe.test.util.jmh;
 import java.text.DecimalFormat;
 import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.error.BasicErrorMessageFactory;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.results.RunResult;
 
 /** Convenience class to assert results of a JMH test (via {@link RunResult}. */
 public final class JMHAssert extends AbstractAssert<JMHAssert, RunResult> {
 
   private static final DecimalFormat DECIMAL_FORMAT = new DecimalFormat("0.000");
+  private static final String ALLOCATION_RATE_NORM = "gc.alloc.rate.norm";
 
   /**
    * @param actual the actual results
@@ -83,4 +85,46 @@ public final class JMHAssert extends AbstractAssert<JMHAssert, RunResult> {
 
     return myself;
   }
+
+  /**
+   * Asserts that this benchmark allocates less memory per operation than another benchmark, which
+   * was run in the same environment. Both must have been run with the {@link GCProfiler}, which
+   * reports the bytes allocated per operation as {@code gc.alloc.rate.norm}. Contrary to the
+   * throughput, this doesn't depend on the load of the machine running the benchmarks.
+   *
+   * @param reference the results of the benchmark to compare with
+   * @param minReduction the minimum reduction of the allocated bytes, as a float from 0 to 1
+   * @return itself for chaining
+   */
+  @SuppressWarnings("UnusedReturnValue")
+  public JMHAssert allocatesLessThan(final JMHAssert reference, final double minReduction) {
+    final double allocated = getAllocationRateNorm(actual);
+    final double referenceAllocated = getAllocationRateNorm(reference.actual);
+    final double maximumAllocated = referenceAllocated - referenceAllocated * minReduction;
+
+    if (allocated > maximumAllocated) {
+      throwAssertionError(
+          new BasicErrorMessageFactory(
+              "Expected to allocate at most %s bytes per operation (%s less than the reference %s), but allocated %s",
+              DECIMAL_FORMAT.format(maximumAllocated),
+              DECIMAL_FORMAT.format(minReduction * 100) + "%",
+              DECIMAL_FORMAT.format(referenceAllocated),
+              DECIMAL_FORMAT.format(allocated)));
+    }
+
+    return myself;
+  }
+
+  private double getAllocationRateNorm(final RunResult result) {
+    final var allocationRate = result.getSecondaryResults().get(ALLOCATION_RATE_NORM);
+    if (allocationRate == null) {
+      throwAssertionError(
+          new BasicErrorMessageFactory(
+              "Expected the benchmark %s to be run with the GC profiler, but %s was not measured",
+              result.getParams().getBenchmark(),
+              ALLOCATION_RATE_NORM));
+    }
+
+    return allocationRate.getScore();
+  }
 }
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.db;
 
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -44,6 +45,21 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key);
 
+  /**
+   * Looks up the values of all given keys at once, which is cheaper than looking them up one by
+   * one. Uncommitted changes of the current transaction are taken into account, as with {@link
+   * #get(DbKey)}.
+   *
+   * <p>The visitor is called for each key in the given order, with the stored value or with {@code
+   * null} if the key doesn't exist. The visitor can indicate via the return value whether it wants
+   * to visit the remaining keys. Similar to {@link #forEach(Consumer)}, the given DbValue is reused
+   * between visits and should not be stored.
+   *
+   * @param keys the keys to look up; each key must be a separate instance
+   * @param visitor the visitor which visits the keys and their values
+   */
+  void multiGet(List<KeyType> keys, KeyValuePairVisitor<KeyType, ValueType> visitor);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
@@ -158,6 +174,15 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   boolean exists(KeyType key);
 
+  /**
+   * Checks for the existence of all given keys at once, see {@link #multiGet(List,
+   * KeyValuePairVisitor)}.
+   *
+   * @param keys the keys to look for; each key must be a separate instance
+   * @return true if all keys exist in this column family, false otherwise
+   */
+  boolean existsAll(List<KeyType> keys);
+
   /**
    * Checks if the column family has any entry.
    *
@@ -0,0 +1,28 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db;
+
+/**
+ * Is notified about the outcome of the transactions of a {@link TransactionContext}. Can be used
+ * by components which keep state next to the database, e.g. caches, to keep this state consistent
+ * with what was actually committed.
+ *
+ * <p>The listener is called on the thread which commits or rolls back the transaction.
+ */
+public interface TransactionListener {
+
+  /** Called after the current transaction was successfully committed. */
+  default void onCommit() {}
+
+  /**
+   * Called after the current transaction was rolled back and all its uncommitted changes were
+   * discarded. Note that this may also be called right after a commit, in which case there is
+   * nothing left to discard.
+   */
+  default void onRollback() {}
+}
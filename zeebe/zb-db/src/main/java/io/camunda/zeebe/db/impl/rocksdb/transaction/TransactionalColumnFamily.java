@@ -19,6 +19,9 @@ import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
 import io.camunda.zeebe.protocol.EnumValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -156,6 +159,36 @@ class TransactionalColumnFamily<
     }
   }
 
+  @Override
+  public void multiGet(
+      final List<KeyType> keys, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    if (keys.isEmpty()) {
+      return;
+    }
+
+    try (final var timer = metrics.measureGetLatency()) {
+      ensureInOpenTransaction(
+          transaction -> {
+            final var values = multiGet(transaction, keys);
+            for (int i = 0; i < keys.size(); i++) {
+              columnFamilyContext.wrapValueView(values.get(i));
+              final var valueBuffer = columnFamilyContext.getValueView();
+              final ValueType value;
+              if (valueBuffer != null) {
+                valueInstance.wrap(valueBuffer, 0, valueBuffer.capacity());
+                value = valueInstance;
+              } else {
+                value = null;
+              }
+
+              if (!visitor.visit(keys.get(i), value)) {
+                return;
+              }
+            }
+          });
+    }
+  }
+
   @Override
   public void forEach(final Consumer<ValueType> consumer) {
     ensureInOpenTransaction(
@@ -265,6 +298,27 @@ class TransactionalColumnFamily<
     }
   }
 
+  @Override
+  public boolean existsAll(final List<KeyType> keys) {
+    if (keys.isEmpty()) {
+      return true;
+    }
+
+    final var existsAll = new AtomicBoolean(true);
+    try (final var timer = metrics.measureGetLatency()) {
+      ensureInOpenTransaction(
+          transaction -> {
+            for (final byte[] value : multiGet(transaction, keys)) {
+              if (value == null) {
+                existsAll.set(false);
+                return;
+              }
+            }
+          });
+    }
+    return existsAll.get();
+  }
+
   @Override
   public boolean isEmpty() {
     final AtomicBoolean isEmpty = new AtomicBoolean(true);
@@ -334,6 +388,21 @@ class TransactionalColumnFamily<
     }
   }
 
+  private List<byte[]> multiGet(final ZeebeTransaction transaction, final List<KeyType> keys)
+      throws Exception {
+    // the keys are passed without length, so each one needs its own exactly sized array
+    final List<byte[]> keyBytes = new ArrayList<>(keys.size());
+    for (final KeyType key : keys) {
+      columnFamilyContext.writeKey(key);
+      keyBytes.add(
+          Arrays.copyOf(
+              columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength()));
+    }
+
+    return transaction.multiGet(
+        transactionDb.getDefaultHandle(), transactionDb.getDefaultReadOptions(), keyBytes);
+  }
+
   /**
    * Make sure to use this method in all public methods of this class to ensure that all operations
    * on the column family occur inside a transaction. Within private methods we can assume that a
@@ -9,9 +9,13 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
 import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRocksDbExceptionRecoverable;
 
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import org.agrona.LangUtil;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
@@ -23,6 +27,7 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
+  private final List<TransactionListener> listeners = new ArrayList<>();
 
   private boolean inCurrentTransaction;
   private Transaction transaction;
@@ -87,6 +92,18 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  /**
+   * Reads all given keys in a single call, which merges the uncommitted writes of this transaction
+   * with the database like {@link #get(long, long, byte[], int)} does.
+   *
+   * @return the values in the same order as the keys, {@code null} for keys which don't exist
+   */
+  public List<byte[]> multiGet(
+      final ColumnFamilyHandle handle, final ReadOptions options, final List<byte[]> keys)
+      throws RocksDBException {
+    return transaction.multiGetAsList(options, Collections.nCopies(keys.size(), handle), keys);
+  }
+
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
     try {
@@ -101,6 +118,10 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     return transaction.getIterator(options, handle);
   }
 
+  void addListener(final TransactionListener listener) {
+    listeners.add(listener);
+  }
+
   void resetTransaction() {
     transaction = transactionRenovator.renewTransaction(transaction);
     inCurrentTransaction = true;
@@ -152,11 +173,17 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
     transaction.commit();
+    for (final var listener : listeners) {
+      listener.onCommit();
+    }
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
     transaction.rollback();
+    for (final var listener : listeners) {
+      listener.onRollback();
+    }
   }
 
   @Override
@@ -136,6 +136,10 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return defaultHandle;
   }
 
+  protected ReadOptions getDefaultReadOptions() {
+    return defaultReadOptions;
+  }
+
   protected long getReadOptionsNativeHandle() {
     return getNativeHandle(defaultReadOptions);
   }
@@ -148,6 +148,58 @@ public final class ColumnFamilyTest {
     assertThat(exists).isFalse();
   }
 
+  @Test
+  public void shouldMultiGetValues() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(3, 30);
+    final var keys = List.of(longKey(3), longKey(2), longKey(1));
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    columnFamily.multiGet(
+        keys,
+        (key, value) -> {
+          values.add(value == null ? null : value.getValue());
+          return true;
+        });
+
+    // then
+    assertThat(values).containsExactly(30L, null, 10L);
+  }
+
+  @Test
+  public void shouldStopMultiGetIfVisitorReturnsFalse() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(2, 20);
+    final var keys = List.of(longKey(1), longKey(2));
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    columnFamily.multiGet(
+        keys,
+        (key, value) -> {
+          visitedKeys.add(key.getValue());
+          return false;
+        });
+
+    // then
+    assertThat(visitedKeys).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldCheckForExistenceOfAllKeys() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(2, 20);
+
+    // when - then
+    assertThat(columnFamily.existsAll(List.of(longKey(1), longKey(2)))).isTrue();
+    assertThat(columnFamily.existsAll(List.of(longKey(1), longKey(3)))).isFalse();
+    assertThat(columnFamily.existsAll(List.of())).isTrue();
+  }
+
   @Test
   public void shouldDelete() {
     // given
@@ -466,6 +518,12 @@ public final class ColumnFamilyTest {
         .hasMessageContaining("Foreign key");
   }
 
+  private static DbLong longKey(final long value) {
+    final var key = new DbLong();
+    key.wrapLong(value);
+    return key;
+  }
+
   private void upsertKeyValuePair(final int key, final int value) {
     this.key.wrapLong(key);
     this.value.wrapLong(value);
@@ -18,6 +18,7 @@ import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.Before;
@@ -151,6 +152,41 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isTrue();
   }
 
+  @Test
+  public void shouldMultiGetUncommittedValues() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(10);
+    oneColumnFamily.insert(oneKey, oneValue);
+
+    final var secondKey = new DbLong();
+    secondKey.wrapLong(2);
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          oneKey.wrapLong(1);
+          oneColumnFamily.deleteExisting(oneKey);
+          oneValue.wrapLong(20);
+          oneColumnFamily.insert(secondKey, oneValue);
+        });
+
+    // when
+    final var firstKey = new DbLong();
+    firstKey.wrapLong(1);
+    final Map<Long, Long> values = new HashMap<>();
+    oneColumnFamily.multiGet(
+        List.of(firstKey, secondKey),
+        (key, value) -> {
+          values.put(key.getValue(), value == null ? null : value.getValue());
+          return true;
+        });
+
+    // then
+    assertThat(values).containsEntry(1L, null).containsEntry(2L, 20L);
+    assertThat(oneColumnFamily.existsAll(List.of(secondKey))).isTrue();
+    assertThat(oneColumnFamily.existsAll(List.of(firstKey, secondKey))).isFalse();
+  }
+
   @Test
   public void shouldNotReopenTransaction() throws Exception {
     // given